@@ -2,8 +2,10 @@ package com.alphanet.products.leonardobackend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class LeonardoBackendApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,94 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import com.alphanet.products.leonardobackend.config.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerCustomizer;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Bulkheads between request serving and background work.
+ *
+ * Every {@code @Scheduled} job runs as {@link Workload#REBUILD}, on the platform thread scheduler or, with
+ * {@code spring.threads.virtual.enabled=true}, the virtual thread one. With {@code leonardo.datasource.bulkheads.enabled=true}
+ * the application data source is wrapped in a {@link WorkloadRoutingDataSource}: each background workload
+ * draws connections from its own Hikari pool (published as {@code hikaricp.*} with pool {@code bulkhead-<workload>}),
+ * and the configured pool is left to requests.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BulkheadConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer rebuildWorkloadSchedulerCustomizer() {
+        return scheduler -> scheduler.setTaskDecorator(task -> () -> Workload.runWith(Workload.REBUILD, task));
+    }
+
+    @Bean
+    public SimpleAsyncTaskSchedulerCustomizer rebuildWorkloadVirtualSchedulerCustomizer() {
+        return scheduler -> scheduler.setTaskDecorator(task -> () -> Workload.runWith(Workload.REBUILD, task));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "leonardo.datasource.bulkheads.enabled", havingValue = "true")
+    static BeanPostProcessor workloadRoutingDataSourcePostProcessor(ObjectProvider<DataSourceProperties> dataSourceProperties,
+                                                                    ObjectProvider<BulkheadProperties> bulkheadProperties,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry,
+                                                                    Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof WorkloadRoutingDataSource) {
+                    return bean;
+                }
+                Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+                for (Workload workload : Workload.values()) {
+                    if (workload != Workload.REQUEST) {
+                        pools.put(workload, workloadDataSource(workload, bulkheadProperties.getObject().bulkheadFor(workload),
+                                dataSourceProperties.getObject(), environment, meterRegistry.getIfAvailable()));
+                    }
+                }
+                return new WorkloadRoutingDataSource(dataSource, pools);
+            }
+        };
+    }
+
+    private static HikariDataSource workloadDataSource(Workload workload, BulkheadProperties.Bulkhead bulkhead,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       Environment environment, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setJdbcUrl(dataSourceProperties.determineUrl());
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        config.setPoolName("bulkhead-" + workload.name().toLowerCase().replace('_', '-'));
+        config.setMaximumPoolSize(bulkhead.getMaximumPoolSize());
+        // Background work is intermittent: its connections are released when idle
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(bulkhead.getConnectionTimeout().toMillis());
+        config.setInitializationFailTimeout(-1);
+        if (meterRegistry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return new HikariDataSource(config);
+    }
+}
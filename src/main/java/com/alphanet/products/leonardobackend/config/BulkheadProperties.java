@@ -0,0 +1,49 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Connection pools per background {@link Workload} ({@code leonardo.datasource.bulkheads}).
+ *
+ * Requests keep the pool configured under {@code spring.datasource.hikari}. Each background workload gets its
+ * own pool, copying those settings except for the values below.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.datasource.bulkheads")
+public class BulkheadProperties {
+
+    /** Whether background workloads get their own connection pools. */
+    private boolean enabled = false;
+
+    private Map<Workload, Bulkhead> workloads = new EnumMap<>(Map.of(
+            Workload.REBUILD, new Bulkhead(2),
+            Workload.EXPORT, new Bulkhead(1),
+            Workload.BULK_WRITE, new Bulkhead(1)
+    ));
+
+    public Bulkhead bulkheadFor(Workload workload) {
+        return workloads.getOrDefault(workload, new Bulkhead());
+    }
+
+    @Data
+    public static class Bulkhead {
+
+        private int maximumPoolSize = 1;
+
+        /** How long the workload waits for one of its connections; background work can wait longer than requests. */
+        private Duration connectionTimeout = Duration.ofSeconds(60);
+
+        public Bulkhead() {
+        }
+
+        public Bulkhead(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the training center detail lookups behind {@code /centers}.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.centers")
+public class CenterDetailProperties {
+
+    /** Most center ids bound to one IN list; larger lookups run one query pair per chunk. A power of two is never padded. */
+    private int inListSize = 64;
+
+    /** Single-center lookups arriving within this window share one query; zero looks every center up on its own. */
+    private Duration batchWindow = Duration.ofMillis(5);
+}
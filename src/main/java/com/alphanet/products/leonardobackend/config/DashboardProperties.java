@@ -0,0 +1,24 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the combined {@code /dashboard} endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.dashboard")
+public class DashboardProperties {
+
+    /** Threads running dashboard sections concurrently, shared by all dashboard requests. */
+    private int threads = 8;
+
+    /** Sections waiting for a thread; beyond it, sections run on the request thread. */
+    private int queueCapacity = 32;
+
+    /**
+     * Reads the sections one after the other in a single read-only {@code REPEATABLE READ} transaction, so they
+     * share one database snapshot (with {@code read-mode=direct}); {@code false} reads them concurrently.
+     */
+    private boolean consistentReads = true;
+}
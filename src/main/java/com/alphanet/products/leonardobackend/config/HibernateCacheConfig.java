@@ -0,0 +1,76 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.entity.CacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Enables the Hibernate second-level entity cache and the query cache, backed by an in-process
+ * Caffeine JCache manager.
+ *
+ * Every region in {@link CacheRegions} is created here with its configured size and TTL. Entity and
+ * collection regions use {@code READ_WRITE}, so writes through JPA update or lock the cached state on
+ * commit, and cached query results are discarded once any table they read from is written.
+ * Writes that bypass Hibernate (native SQL, other applications) are not seen until the TTL expires.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "leonardo.hibernate.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        // A dedicated URI per application context keeps test contexts from sharing regions
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("leonardo-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : CacheRegions.ALL) {
+            HibernateCacheProperties.Region spec = properties.specFor(region);
+            cacheManager.createCache(region, boundedRegion(spec));
+            log.info("Hibernate cache region '{}' configured: maximumSize={}, ttl={}",
+                    region, spec.getMaximumSize(), spec.getTtl());
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                boundedRegion(properties.specFor(CacheRegions.METRICS_QUERIES)));
+        // Update timestamps decide whether cached query results are still valid; they must never be evicted
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> boundedRegion(HibernateCacheProperties.Region spec) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(spec.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(spec.getTtl().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
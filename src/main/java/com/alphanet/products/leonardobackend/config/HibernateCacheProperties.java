@@ -0,0 +1,51 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hibernate second-level and query cache settings.
+ * Region entries are keyed by the names in {@link com.alphanet.products.leonardobackend.entity.CacheRegions};
+ * any value left unset on a region falls back to {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.hibernate.cache")
+public class HibernateCacheProperties {
+
+    private boolean enabled = true;
+
+    private Region defaults = new Region(10_000L, Duration.ofHours(1));
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region specFor(String region) {
+        Region override = regions.get(region);
+        if (override == null) {
+            return defaults;
+        }
+        return new Region(
+                override.getMaximumSize() != null ? override.getMaximumSize() : defaults.getMaximumSize(),
+                override.getTtl() != null ? override.getTtl() : defaults.getTtl()
+        );
+    }
+
+    @Data
+    public static class Region {
+        /** Maximum number of entries (entities, collections or query results) kept in the region. */
+        private Long maximumSize;
+        /** Entries expire this long after being written. */
+        private Duration ttl;
+
+        public Region() {
+        }
+
+        public Region(Long maximumSize, Duration ttl) {
+            this.maximumSize = maximumSize;
+            this.ttl = ttl;
+        }
+    }
+}
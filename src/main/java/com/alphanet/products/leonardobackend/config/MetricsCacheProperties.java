@@ -0,0 +1,59 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint cache settings for {@code leonardo.metrics.read-mode=cache}.
+ * Endpoint entries are keyed by endpoint path (for example {@code by-center}); any value
+ * left unset on an endpoint falls back to {@link #defaults}. Each endpoint cache holds a single
+ * entry (the endpoint's full result); filtered queries are bounded by {@link MetricsQueryCacheProperties}.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.cache")
+public class MetricsCacheProperties {
+
+    private Spec defaults = new Spec(Duration.ofMinutes(10), Duration.ofMinutes(5));
+
+    private Map<String, Spec> endpoints = new HashMap<>();
+
+    /**
+     * Effective settings of an endpoint.
+     *
+     * @throws IllegalStateException when its refresh-after-write is not shorter than its TTL, since the entry
+     *                               would expire before it could ever be refreshed
+     */
+    public Spec specFor(String endpoint) {
+        Spec override = endpoints.get(endpoint);
+        Spec spec = override == null ? defaults : new Spec(
+                override.getTtl() != null ? override.getTtl() : defaults.getTtl(),
+                override.getRefreshAfterWrite() != null ? override.getRefreshAfterWrite() : defaults.getRefreshAfterWrite()
+        );
+        if (spec.getRefreshAfterWrite() != null && spec.getRefreshAfterWrite().compareTo(spec.getTtl()) >= 0) {
+            throw new IllegalStateException(String.format(
+                    "Metrics cache '%s': refresh-after-write (%s) must be shorter than ttl (%s)",
+                    endpoint, spec.getRefreshAfterWrite(), spec.getTtl()));
+        }
+        return spec;
+    }
+
+    @Data
+    public static class Spec {
+        /** Entries expire this long after being loaded. */
+        private Duration ttl;
+        /** Entries older than this are reloaded in the background on the next read; must be shorter than the TTL. */
+        private Duration refreshAfterWrite;
+
+        public Spec() {
+        }
+
+        public Spec(Duration ttl, Duration refreshAfterWrite) {
+            this.ttl = ttl;
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latency budgets of the metrics endpoints ({@code leonardo.metrics.deadline}).
+ *
+ * A request that outlives its budget fails with 504 instead of holding its thread and connection until the
+ * database answers. Keys of {@link #endpoints} are paths below {@code /api/v1/metrics/}, e.g. {@code by-center}.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.deadline")
+public class MetricsDeadlineProperties {
+
+    private boolean enabled = true;
+
+    /** Budget of endpoints without their own entry. */
+    private Duration defaultBudget = Duration.ofSeconds(10);
+
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+
+    public Duration budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,35 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for serving the last known good result when the database fails ({@code leonardo.metrics.fallback}).
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.fallback")
+public class MetricsFallbackProperties {
+
+    private boolean enabled = true;
+
+    /** Results older than this are no longer served; the failure is reported instead. */
+    private Duration maxAge = Duration.ofHours(24);
+
+    /** Upper bound for the estimated heap footprint of all retained results. */
+    private DataSize maximumWeight = DataSize.ofMegabytes(16);
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Data
+    public static class CircuitBreaker {
+
+        /** Consecutive failed database executions that open the circuit. */
+        private int failureThreshold = 5;
+
+        /** Time the circuit stays open before a single probe query is let through. */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,33 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for hedged database reads on the direct read path ({@code leonardo.metrics.hedging.enabled=true}).
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.hedging")
+public class MetricsHedgingProperties {
+
+    private boolean enabled = false;
+
+    /** A duplicate query is issued once the first has run longer than this latency percentile of its endpoint. */
+    private double percentile = 0.95;
+
+    /** Hedge delay used until an endpoint has {@link #minSamples} latency samples. */
+    private Duration initialDelay = Duration.ofMillis(100);
+
+    /** Lower bound for the hedge delay, so fast endpoints are not hedged on noise. */
+    private Duration minDelay = Duration.ofMillis(5);
+
+    private int minSamples = 20;
+
+    /** Hedges allowed per request, capped at 1.0 so hedging never more than doubles the queries issued. */
+    private double maxHedgeRatio = 0.1;
+
+    /** Threads running primary and hedged attempts; calls beyond this run unhedged on the caller's thread. */
+    private int threads = 32;
+}
@@ -0,0 +1,21 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the size-bounded cache of parameterized (filtered) metric queries.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.query-cache")
+public class MetricsQueryCacheProperties {
+
+    /** Upper bound for the estimated heap footprint of all cached results. */
+    private DataSize maximumWeight = DataSize.ofMegabytes(32);
+
+    /** Entries expire this long after being loaded. */
+    private Duration ttl = Duration.ofMinutes(10);
+}
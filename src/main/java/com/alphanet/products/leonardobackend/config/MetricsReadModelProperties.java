@@ -0,0 +1,20 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the outbox projector behind {@code leonardo.metrics.read-mode=read-model}.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.read-model")
+public class MetricsReadModelProperties {
+
+    /** Delay between outbox polls once the previous poll has drained its backlog. */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /** Outbox events projected per transaction. */
+    private int batchSize = 500;
+}
@@ -0,0 +1,26 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory metrics snapshot served with {@code leonardo.metrics.read-mode=snapshot}.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.snapshot")
+public class MetricsSnapshotProperties {
+
+    /** Delay between background refreshes. */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /** Refreshes reload only changed centers until this long after the last full rebuild, which also picks up deletes. */
+    private Duration fullRebuildInterval = Duration.ofHours(1);
+
+    /** Changes are looked up this far before the previous watermark, covering rows committed late with an earlier timestamp. */
+    private Duration changeOverlap = Duration.ofSeconds(5);
+
+    /** A refresh touching more than this fraction of the centers rebuilds in full instead. */
+    private double maxIncrementalRatio = 0.5;
+}
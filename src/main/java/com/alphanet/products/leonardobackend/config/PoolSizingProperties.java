@@ -0,0 +1,42 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds and tuning of the adaptive request pool size ({@code leonardo.datasource.pool-sizing.enabled=true}).
+ * The configured {@code maximum-pool-size} is the starting size.
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.datasource.pool-sizing")
+public class PoolSizingProperties {
+
+    private boolean enabled = false;
+
+    private int minSize = 2;
+
+    private int maxSize = 20;
+
+    /** Delay between samples; each sample may move the pool size once. */
+    private Duration interval = Duration.ofSeconds(10);
+
+    /** Mean connection wait above which the pool grows, even without threads waiting at sampling time. */
+    private Duration waitThreshold = Duration.ofMillis(5);
+
+    /**
+     * Connection hold time, relative to the lowest recently observed, beyond which the database is taken to be
+     * saturated: the pool shrinks instead of growing, since more connections would only queue in the database.
+     */
+    private double latencyTolerance = 2.0;
+
+    /** Factor applied to the pool size when the database is saturated. */
+    private double decreaseFactor = 0.75;
+
+    /** Consecutive samples with at most half the pool in use before it shrinks by one connection. */
+    private int idleSamplesBeforeShrink = 6;
+
+    /** Resize decisions kept for the {@code poolsizing} actuator endpoint. */
+    private int history = 50;
+}
@@ -0,0 +1,34 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.config.datasource.CancellableStatementDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * With hedging enabled, wraps the application data source in a {@link CancellableStatementDataSource}, so
+ * the losing attempt of a hedged query can cancel its statements instead of running to completion.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "leonardo.metrics.hedging.enabled", havingValue = "true")
+public class QueryHedgingConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    static BeanPostProcessor cancellableStatementDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof CancellableStatementDataSource)) {
+                    return new CancellableStatementDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
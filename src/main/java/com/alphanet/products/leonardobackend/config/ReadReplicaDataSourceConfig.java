@@ -0,0 +1,92 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.config.datasource.DeadlineBoundedDataSource;
+import com.alphanet.products.leonardobackend.config.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions
+ * ({@code @Transactional(readOnly = true)}) to the configured read replicas. Writes, non-transactional
+ * statements and Flyway migrations use the primary.
+ *
+ * Replica pools copy the primary's Hikari settings and start without waiting for their database, so an
+ * unreachable replica is ejected by the health checks instead of failing startup. Every pool is read through a
+ * {@link DeadlineBoundedDataSource}, so a request waits for a connection no longer than its deadline allows.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "leonardo.datasource.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (!StringUtils.hasText(dataSource.getPoolName())) {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReadReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + (i + 1);
+            replicas.put(name, new DeadlineBoundedDataSource(
+                    replicaDataSource(name, replica, primaryDataSource, meterRegistry)));
+        }
+        return new ReplicaRoutingDataSource(new DeadlineBoundedDataSource(primaryDataSource), replicas, properties.getSelection(),
+                properties.getFailureThreshold());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource replicaDataSource(String name, ReadReplicaProperties.Replica replica,
+                                                      HikariDataSource primary, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            config.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            config.setPassword(replica.getPassword());
+        }
+        if (replica.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        config.setReadOnly(true);
+        // Start even if the replica is down; the health checks eject it
+        config.setInitializationFailTimeout(-1);
+        config.setMetricRegistry(null);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,53 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas behind {@code leonardo.datasource.read-replicas.enabled=true}: read-only transactions are
+ * routed to one of them, everything else stays on the primary ({@code spring.datasource.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    public enum Selection {
+        /** Each replica in turn. */
+        ROUND_ROBIN,
+        /** The replica with the fewest connections currently checked out of its pool. */
+        LEAST_LOADED
+    }
+
+    private boolean enabled = false;
+
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /** Delay between replica health checks. */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /** Consecutive failed health checks or connection attempts after which a replica stops receiving reads. */
+    private int failureThreshold = 2;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * One replica. Credentials and pool settings default to the primary's.
+     */
+    @Data
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private Integer maximumPoolSize;
+    }
+}
@@ -0,0 +1,26 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the reconciliation of training center totals against their programs
+ * ({@code leonardo.metrics.reconciliation.enabled=true}).
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.metrics.reconciliation")
+public class ReconciliationProperties {
+
+    private boolean enabled = false;
+
+    /** Delay between runs. */
+    private Duration interval = Duration.ofHours(6);
+
+    /** Statements per JDBC batch when writing corrections. */
+    private int batchSize = 500;
+
+    /** Report drift without correcting it. */
+    private boolean dryRun = false;
+}
@@ -0,0 +1,56 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.config.datasource.DeadlineBoundedDataSource;
+import com.alphanet.products.leonardobackend.config.web.RequestDeadlineFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the {@link RequestDeadlineFilter} for the metrics endpoints. It runs first, so the budget also
+ * covers the time spent in the security filters.
+ *
+ * The auto-configured Hikari pool is wrapped in a {@link DeadlineBoundedDataSource}, so waiting for a connection
+ * is bounded by the budget as well; {@code ReadReplicaDataSourceConfig} wraps its pools the same way. The wrapper
+ * is applied before the other data source wrappers (hedging, bulkheads), which only see a pooled data source.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "leonardo.metrics.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(MetricsDeadlineProperties properties) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration =
+                new FilterRegistrationBean<>(new RequestDeadlineFilter(properties));
+        registration.addUrlPatterns("/api/v1/metrics/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    static DeadlineBoundedDataSourcePostProcessor deadlineBoundedDataSourcePostProcessor() {
+        return new DeadlineBoundedDataSourcePostProcessor();
+    }
+
+    static final class DeadlineBoundedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof HikariDataSource dataSource) {
+                return new DeadlineBoundedDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.alphanet.products.leonardobackend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the metrics snapshot refresh.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,19 @@
+package com.alphanet.products.leonardobackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Pinning detection for virtual threads ({@code spring.threads.virtual.enabled=true} on Java 21 or later).
+ */
+@Data
+@ConfigurationProperties(prefix = "leonardo.threads.virtual")
+public class VirtualThreadProperties {
+
+    private boolean pinningDetection = true;
+
+    /** Shortest pinning recorded; brief pins in uncontended monitors are not worth reporting. */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
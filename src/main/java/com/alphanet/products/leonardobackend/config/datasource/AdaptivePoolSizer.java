@@ -0,0 +1,196 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.alphanet.products.leonardobackend.config.PoolSizingProperties;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the request connection pool at runtime ({@code leonardo.datasource.pool-sizing.enabled=true}).
+ *
+ * Every interval it samples the threads waiting for a connection, the mean connection wait
+ * ({@code hikaricp.connections.acquire}) and the mean time connections are held, which tracks query latency
+ * in the database ({@code hikaricp.connections.usage}), and lets {@link PoolSizeLimit} move the maximum pool
+ * size within the configured bounds. Resizes are logged, counted in {@code leonardo.datasource.pool.resizes}
+ * and listed by the {@code poolsizing} actuator endpoint.
+ *
+ * The pools sized are the application's Hikari pools: the request pool, and the primary when read replicas
+ * are enabled. Replica and background pools keep their configured sizes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "leonardo.datasource.pool-sizing.enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private final PoolSizingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SizedPool> pools = new LinkedHashMap<>();
+    private final Deque<PoolSizingDecision> history = new ArrayDeque<>();
+
+    public AdaptivePoolSizer(PoolSizingProperties properties, MeterRegistry meterRegistry, DataSource dataSource,
+                             ObjectProvider<HikariDataSource> hikariDataSources) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        hikariDataSources.orderedStream().forEach(this::manage);
+        unwrapHikari(dataSource).ifPresent(this::manage);
+        log.info("Adaptive pool sizing enabled for {} between {} and {} connections",
+                pools.keySet(), properties.getMinSize(), properties.getMaxSize());
+    }
+
+    /**
+     * Resize decision as reported by the actuator endpoint.
+     */
+    public record PoolSizingDecision(Instant at, String pool, int from, int to, String reason, int active,
+                                     int pending, double acquireMillis, double usageMillis,
+                                     double baselineUsageMillis) {
+    }
+
+    /**
+     * Current size of a managed pool.
+     */
+    public record PoolState(String pool, int maximumPoolSize, int active, int idle, int pending) {
+    }
+
+    @Scheduled(
+            fixedDelayString = "${leonardo.datasource.pool-sizing.interval:PT10S}",
+            initialDelayString = "${leonardo.datasource.pool-sizing.interval:PT10S}"
+    )
+    public void adjust() {
+        pools.values().forEach(this::adjust);
+    }
+
+    public synchronized List<PoolSizingDecision> decisions() {
+        return List.copyOf(history);
+    }
+
+    public List<PoolState> pools() {
+        List<PoolState> states = new ArrayList<>();
+        pools.forEach((name, pool) -> {
+            HikariPoolMXBean bean = pool.dataSource.getHikariPoolMXBean();
+            states.add(new PoolState(name, pool.dataSource.getHikariConfigMXBean().getMaximumPoolSize(),
+                    bean != null ? bean.getActiveConnections() : 0,
+                    bean != null ? bean.getIdleConnections() : 0,
+                    bean != null ? bean.getThreadsAwaitingConnection() : 0));
+        });
+        return states;
+    }
+
+    private void adjust(SizedPool pool) {
+        HikariPoolMXBean poolBean = pool.dataSource.getHikariPoolMXBean();
+        if (poolBean == null) {
+            // Not started yet: nothing to observe
+            return;
+        }
+        HikariConfigMXBean config = pool.dataSource.getHikariConfigMXBean();
+        int size = config.getMaximumPoolSize();
+        PoolSizeLimit.Sample sample = new PoolSizeLimit.Sample(size, poolBean.getActiveConnections(),
+                poolBean.getThreadsAwaitingConnection(), pool.acquire.nextMeanMillis(), pool.usage.nextMeanMillis());
+        PoolSizeLimit.Decision decision = pool.limit.next(sample);
+        if (!decision.resized()) {
+            return;
+        }
+        if (config.getMinimumIdle() > decision.size()) {
+            config.setMinimumIdle(decision.size());
+        }
+        config.setMaximumPoolSize(decision.size());
+        String direction = decision.size() > size ? "up" : "down";
+        Counter.builder("leonardo.datasource.pool.resizes")
+                .tag("pool", pool.name)
+                .tag("direction", direction)
+                .description("Runtime changes of the maximum pool size")
+                .register(meterRegistry)
+                .increment();
+        log.info("Resized connection pool {} from {} to {} ({}: active={}, waiting={}, wait={} ms, hold={} ms)",
+                pool.name, size, decision.size(), decision.reason(), sample.active(), sample.pending(),
+                format(sample.acquireMillis()), format(sample.usageMillis()));
+        record(new PoolSizingDecision(Instant.now(), pool.name, size, decision.size(), decision.reason(),
+                sample.active(), sample.pending(), sample.acquireMillis(), sample.usageMillis(),
+                decision.baselineUsageMillis()));
+    }
+
+    private synchronized void record(PoolSizingDecision decision) {
+        history.addFirst(decision);
+        while (history.size() > Math.max(1, properties.getHistory())) {
+            history.removeLast();
+        }
+    }
+
+    private void manage(HikariDataSource dataSource) {
+        String name = dataSource.getPoolName();
+        if (!pools.containsKey(name) && pools.values().stream().noneMatch(pool -> pool.dataSource == dataSource)) {
+            pools.put(name, new SizedPool(name, dataSource, new PoolSizeLimit(properties),
+                    new TimerDelta(meterRegistry, "hikaricp.connections.acquire", name),
+                    new TimerDelta(meterRegistry, "hikaricp.connections.usage", name)));
+        }
+    }
+
+    private static Optional<HikariDataSource> unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? Optional.of(dataSource.unwrap(HikariDataSource.class))
+                    : Optional.empty();
+        } catch (SQLException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String format(double millis) {
+        return Double.isNaN(millis) ? "-" : String.format("%.1f", millis);
+    }
+
+    private record SizedPool(String name, HikariDataSource dataSource, PoolSizeLimit limit,
+                             TimerDelta acquire, TimerDelta usage) {
+    }
+
+    /**
+     * Mean of a Hikari timer over the period since the previous call.
+     */
+    private static final class TimerDelta {
+
+        private final MeterRegistry meterRegistry;
+        private final String name;
+        private final String pool;
+        private long count;
+        private double totalMillis;
+
+        TimerDelta(MeterRegistry meterRegistry, String name, String pool) {
+            this.meterRegistry = meterRegistry;
+            this.name = name;
+            this.pool = pool;
+        }
+
+        double nextMeanMillis() {
+            Timer timer = meterRegistry.find(name).tag("pool", pool).timer();
+            if (timer == null) {
+                return Double.NaN;
+            }
+            long currentCount = timer.count();
+            double currentTotal = timer.totalTime(TimeUnit.MILLISECONDS);
+            long deltaCount = currentCount - count;
+            double deltaTotal = currentTotal - totalMillis;
+            count = currentCount;
+            totalMillis = currentTotal;
+            return deltaCount > 0 ? deltaTotal / deltaCount : Double.NaN;
+        }
+    }
+}
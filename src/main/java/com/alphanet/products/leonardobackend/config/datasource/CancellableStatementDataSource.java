@@ -0,0 +1,88 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Registers the statements of connections obtained under a bound {@link StatementCancellation}, so the
+ * queries running on them can be cancelled. Connections obtained without one are returned unchanged.
+ */
+public class CancellableStatementDataSource extends DelegatingDataSource implements Closeable {
+
+    public CancellableStatementDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Closes the wrapped pool, which this data source replaces as the application's data source bean.
+     */
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private static Connection track(Connection connection) {
+        StatementCancellation cancellation = StatementCancellation.current();
+        if (cancellation == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(CancellableStatementDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new TrackingHandler(connection, cancellation));
+    }
+
+    private record TrackingHandler(Connection target, StatementCancellation cancellation) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                Object result = method.invoke(target, args);
+                if (result instanceof Statement statement) {
+                    cancellation.register(statement);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
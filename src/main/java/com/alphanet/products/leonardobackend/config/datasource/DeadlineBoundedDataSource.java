@@ -0,0 +1,47 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the connection checkout of a Hikari pool by the current {@link RequestDeadline}.
+ *
+ * A request with less time left than the pool's {@code connection-timeout} waits for a connection only for the
+ * time it has left, and then fails with the pool's {@link java.sql.SQLTransientConnectionException}, which
+ * {@code QueryDeadlines} reports as an exceeded deadline. Threads without a deadline wait the pool's own timeout.
+ */
+public class DeadlineBoundedDataSource extends DelegatingDataSource implements Closeable {
+
+    public DeadlineBoundedDataSource(HikariDataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Closes the wrapped pool, which this data source replaces as the application's data source bean.
+     */
+    @Override
+    public void close() {
+        ((HikariDataSource) obtainTargetDataSource()).close();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        HikariDataSource hikari = (HikariDataSource) obtainTargetDataSource();
+        RequestDeadline deadline = RequestDeadline.current();
+        // The pool starts on its first checkout, which is left to the data source
+        if (deadline != null && hikari.getHikariPoolMXBean() instanceof HikariPool pool) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline.remaining().toNanos() + 999_999);
+            if (remainingMillis < hikari.getConnectionTimeout()) {
+                return pool.getConnection(remainingMillis);
+            }
+        }
+        return hikari.getConnection();
+    }
+}
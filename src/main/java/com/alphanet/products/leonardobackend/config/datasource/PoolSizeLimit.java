@@ -0,0 +1,87 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.alphanet.products.leonardobackend.config.PoolSizingProperties;
+
+/**
+ * Limit-finding for one connection pool: additive increase while callers wait for connections, multiplicative
+ * decrease when the time connections are held rises well above its baseline (the database, not the pool, is
+ * the bottleneck), and a slow release of connections that stay unused.
+ *
+ * The baseline is the lowest hold time seen, drifting slowly upwards so it follows lasting changes in the
+ * workload instead of pinning an early outlier.
+ */
+public class PoolSizeLimit {
+
+    private static final double BASELINE_DRIFT = 0.05;
+
+    private final PoolSizingProperties properties;
+    private double baselineUsageMillis;
+    private int idleSamples;
+
+    public PoolSizeLimit(PoolSizingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Pool activity over the last interval. {@code usageMillis} and {@code acquireMillis} are {@code NaN} when no
+     * connection was returned or acquired.
+     */
+    public record Sample(int size, int active, int pending, double acquireMillis, double usageMillis) {
+    }
+
+    /**
+     * Outcome of a sample; {@code reason} is {@code null} when the size is kept.
+     */
+    public record Decision(int size, String reason, double baselineUsageMillis) {
+
+        public boolean resized() {
+            return reason != null;
+        }
+    }
+
+    public synchronized Decision next(Sample sample) {
+        updateBaseline(sample.usageMillis());
+        int size = clamp(sample.size());
+        boolean waiting = sample.pending() > 0
+                || (!Double.isNaN(sample.acquireMillis()) && sample.acquireMillis() > properties.getWaitThreshold().toNanos() / 1_000_000.0);
+        boolean saturated = !Double.isNaN(sample.usageMillis()) && baselineUsageMillis > 0
+                && sample.usageMillis() > properties.getLatencyTolerance() * baselineUsageMillis;
+
+        if (waiting && saturated) {
+            idleSamples = 0;
+            return decision(sample, clamp((int) Math.floor(size * properties.getDecreaseFactor())), "database-saturated");
+        }
+        if (waiting) {
+            idleSamples = 0;
+            return decision(sample, clamp(size + 1), "connection-wait");
+        }
+        if (sample.active() * 2 <= size) {
+            if (++idleSamples >= properties.getIdleSamplesBeforeShrink()) {
+                idleSamples = 0;
+                return decision(sample, clamp(size - 1), "idle");
+            }
+        } else {
+            idleSamples = 0;
+        }
+        return decision(sample, size, "bounds");
+    }
+
+    private Decision decision(Sample sample, int size, String reason) {
+        return new Decision(size, size != sample.size() ? reason : null, baselineUsageMillis);
+    }
+
+    private void updateBaseline(double usageMillis) {
+        if (Double.isNaN(usageMillis)) {
+            return;
+        }
+        if (baselineUsageMillis == 0 || usageMillis < baselineUsageMillis) {
+            baselineUsageMillis = usageMillis;
+        } else {
+            baselineUsageMillis += (usageMillis - baselineUsageMillis) * BASELINE_DRIFT;
+        }
+    }
+
+    private int clamp(int size) {
+        return Math.max(properties.getMinSize(), Math.min(properties.getMaxSize(), size));
+    }
+}
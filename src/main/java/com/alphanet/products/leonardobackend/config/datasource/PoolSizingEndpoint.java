@@ -0,0 +1,33 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/poolsizing}: current size of each adaptively sized pool and the latest resize decisions,
+ * newest first, with the samples that led to them.
+ */
+@Component
+@Endpoint(id = "poolsizing")
+@ConditionalOnProperty(name = "leonardo.datasource.pool-sizing.enabled", havingValue = "true")
+public class PoolSizingEndpoint {
+
+    private final AdaptivePoolSizer poolSizer;
+
+    public PoolSizingEndpoint(AdaptivePoolSizer poolSizer) {
+        this.poolSizer = poolSizer;
+    }
+
+    @ReadOperation
+    public PoolSizingReport report() {
+        return new PoolSizingReport(poolSizer.pools(), poolSizer.decisions());
+    }
+
+    public record PoolSizingReport(List<AdaptivePoolSizer.PoolState> pools,
+                                   List<AdaptivePoolSizer.PoolSizingDecision> decisions) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Routing hint for the read-only connections of one unit of work. While a route is bound to the current thread
+ * ({@link #callWith}), {@link ReplicaRoutingDataSource} records which target served it and keeps an
+ * {@link #alternative()} route away from that target, so a duplicate of a query runs on a different replica
+ * than the original.
+ */
+public final class ReadRoute {
+
+    private static final ThreadLocal<ReadRoute> CURRENT = new ThreadLocal<>();
+
+    private final ReadRoute avoided;
+    private volatile String target;
+
+    public ReadRoute() {
+        this(null);
+    }
+
+    private ReadRoute(ReadRoute avoided) {
+        this.avoided = avoided;
+    }
+
+    public static <T> T callWith(ReadRoute route, Supplier<T> work) {
+        ReadRoute previous = CURRENT.get();
+        CURRENT.set(route);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static ReadRoute current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * A route for another attempt at the same work, kept away from the target this route was served by.
+     */
+    public ReadRoute alternative() {
+        return new ReadRoute(this);
+    }
+
+    /**
+     * Name of the replica (or {@link ReplicaRoutingDataSource#PRIMARY}) that served the first read-only
+     * connection of this route; {@code null} until then.
+     */
+    public String target() {
+        return target;
+    }
+
+    String avoidedTarget() {
+        return avoided != null ? avoided.target : null;
+    }
+
+    void record(String target) {
+        if (this.target == null) {
+            this.target = target;
+        }
+    }
+}
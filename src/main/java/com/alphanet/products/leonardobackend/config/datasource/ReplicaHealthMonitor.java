@@ -0,0 +1,42 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the replica health checks of {@link ReplicaRoutingDataSource} and publishes the number of replicas
+ * receiving reads ({@code leonardo.datasource.replicas.available}) and the read-only connections that fell
+ * back to the primary ({@code leonardo.datasource.replicas.primary-fallbacks}).
+ */
+@Component
+@ConditionalOnProperty(name = "leonardo.datasource.read-replicas.enabled", havingValue = "true")
+public class ReplicaHealthMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public ReplicaHealthMonitor(ReplicaRoutingDataSource routingDataSource, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        Gauge.builder("leonardo.datasource.replicas.available", routingDataSource,
+                        dataSource -> dataSource.getReplicaStatuses().stream()
+                                .filter(ReplicaRoutingDataSource.ReplicaStatus::available)
+                                .count())
+                .description("Read replicas currently receiving read-only transactions")
+                .register(meterRegistry);
+        FunctionCounter.builder("leonardo.datasource.replicas.primary-fallbacks", routingDataSource,
+                        ReplicaRoutingDataSource::getPrimaryFallbacks)
+                .description("Read-only connections served by the primary because no replica was usable")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${leonardo.datasource.read-replicas.health-check-interval:PT5S}",
+            initialDelayString = "${leonardo.datasource.read-replicas.health-check-interval:PT5S}"
+    )
+    public void checkHealth() {
+        routingDataSource.checkHealth();
+    }
+}
@@ -0,0 +1,215 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.alphanet.products.leonardobackend.config.ReadReplicaProperties.Selection;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands out replica connections inside read-only transactions and primary connections everywhere else.
+ *
+ * The decision is taken when a connection is requested, so this data source has to sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: transaction managers ask
+ * for a connection before they publish the transaction's read-only flag, and the proxy defers the
+ * physical checkout to the first statement.
+ *
+ * A replica is ejected after {@code failureThreshold} consecutive failed connection attempts or health
+ * checks ({@link #checkHealth()}) and readmitted by the next successful health check. With no replica
+ * available, reads fall back to the primary.
+ *
+ * A {@link ReadRoute} bound to the current thread records the target it was served by; an alternative route
+ * is never given the replica its original was served by and falls back to the primary when no other replica
+ * is available.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    /**
+     * Target name recorded by a {@link ReadRoute} served by the primary.
+     */
+    public static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Health and load of one replica.
+     */
+    public record ReplicaStatus(String name, boolean available, int consecutiveFailures, int activeConnections,
+                                long connectionsServed) {
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Selection selection;
+    private final int failureThreshold;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Selection selection,
+                                    int failureThreshold) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.selection = selection;
+        this.failureThreshold = Math.max(1, failureThreshold);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        ReadRoute route = ReadRoute.current();
+        Replica replica = select(route != null ? route.avoidedTarget() : null);
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.recordSuccess();
+                replica.connectionsServed.increment();
+                record(route, replica.name);
+                return connection;
+            } catch (SQLException e) {
+                recordFailure(replica, e);
+            }
+        }
+        primaryFallbacks.increment();
+        Connection connection = primary.getConnection();
+        record(route, PRIMARY);
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Validates a connection from every replica, ejecting and readmitting replicas accordingly.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Connection validation failed");
+                }
+                if (!replica.available) {
+                    log.info("Read replica {} is healthy again and receives reads", replica.name);
+                }
+                replica.recordSuccess();
+            } catch (SQLException e) {
+                recordFailure(replica, e);
+            }
+        }
+    }
+
+    public List<ReplicaStatus> getReplicaStatuses() {
+        return replicas.stream()
+                .map(replica -> new ReplicaStatus(replica.name, replica.available, replica.failures.get(),
+                        replica.activeConnections(), replica.connectionsServed.sum()))
+                .toList();
+    }
+
+    /**
+     * Replicas currently receiving reads.
+     */
+    public int getAvailableReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.available).count();
+    }
+
+    /**
+     * Read-only connections served by the primary because no replica was available or reachable.
+     */
+    public long getPrimaryFallbacks() {
+        return primaryFallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.debug("Could not close read replica {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Replica select(String avoided) {
+        List<Replica> available = replicas.stream()
+                .filter(replica -> replica.available && !replica.name.equals(avoided))
+                .toList();
+        if (available.isEmpty()) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), available.size());
+        if (selection == Selection.ROUND_ROBIN) {
+            return available.get(start);
+        }
+        // Rotating the starting point spreads ties evenly
+        List<Replica> rotated = new ArrayList<>(available.subList(start, available.size()));
+        rotated.addAll(available.subList(0, start));
+        return rotated.stream().min(Comparator.comparingInt(Replica::activeConnections)).orElseThrow();
+    }
+
+    private static void record(ReadRoute route, String target) {
+        if (route != null) {
+            route.record(target);
+        }
+    }
+
+    private void recordFailure(Replica replica, SQLException e) {
+        int failures = replica.failures.incrementAndGet();
+        if (replica.available && failures >= failureThreshold) {
+            replica.available = false;
+            log.warn("Read replica {} ejected after {} consecutive failures: {}", replica.name, failures,
+                    e.getMessage());
+        } else {
+            log.debug("Read replica {} failed ({} consecutive): {}", replica.name, failures, e.getMessage());
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger failures = new AtomicInteger();
+        private final LongAdder connectionsServed = new LongAdder();
+        private volatile boolean available = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void recordSuccess() {
+            failures.set(0);
+            available = true;
+        }
+
+        private int activeConnections() {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                    return pool != null ? pool.getActiveConnections() : 0;
+                }
+            } catch (SQLException e) {
+                log.debug("Could not read the pool of read replica {}: {}", name, e.getMessage());
+            }
+            return 0;
+        }
+    }
+}
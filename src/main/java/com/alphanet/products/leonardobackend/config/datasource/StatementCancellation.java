@@ -0,0 +1,63 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collects the JDBC statements created on behalf of one unit of work so they can be cancelled from another
+ * thread. Statements are registered by {@link CancellableStatementDataSource} for connections obtained while
+ * a cancellation is bound to the current thread ({@link #callWith}).
+ */
+public final class StatementCancellation {
+
+    private static final ThreadLocal<StatementCancellation> CURRENT = new ThreadLocal<>();
+
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    public static <T> T callWith(StatementCancellation cancellation, Supplier<T> work) {
+        StatementCancellation previous = CURRENT.get();
+        CURRENT.set(cancellation);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static StatementCancellation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Cancels every statement registered so far and any registered afterwards.
+     */
+    public void cancel() {
+        cancelled = true;
+        statements.forEach(StatementCancellation::cancelQuietly);
+    }
+
+    void register(Statement statement) {
+        statements.add(statement);
+        if (cancelled) {
+            cancelQuietly(statement);
+        }
+    }
+
+    private static void cancelQuietly(Statement statement) {
+        try {
+            if (!statement.isClosed()) {
+                statement.cancel();
+            }
+        } catch (SQLException | RuntimeException e) {
+            // Already finished or closed: nothing left to cancel
+        }
+    }
+}
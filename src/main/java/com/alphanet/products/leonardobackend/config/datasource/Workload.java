@@ -0,0 +1,48 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Kind of work a thread is doing, which selects its connection pool in {@link WorkloadRoutingDataSource}.
+ *
+ * Threads serve requests unless bound to another workload with {@link #callWith} or {@link #runWith}.
+ */
+public enum Workload {
+
+    /** Request serving: the application's main pool. */
+    REQUEST,
+    /** Background rebuilds and refreshes (snapshots, catalogs, read model, summary checks). */
+    REBUILD,
+    /** Long-running exports. */
+    EXPORT,
+    /** Imports and other bulk writes. */
+    BULK_WRITE;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : REQUEST;
+    }
+
+    public static <T> T callWith(Workload workload, Supplier<T> work) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runWith(Workload workload, Runnable work) {
+        callWith(workload, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
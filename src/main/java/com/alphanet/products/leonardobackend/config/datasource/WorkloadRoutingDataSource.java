@@ -0,0 +1,60 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the calling thread's {@link Workload}, so background work cannot
+ * exhaust the pool serving requests. Request threads, and workloads without a pool of their own, use the
+ * request data source.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final DataSource requestDataSource;
+    private final Map<Workload, DataSource> workloadDataSources;
+
+    public WorkloadRoutingDataSource(DataSource requestDataSource, Map<Workload, ? extends DataSource> workloadDataSources) {
+        this.requestDataSource = requestDataSource;
+        this.workloadDataSources = new LinkedHashMap<>(workloadDataSources);
+        setDefaultTargetDataSource(requestDataSource);
+        setTargetDataSources(new LinkedHashMap<>(workloadDataSources));
+        afterPropertiesSet();
+    }
+
+    public DataSource getRequestDataSource() {
+        return requestDataSource;
+    }
+
+    public Map<Workload, DataSource> getWorkloadDataSources() {
+        return Map.copyOf(workloadDataSources);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Workload.current();
+    }
+
+    /**
+     * Closes every pool, including the request data source, which this router replaces as the application's
+     * data source bean.
+     */
+    @Override
+    public void close() {
+        workloadDataSources.values().forEach(WorkloadRoutingDataSource::closeQuietly);
+        closeQuietly(requestDataSource);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // Shutting down: nothing left to do with a pool that fails to close
+            }
+        }
+    }
+}
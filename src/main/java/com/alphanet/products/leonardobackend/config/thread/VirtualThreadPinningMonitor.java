@@ -0,0 +1,124 @@
+package com.alphanet.products.leonardobackend.config.thread;
+
+import com.alphanet.products.leonardobackend.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads pinned to their carrier thread while blocked ({@code spring.threads.virtual.enabled=true}).
+ *
+ * A virtual thread that blocks inside a {@code synchronized} block or a native frame keeps its carrier, so enough
+ * of them stall every request. The JFR {@value #PINNED_EVENT} event is streamed in-process for pins longer than
+ * {@code pinning-threshold} and recorded in {@code leonardo.threads.virtual.pinned}, tagged by source: {@code jdbc}
+ * when the stack runs through the JDBC driver, connection pool or Hibernate, {@code application} when it runs
+ * through this application only, {@code other} otherwise. The first pin of each top frame is logged with its stack.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "leonardo.threads.virtual.pinning-detection", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final List<String> JDBC_PACKAGES = List.of(
+            "com.mysql.", "org.h2.", "com.zaxxer.hikari.", "org.hibernate.", "java.sql.", "javax.sql.");
+    private static final String APPLICATION_PACKAGE = "com.alphanet.products.leonardobackend.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final VirtualThreadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Set<String> loggedFrames = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(properties.getPinningThreshold()).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::record);
+            recording.startAsync();
+            stream = recording;
+            log.info("Reporting virtual threads pinned for more than {} ms",
+                    properties.getPinningThreshold().toMillis());
+        } catch (RuntimeException e) {
+            // JFR may be unavailable (e.g. a JVM built without it); requests are unaffected
+            log.warn("Virtual thread pinning detection unavailable: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> classNames = stackTrace != null
+                ? stackTrace.getFrames().stream().map(frame -> frame.getMethod().getType().getName()).toList()
+                : List.of();
+        String source = sourceOf(classNames);
+        timers.computeIfAbsent(source, tag -> Timer.builder("leonardo.threads.virtual.pinned")
+                        .tag("source", tag)
+                        .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                        .register(meterRegistry))
+                .record(event.getDuration());
+
+        if (stackTrace != null && !stackTrace.getFrames().isEmpty()
+                && loggedFrames.add(describe(stackTrace.getFrames().get(0)))) {
+            log.warn("Virtual thread pinned for {} ms ({}):\n\t{}", event.getDuration().toMillis(), source,
+                    String.join("\n\t", stackTrace.getFrames().stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(VirtualThreadPinningMonitor::describe)
+                            .toList()));
+        }
+    }
+
+    /**
+     * Source tag of a pinned stack, given the classes of its frames from the top.
+     */
+    static String sourceOf(List<String> classNames) {
+        if (classNames.stream().anyMatch(name -> JDBC_PACKAGES.stream().anyMatch(name::startsWith))) {
+            return "jdbc";
+        }
+        if (classNames.stream().anyMatch(name -> name.startsWith(APPLICATION_PACKAGE))) {
+            return "application";
+        }
+        return "other";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,75 @@
+package com.alphanet.products.leonardobackend.config.web;
+
+import com.alphanet.products.leonardobackend.config.MetricsDeadlineProperties;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Starts the latency budget of a metrics request and binds it as the thread's {@link RequestDeadline}.
+ *
+ * The budget is the endpoint's configured one; clients may shorten it, never extend it, with the
+ * {@value #TIMEOUT_HEADER} header (milliseconds).
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    static final String METRICS_PATH = "/api/v1/metrics/";
+
+    private final MetricsDeadlineProperties properties;
+
+    public RequestDeadlineFilter(MetricsDeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String endpoint = endpoint(request);
+        Duration configured = properties.budgetFor(endpoint);
+        Duration budget = budget(configured, request.getHeader(TIMEOUT_HEADER));
+        RequestDeadline deadline = RequestDeadline.after(endpoint, budget, !budget.equals(configured));
+        try (RequestDeadline.Binding ignored = RequestDeadline.bind(deadline)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + METRICS_PATH);
+    }
+
+    private static Duration budget(Duration budget, String requestedTimeout) {
+        if (!StringUtils.hasText(requestedTimeout)) {
+            return budget;
+        }
+        try {
+            long millis = Long.parseLong(requestedTimeout.trim());
+            if (millis > 0 && millis < budget.toMillis()) {
+                return Duration.ofMillis(millis);
+            }
+        } catch (NumberFormatException e) {
+            // Not a number of milliseconds: keep the endpoint's budget
+        }
+        return budget;
+    }
+
+    // Path ids are dropped, so /centers/42 shares the budget and meter tags of /centers
+    private static String endpoint(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length() + METRICS_PATH.length());
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty() && !segment.chars().allMatch(Character::isDigit))
+                .collect(Collectors.joining("/"));
+    }
+}
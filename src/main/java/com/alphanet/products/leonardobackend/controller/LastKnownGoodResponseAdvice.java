@@ -0,0 +1,46 @@
+package com.alphanet.products.leonardobackend.controller;
+
+import com.alphanet.products.leonardobackend.service.fallback.LastKnownGood;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+
+/**
+ * Marks responses answered with a {@link LastKnownGood} result: {@code Age} carries the result's age in
+ * seconds and {@code Warning: 111} tells clients the live data could not be fetched.
+ */
+@RestControllerAdvice(assignableTypes = MetricsApi.class)
+public class LastKnownGoodResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String REVALIDATION_FAILED = "111 - \"Revalidation Failed\"";
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(LastKnownGood.AGE_ATTRIBUTE) instanceof Duration age) {
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(age.toSeconds()));
+            response.getHeaders().set(HttpHeaders.WARNING, REVALIDATION_FAILED);
+        }
+        return body;
+    }
+}
@@ -1,26 +1,41 @@
 package com.alphanet.products.leonardobackend.controller;
 
 import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterDetailDto;
 import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DashboardDto;
 import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
 import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
 import com.alphanet.products.leonardobackend.dto.ErrorResponse;
 import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
 import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.ProgramRollupDto;
 import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
 import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
 import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.catalog.ProgramCatalog;
+import com.alphanet.products.leonardobackend.service.center.CenterDetailService;
+import com.alphanet.products.leonardobackend.service.dashboard.DashboardSection;
+import com.alphanet.products.leonardobackend.service.dashboard.DashboardService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -32,6 +47,9 @@ import java.util.List;
 public class MetricsApi {
 
     private final MetricsService metricsService;
+    private final ProgramCatalog programCatalog;
+    private final CenterDetailService centerDetailService;
+    private final DashboardService dashboardService;
 
     @GetMapping("/scalar")
     @Operation(
@@ -94,7 +112,8 @@ public class MetricsApi {
     @GetMapping("/by-center")
     @Operation(
             summary = "Get metrics by training center",
-            description = "Returns detailed metrics grouped by each SENA training center"
+            description = "Returns detailed metrics grouped by each SENA training center, ordered by total apprentices. " +
+                    "Optionally filtered by department and limited to the top N centers"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -145,8 +164,16 @@ public class MetricsApi {
                     )
             )
     })
-    public ResponseEntity<List<CenterMetricDto>> getMetricsByCenter() {
-        return ResponseEntity.ok(metricsService.getCenterMetrics());
+    public ResponseEntity<List<CenterMetricDto>> getMetricsByCenter(
+            @Parameter(description = "Department name (case-insensitive)", example = "Cundinamarca")
+            @RequestParam(required = false) String department,
+            @Parameter(description = "Maximum number of centers to return, by total apprentices", example = "10")
+            @RequestParam(required = false) @Min(1) @Max(CenterMetricsQuery.MAX_LIMIT) Integer limit) {
+        CenterMetricsQuery query = new CenterMetricsQuery(department, limit);
+        if (query.isUnfiltered()) {
+            return ResponseEntity.ok(metricsService.getCenterMetrics());
+        }
+        return ResponseEntity.ok(metricsService.getCenterMetrics(query));
     }
 
     @GetMapping("/by-program")
@@ -204,6 +231,58 @@ public class MetricsApi {
         return ResponseEntity.ok(metricsService.getProgramMetrics());
     }
 
+    @GetMapping("/by-program/rollup")
+    @Operation(
+            summary = "Get training programs rolled up across centers",
+            description = "Returns each training program once, with its apprentices summed over every center offering it, " +
+                    "largest first. Optionally restricted to one department and limited to the top N programs"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Training program rollup obtained successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ProgramRollupDto.class),
+                            examples = @ExampleObject(
+                                    name = "Training program rollup example",
+                                    value = """
+                                            [
+                                                {
+                                                    "programName": "Análisis y Desarrollo de Software",
+                                                    "totalApprentices": 183,
+                                                    "centers": 2
+                                                }
+                                            ]
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400", 
+                    description = "Bad request - Invalid parameters",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500", 
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<List<ProgramRollupDto>> getProgramRollup(
+            @Parameter(description = "Department name (case-insensitive)", example = "Antioquia")
+            @RequestParam(required = false) String department,
+            @Parameter(description = "Maximum number of programs to return, by total apprentices", example = "10")
+            @RequestParam(required = false) @Min(1) @Max(CenterMetricsQuery.MAX_LIMIT) Integer limit) {
+        return ResponseEntity.ok(programCatalog.rollup(StringUtils.hasText(department) ? department : null, limit));
+    }
+
     @GetMapping("/by-department")
     @Operation(
             summary = "Get metrics by department",
@@ -483,4 +562,191 @@ public class MetricsApi {
     public ResponseEntity<List<RecommendedInstructorDto>> getRecommendedInstructorMetrics() {
         return ResponseEntity.ok(metricsService.getRecommendedInstructorMetrics());
     }
+
+    @GetMapping("/centers/{centerId}")
+    @Operation(
+            summary = "Get one training center in detail",
+            description = "Returns a training center with its department, programs and instructors"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Training center obtained successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CenterDetailDto.class),
+                            examples = @ExampleObject(
+                                    name = "Training center detail example",
+                                    value = """
+                                            {
+                                                "centerId": 12,
+                                                "centerName": "SENA - Centro de Biotecnología Industrial",
+                                                "department": "Cundinamarca",
+                                                "totalApprentices": 45,
+                                                "githubUsers": 32,
+                                                "englishB1B2": 28,
+                                                "programs": [
+                                                    {
+                                                        "programName": "Análisis y Desarrollo de Software",
+                                                        "apprenticesCount": 35
+                                                    }
+                                                ],
+                                                "instructors": [
+                                                    {
+                                                        "instructorName": "María García López",
+                                                        "recommended": true
+                                                    }
+                                                ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404", 
+                    description = "Not found - No training center with this id",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500", 
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<CenterDetailDto> getCenter(
+            @Parameter(description = "Training center id", example = "12")
+            @PathVariable long centerId) {
+        return ResponseEntity.ok(centerDetailService.getCenter(centerId));
+    }
+
+    @GetMapping("/centers")
+    @Operation(
+            summary = "Get several training centers in detail",
+            description = "Returns the requested training centers with their department, programs and instructors, " +
+                    "in the order requested. Ids without a training center are left out"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Training centers obtained successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CenterDetailDto.class),
+                            examples = @ExampleObject(
+                                    name = "Training center details example",
+                                    value = """
+                                            [
+                                                {
+                                                    "centerId": 12,
+                                                    "centerName": "SENA - Centro de Biotecnología Industrial",
+                                                    "department": "Cundinamarca",
+                                                    "totalApprentices": 45,
+                                                    "githubUsers": 32,
+                                                    "englishB1B2": 28,
+                                                    "programs": [
+                                                        {
+                                                            "programName": "Análisis y Desarrollo de Software",
+                                                            "apprenticesCount": 35
+                                                        }
+                                                    ],
+                                                    "instructors": [
+                                                        {
+                                                            "instructorName": "María García López",
+                                                            "recommended": true
+                                                        }
+                                                    ]
+                                                }
+                                            ]
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400", 
+                    description = "Bad request - Missing ids or more than 200 ids",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500", 
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<List<CenterDetailDto>> getCenters(
+            @Parameter(description = "Training center ids, comma-separated", example = "12,15,40")
+            @RequestParam @Size(min = 1, max = CenterDetailService.MAX_IDS) List<Long> ids) {
+        return ResponseEntity.ok(centerDetailService.getCenters(ids));
+    }
+
+    @GetMapping("/dashboard")
+    @Operation(
+            summary = "Get all metric families in one response",
+            description = "Returns the same lists as /scalar, /by-center, /by-program, /by-department, /github-users, " +
+                    "/english-level, /apprentice-count and /recommended-instructors, read concurrently. " +
+                    "Optionally restricted to the sections named by their endpoint path"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Dashboard obtained successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DashboardDto.class),
+                            examples = @ExampleObject(
+                                    name = "Dashboard restricted to scalar and github-users",
+                                    value = """
+                                            {
+                                                "scalar": [
+                                                    {
+                                                        "description": "# Aprendices inscritos únicos",
+                                                        "value": 775
+                                                    }
+                                                ],
+                                                "githubUsers": [
+                                                    {
+                                                        "centerName": "SENA - Centro de Biotecnología Industrial",
+                                                        "department": "Cundinamarca",
+                                                        "githubUsers": 32,
+                                                        "githubPercentage": "71.1%"
+                                                    }
+                                                ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400", 
+                    description = "Bad request - Unknown section",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500", 
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<DashboardDto> getDashboard(
+            @Parameter(description = "Sections to include, comma-separated; all when omitted", example = "scalar,github-users")
+            @RequestParam(required = false) List<String> sections) {
+        return ResponseEntity.ok(dashboardService.getDashboard(DashboardSection.parse(sections)));
+    }
 }
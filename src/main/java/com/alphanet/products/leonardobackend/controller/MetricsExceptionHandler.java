@@ -0,0 +1,70 @@
+package com.alphanet.products.leonardobackend.controller;
+
+import com.alphanet.products.leonardobackend.dto.ErrorResponse;
+import com.alphanet.products.leonardobackend.service.center.CenterNotFoundException;
+import com.alphanet.products.leonardobackend.service.dashboard.UnknownDashboardSectionException;
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.alphanet.products.leonardobackend.service.fallback.CircuitOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps metrics query failures to {@link ErrorResponse} bodies.
+ *
+ * Requests whose latency budget ran out answer 504 and are counted in {@code leonardo.request.deadline.exceeded},
+ * tagged by endpoint. While the database circuit is open, requests without a last known good result answer
+ * 503 with a {@code Retry-After} header. Unknown training centers answer 404
+ * and unknown dashboard sections 400.
+ */
+@Slf4j
+@RestControllerAdvice(assignableTypes = MetricsApi.class)
+@RequiredArgsConstructor
+public class MetricsExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(DeadlineExceededException e, HttpServletRequest request) {
+        Counter.builder("leonardo.request.deadline.exceeded")
+                .tag("endpoint", e.getEndpoint())
+                .description("Metrics requests that ran out of their latency budget")
+                .register(meterRegistry)
+                .increment();
+        log.warn("{}", e.getMessage());
+        HttpStatus status = HttpStatus.GATEWAY_TIMEOUT;
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), "Request deadline exceeded",
+                e.getMessage(), request.getRequestURI()));
+    }
+
+    @ExceptionHandler(CircuitOpenException.class)
+    public ResponseEntity<ErrorResponse> handleCircuitOpen(CircuitOpenException e, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(new ErrorResponse(status.value(), "Database temporarily unavailable", e.getMessage(),
+                        request.getRequestURI()));
+    }
+
+    @ExceptionHandler(CenterNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCenterNotFound(CenterNotFoundException e, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), "Training center not found",
+                e.getMessage(), request.getRequestURI()));
+    }
+
+    @ExceptionHandler(UnknownDashboardSectionException.class)
+    public ResponseEntity<ErrorResponse> handleUnknownDashboardSection(UnknownDashboardSectionException e,
+                                                                       HttpServletRequest request) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), "Unknown dashboard section",
+                e.getMessage(), request.getRequestURI()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.alphanet.products.leonardobackend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO for one training center with its programs and instructors")
+public class CenterDetailDto {
+
+    @Schema(description = "Training center identifier", example = "12")
+    private Long centerId;
+
+    @Schema(description = "Training center name", example = "SENA - Centro de Biotecnología Industrial")
+    private String centerName;
+
+    @Schema(description = "Department where the center is located", example = "Cundinamarca")
+    private String department;
+
+    @Schema(description = "Total number of apprentices in the center", example = "45")
+    private Integer totalApprentices;
+
+    @Schema(description = "Number of GitHub users", example = "32")
+    private Integer githubUsers;
+
+    @Schema(description = "Number of apprentices with B1-B2 English level", example = "28")
+    private Integer englishB1B2;
+
+    @Schema(description = "Programs of the center, by apprentices count")
+    private List<ProgramDetail> programs;
+
+    @Schema(description = "Instructors of the center, recommended ones first")
+    private List<InstructorDetail> instructors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Program taught at a training center")
+    public static class ProgramDetail {
+        @Schema(description = "Training program name", example = "Análisis y Desarrollo de Software")
+        private String programName;
+
+        @Schema(description = "Number of apprentices in the program", example = "35")
+        private Integer apprenticesCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Instructor of a training center")
+    public static class InstructorDetail {
+        @Schema(description = "Instructor name", example = "María García López")
+        private String instructorName;
+
+        @Schema(description = "Whether the instructor is recommended", example = "true")
+        private Boolean recommended;
+    }
+}
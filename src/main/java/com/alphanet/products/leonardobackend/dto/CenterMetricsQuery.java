@@ -0,0 +1,51 @@
+package com.alphanet.products.leonardobackend.dto;
+
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Optional filters for the training center metrics: department name and top-N limit.
+ * The department is trimmed and whitespace-collapsed on construction, so equivalent requests
+ * produce the same {@link #cacheParameters()}.
+ */
+public record CenterMetricsQuery(String department, Integer limit) {
+
+    public static final int MAX_LIMIT = 500;
+
+    public CenterMetricsQuery {
+        department = StringUtils.hasText(department) ? department.trim().replaceAll("\\s+", " ") : null;
+    }
+
+    public boolean isUnfiltered() {
+        return department == null && limit == null;
+    }
+
+    /**
+     * Normalized, order-independent parameters identifying this query in a result cache.
+     * Department matching is case-insensitive, so the department is lower-cased here as well.
+     */
+    public Map<String, String> cacheParameters() {
+        Map<String, String> parameters = new TreeMap<>();
+        if (department != null) {
+            parameters.put("department", department.toLowerCase(Locale.ROOT));
+        }
+        if (limit != null) {
+            parameters.put("limit", String.valueOf(limit));
+        }
+        return parameters;
+    }
+
+    /**
+     * Applies the same filters in memory to an already loaded, ordered list of center metrics.
+     */
+    public List<CenterMetricDto> applyTo(List<CenterMetricDto> centers) {
+        return centers.stream()
+                .filter(center -> department == null || department.equalsIgnoreCase(center.getDepartment()))
+                .limit(limit != null ? limit : Long.MAX_VALUE)
+                .toList();
+    }
+}
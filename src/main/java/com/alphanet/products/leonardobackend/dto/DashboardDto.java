@@ -0,0 +1,41 @@
+package com.alphanet.products.leonardobackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "DTO combining the metric families of the dashboard; sections not requested are omitted")
+public class DashboardDto {
+
+    @Schema(description = "Same as /scalar")
+    private List<ScalarMetricDto> scalar;
+
+    @Schema(description = "Same as /by-center")
+    private List<CenterMetricDto> byCenter;
+
+    @Schema(description = "Same as /by-program")
+    private List<ProgramMetricDto> byProgram;
+
+    @Schema(description = "Same as /by-department")
+    private List<DepartmentMetricDto> byDepartment;
+
+    @Schema(description = "Same as /github-users")
+    private List<GitHubUserDto> githubUsers;
+
+    @Schema(description = "Same as /english-level")
+    private List<EnglishLevelDto> englishLevel;
+
+    @Schema(description = "Same as /apprentice-count")
+    private List<ApprenticeCountDto> apprenticeCount;
+
+    @Schema(description = "Same as /recommended-instructors")
+    private List<RecommendedInstructorDto> recommendedInstructors;
+}
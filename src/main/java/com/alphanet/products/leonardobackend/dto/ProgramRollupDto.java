@@ -0,0 +1,22 @@
+package com.alphanet.products.leonardobackend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO for a training program rolled up across every center offering it")
+public class ProgramRollupDto {
+
+    @Schema(description = "Training program name", example = "Análisis y Desarrollo de Software")
+    private String programName;
+
+    @Schema(description = "Apprentices in the program, nationally or within the requested department", example = "183")
+    private Long totalApprentices;
+
+    @Schema(description = "Number of training centers offering the program", example = "2")
+    private Integer centers;
+}
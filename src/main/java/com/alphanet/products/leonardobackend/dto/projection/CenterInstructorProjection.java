@@ -0,0 +1,7 @@
+package com.alphanet.products.leonardobackend.dto.projection;
+
+public interface CenterInstructorProjection {
+    Long getCenterId();
+
+    String getInstructorName();
+}
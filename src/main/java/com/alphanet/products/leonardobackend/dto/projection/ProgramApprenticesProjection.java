@@ -0,0 +1,9 @@
+package com.alphanet.products.leonardobackend.dto.projection;
+
+public interface ProgramApprenticesProjection {
+    String getProgramName();
+
+    String getDepartment();
+
+    Integer getApprenticesCount();
+}
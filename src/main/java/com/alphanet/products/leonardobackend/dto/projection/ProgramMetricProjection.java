@@ -6,4 +6,6 @@ public interface ProgramMetricProjection {
     String getProgramName();
 
     Integer getApprenticesCount();
+
+    Long getCenterId();
 }
@@ -0,0 +1,11 @@
+package com.alphanet.products.leonardobackend.dto.projection;
+
+public interface ScalarMetricsProjection {
+    Long getTotalApprentices();
+
+    Long getTotalCenters();
+
+    Double getAverageEnglishPercentage();
+
+    Long getBackendDevelopersCount();
+}
@@ -0,0 +1,29 @@
+package com.alphanet.products.leonardobackend.entity;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache region names. Each region is created up front with the sizing
+ * configured under {@code leonardo.hibernate.cache.regions.<name>}; an unknown region fails startup.
+ */
+public final class CacheRegions {
+
+    public static final String DEPARTMENT = "department";
+    public static final String TRAINING_CENTER = "training-center";
+    public static final String PROGRAM = "program";
+    public static final String INSTRUCTOR = "instructor";
+    public static final String DEPARTMENT_TRAINING_CENTERS = "department-training-centers";
+    public static final String TRAINING_CENTER_PROGRAMS = "training-center-programs";
+    public static final String TRAINING_CENTER_INSTRUCTORS = "training-center-instructors";
+
+    /** Results of the metric projection queries, invalidated whenever one of their tables is written. */
+    public static final String METRICS_QUERIES = "metrics-queries";
+
+    public static final List<String> ALL = List.of(
+            DEPARTMENT, TRAINING_CENTER, PROGRAM, INSTRUCTOR,
+            DEPARTMENT_TRAINING_CENTERS, TRAINING_CENTER_PROGRAMS, TRAINING_CENTER_INSTRUCTORS,
+            METRICS_QUERIES);
+
+    private CacheRegions() {
+    }
+}
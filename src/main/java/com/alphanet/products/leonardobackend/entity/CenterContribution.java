@@ -0,0 +1,28 @@
+package com.alphanet.products.leonardobackend.entity;
+
+/**
+ * What one training center adds to the department and national summaries. The English percentage is
+ * {@code null} when the center has no apprentices or no English count, matching the {@code CASE}
+ * expression the averages were computed with before the summaries existed.
+ */
+public record CenterContribution(Long departmentId, long totalApprentices, long githubUsers, long englishB1B2,
+                                 Double englishPercentage) {
+
+    public static CenterContribution of(TrainingCenter center) {
+        Integer apprentices = center.getTotalApprentices();
+        Integer english = center.getEnglishB1B2();
+        Double englishPercentage = apprentices != null && apprentices > 0 && english != null
+                ? english * 100.0 / apprentices
+                : null;
+        return new CenterContribution(
+                center.getDepartment() != null ? center.getDepartment().getId() : null,
+                valueOf(apprentices),
+                valueOf(center.getGithubUsers()),
+                valueOf(english),
+                englishPercentage);
+    }
+
+    private static long valueOf(Integer value) {
+        return value != null ? value : 0L;
+    }
+}
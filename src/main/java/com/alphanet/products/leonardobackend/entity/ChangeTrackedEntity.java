@@ -0,0 +1,55 @@
+package com.alphanet.products.leonardobackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Optimistic-lock version and last-modification time shared by the metric source tables.
+ * {@code updated_at} is maintained by the database ({@code DEFAULT} / {@code ON UPDATE CURRENT_TIMESTAMP}),
+ * so writes that bypass JPA (migrations, seed data, manual fixes) are tracked as well and every value
+ * comes from one clock. It is indexed and drives the snapshot's change detection.
+ *
+ * Writes through JPA also append to the metrics outbox ({@code MetricsOutboxListener}, registered in
+ * {@code META-INF/orm.xml}), keyed by the training center whose metrics they affect.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+public abstract class ChangeTrackedEntity {
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
+    private Instant updatedAt;
+
+    // Center as last read from or written to the database, so a move between centers updates both
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Long persistedCenterId;
+
+    public abstract Long getId();
+
+    /**
+     * Id of the training center whose metrics this row contributes to.
+     */
+    public abstract Long centerId();
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedCenter() {
+        persistedCenterId = centerId();
+    }
+}
@@ -0,0 +1,40 @@
+package com.alphanet.products.leonardobackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * Totals of the training centers in one department, maintained on write by
+ * {@code MetricsSummaryListener}. Read-only for JPA. {@link Synchronize} adds {@code training_centers}
+ * to the query spaces, so cached queries over the summary are invalidated by every center write.
+ */
+@Entity
+@Immutable
+@Synchronize("training_centers")
+@Table(name = "department_summaries")
+@Getter
+@NoArgsConstructor
+public class DepartmentSummary {
+
+    @Id
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "total_apprentices", nullable = false)
+    private Long totalApprentices;
+
+    @Column(name = "github_users", nullable = false)
+    private Long githubUsers;
+
+    @Column(name = "english_b1_b2", nullable = false)
+    private Long englishB1B2;
+
+    @Column(name = "center_count", nullable = false)
+    private Long centerCount;
+}
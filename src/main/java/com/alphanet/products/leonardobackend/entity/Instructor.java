@@ -3,14 +3,26 @@ package com.alphanet.products.leonardobackend.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "instructors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.INSTRUCTOR)
+@Table(name = "instructors", indexes = {
+        // getRecommendedInstructorsByCenters: IN (centers) AND is_recommended, covering
+        @Index(name = "idx_instructors_center_recommended",
+                columnList = "training_center_id, is_recommended, instructor_name"),
+        // change detection, covering the changed centers lookup
+        @Index(name = "idx_instructors_updated_at", columnList = "updated_at, training_center_id")
+})
 @Data
+@EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
 @AllArgsConstructor
-public class Instructor {
+public class Instructor extends ChangeTrackedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,4 +37,9 @@ public class Instructor {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "training_center_id", nullable = false)
     private TrainingCenter trainingCenter;
+
+    @Override
+    public Long centerId() {
+        return trainingCenter != null ? trainingCenter.getId() : null;
+    }
 }
@@ -0,0 +1,47 @@
+package com.alphanet.products.leonardobackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * Totals of every training center, in a single row ({@link #SINGLETON_ID}) maintained on write like
+ * {@link DepartmentSummary}. The average English percentage is
+ * {@code englishPercentageSum / englishRatedCenters}.
+ */
+@Entity
+@Immutable
+@Synchronize("training_centers")
+@Table(name = "national_summary")
+@Getter
+@NoArgsConstructor
+public class NationalSummary {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "total_apprentices", nullable = false)
+    private Long totalApprentices;
+
+    @Column(name = "github_users", nullable = false)
+    private Long githubUsers;
+
+    @Column(name = "english_b1_b2", nullable = false)
+    private Long englishB1B2;
+
+    @Column(name = "center_count", nullable = false)
+    private Long centerCount;
+
+    @Column(name = "english_percentage_sum", nullable = false)
+    private Double englishPercentageSum;
+
+    @Column(name = "english_rated_centers", nullable = false)
+    private Long englishRatedCenters;
+}
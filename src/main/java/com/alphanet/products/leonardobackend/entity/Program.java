@@ -3,14 +3,27 @@ package com.alphanet.products.leonardobackend.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "programs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROGRAM)
+@Table(name = "programs", indexes = {
+        // getProgramMetrics: ordered scan, covering
+        @Index(name = "idx_programs_apprentices", columnList = "apprentices_count DESC, training_center_id, program_name"),
+        // backend profile count: seek on the category, DISTINCT names read from the index
+        @Index(name = "idx_programs_category", columnList = "category, program_name"),
+        // change detection, covering the changed centers lookup
+        @Index(name = "idx_programs_updated_at", columnList = "updated_at, training_center_id")
+})
 @Data
+@EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
 @AllArgsConstructor
-public class Program {
+public class Program extends ChangeTrackedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,4 +38,24 @@ public class Program {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "training_center_id", nullable = false)
     private TrainingCenter trainingCenter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 32)
+    private ProgramCategory category;
+
+    public Program(Long id, String programName, Integer apprenticesCount, TrainingCenter trainingCenter) {
+        this(id, programName, apprenticesCount, trainingCenter, ProgramClassifier.classify(programName));
+    }
+
+    // The category is derived from the name, so it is recomputed on every write
+    @PrePersist
+    @PreUpdate
+    void classify() {
+        category = ProgramClassifier.classify(programName);
+    }
+
+    @Override
+    public Long centerId() {
+        return trainingCenter != null ? trainingCenter.getId() : null;
+    }
 }
@@ -0,0 +1,20 @@
+package com.alphanet.products.leonardobackend.entity;
+
+/**
+ * Taxonomy of training programs, stored on {@link Program} when it is written.
+ * Assigned by {@link ProgramClassifier} from the program name; declaration order is the priority
+ * used when a name matches more than one category.
+ */
+public enum ProgramCategory {
+
+    /** Software development; counted by the "% de perfiles DEV Backend" metric. */
+    SOFTWARE,
+    NETWORKS,
+    TELECOMMUNICATIONS,
+    ELECTRONICS,
+    AUTOMATION,
+    ELECTRICITY,
+    SYSTEMS,
+    EQUIPMENT_MAINTENANCE,
+    OTHER
+}
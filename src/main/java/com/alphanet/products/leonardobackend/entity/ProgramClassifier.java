@@ -0,0 +1,73 @@
+package com.alphanet.products.leonardobackend.entity;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Classifies program names into {@link ProgramCategory categories}.
+ * All keywords are compiled into a single alternation (one named group per category), so a name is
+ * scanned once regardless of how many categories exist. Names are matched case- and
+ * accent-insensitively ("ELECTRÓNICA" and "electronica" are the same), keywords match word prefixes.
+ */
+public final class ProgramClassifier {
+
+    private static final Map<ProgramCategory, List<String>> KEYWORDS = keywords();
+    private static final Pattern MATCHER = compile();
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private ProgramClassifier() {
+    }
+
+    public static ProgramCategory classify(String programName) {
+        if (programName == null || programName.isBlank()) {
+            return ProgramCategory.OTHER;
+        }
+        Matcher matcher = MATCHER.matcher(normalize(programName));
+        ProgramCategory best = ProgramCategory.OTHER;
+        while (matcher.find()) {
+            for (ProgramCategory category : KEYWORDS.keySet()) {
+                if (category.ordinal() < best.ordinal() && matcher.group(groupName(category)) != null) {
+                    best = category;
+                }
+            }
+        }
+        return best;
+    }
+
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // Accent-free, lower case; SOFTWARE keeps the keywords of the former LIKE '%...%' query
+    private static Map<ProgramCategory, List<String>> keywords() {
+        Map<ProgramCategory, List<String>> keywords = new LinkedHashMap<>();
+        keywords.put(ProgramCategory.SOFTWARE, List.of("backend", "desarrollo", "software"));
+        keywords.put(ProgramCategory.NETWORKS, List.of("redes", "red de datos"));
+        keywords.put(ProgramCategory.TELECOMMUNICATIONS, List.of("telecomunicacion"));
+        keywords.put(ProgramCategory.ELECTRONICS, List.of("electronic"));
+        keywords.put(ProgramCategory.AUTOMATION, List.of("automatizacion", "control de procesos", "mecatronica"));
+        keywords.put(ProgramCategory.ELECTRICITY, List.of("electric"));
+        keywords.put(ProgramCategory.SYSTEMS, List.of("sistemas"));
+        keywords.put(ProgramCategory.EQUIPMENT_MAINTENANCE, List.of("mantenimiento"));
+        return keywords;
+    }
+
+    private static Pattern compile() {
+        return Pattern.compile(KEYWORDS.entrySet().stream()
+                .map(entry -> "(?<" + groupName(entry.getKey()) + ">" + entry.getValue().stream()
+                        .map(Pattern::quote)
+                        .collect(Collectors.joining("|")) + ")")
+                .collect(Collectors.joining("|", "\\b(?:", ")")));
+    }
+
+    private static String groupName(ProgramCategory category) {
+        return "c" + category.ordinal();
+    }
+}
@@ -1,18 +1,38 @@
 package com.alphanet.products.leonardobackend.entity;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @Entity
-@Table(name = "training_centers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINING_CENTER)
+@Table(name = "training_centers", indexes = {
+        // getCenterMetrics / getApprenticeCountMetrics: ordered scan, covering (id is implicit in InnoDB secondary indexes)
+        @Index(name = "idx_training_centers_apprentices",
+                columnList = "total_apprentices DESC, department_id, github_users, english_b1_b2, center_name"),
+        // department filter on getCenterMetrics and the summary consistency check
+        @Index(name = "idx_training_centers_department", columnList = "department_id, total_apprentices DESC"),
+        @Index(name = "idx_training_centers_github",
+                columnList = "github_users DESC, department_id, total_apprentices, center_name"),
+        @Index(name = "idx_training_centers_english",
+                columnList = "english_b1_b2 DESC, department_id, total_apprentices, center_name"),
+        @Index(name = "idx_training_centers_name", columnList = "center_name, department_id"),
+        // change detection: MAX(updated_at) and updated_at > ?
+        @Index(name = "idx_training_centers_updated_at", columnList = "updated_at")
+})
 @Data
+@EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
-@AllArgsConstructor
-public class TrainingCenter {
+public class TrainingCenter extends ChangeTrackedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,8 +55,45 @@ public class TrainingCenter {
     private Integer englishB1B2;
 
     @OneToMany(mappedBy = "trainingCenter", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINING_CENTER_PROGRAMS)
     private List<Program> programs;
 
     @OneToMany(mappedBy = "trainingCenter", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINING_CENTER_INSTRUCTORS)
     private List<Instructor> instructors;
+
+    // Contribution to the summaries as last read from or written to the database, so an update applies the difference
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private CenterContribution persistedContribution;
+
+    /**
+     * All-arguments constructor without the transient summary state.
+     */
+    public TrainingCenter(Long id, String centerName, Department department, Integer totalApprentices,
+                          Integer githubUsers, Integer englishB1B2, List<Program> programs,
+                          List<Instructor> instructors) {
+        this.id = id;
+        this.centerName = centerName;
+        this.department = department;
+        this.totalApprentices = totalApprentices;
+        this.githubUsers = githubUsers;
+        this.englishB1B2 = englishB1B2;
+        this.programs = programs;
+        this.instructors = instructors;
+    }
+
+    @Override
+    public Long centerId() {
+        return id;
+    }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedContribution() {
+        persistedContribution = CenterContribution.of(this);
+    }
 }
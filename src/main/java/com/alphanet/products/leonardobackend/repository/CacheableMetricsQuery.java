@@ -0,0 +1,27 @@
+package com.alphanet.products.leonardobackend.repository;
+
+import com.alphanet.products.leonardobackend.entity.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores the results of a metrics query in the Hibernate query cache ({@link CacheRegions#METRICS_QUERIES}).
+ * Cached results are discarded as soon as any table the query reads from is written through JPA.
+ * Has no effect when {@code leonardo.hibernate.cache.enabled=false}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.METRICS_QUERIES)
+})
+public @interface CacheableMetricsQuery {
+}
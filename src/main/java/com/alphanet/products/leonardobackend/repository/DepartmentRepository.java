@@ -11,13 +11,18 @@ import java.util.List;
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
+    /**
+     * Apprentices per department, read from the maintained {@code department_summaries} rather than
+     * summed over every center. Departments without centers have no summary row and report zero;
+     * ties are ordered by name.
+     */
+    @CacheableMetricsQuery
     @Query("""
             SELECT d.departmentName as department, 
-                   COALESCE(SUM(tc.totalApprentices), 0) as apprenticesCount 
+                   COALESCE(s.totalApprentices, 0) as apprenticesCount 
             FROM Department d 
-            LEFT JOIN d.trainingCenters tc 
-            GROUP BY d.departmentName 
-            ORDER BY apprenticesCount DESC
+            LEFT JOIN DepartmentSummary s ON s.departmentId = d.id 
+            ORDER BY apprenticesCount DESC, d.departmentName
             """)
     List<DepartmentMetricProjection> getDepartmentMetrics();
 }
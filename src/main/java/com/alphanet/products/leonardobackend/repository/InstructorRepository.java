@@ -1,17 +1,26 @@
 package com.alphanet.products.leonardobackend.repository;
 
+import com.alphanet.products.leonardobackend.dto.projection.CenterInstructorProjection;
 import com.alphanet.products.leonardobackend.entity.Instructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface InstructorRepository extends JpaRepository<Instructor, Long> {
 
-    @Query("SELECT i.instructorName FROM Instructor i " +
-            "WHERE i.trainingCenter.id = :trainingCenterId AND i.isRecommended = true")
-    List<String> getRecommendedInstructorsByCenter(@Param("trainingCenterId") Long trainingCenterId);
+    @CacheableMetricsQuery
+    @Query("""
+            SELECT i.trainingCenter.id as centerId, 
+                   i.instructorName as instructorName 
+            FROM Instructor i 
+            WHERE i.trainingCenter.id IN :trainingCenterIds AND i.isRecommended = true 
+            ORDER BY i.id ASC
+            """)
+    List<CenterInstructorProjection> getRecommendedInstructorsByCenters(
+            @Param("trainingCenterIds") Collection<Long> trainingCenterIds);
 }
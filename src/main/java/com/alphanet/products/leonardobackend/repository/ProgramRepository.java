@@ -1,32 +1,63 @@
 package com.alphanet.products.leonardobackend.repository;
 
+import com.alphanet.products.leonardobackend.dto.projection.ProgramApprenticesProjection;
 import com.alphanet.products.leonardobackend.dto.projection.ProgramMetricProjection;
 import com.alphanet.products.leonardobackend.entity.Program;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProgramRepository extends JpaRepository<Program, Long> {
 
+    @CacheableMetricsQuery
     @Query("""
             SELECT tc.centerName as centerName, 
                    p.programName as programName, 
-                   p.apprenticesCount as apprenticesCount 
+                   p.apprenticesCount as apprenticesCount,
+                   tc.id as centerId
             FROM Program p 
             JOIN p.trainingCenter tc 
             ORDER BY p.apprenticesCount DESC
             """)
     List<ProgramMetricProjection> getProgramMetrics();
 
+    /**
+     * {@link #getProgramMetrics()} restricted to the programs of the given centers.
+     */
+    @Query("""
+            SELECT tc.centerName as centerName, 
+                   p.programName as programName, 
+                   p.apprenticesCount as apprenticesCount,
+                   tc.id as centerId
+            FROM Program p 
+            JOIN p.trainingCenter tc 
+            WHERE tc.id IN :centerIds
+            ORDER BY p.apprenticesCount DESC
+            """)
+    List<ProgramMetricProjection> getProgramMetricsByCenters(@Param("centerIds") Collection<Long> centerIds);
+
+    /**
+     * One row per program offering, with its department; aggregated in memory by the program catalog.
+     */
+    @Query("""
+            SELECT p.programName as programName, 
+                   d.departmentName as department, 
+                   p.apprenticesCount as apprenticesCount 
+            FROM Program p 
+            JOIN p.trainingCenter tc 
+            JOIN tc.department d
+            """)
+    List<ProgramApprenticesProjection> getProgramApprentices();
+
     @Query("""
             SELECT COUNT(DISTINCT p.programName) 
             FROM Program p 
-            WHERE p.programName LIKE '%Backend%' 
-               OR p.programName LIKE '%Desarrollo%'
-               OR p.programName LIKE '%Software%'
+            WHERE p.category = com.alphanet.products.leonardobackend.entity.ProgramCategory.SOFTWARE
             """)
     Long getBackendDevelopersCount();
 }
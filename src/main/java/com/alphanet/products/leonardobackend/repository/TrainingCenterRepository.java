@@ -5,16 +5,21 @@ import com.alphanet.products.leonardobackend.dto.projection.CenterMetricProjecti
 import com.alphanet.products.leonardobackend.dto.projection.EnglishLevelProjection;
 import com.alphanet.products.leonardobackend.dto.projection.GitHubUserProjection;
 import com.alphanet.products.leonardobackend.dto.projection.RecommendedInstructorProjection;
+import com.alphanet.products.leonardobackend.dto.projection.ScalarMetricsProjection;
 import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TrainingCenterRepository extends JpaRepository<TrainingCenter, Long> {
 
+    @CacheableMetricsQuery
     @Query("""
             SELECT tc.centerName as centerName, 
                    d.departmentName as department, 
@@ -28,6 +33,61 @@ public interface TrainingCenterRepository extends JpaRepository<TrainingCenter,
             """)
     List<CenterMetricProjection> getCenterMetrics();
 
+    @CacheableMetricsQuery
+    @Query("""
+            SELECT tc.centerName as centerName, 
+                   d.departmentName as department, 
+                   tc.totalApprentices as totalApprentices, 
+                   tc.githubUsers as githubUsers, 
+                   tc.englishB1B2 as englishB1B2,
+                   tc.id as centerId
+            FROM TrainingCenter tc 
+            JOIN tc.department d 
+            WHERE (:department IS NULL OR LOWER(d.departmentName) = LOWER(:department))
+            ORDER BY tc.totalApprentices DESC
+            """)
+    List<CenterMetricProjection> getCenterMetrics(@Param("department") String department, Limit limit);
+
+    /**
+     * {@link #getCenterMetrics()} restricted to the given centers, for incremental snapshot refreshes.
+     */
+    @Query("""
+            SELECT tc.centerName as centerName, 
+                   d.departmentName as department, 
+                   tc.totalApprentices as totalApprentices, 
+                   tc.githubUsers as githubUsers, 
+                   tc.englishB1B2 as englishB1B2,
+                   tc.id as centerId
+            FROM TrainingCenter tc 
+            JOIN tc.department d 
+            WHERE tc.id IN :centerIds
+            ORDER BY tc.totalApprentices DESC
+            """)
+    List<CenterMetricProjection> getCenterMetricsByIds(@Param("centerIds") Collection<Long> centerIds);
+
+    /**
+     * Loads the given centers with their department and programs in one query, for the center detail endpoints.
+     * Programs and instructors are both bags, which cannot be fetch-joined together without multiplying their rows;
+     * {@link #fetchInstructorsByIdIn(Collection)} initializes the instructors of the same centers afterwards, in
+     * the same persistence context, so mapping a center never triggers a lazy load.
+     */
+    @Query("""
+            SELECT tc 
+            FROM TrainingCenter tc 
+            JOIN FETCH tc.department 
+            LEFT JOIN FETCH tc.programs 
+            WHERE tc.id IN :centerIds
+            """)
+    List<TrainingCenter> findDetailsByIdIn(@Param("centerIds") Collection<Long> centerIds);
+
+    @Query("""
+            SELECT tc 
+            FROM TrainingCenter tc 
+            LEFT JOIN FETCH tc.instructors 
+            WHERE tc.id IN :centerIds
+            """)
+    List<TrainingCenter> fetchInstructorsByIdIn(@Param("centerIds") Collection<Long> centerIds);
+
     @Query("SELECT COUNT(tc) FROM TrainingCenter tc")
     Long getTotalCentersCount();
 
@@ -40,6 +100,29 @@ public interface TrainingCenterRepository extends JpaRepository<TrainingCenter,
             """)
     Double getAverageEnglishPercentage();
 
+    /**
+     * Returns every scalar metric in a single round trip. Equivalent to calling
+     * {@link #getTotalApprenticesCount()}, {@link #getTotalCentersCount()},
+     * {@link #getAverageEnglishPercentage()} and {@link ProgramRepository#getBackendDevelopersCount()},
+     * but the center aggregates come from the maintained {@code national_summary} row.
+     */
+    @CacheableMetricsQuery
+    @Query("""
+            SELECT n.totalApprentices as totalApprentices, 
+                   n.centerCount as totalCenters, 
+                   CASE WHEN n.englishRatedCenters > 0 
+                       THEN n.englishPercentageSum / n.englishRatedCenters 
+                       ELSE 0.0 
+                   END as averageEnglishPercentage, 
+                   (SELECT COUNT(DISTINCT p.programName) 
+                    FROM Program p 
+                    WHERE p.category = com.alphanet.products.leonardobackend.entity.ProgramCategory.SOFTWARE) as backendDevelopersCount
+            FROM NationalSummary n
+            WHERE n.id = 1
+            """)
+    ScalarMetricsProjection getScalarMetrics();
+
+    @CacheableMetricsQuery
     @Query("""
             SELECT tc.centerName as centerName, 
                    d.departmentName as department, 
@@ -51,6 +134,7 @@ public interface TrainingCenterRepository extends JpaRepository<TrainingCenter,
             """)
     List<GitHubUserProjection> getGitHubUsersMetrics();
 
+    @CacheableMetricsQuery
     @Query("""
             SELECT tc.centerName as centerName, 
                    d.departmentName as department, 
@@ -62,6 +146,7 @@ public interface TrainingCenterRepository extends JpaRepository<TrainingCenter,
             """)
     List<EnglishLevelProjection> getEnglishLevelMetrics();
 
+    @CacheableMetricsQuery
     @Query("""
             SELECT tc.centerName as centerName, 
                    d.departmentName as department, 
@@ -72,6 +157,7 @@ public interface TrainingCenterRepository extends JpaRepository<TrainingCenter,
             """)
     List<ApprenticeCountProjection> getApprenticeCountMetrics();
 
+    @CacheableMetricsQuery
     @Query("""
             SELECT tc.centerName as centerName, 
                    d.departmentName as department, 
@@ -0,0 +1,98 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import com.alphanet.products.leonardobackend.entity.CenterContribution;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * The stored {@code training_centers.total_apprentices} next to the sum of the center's {@code programs},
+ * for reconciling the two.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CenterTotalsRepository {
+
+    /**
+     * One center's stored totals, its row version and the apprentices of its programs.
+     */
+    public record CenterTotals(long centerId, Long departmentId, long version, Integer totalApprentices,
+                               Integer githubUsers, Integer englishB1B2, long programApprentices) {
+
+        public boolean hasDrifted() {
+            return totalApprentices == null || totalApprentices != programApprentices;
+        }
+
+        public CenterContribution stored() {
+            return contribution(totalApprentices);
+        }
+
+        public CenterContribution reconciled() {
+            return contribution(Math.toIntExact(programApprentices));
+        }
+
+        private CenterContribution contribution(Integer apprentices) {
+            Double englishPercentage = apprentices != null && apprentices > 0 && englishB1B2 != null
+                    ? englishB1B2 * 100.0 / apprentices
+                    : null;
+            return new CenterContribution(departmentId, apprentices != null ? apprentices : 0,
+                    githubUsers != null ? githubUsers : 0, englishB1B2 != null ? englishB1B2 : 0, englishPercentage);
+        }
+    }
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Every center with the sum of its programs' apprentices, in one grouped query.
+     */
+    public List<CenterTotals> findCenterTotals() {
+        return jdbcClient.sql("""
+                        SELECT tc.id, tc.department_id, tc.version, tc.total_apprentices, tc.github_users,
+                               tc.english_b1_b2, COALESCE(SUM(p.apprentices_count), 0) AS program_apprentices
+                        FROM training_centers tc
+                        LEFT JOIN programs p ON p.training_center_id = tc.id
+                        GROUP BY tc.id, tc.department_id, tc.version, tc.total_apprentices, tc.github_users,
+                                 tc.english_b1_b2
+                        """)
+                .query((rs, rowNum) -> new CenterTotals(
+                        rs.getLong("id"),
+                        rs.getObject("department_id", Long.class),
+                        rs.getLong("version"),
+                        rs.getObject("total_apprentices", Integer.class),
+                        rs.getObject("github_users", Integer.class),
+                        rs.getObject("english_b1_b2", Integer.class),
+                        rs.getLong("program_apprentices")))
+                .list();
+    }
+
+    /**
+     * Sets each center's {@code total_apprentices} to its program sum in JDBC batches of {@code batchSize},
+     * bumping the version like a JPA write would. A center whose version moved since it was read is left
+     * alone. Returns, per center in order, whether it was corrected.
+     */
+    public boolean[] reconcileTotalApprentices(List<CenterTotals> centers, int batchSize) {
+        int[][] counts = jdbcTemplate.batchUpdate("""
+                        UPDATE training_centers
+                        SET total_apprentices = ?, version = version + 1
+                        WHERE id = ? AND version = ?
+                        """,
+                centers, batchSize, (ps, center) -> {
+                    ps.setLong(1, center.programApprentices());
+                    ps.setLong(2, center.centerId());
+                    ps.setLong(3, center.version());
+                });
+        boolean[] corrected = new boolean[centers.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO (-2): the driver ran the statement without reporting its count
+                corrected[index++] = count != 0;
+            }
+        }
+        return corrected;
+    }
+}
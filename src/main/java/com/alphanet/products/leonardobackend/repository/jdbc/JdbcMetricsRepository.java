@@ -0,0 +1,302 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Read-only metrics queries over plain JDBC. Each row is mapped straight to its response DTO,
+ * without a persistence context, projection proxies or a second mapping pass.
+ * The SQL mirrors the JPQL in the Spring Data repositories and runs on both MySQL and H2.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leonardo.metrics.read-path", havingValue = "jdbc")
+public class JdbcMetricsRepository {
+
+    private static final String SCALAR_METRICS = """
+            SELECT n.total_apprentices,
+                   n.center_count AS total_centers,
+                   CASE WHEN n.english_rated_centers > 0
+                       THEN n.english_percentage_sum / n.english_rated_centers
+                       ELSE 0
+                   END AS average_english_percentage,
+                   (SELECT COUNT(DISTINCT p.program_name)
+                    FROM programs p
+                    WHERE p.category = 'SOFTWARE') AS backend_developers_count
+            FROM national_summary n
+            WHERE n.id = 1
+            """;
+
+    private static final String CENTER_METRICS = """
+            SELECT tc.id, tc.center_name, d.department_name, tc.total_apprentices, tc.github_users, tc.english_b1_b2
+            FROM training_centers tc
+            JOIN departments d ON d.id = tc.department_id
+            """;
+
+    private static final String RECOMMENDED_INSTRUCTORS = """
+            SELECT i.training_center_id, i.instructor_name
+            FROM instructors i
+            WHERE i.training_center_id IN (:centerIds) AND i.is_recommended = TRUE
+            ORDER BY i.id ASC
+            """;
+
+    private static final String PROGRAM_METRICS = """
+            SELECT tc.center_name, p.program_name, p.apprentices_count
+            FROM programs p
+            JOIN training_centers tc ON tc.id = p.training_center_id
+            ORDER BY p.apprentices_count DESC
+            """;
+
+    private static final String PROGRAM_METRICS_BY_CENTER = """
+            SELECT p.training_center_id, tc.center_name, p.program_name, p.apprentices_count
+            FROM programs p
+            JOIN training_centers tc ON tc.id = p.training_center_id
+            """;
+
+    private static final String DEPARTMENT_METRICS = """
+            SELECT d.department_name, COALESCE(s.total_apprentices, 0) AS apprentices_count
+            FROM departments d
+            LEFT JOIN department_summaries s ON s.department_id = d.id
+            ORDER BY apprentices_count DESC, d.department_name
+            """;
+
+    private static final String GITHUB_USERS_METRICS = """
+            SELECT tc.center_name, d.department_name, tc.github_users, tc.total_apprentices
+            FROM training_centers tc
+            JOIN departments d ON d.id = tc.department_id
+            ORDER BY tc.github_users DESC
+            """;
+
+    private static final String ENGLISH_LEVEL_METRICS = """
+            SELECT tc.center_name, d.department_name, tc.english_b1_b2, tc.total_apprentices
+            FROM training_centers tc
+            JOIN departments d ON d.id = tc.department_id
+            ORDER BY tc.english_b1_b2 DESC
+            """;
+
+    private static final String APPRENTICE_COUNT_METRICS = """
+            SELECT tc.center_name, d.department_name, tc.total_apprentices
+            FROM training_centers tc
+            JOIN departments d ON d.id = tc.department_id
+            ORDER BY tc.total_apprentices DESC
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final MetricsMapper metricsMapper;
+
+    public List<ScalarMetricDto> getScalarMetrics() {
+        return jdbcClient.sql(SCALAR_METRICS)
+                .query((rs, rowNum) -> {
+                    long apprentices = rs.getLong("total_apprentices");
+                    long backendProfiles = rs.getLong("backend_developers_count");
+                    return List.of(
+                            metricsMapper.toScalarMetric("# Aprendices inscritos únicos", apprentices),
+                            metricsMapper.toScalarMetric("% de perfiles DEV Backend", metricsMapper.formatPercentage(
+                                    metricsMapper.calculatePercentage(backendProfiles, apprentices))),
+                            metricsMapper.toScalarMetric("Total centros de formación", rs.getLong("total_centers")),
+                            metricsMapper.toScalarMetric("Promedio inglés B1-B2",
+                                    metricsMapper.formatPercentage(rs.getDouble("average_english_percentage"))));
+                })
+                .single();
+    }
+
+    /**
+     * Centers ordered by total apprentices, optionally restricted to one department (case-insensitive)
+     * and to the first {@code limit} rows, each carrying its recommended instructors.
+     */
+    public List<CenterMetricDto> getCenterMetrics(String department, Integer limit) {
+        StringBuilder sql = new StringBuilder(CENTER_METRICS);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (department != null) {
+            sql.append("WHERE LOWER(d.department_name) = LOWER(:department)\n");
+            parameters.put("department", department);
+        }
+        sql.append("ORDER BY tc.total_apprentices DESC\n");
+        if (limit != null) {
+            sql.append("LIMIT :limit\n");
+            parameters.put("limit", limit);
+        }
+
+        return new ArrayList<>(loadCenterMetrics(sql.toString(), parameters).values());
+    }
+
+    /**
+     * Centers keyed by id and ordered by total apprentices, restricted to {@code centerIds} unless it is
+     * {@code null}. Ids without a row (deleted centers) are absent from the result.
+     */
+    public Map<Long, CenterMetricDto> getCenterMetricsById(Collection<Long> centerIds) {
+        if (centerIds != null && centerIds.isEmpty()) {
+            return Map.of();
+        }
+        StringBuilder sql = new StringBuilder(CENTER_METRICS);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (centerIds != null) {
+            sql.append("WHERE tc.id IN (:centerIds)\n");
+            parameters.put("centerIds", centerIds);
+        }
+        sql.append("ORDER BY tc.total_apprentices DESC\n");
+        return loadCenterMetrics(sql.toString(), parameters);
+    }
+
+    private Map<Long, CenterMetricDto> loadCenterMetrics(String sql, Map<String, Object> parameters) {
+        Map<Long, CenterMetricDto> centers = new LinkedHashMap<>();
+        jdbcClient.sql(sql)
+                .params(parameters)
+                .query(rs -> {
+                    centers.put(rs.getLong("id"), new CenterMetricDto(
+                            rs.getString("center_name"),
+                            rs.getString("department_name"),
+                            nullableInt(rs, "total_apprentices"),
+                            new ArrayList<>(),
+                            nullableInt(rs, "github_users"),
+                            nullableInt(rs, "english_b1_b2")));
+                });
+        forEachRecommendedInstructor(centers, (center, instructor) -> center.getInstructorsRecommended().add(instructor));
+        return centers;
+    }
+
+    public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
+        Map<Long, RecommendedInstructorDto> centers = new LinkedHashMap<>();
+        jdbcClient.sql("""
+                        SELECT tc.id, tc.center_name, d.department_name
+                        FROM training_centers tc
+                        JOIN departments d ON d.id = tc.department_id
+                        ORDER BY tc.center_name ASC
+                        """)
+                .query(rs -> {
+                    centers.put(rs.getLong("id"), new RecommendedInstructorDto(
+                            rs.getString("center_name"), rs.getString("department_name"), new ArrayList<>(), 0));
+                });
+        forEachRecommendedInstructor(centers, (center, instructor) -> {
+            center.getInstructorsRecommended().add(instructor);
+            center.setInstructorsCount(center.getInstructorsRecommended().size());
+        });
+        return new ArrayList<>(centers.values());
+    }
+
+    public List<ProgramMetricDto> getProgramMetrics() {
+        return jdbcClient.sql(PROGRAM_METRICS)
+                .query((rs, rowNum) -> new ProgramMetricDto(
+                        rs.getString("center_name"),
+                        rs.getString("program_name"),
+                        nullableInt(rs, "apprentices_count")))
+                .list();
+    }
+
+    /**
+     * Programs grouped by center id, each group ordered by apprentices, restricted to the programs of
+     * {@code centerIds} unless it is {@code null}.
+     */
+    public Map<Long, List<ProgramMetricDto>> getProgramMetricsByCenter(Collection<Long> centerIds) {
+        if (centerIds != null && centerIds.isEmpty()) {
+            return Map.of();
+        }
+        StringBuilder sql = new StringBuilder(PROGRAM_METRICS_BY_CENTER);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (centerIds != null) {
+            sql.append("WHERE p.training_center_id IN (:centerIds)\n");
+            parameters.put("centerIds", centerIds);
+        }
+        sql.append("ORDER BY p.apprentices_count DESC\n");
+
+        Map<Long, List<ProgramMetricDto>> programs = new LinkedHashMap<>();
+        jdbcClient.sql(sql.toString())
+                .params(parameters)
+                .query(rs -> {
+                    programs.computeIfAbsent(rs.getLong("training_center_id"), id -> new ArrayList<>())
+                            .add(new ProgramMetricDto(
+                                    rs.getString("center_name"),
+                                    rs.getString("program_name"),
+                                    nullableInt(rs, "apprentices_count")));
+                });
+        return programs;
+    }
+
+    public List<DepartmentMetricDto> getDepartmentMetrics() {
+        return jdbcClient.sql(DEPARTMENT_METRICS)
+                .query((rs, rowNum) -> new DepartmentMetricDto(
+                        rs.getString("department_name"),
+                        rs.getInt("apprentices_count")))
+                .list();
+    }
+
+    public List<GitHubUserDto> getGitHubUsersMetrics() {
+        return jdbcClient.sql(GITHUB_USERS_METRICS)
+                .query((rs, rowNum) -> {
+                    int githubUsers = rs.getInt("github_users");
+                    return new GitHubUserDto(
+                            rs.getString("center_name"),
+                            rs.getString("department_name"),
+                            githubUsers,
+                            percentageOfApprentices(githubUsers, rs.getInt("total_apprentices")));
+                })
+                .list();
+    }
+
+    public List<EnglishLevelDto> getEnglishLevelMetrics() {
+        return jdbcClient.sql(ENGLISH_LEVEL_METRICS)
+                .query((rs, rowNum) -> {
+                    int englishB1B2 = rs.getInt("english_b1_b2");
+                    return new EnglishLevelDto(
+                            rs.getString("center_name"),
+                            rs.getString("department_name"),
+                            englishB1B2,
+                            percentageOfApprentices(englishB1B2, rs.getInt("total_apprentices")));
+                })
+                .list();
+    }
+
+    public List<ApprenticeCountDto> getApprenticeCountMetrics() {
+        return jdbcClient.sql(APPRENTICE_COUNT_METRICS)
+                .query((rs, rowNum) -> new ApprenticeCountDto(
+                        rs.getString("center_name"),
+                        rs.getString("department_name"),
+                        nullableInt(rs, "total_apprentices")))
+                .list();
+    }
+
+    /**
+     * Loads the recommended instructors of every given center in a single query, in instructor id order.
+     */
+    private <T> void forEachRecommendedInstructor(Map<Long, T> centers, BiConsumer<T, String> consumer) {
+        if (centers.isEmpty()) {
+            return;
+        }
+        jdbcClient.sql(RECOMMENDED_INSTRUCTORS)
+                .param("centerIds", centers.keySet())
+                .query(rs -> {
+                    consumer.accept(centers.get(rs.getLong("training_center_id")), rs.getString("instructor_name"));
+                });
+    }
+
+    private String percentageOfApprentices(int value, int totalApprentices) {
+        return totalApprentices > 0
+                ? metricsMapper.formatPercentage(metricsMapper.calculatePercentage(value, totalApprentices))
+                : "0%";
+    }
+
+    private static Integer nullableInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,57 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Change detection over the database-maintained {@code updated_at} columns of the metric source tables.
+ * Both queries are answered from the {@code idx_*_updated_at} indexes: the latest change is one index
+ * lookup per table, and the changed centers are index range scans proportional to the change set.
+ * Deleted rows leave no trace here; callers rebuild in full periodically to pick them up.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MetricsChangeRepository {
+
+    private static final String LATEST_CHANGE = """
+            SELECT MAX(latest) AS latest
+            FROM (SELECT MAX(updated_at) AS latest FROM training_centers
+                  UNION ALL SELECT MAX(updated_at) FROM programs
+                  UNION ALL SELECT MAX(updated_at) FROM instructors) changes
+            """;
+
+    private static final String CENTERS_CHANGED_SINCE = """
+            SELECT tc.id AS center_id FROM training_centers tc WHERE tc.updated_at > :since
+            UNION SELECT p.training_center_id FROM programs p WHERE p.updated_at > :since
+            UNION SELECT i.training_center_id FROM instructors i WHERE i.updated_at > :since
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Time of the most recent insert or update in any metric source table, empty when they are all empty.
+     */
+    public Optional<Instant> findLatestChange() {
+        return jdbcClient.sql(LATEST_CHANGE)
+                .query((rs, rowNum) -> rs.getTimestamp("latest"))
+                .optional()
+                .map(Timestamp::toInstant);
+    }
+
+    /**
+     * Ids of the centers whose own row, or one of whose programs or instructors, changed after {@code since}.
+     */
+    public Set<Long> findCentersChangedSince(Instant since) {
+        return new HashSet<>(jdbcClient.sql(CENTERS_CHANGED_SINCE)
+                .param("since", Timestamp.from(since))
+                .query((rs, rowNum) -> rs.getLong(1))
+                .list());
+    }
+}
@@ -0,0 +1,125 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import com.alphanet.products.leonardobackend.entity.ChangeTrackedEntity;
+import com.alphanet.products.leonardobackend.entity.Instructor;
+import com.alphanet.products.leonardobackend.entity.Program;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The {@code metrics_outbox} table: change events appended in the writer's transaction and consumed,
+ * oldest first, by the read-model projector. Consumed events are deleted.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "read-model")
+public class MetricsOutboxRepository {
+
+    public enum AggregateType { TRAINING_CENTER, PROGRAM, INSTRUCTOR }
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    public record OutboxEvent(long id, AggregateType aggregateType, long aggregateId, long centerId,
+                              ChangeType changeType, Instant occurredAt) {
+    }
+
+    /**
+     * Number of pending events and when the oldest of them was written.
+     */
+    public record Backlog(long pendingEvents, Instant oldestOccurredAt) {
+    }
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(ChangeTrackedEntity entity, Long centerId, ChangeType changeType) {
+        jdbcClient.sql("""
+                        INSERT INTO metrics_outbox (aggregate_type, aggregate_id, center_id, event_type)
+                        VALUES (:aggregateType, :aggregateId, :centerId, :eventType)
+                        """)
+                .param("aggregateType", aggregateTypeOf(entity).name())
+                .param("aggregateId", entity.getId())
+                .param("centerId", centerId)
+                .param("eventType", changeType.name())
+                .update();
+    }
+
+    /**
+     * Appends an update event for each of the given centers in JDBC batches of {@code batchSize},
+     * for center writes that bypass JPA.
+     */
+    public void appendCenterUpdates(List<Long> centerIds, int batchSize) {
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO metrics_outbox (aggregate_type, aggregate_id, center_id, event_type)
+                        VALUES (?, ?, ?, ?)
+                        """,
+                centerIds, batchSize, (ps, centerId) -> {
+                    ps.setString(1, AggregateType.TRAINING_CENTER.name());
+                    ps.setLong(2, centerId);
+                    ps.setLong(3, centerId);
+                    ps.setString(4, ChangeType.UPDATED.name());
+                });
+    }
+
+    /**
+     * The oldest {@code limit} pending events, in append order.
+     */
+    public List<OutboxEvent> findPending(int limit) {
+        return jdbcClient.sql("""
+                        SELECT id, aggregate_type, aggregate_id, center_id, event_type, occurred_at
+                        FROM metrics_outbox
+                        ORDER BY id
+                        LIMIT :limit
+                        """)
+                .param("limit", limit)
+                .query((rs, rowNum) -> new OutboxEvent(
+                        rs.getLong("id"),
+                        AggregateType.valueOf(rs.getString("aggregate_type")),
+                        rs.getLong("aggregate_id"),
+                        rs.getLong("center_id"),
+                        ChangeType.valueOf(rs.getString("event_type")),
+                        rs.getTimestamp("occurred_at").toInstant()))
+                .list();
+    }
+
+    public Backlog getBacklog() {
+        return jdbcClient.sql("SELECT COUNT(*) AS pending, MIN(occurred_at) AS oldest FROM metrics_outbox")
+                .query((rs, rowNum) -> {
+                    Timestamp oldest = rs.getTimestamp("oldest");
+                    return new Backlog(rs.getLong("pending"), oldest != null ? oldest.toInstant() : null);
+                })
+                .single();
+    }
+
+    // Deleted by id rather than by range: an event with a lower id may still commit after later ones
+    public void delete(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        jdbcClient.sql("DELETE FROM metrics_outbox WHERE id IN (:ids)")
+                .param("ids", eventIds)
+                .update();
+    }
+
+    private static AggregateType aggregateTypeOf(ChangeTrackedEntity entity) {
+        if (entity instanceof TrainingCenter) {
+            return AggregateType.TRAINING_CENTER;
+        }
+        if (entity instanceof Program) {
+            return AggregateType.PROGRAM;
+        }
+        if (entity instanceof Instructor) {
+            return AggregateType.INSTRUCTOR;
+        }
+        throw new IllegalArgumentException("Not a metric source entity: " + entity.getClass().getName());
+    }
+}
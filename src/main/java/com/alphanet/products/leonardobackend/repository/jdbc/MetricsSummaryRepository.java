@@ -0,0 +1,300 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import com.alphanet.products.leonardobackend.entity.CenterContribution;
+import com.alphanet.products.leonardobackend.entity.NationalSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@code department_summaries} and {@code national_summary} tables: running totals of the training
+ * center metric columns, so the aggregate endpoints read one row per department instead of summing
+ * every center.
+ *
+ * Writers apply the difference a center write makes ({@link #apply}) in their own transaction; the
+ * national row is always updated first, so it doubles as the lock that orders writers against the
+ * consistency check ({@link #lockNationalSummary()}).
+ */
+@Repository
+@RequiredArgsConstructor
+public class MetricsSummaryRepository {
+
+    // Doubles accumulated by deltas may differ from a fresh SUM in the last bits
+    private static final double PERCENTAGE_TOLERANCE = 1e-6;
+
+    /**
+     * Summary row contents. Department rows leave the English percentage columns at zero.
+     */
+    public record SummaryTotals(long totalApprentices, long githubUsers, long englishB1B2, long centerCount,
+                                double englishPercentageSum, long englishRatedCenters) {
+
+        public static final SummaryTotals ZERO = new SummaryTotals(0, 0, 0, 0, 0, 0);
+
+        static SummaryTotals of(CenterContribution contribution) {
+            if (contribution == null) {
+                return ZERO;
+            }
+            Double percentage = contribution.englishPercentage();
+            return new SummaryTotals(contribution.totalApprentices(), contribution.githubUsers(),
+                    contribution.englishB1B2(), 1, percentage != null ? percentage : 0, percentage != null ? 1 : 0);
+        }
+
+        SummaryTotals plus(SummaryTotals other) {
+            return new SummaryTotals(totalApprentices + other.totalApprentices, githubUsers + other.githubUsers,
+                    englishB1B2 + other.englishB1B2, centerCount + other.centerCount,
+                    englishPercentageSum + other.englishPercentageSum, englishRatedCenters + other.englishRatedCenters);
+        }
+
+        SummaryTotals minus(SummaryTotals other) {
+            return new SummaryTotals(totalApprentices - other.totalApprentices, githubUsers - other.githubUsers,
+                    englishB1B2 - other.englishB1B2, centerCount - other.centerCount,
+                    englishPercentageSum - other.englishPercentageSum, englishRatedCenters - other.englishRatedCenters);
+        }
+
+        boolean isZero() {
+            return matches(ZERO);
+        }
+
+        public boolean matches(SummaryTotals other) {
+            return totalApprentices == other.totalApprentices
+                    && githubUsers == other.githubUsers
+                    && englishB1B2 == other.englishB1B2
+                    && centerCount == other.centerCount
+                    && Math.abs(englishPercentageSum - other.englishPercentageSum) < PERCENTAGE_TOLERANCE
+                    && englishRatedCenters == other.englishRatedCenters;
+        }
+    }
+
+    private static final String COMPUTE_DEPARTMENT_SUMMARIES = """
+            SELECT tc.department_id,
+                   COALESCE(SUM(tc.total_apprentices), 0) AS total_apprentices,
+                   COALESCE(SUM(tc.github_users), 0) AS github_users,
+                   COALESCE(SUM(tc.english_b1_b2), 0) AS english_b1_b2,
+                   COUNT(*) AS center_count,
+                   0 AS english_percentage_sum,
+                   0 AS english_rated_centers
+            FROM training_centers tc
+            GROUP BY tc.department_id
+            """;
+
+    private static final String COMPUTE_NATIONAL_SUMMARY = """
+            SELECT COALESCE(SUM(tc.total_apprentices), 0) AS total_apprentices,
+                   COALESCE(SUM(tc.github_users), 0) AS github_users,
+                   COALESCE(SUM(tc.english_b1_b2), 0) AS english_b1_b2,
+                   COUNT(*) AS center_count,
+                   COALESCE(SUM(CASE WHEN tc.total_apprentices > 0
+                       THEN tc.english_b1_b2 * 100.0 / tc.total_apprentices
+                   END), 0) AS english_percentage_sum,
+                   COUNT(CASE WHEN tc.total_apprentices > 0 THEN tc.english_b1_b2 END) AS english_rated_centers
+            FROM training_centers tc
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * Adds the difference between a center's previous and current contribution; {@code null} stands for
+     * a center that did not exist before (insert) or no longer exists (delete).
+     */
+    public void apply(CenterContribution previous, CenterContribution current) {
+        boolean sameDepartment = previous != null && current != null
+                && Objects.equals(previous.departmentId(), current.departmentId());
+        SummaryTotals delta = SummaryTotals.of(current).minus(SummaryTotals.of(previous));
+        if (sameDepartment && delta.isZero()) {
+            return;
+        }
+        addToNationalSummary(delta);
+        if (sameDepartment) {
+            addToDepartmentSummary(current.departmentId(), delta);
+            return;
+        }
+        if (previous != null) {
+            addToDepartmentSummary(previous.departmentId(), SummaryTotals.ZERO.minus(SummaryTotals.of(previous)));
+        }
+        if (current != null) {
+            addToDepartmentSummary(current.departmentId(), SummaryTotals.of(current));
+        }
+    }
+
+    /**
+     * {@link #apply} for many centers at once: the differences are summed first, so the national row and each
+     * affected department row are updated once. Pairs are {@code previous, current} contributions.
+     */
+    public void applyAll(Collection<Map.Entry<CenterContribution, CenterContribution>> changes) {
+        SummaryTotals national = SummaryTotals.ZERO;
+        Map<Long, SummaryTotals> departments = new LinkedHashMap<>();
+        for (Map.Entry<CenterContribution, CenterContribution> change : changes) {
+            CenterContribution previous = change.getKey();
+            CenterContribution current = change.getValue();
+            national = national.plus(SummaryTotals.of(current).minus(SummaryTotals.of(previous)));
+            if (previous != null && previous.departmentId() != null) {
+                departments.merge(previous.departmentId(), SummaryTotals.ZERO.minus(SummaryTotals.of(previous)),
+                        SummaryTotals::plus);
+            }
+            if (current != null && current.departmentId() != null) {
+                departments.merge(current.departmentId(), SummaryTotals.of(current), SummaryTotals::plus);
+            }
+        }
+        if (!national.isZero()) {
+            addToNationalSummary(national);
+        }
+        departments.forEach((departmentId, delta) -> {
+            if (!delta.isZero()) {
+                addToDepartmentSummary(departmentId, delta);
+            }
+        });
+    }
+
+    /**
+     * Locks the national row for the rest of the transaction, which holds off every summary writer.
+     */
+    public void lockNationalSummary() {
+        jdbcClient.sql("SELECT id FROM national_summary WHERE id = :id FOR UPDATE")
+                .param("id", NationalSummary.SINGLETON_ID)
+                .query(Integer.class)
+                .optional();
+    }
+
+    public Map<Long, SummaryTotals> findDepartmentSummaries() {
+        return queryDepartmentSummaries("""
+                SELECT department_id, total_apprentices, github_users, english_b1_b2, center_count,
+                       0 AS english_percentage_sum, 0 AS english_rated_centers
+                FROM department_summaries
+                """);
+    }
+
+    /**
+     * Department totals recomputed from {@code training_centers}; departments without centers are absent.
+     */
+    public Map<Long, SummaryTotals> computeDepartmentSummaries() {
+        return queryDepartmentSummaries(COMPUTE_DEPARTMENT_SUMMARIES);
+    }
+
+    public SummaryTotals findNationalSummary() {
+        return jdbcClient.sql("""
+                        SELECT total_apprentices, github_users, english_b1_b2, center_count,
+                               english_percentage_sum, english_rated_centers
+                        FROM national_summary
+                        WHERE id = :id
+                        """)
+                .param("id", NationalSummary.SINGLETON_ID)
+                .query((rs, rowNum) -> mapTotals(rs))
+                .optional()
+                .orElse(SummaryTotals.ZERO);
+    }
+
+    public SummaryTotals computeNationalSummary() {
+        return jdbcClient.sql(COMPUTE_NATIONAL_SUMMARY)
+                .query((rs, rowNum) -> mapTotals(rs))
+                .single();
+    }
+
+    public void replaceDepartmentSummary(long departmentId, SummaryTotals totals) {
+        jdbcClient.sql("DELETE FROM department_summaries WHERE department_id = :departmentId")
+                .param("departmentId", departmentId)
+                .update();
+        jdbcClient.sql("""
+                        INSERT INTO department_summaries
+                            (department_id, total_apprentices, github_users, english_b1_b2, center_count)
+                        VALUES (:departmentId, :totalApprentices, :githubUsers, :englishB1B2, :centerCount)
+                        """)
+                .param("departmentId", departmentId)
+                .param("totalApprentices", totals.totalApprentices())
+                .param("githubUsers", totals.githubUsers())
+                .param("englishB1B2", totals.englishB1B2())
+                .param("centerCount", totals.centerCount())
+                .update();
+    }
+
+    public void replaceNationalSummary(SummaryTotals totals) {
+        jdbcClient.sql("DELETE FROM national_summary WHERE id = :id")
+                .param("id", NationalSummary.SINGLETON_ID)
+                .update();
+        jdbcClient.sql("""
+                        INSERT INTO national_summary (id, total_apprentices, github_users, english_b1_b2, center_count,
+                                                      english_percentage_sum, english_rated_centers)
+                        VALUES (:id, :totalApprentices, :githubUsers, :englishB1B2, :centerCount,
+                                :englishPercentageSum, :englishRatedCenters)
+                        """)
+                .param("id", NationalSummary.SINGLETON_ID)
+                .param("totalApprentices", totals.totalApprentices())
+                .param("githubUsers", totals.githubUsers())
+                .param("englishB1B2", totals.englishB1B2())
+                .param("centerCount", totals.centerCount())
+                .param("englishPercentageSum", totals.englishPercentageSum())
+                .param("englishRatedCenters", totals.englishRatedCenters())
+                .update();
+    }
+
+    private void addToNationalSummary(SummaryTotals delta) {
+        int updated = jdbcClient.sql("""
+                        UPDATE national_summary
+                        SET total_apprentices = total_apprentices + :totalApprentices,
+                            github_users = github_users + :githubUsers,
+                            english_b1_b2 = english_b1_b2 + :englishB1B2,
+                            center_count = center_count + :centerCount,
+                            english_percentage_sum = english_percentage_sum + :englishPercentageSum,
+                            english_rated_centers = english_rated_centers + :englishRatedCenters
+                        WHERE id = :id
+                        """)
+                .param("id", NationalSummary.SINGLETON_ID)
+                .param("totalApprentices", delta.totalApprentices())
+                .param("githubUsers", delta.githubUsers())
+                .param("englishB1B2", delta.englishB1B2())
+                .param("centerCount", delta.centerCount())
+                .param("englishPercentageSum", delta.englishPercentageSum())
+                .param("englishRatedCenters", delta.englishRatedCenters())
+                .update();
+        if (updated == 0) {
+            replaceNationalSummary(delta);
+        }
+    }
+
+    private void addToDepartmentSummary(Long departmentId, SummaryTotals delta) {
+        if (departmentId == null) {
+            return;
+        }
+        int updated = jdbcClient.sql("""
+                        UPDATE department_summaries
+                        SET total_apprentices = total_apprentices + :totalApprentices,
+                            github_users = github_users + :githubUsers,
+                            english_b1_b2 = english_b1_b2 + :englishB1B2,
+                            center_count = center_count + :centerCount
+                        WHERE department_id = :departmentId
+                        """)
+                .param("departmentId", departmentId)
+                .param("totalApprentices", delta.totalApprentices())
+                .param("githubUsers", delta.githubUsers())
+                .param("englishB1B2", delta.englishB1B2())
+                .param("centerCount", delta.centerCount())
+                .update();
+        if (updated == 0) {
+            // First center of the department
+            replaceDepartmentSummary(departmentId, delta);
+        }
+    }
+
+    private Map<Long, SummaryTotals> queryDepartmentSummaries(String sql) {
+        Map<Long, SummaryTotals> summaries = new LinkedHashMap<>();
+        jdbcClient.sql(sql).query(rs -> {
+            summaries.put(rs.getLong("department_id"), mapTotals(rs));
+        });
+        return summaries;
+    }
+
+    private static SummaryTotals mapTotals(ResultSet rs) throws SQLException {
+        return new SummaryTotals(
+                rs.getLong("total_apprentices"),
+                rs.getLong("github_users"),
+                rs.getLong("english_b1_b2"),
+                rs.getLong("center_count"),
+                rs.getDouble("english_percentage_sum"),
+                rs.getLong("english_rated_centers"));
+    }
+}
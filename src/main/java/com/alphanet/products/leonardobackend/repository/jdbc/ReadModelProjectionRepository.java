@@ -0,0 +1,233 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Write side of the denormalized metrics read model. Every method recomputes its rows from the normalized
+ * source tables, so re-projecting the same center twice is harmless. Methods taking a collection of keys
+ * project only those keys, or everything when the collection is {@code null}.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "read-model")
+public class ReadModelProjectionRepository {
+
+    private static final String SOURCE_CENTERS = """
+            SELECT tc.id, tc.center_name, d.department_name, tc.total_apprentices, tc.github_users, tc.english_b1_b2
+            FROM training_centers tc
+            JOIN departments d ON d.id = tc.department_id
+            """;
+
+    private static final String SOURCE_RECOMMENDED_INSTRUCTORS = """
+            SELECT i.training_center_id, i.instructor_name
+            FROM instructors i
+            WHERE i.is_recommended = TRUE
+            """;
+
+    private static final String INSERT_CENTER = """
+            INSERT INTO rm_center_metrics (center_id, center_name, department, department_key, total_apprentices,
+                                           github_users, github_percentage, english_b1_b2, english_percentage,
+                                           instructors_recommended, instructors_count)
+            VALUES (:centerId, :centerName, :department, :departmentKey, :totalApprentices,
+                    :githubUsers, :githubPercentage, :englishB1B2, :englishPercentage,
+                    :instructorsRecommended, :instructorsCount)
+            """;
+
+    private static final String PROJECT_PROGRAMS = """
+            INSERT INTO rm_program_metrics (program_id, center_id, center_name, program_name, apprentices_count, category)
+            SELECT p.id, p.training_center_id, tc.center_name, p.program_name, p.apprentices_count, p.category
+            FROM programs p
+            JOIN training_centers tc ON tc.id = p.training_center_id
+            """;
+
+    private static final String PROJECT_DEPARTMENTS = """
+            INSERT INTO rm_department_metrics (department_name, apprentices_count)
+            SELECT d.department_name, COALESCE(SUM(tc.total_apprentices), 0)
+            FROM departments d
+            LEFT JOIN training_centers tc ON tc.department_id = d.id
+            """;
+
+    private static final String PROJECT_SCALARS = """
+            UPDATE rm_projection_state
+            SET total_apprentices = (SELECT COALESCE(SUM(c.total_apprentices), 0) FROM rm_center_metrics c),
+                total_centers = (SELECT COUNT(*) FROM rm_center_metrics c),
+                average_english_percentage = (SELECT COALESCE(AVG(CASE WHEN c.total_apprentices > 0
+                    THEN c.english_b1_b2 * 100.0 / c.total_apprentices END), 0) FROM rm_center_metrics c),
+                backend_developers_count = (SELECT COUNT(DISTINCT p.program_name) FROM rm_program_metrics p
+                    WHERE p.category = 'SOFTWARE'),
+                projected_at = :now
+            WHERE id = 1
+            """;
+
+    private record SourceCenter(long id, String centerName, String department,
+                                Integer totalApprentices, Integer githubUsers, Integer englishB1B2) {
+    }
+
+    private final JdbcClient jdbcClient;
+    private final MetricsMapper metricsMapper;
+
+    /**
+     * Locks the projection state row until the transaction ends, so projectors on several instances
+     * never interleave.
+     */
+    public void lockProjectionState() {
+        jdbcClient.sql("SELECT id FROM rm_projection_state WHERE id = 1 FOR UPDATE")
+                .query(Integer.class)
+                .single();
+    }
+
+    public boolean isBuilt() {
+        return jdbcClient.sql("SELECT rebuilt_at FROM rm_projection_state WHERE id = 1")
+                .query((rs, rowNum) -> rs.getTimestamp("rebuilt_at") != null)
+                .single();
+    }
+
+    public void markRebuilt(Instant rebuiltAt) {
+        jdbcClient.sql("UPDATE rm_projection_state SET rebuilt_at = :rebuiltAt WHERE id = 1")
+                .param("rebuiltAt", Timestamp.from(rebuiltAt))
+                .update();
+    }
+
+    public void clear() {
+        jdbcClient.sql("DELETE FROM rm_center_metrics").update();
+        jdbcClient.sql("DELETE FROM rm_program_metrics").update();
+        jdbcClient.sql("DELETE FROM rm_department_metrics").update();
+    }
+
+    /**
+     * Replaces the center rows of {@code centerIds}; ids without a source row (deleted centers) are removed.
+     *
+     * @return the departments the replaced rows belonged to before and after, whose totals are now stale
+     */
+    public Set<String> projectCenters(Collection<Long> centerIds) {
+        if (centerIds != null && centerIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> departments = new HashSet<>();
+        if (centerIds != null) {
+            departments.addAll(jdbcClient.sql("SELECT DISTINCT department FROM rm_center_metrics WHERE center_id IN (:ids)")
+                    .param("ids", centerIds)
+                    .query(String.class)
+                    .list());
+            jdbcClient.sql("DELETE FROM rm_center_metrics WHERE center_id IN (:ids)")
+                    .param("ids", centerIds)
+                    .update();
+        }
+
+        List<SourceCenter> centers = jdbcClient.sql(restrictTo(SOURCE_CENTERS, "WHERE tc.id IN (:ids)", centerIds))
+                .params(idsParameter(centerIds))
+                .query((rs, rowNum) -> new SourceCenter(
+                        rs.getLong("id"),
+                        rs.getString("center_name"),
+                        rs.getString("department_name"),
+                        rs.getObject("total_apprentices", Integer.class),
+                        rs.getObject("github_users", Integer.class),
+                        rs.getObject("english_b1_b2", Integer.class)))
+                .list();
+        Map<Long, List<String>> instructors = new LinkedHashMap<>();
+        jdbcClient.sql(restrictTo(SOURCE_RECOMMENDED_INSTRUCTORS, "AND i.training_center_id IN (:ids)", centerIds)
+                        + "ORDER BY i.id ASC\n")
+                .params(idsParameter(centerIds))
+                .query(rs -> {
+                    instructors.computeIfAbsent(rs.getLong("training_center_id"), id -> new ArrayList<>())
+                            .add(rs.getString("instructor_name"));
+                });
+
+        for (SourceCenter center : centers) {
+            List<String> recommended = instructors.getOrDefault(center.id(), List.of());
+            jdbcClient.sql(INSERT_CENTER)
+                    .param("centerId", center.id())
+                    .param("centerName", center.centerName())
+                    .param("department", center.department())
+                    .param("departmentKey", departmentKey(center.department()))
+                    .param("totalApprentices", center.totalApprentices())
+                    .param("githubUsers", center.githubUsers())
+                    .param("githubPercentage", percentageOf(center.githubUsers(), center.totalApprentices()))
+                    .param("englishB1B2", center.englishB1B2())
+                    .param("englishPercentage", percentageOf(center.englishB1B2(), center.totalApprentices()))
+                    .param("instructorsRecommended", String.join(ReadModelRepository.INSTRUCTOR_SEPARATOR, recommended))
+                    .param("instructorsCount", recommended.size())
+                    .update();
+            departments.add(center.department());
+        }
+        return departments;
+    }
+
+    /**
+     * Replaces the program rows of {@code centerIds}.
+     */
+    public void projectPrograms(Collection<Long> centerIds) {
+        if (centerIds != null && centerIds.isEmpty()) {
+            return;
+        }
+        if (centerIds != null) {
+            jdbcClient.sql("DELETE FROM rm_program_metrics WHERE center_id IN (:ids)")
+                    .param("ids", centerIds)
+                    .update();
+        }
+        jdbcClient.sql(restrictTo(PROJECT_PROGRAMS, "WHERE p.training_center_id IN (:ids)", centerIds))
+                .params(idsParameter(centerIds))
+                .update();
+    }
+
+    /**
+     * Recomputes the totals of {@code departmentNames}; departments that no longer exist are removed.
+     */
+    public void projectDepartments(Collection<String> departmentNames) {
+        if (departmentNames != null && departmentNames.isEmpty()) {
+            return;
+        }
+        if (departmentNames != null) {
+            jdbcClient.sql("DELETE FROM rm_department_metrics WHERE department_name IN (:ids)")
+                    .param("ids", departmentNames)
+                    .update();
+        }
+        jdbcClient.sql(restrictTo(PROJECT_DEPARTMENTS, "WHERE d.department_name IN (:ids)", departmentNames)
+                        + "GROUP BY d.department_name\n")
+                .params(idsParameter(departmentNames))
+                .update();
+    }
+
+    /**
+     * Recomputes the scalar aggregates from the projected center and program rows.
+     */
+    public void projectScalars(Instant projectedAt) {
+        jdbcClient.sql(PROJECT_SCALARS)
+                .param("now", Timestamp.from(projectedAt))
+                .update();
+    }
+
+    public static String departmentKey(String department) {
+        return department.toLowerCase(Locale.ROOT);
+    }
+
+    private String percentageOf(Integer part, Integer total) {
+        int totalValue = total != null ? total : 0;
+        return totalValue > 0
+                ? metricsMapper.formatPercentage(metricsMapper.calculatePercentage(part != null ? part : 0, totalValue))
+                : "0%";
+    }
+
+    private static String restrictTo(String sql, String restriction, Collection<?> keys) {
+        return keys != null ? sql + restriction + "\n" : sql;
+    }
+
+    private static Map<String, Object> idsParameter(Collection<?> keys) {
+        return keys != null ? Map.of("ids", keys) : Map.of();
+    }
+}
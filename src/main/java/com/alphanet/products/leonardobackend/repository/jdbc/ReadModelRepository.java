@@ -0,0 +1,165 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read side of the denormalized metrics read model maintained by the projector. Every query reads a single
+ * table in the order of one of its indexes and maps each row straight to its response DTO.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "read-model")
+public class ReadModelRepository {
+
+    /** Joins the recommended instructor names of a center into {@code rm_center_metrics.instructors_recommended}. */
+    public static final String INSTRUCTOR_SEPARATOR = "\n";
+
+    private static final String CENTER_COLUMNS = """
+            SELECT center_name, department, total_apprentices, github_users, github_percentage,
+                   english_b1_b2, english_percentage, instructors_recommended, instructors_count
+            FROM rm_center_metrics
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final MetricsMapper metricsMapper;
+
+    public List<ScalarMetricDto> getScalarMetrics() {
+        return jdbcClient.sql("""
+                        SELECT total_apprentices, total_centers, average_english_percentage, backend_developers_count
+                        FROM rm_projection_state
+                        WHERE id = 1
+                        """)
+                .query((rs, rowNum) -> {
+                    long apprentices = rs.getLong("total_apprentices");
+                    long backendProfiles = rs.getLong("backend_developers_count");
+                    return List.of(
+                            metricsMapper.toScalarMetric("# Aprendices inscritos únicos", apprentices),
+                            metricsMapper.toScalarMetric("% de perfiles DEV Backend", metricsMapper.formatPercentage(
+                                    metricsMapper.calculatePercentage(backendProfiles, apprentices))),
+                            metricsMapper.toScalarMetric("Total centros de formación", rs.getLong("total_centers")),
+                            metricsMapper.toScalarMetric("Promedio inglés B1-B2",
+                                    metricsMapper.formatPercentage(rs.getDouble("average_english_percentage"))));
+                })
+                .single();
+    }
+
+    /**
+     * Centers ordered by total apprentices, optionally restricted to one department (case-insensitive)
+     * and to the first {@code limit} rows.
+     */
+    public List<CenterMetricDto> getCenterMetrics(String department, Integer limit) {
+        StringBuilder sql = new StringBuilder(CENTER_COLUMNS);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (department != null) {
+            sql.append("WHERE department_key = :departmentKey\n");
+            parameters.put("departmentKey", ReadModelProjectionRepository.departmentKey(department));
+        }
+        sql.append("ORDER BY total_apprentices DESC\n");
+        if (limit != null) {
+            sql.append("LIMIT :limit\n");
+            parameters.put("limit", limit);
+        }
+        return jdbcClient.sql(sql.toString())
+                .params(parameters)
+                .query((rs, rowNum) -> new CenterMetricDto(
+                        rs.getString("center_name"),
+                        rs.getString("department"),
+                        nullableInt(rs, "total_apprentices"),
+                        instructors(rs),
+                        nullableInt(rs, "github_users"),
+                        nullableInt(rs, "english_b1_b2")))
+                .list();
+    }
+
+    public List<ProgramMetricDto> getProgramMetrics() {
+        return jdbcClient.sql("""
+                        SELECT center_name, program_name, apprentices_count
+                        FROM rm_program_metrics
+                        ORDER BY apprentices_count DESC
+                        """)
+                .query((rs, rowNum) -> new ProgramMetricDto(
+                        rs.getString("center_name"),
+                        rs.getString("program_name"),
+                        nullableInt(rs, "apprentices_count")))
+                .list();
+    }
+
+    public List<DepartmentMetricDto> getDepartmentMetrics() {
+        return jdbcClient.sql("""
+                        SELECT department_name, apprentices_count
+                        FROM rm_department_metrics
+                        ORDER BY apprentices_count DESC, department_name
+                        """)
+                .query((rs, rowNum) -> new DepartmentMetricDto(
+                        rs.getString("department_name"),
+                        rs.getInt("apprentices_count")))
+                .list();
+    }
+
+    public List<GitHubUserDto> getGitHubUsersMetrics() {
+        return jdbcClient.sql(CENTER_COLUMNS + "ORDER BY github_users DESC\n")
+                .query((rs, rowNum) -> new GitHubUserDto(
+                        rs.getString("center_name"),
+                        rs.getString("department"),
+                        rs.getInt("github_users"),
+                        rs.getString("github_percentage")))
+                .list();
+    }
+
+    public List<EnglishLevelDto> getEnglishLevelMetrics() {
+        return jdbcClient.sql(CENTER_COLUMNS + "ORDER BY english_b1_b2 DESC\n")
+                .query((rs, rowNum) -> new EnglishLevelDto(
+                        rs.getString("center_name"),
+                        rs.getString("department"),
+                        rs.getInt("english_b1_b2"),
+                        rs.getString("english_percentage")))
+                .list();
+    }
+
+    public List<ApprenticeCountDto> getApprenticeCountMetrics() {
+        return jdbcClient.sql(CENTER_COLUMNS + "ORDER BY total_apprentices DESC\n")
+                .query((rs, rowNum) -> new ApprenticeCountDto(
+                        rs.getString("center_name"),
+                        rs.getString("department"),
+                        nullableInt(rs, "total_apprentices")))
+                .list();
+    }
+
+    public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
+        return jdbcClient.sql(CENTER_COLUMNS + "ORDER BY center_name ASC\n")
+                .query((rs, rowNum) -> new RecommendedInstructorDto(
+                        rs.getString("center_name"),
+                        rs.getString("department"),
+                        instructors(rs),
+                        rs.getInt("instructors_count")))
+                .list();
+    }
+
+    private static List<String> instructors(ResultSet rs) throws SQLException {
+        String joined = rs.getString("instructors_recommended");
+        return joined.isEmpty() ? List.of() : List.of(joined.split(INSTRUCTOR_SEPARATOR));
+    }
+
+    private static Integer nullableInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,28 @@
+package com.alphanet.products.leonardobackend.service;
+
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metrics read straight from the database, without caching or coalescing. The read-mode services
+ * ({@code direct}, {@code snapshot}, {@code cache}) wrap the single implementation selected by
+ * {@code leonardo.metrics.read-path}: {@code jpa} (Spring Data projections, default) or {@code jdbc}.
+ */
+public interface DatabaseMetricsService extends MetricsService {
+
+    /**
+     * Center metrics keyed by center id, ordered by total apprentices. Loads only the given centers,
+     * or every center when {@code centerIds} is {@code null}; ids without a row (deleted centers) are absent.
+     */
+    Map<Long, CenterMetricDto> getCenterMetricsById(Collection<Long> centerIds);
+
+    /**
+     * Program metrics grouped by center id, each group ordered by apprentices. Loads only the programs of
+     * the given centers, or of every center when {@code centerIds} is {@code null}.
+     */
+    Map<Long, List<ProgramMetricDto>> getProgramMetricsByCenter(Collection<Long> centerIds);
+}
@@ -2,6 +2,7 @@ package com.alphanet.products.leonardobackend.service;
 
 import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
 import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
 import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
 import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
 import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
@@ -17,6 +18,8 @@ public interface MetricsService {
 
     List<CenterMetricDto> getCenterMetrics();
 
+    List<CenterMetricDto> getCenterMetrics(CenterMetricsQuery query);
+
     List<ProgramMetricDto> getProgramMetrics();
 
     List<DepartmentMetricDto> getDepartmentMetrics();
@@ -0,0 +1,117 @@
+package com.alphanet.products.leonardobackend.service.cache;
+
+import com.alphanet.products.leonardobackend.config.MetricsQueryCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache for parameterized metric queries (filters, top-N, id lists).
+ *
+ * Memory is bounded by the estimated byte size of the cached DTO lists rather than by entry count,
+ * so a burst of distinct filter combinations cannot grow past {@code leonardo.metrics.query-cache.maximum-weight}.
+ * Caffeine's TinyLFU admission keeps frequently requested entries when a one-off scan of new keys
+ * competes for space. Hit ratios are tracked per key family and published as
+ * {@code leonardo.query.cache.requests} and {@code leonardo.query.cache.hit.ratio}.
+ */
+@Slf4j
+@Component
+public class MetricsQueryCache {
+
+    private static final String CACHE_NAME = "metrics.query";
+
+    private final Cache<MetricsQueryKey, List<?>> cache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, FamilyStatistics> familyStatistics = new ConcurrentHashMap<>();
+
+    public MetricsQueryCache(MetricsQueryCacheProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight().toBytes())
+                .weigher((MetricsQueryKey key, List<?> value) -> weigh(key, value))
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Metrics query cache configured: maximumWeight={}, ttl={}",
+                properties.getMaximumWeight(), properties.getTtl());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(MetricsQueryKey key, Supplier<List<T>> loader) {
+        boolean[] loaded = {false};
+        List<?> result = cache.get(key, ignored -> {
+            loaded[0] = true;
+            return List.copyOf(loader.get());
+        });
+        statisticsFor(key.family()).record(!loaded[0]);
+        return (List<T>) result;
+    }
+
+    public double hitRatio(String family) {
+        FamilyStatistics statistics = familyStatistics.get(family);
+        return statistics != null ? statistics.hitRatio() : 0.0;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long estimatedWeight() {
+        cache.cleanUp();
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private static int weigh(MetricsQueryKey key, List<?> value) {
+        long bytes = ResultSizeEstimator.estimate(key.parameters()) + ResultSizeEstimator.estimate(value);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private FamilyStatistics statisticsFor(String family) {
+        return familyStatistics.computeIfAbsent(family, this::registerFamily);
+    }
+
+    private FamilyStatistics registerFamily(String family) {
+        FamilyStatistics statistics = new FamilyStatistics();
+        FunctionCounter.builder("leonardo.query.cache.requests", statistics.hits, LongAdder::doubleValue)
+                .tag("family", family)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("leonardo.query.cache.requests", statistics.misses, LongAdder::doubleValue)
+                .tag("family", family)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("leonardo.query.cache.hit.ratio", statistics, FamilyStatistics::hitRatio)
+                .tag("family", family)
+                .register(meterRegistry);
+        return statistics;
+    }
+
+    private static final class FamilyStatistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        void record(boolean hit) {
+            (hit ? hits : misses).increment();
+        }
+
+        double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total > 0 ? (double) hitCount / total : 0.0;
+        }
+    }
+}
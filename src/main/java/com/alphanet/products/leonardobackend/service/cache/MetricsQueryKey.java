@@ -0,0 +1,19 @@
+package com.alphanet.products.leonardobackend.service.cache;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Cache key for a parameterized metrics query: the key family (usually the endpoint) plus its
+ * normalized parameters. Parameters are copied into a sorted map so parameter order never matters.
+ */
+public record MetricsQueryKey(String family, Map<String, String> parameters) {
+
+    public MetricsQueryKey {
+        parameters = Map.copyOf(new TreeMap<>(parameters));
+    }
+
+    public static MetricsQueryKey of(String family, Map<String, String> parameters) {
+        return new MetricsQueryKey(family, parameters);
+    }
+}
@@ -0,0 +1,92 @@
+package com.alphanet.products.leonardobackend.service.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the retained heap size of cached results (DTO lists) for cache weighing.
+ *
+ * The estimate assumes a 64-bit JVM with compressed references and compact strings. It walks
+ * collections and the fields of this application's DTOs; any other object counts as a bare header.
+ */
+public final class ResultSizeEstimator {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_OVERHEAD = 24 + 16;
+    private static final int BOXED_VALUE = 16;
+    private static final int COLLECTION_OVERHEAD = 24 + 16;
+    private static final int MAX_DEPTH = 4;
+    private static final String APPLICATION_PACKAGE = "com.alphanet.products.leonardobackend";
+
+    private static final ClassValue<List<Field>> INSTANCE_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
+    private ResultSizeEstimator() {
+    }
+
+    public static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null || value instanceof Boolean || value instanceof Enum<?>) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            // Compact strings: Latin-1 text (including Spanish accents) takes one byte per character
+            return STRING_OVERHEAD + string.length();
+        }
+        if (value instanceof Number || value instanceof Character) {
+            return BOXED_VALUE;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = COLLECTION_OVERHEAD + (long) REFERENCE * collection.size();
+            for (Object element : collection) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = COLLECTION_OVERHEAD + (long) (OBJECT_HEADER + 3 * REFERENCE) * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (!value.getClass().getName().startsWith(APPLICATION_PACKAGE)) {
+            return OBJECT_HEADER;
+        }
+
+        List<Field> fields = INSTANCE_FIELDS.get(value.getClass());
+        long size = OBJECT_HEADER + (long) REFERENCE * fields.size();
+        for (Field field : fields) {
+            try {
+                size += estimate(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                size += OBJECT_HEADER;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,84 @@
+package com.alphanet.products.leonardobackend.service.catalog;
+
+import com.alphanet.products.leonardobackend.dto.ProgramRollupDto;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Program rollups across training centers, served from a {@link ProgramCatalogSnapshot}.
+ *
+ * The catalog is loaded on first use, so instances that never serve {@code /by-program/rollup} never
+ * read or hold it. Once loaded it is rebuilt from one offering query in the background on a fixed
+ * delay and swapped atomically; a failed rebuild keeps serving the previous catalog.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgramCatalog {
+
+    private final ProgramRepository programRepository;
+
+    private final AtomicReference<ProgramCatalogSnapshot> currentSnapshot = new AtomicReference<>();
+    private final ReentrantLock initialLoad = new ReentrantLock();
+
+    @Scheduled(
+            fixedDelayString = "${leonardo.metrics.catalog.refresh-interval:PT5M}",
+            initialDelayString = "${leonardo.metrics.catalog.refresh-interval:PT5M}"
+    )
+    public void refreshIfLoaded() {
+        if (currentSnapshot.get() != null) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        try {
+            ProgramCatalogSnapshot snapshot = load();
+            currentSnapshot.set(snapshot);
+            log.info("Program catalog refreshed with {} programs", snapshot.programCount());
+        } catch (RuntimeException e) {
+            log.warn("Program catalog refresh failed, serving catalog loaded at {}: {}",
+                    currentSnapshot().map(ProgramCatalogSnapshot::loadedAt).orElse(null), e.getMessage());
+        }
+    }
+
+    public List<ProgramRollupDto> rollup(String department, Integer limit) {
+        return snapshot().rollup(department, limit);
+    }
+
+    public Optional<ProgramCatalogSnapshot> currentSnapshot() {
+        return Optional.ofNullable(currentSnapshot.get());
+    }
+
+    private ProgramCatalogSnapshot load() {
+        return ProgramCatalogSnapshot.of(programRepository.getProgramApprentices());
+    }
+
+    private ProgramCatalogSnapshot snapshot() {
+        ProgramCatalogSnapshot snapshot = currentSnapshot.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // Only reached before the first load completes (a lock, not synchronized, which would pin a virtual thread
+        // to its carrier during the query)
+        initialLoad.lock();
+        try {
+            snapshot = currentSnapshot.get();
+            if (snapshot == null) {
+                snapshot = load();
+                currentSnapshot.set(snapshot);
+            }
+            return snapshot;
+        } finally {
+            initialLoad.unlock();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.alphanet.products.leonardobackend.service.catalog;
+
+import com.alphanet.products.leonardobackend.dto.ProgramRollupDto;
+import com.alphanet.products.leonardobackend.dto.projection.ProgramApprenticesProjection;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, dictionary-encoded program catalog.
+ *
+ * Each distinct program name gets a dense integer id (and so does each department), and every total
+ * is kept in arrays indexed by those ids: national totals, per-department totals and the number of
+ * offering centers. Rankings are precomputed as id arrays, so a rollup request only walks an int array.
+ * Names are matched ignoring case and surrounding or repeated whitespace, so a program spelled slightly
+ * differently by one center is still the same entry; it is shown with the first spelling seen.
+ * Built once from the per-offering rows and never modified afterwards.
+ */
+public final class ProgramCatalogSnapshot {
+
+    private final String[] programNames;
+    private final Map<String, Integer> departmentIds;
+    private final long[] nationalTotals;
+    private final int[] nationalCenters;
+    private final long[][] departmentTotals;
+    private final int[][] departmentCenters;
+    private final int[] nationalRanking;
+    private final int[][] departmentRankings;
+    private final Instant loadedAt;
+
+    private ProgramCatalogSnapshot(String[] programNames, Map<String, Integer> departmentIds,
+                                   long[] nationalTotals, int[] nationalCenters,
+                                   long[][] departmentTotals, int[][] departmentCenters, Instant loadedAt) {
+        this.programNames = programNames;
+        this.departmentIds = departmentIds;
+        this.nationalTotals = nationalTotals;
+        this.nationalCenters = nationalCenters;
+        this.departmentTotals = departmentTotals;
+        this.departmentCenters = departmentCenters;
+        this.nationalRanking = rank(nationalTotals);
+        this.departmentRankings = Arrays.stream(departmentTotals).map(this::rank).toArray(int[][]::new);
+        this.loadedAt = loadedAt;
+    }
+
+    public static ProgramCatalogSnapshot of(List<ProgramApprenticesProjection> offerings) {
+        Map<String, Integer> programIds = new HashMap<>();
+        List<String> programNames = new ArrayList<>();
+        Map<String, Integer> departmentIds = new HashMap<>();
+        int[] programOf = new int[offerings.size()];
+        int[] departmentOf = new int[offerings.size()];
+
+        // Pass 1: encode names into dense ids
+        for (int row = 0; row < offerings.size(); row++) {
+            ProgramApprenticesProjection offering = offerings.get(row);
+            String programName = offering.getProgramName();
+            programOf[row] = programIds.computeIfAbsent(nameKey(programName), key -> {
+                programNames.add(collapseWhitespace(programName));
+                return programNames.size() - 1;
+            });
+            departmentOf[row] = departmentIds.computeIfAbsent(nameKey(offering.getDepartment()),
+                    key -> departmentIds.size());
+        }
+
+        // Pass 2: accumulate into id-indexed arrays
+        int programs = programNames.size();
+        long[] nationalTotals = new long[programs];
+        int[] nationalCenters = new int[programs];
+        long[][] departmentTotals = new long[departmentIds.size()][programs];
+        int[][] departmentCenters = new int[departmentIds.size()][programs];
+        for (int row = 0; row < offerings.size(); row++) {
+            Integer apprentices = offerings.get(row).getApprenticesCount();
+            long count = apprentices != null ? apprentices : 0;
+            nationalTotals[programOf[row]] += count;
+            nationalCenters[programOf[row]]++;
+            departmentTotals[departmentOf[row]][programOf[row]] += count;
+            departmentCenters[departmentOf[row]][programOf[row]]++;
+        }
+
+        return new ProgramCatalogSnapshot(programNames.toArray(String[]::new), Map.copyOf(departmentIds),
+                nationalTotals, nationalCenters, departmentTotals, departmentCenters, Instant.now());
+    }
+
+    /**
+     * Largest programs first, nationally or within {@code department} (case-insensitive).
+     * Programs not offered in the department are left out; an unknown department yields an empty list.
+     */
+    public List<ProgramRollupDto> rollup(String department, Integer limit) {
+        int max = limit != null ? limit : Integer.MAX_VALUE;
+        if (department == null) {
+            return toDtos(nationalRanking, nationalTotals, nationalCenters, max);
+        }
+        Integer departmentId = departmentIds.get(nameKey(department));
+        if (departmentId == null) {
+            return List.of();
+        }
+        return toDtos(departmentRankings[departmentId], departmentTotals[departmentId],
+                departmentCenters[departmentId], max);
+    }
+
+    public int programCount() {
+        return programNames.length;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    private List<ProgramRollupDto> toDtos(int[] ranking, long[] totals, int[] centers, int max) {
+        List<ProgramRollupDto> rollup = new ArrayList<>(Math.min(max, ranking.length));
+        for (int i = 0; i < ranking.length && rollup.size() < max; i++) {
+            int programId = ranking[i];
+            if (centers[programId] > 0) {
+                rollup.add(new ProgramRollupDto(programNames[programId], totals[programId], centers[programId]));
+            }
+        }
+        return rollup;
+    }
+
+    // Descending total, ties by name so the order is stable across rebuilds
+    private int[] rank(long[] totals) {
+        return IntStream.range(0, totals.length)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(id -> totals[id]).reversed()
+                        .thenComparing(id -> programNames[id]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static String nameKey(String name) {
+        return collapseWhitespace(name).toLowerCase(Locale.ROOT);
+    }
+
+    private static String collapseWhitespace(String name) {
+        return name.trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,103 @@
+package com.alphanet.products.leonardobackend.service.center;
+
+import com.alphanet.products.leonardobackend.config.CenterDetailProperties;
+import com.alphanet.products.leonardobackend.dto.CenterDetailDto;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.service.coalescing.MicroBatcher;
+import com.alphanet.products.leonardobackend.service.deadline.QueryDeadlines;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Training centers with their department, programs and instructors.
+ *
+ * Centers are loaded by id in chunks of at most {@code in-list-size} ids; each chunk is one query fetching centers,
+ * departments and programs and one fetching instructors, whatever the number of centers in it. Single-center
+ * lookups arriving within {@code batch-window} of each other are combined by a {@link MicroBatcher} into one
+ * such load. Lookups read the normalized tables in every read mode, within the request's latency budget.
+ */
+@Service
+public class CenterDetailService {
+
+    public static final int MAX_IDS = 200;
+
+    private final TrainingCenterRepository trainingCenterRepository;
+    private final MetricsMapper mapper;
+    private final QueryDeadlines queryDeadlines;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int inListSize;
+    private final MicroBatcher<Long, CenterDetailDto> batcher;
+
+    public CenterDetailService(TrainingCenterRepository trainingCenterRepository, MetricsMapper mapper,
+                               QueryDeadlines queryDeadlines, PlatformTransactionManager transactionManager,
+                               CenterDetailProperties properties, MeterRegistry meterRegistry) {
+        this.trainingCenterRepository = trainingCenterRepository;
+        this.mapper = mapper;
+        this.queryDeadlines = queryDeadlines;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.inListSize = properties.getInListSize();
+        this.batcher = !properties.getBatchWindow().isZero() && !properties.getBatchWindow().isNegative()
+                ? new MicroBatcher<>("centers", properties.getBatchWindow(), inListSize, this::load, meterRegistry)
+                : null;
+    }
+
+    public CenterDetailDto getCenter(long centerId) {
+        CenterDetailDto center = batcher != null
+                ? batcher.load(centerId).orElse(null)
+                : load(Set.of(centerId)).get(centerId);
+        if (center == null) {
+            throw new CenterNotFoundException(centerId);
+        }
+        return center;
+    }
+
+    /**
+     * Returns the existing centers among {@code centerIds}, in the order first requested.
+     */
+    public List<CenterDetailDto> getCenters(Collection<Long> centerIds) {
+        Set<Long> ids = new LinkedHashSet<>(centerIds);
+        Map<Long, CenterDetailDto> centers = load(ids);
+        return ids.stream()
+                .map(centers::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, CenterDetailDto> load(Set<Long> centerIds) {
+        return queryDeadlines.execute(() -> readOnlyTransaction.execute(status -> {
+            Map<Long, CenterDetailDto> centers = new HashMap<>();
+            for (List<Long> chunk : chunks(centerIds)) {
+                List<TrainingCenter> found = trainingCenterRepository.findDetailsByIdIn(chunk);
+                if (found.isEmpty()) {
+                    continue;
+                }
+                trainingCenterRepository.fetchInstructorsByIdIn(found.stream().map(TrainingCenter::getId).toList());
+                found.forEach(center -> centers.put(center.getId(), mapper.toCenterDetailDto(center)));
+            }
+            return centers;
+        }));
+    }
+
+    private List<List<Long>> chunks(Set<Long> centerIds) {
+        List<Long> ids = new ArrayList<>(centerIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += inListSize) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + inListSize)));
+        }
+        return chunks;
+    }
+}
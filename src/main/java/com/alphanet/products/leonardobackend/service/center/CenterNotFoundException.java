@@ -0,0 +1,18 @@
+package com.alphanet.products.leonardobackend.service.center;
+
+/**
+ * Thrown when a training center looked up by id does not exist.
+ */
+public class CenterNotFoundException extends RuntimeException {
+
+    private final long centerId;
+
+    public CenterNotFoundException(long centerId) {
+        super("Training center " + centerId + " not found");
+        this.centerId = centerId;
+    }
+
+    public long getCenterId() {
+        return centerId;
+    }
+}
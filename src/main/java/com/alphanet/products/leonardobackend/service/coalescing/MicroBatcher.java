@@ -0,0 +1,115 @@
+package com.alphanet.products.leonardobackend.service.coalescing;
+
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Combines single-key lookups arriving within a short window into one multi-key load.
+ *
+ * The first caller opens a batch and waits up to the window (or until the batch holds {@code maxBatchSize}
+ * keys) for other callers to add their keys, then loads all of them at once on its own thread and hands every
+ * caller its value. Like {@link SingleFlight}, waiting callers share the loader's exception, wait no longer
+ * than their own {@link RequestDeadline}, and load their key alone if the batch ran out of the shorter budget
+ * of the caller that opened it. Batch sizes are recorded in {@code leonardo.query.microbatch.size}, tagged by name.
+ */
+public class MicroBatcher<K, V> {
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final DistributionSummary batchSizes;
+
+    // Batch still accepting keys, guarded by this
+    private Batch<K, V> open;
+
+    public MicroBatcher(String name, Duration window, int maxBatchSize, Function<Set<K>, Map<K, V>> loader,
+                        MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.loader = loader;
+        this.batchSizes = DistributionSummary.builder("leonardo.query.microbatch.size")
+                .tag("name", name)
+                .description("Keys loaded together by one micro-batched query")
+                .register(meterRegistry);
+    }
+
+    public Optional<V> load(K key) {
+        Batch<K, V> batch;
+        boolean leader;
+        synchronized (this) {
+            leader = open == null;
+            if (leader) {
+                open = new Batch<>();
+            }
+            batch = open;
+            batch.keys.add(key);
+            if (batch.keys.size() >= maxBatchSize) {
+                open = null;
+                batch.full.countDown();
+            }
+        }
+        return Optional.ofNullable(leader ? lead(batch).get(key) : follow(batch, key));
+    }
+
+    synchronized int pendingKeys() {
+        return open != null ? open.keys.size() : 0;
+    }
+
+    private Map<K, V> lead(Batch<K, V> batch) {
+        try {
+            batch.full.await(window.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (open == batch) {
+                open = null;
+            }
+        }
+
+        batchSizes.record(batch.keys.size());
+        try {
+            Map<K, V> values = loader.apply(Set.copyOf(batch.keys));
+            batch.values.complete(values);
+            return values;
+        } catch (RuntimeException | Error e) {
+            batch.values.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private V follow(Batch<K, V> batch, K key) {
+        RequestDeadline deadline = RequestDeadline.current();
+        try {
+            return SingleFlight.await(batch.values, deadline).get(key);
+        } catch (DeadlineExceededException e) {
+            if (deadline == null || deadline.isExpired()) {
+                throw e;
+            }
+            batchSizes.record(1);
+            return loader.apply(Set.of(key)).get(key);
+        }
+    }
+
+    private static final class Batch<K, V> {
+
+        private final Set<K> keys = new LinkedHashSet<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<Map<K, V>> values = new CompletableFuture<>();
+    }
+}
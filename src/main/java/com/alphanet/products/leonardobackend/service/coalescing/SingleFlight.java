@@ -0,0 +1,115 @@
+package com.alphanet.products.leonardobackend.service.coalescing;
+
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryKey;
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same metrics query.
+ *
+ * The first caller for a key runs the query; callers arriving while it is in flight wait for and
+ * share its result (or its exception) instead of taking another database connection. Nothing is
+ * cached: once the execution completes the key is released and the next caller queries again.
+ * Shared callers are counted in {@code leonardo.query.singleflight.coalesced}, tagged by key family.
+ *
+ * A waiting caller with a {@link RequestDeadline} waits no longer than its own remaining budget. If the
+ * execution it shared ran out of the (shorter) budget of the caller that started it, a waiting caller with
+ * time left runs the query again instead of failing with it.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentMap<MetricsQueryKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> executionCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(MetricsQueryKey key, Supplier<T> query) {
+        CompletableFuture<Object> execution = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, execution);
+        if (existing != null) {
+            counter(coalescedCounters, "leonardo.query.singleflight.coalesced", key.family()).increment();
+            RequestDeadline deadline = RequestDeadline.current();
+            try {
+                return (T) await(existing, deadline);
+            } catch (DeadlineExceededException e) {
+                if (deadline == null || deadline.isExpired()) {
+                    throw e;
+                }
+                return execute(key, query);
+            }
+        }
+
+        counter(executionCounters, "leonardo.query.singleflight.executions", key.family()).increment();
+        try {
+            T result = query.get();
+            execution.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Waits for a shared execution, no longer than the remaining budget of {@code deadline} when there is one.
+     */
+    static <T> T await(CompletableFuture<T> execution, RequestDeadline deadline) {
+        if (deadline == null) {
+            try {
+                return execution.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause(), e);
+            }
+        }
+        try {
+            return execution.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause(), e);
+        } catch (TimeoutException e) {
+            throw deadline.exceeded(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a metrics query", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause, Exception wrapper) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return wrapper instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(wrapper);
+    }
+
+    private Counter counter(ConcurrentMap<String, Counter> counters, String name, String family) {
+        return counters.computeIfAbsent(family, tag -> Counter.builder(name)
+                .tag("family", tag)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,62 @@
+package com.alphanet.products.leonardobackend.service.dashboard;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Metric families the dashboard can include, identified by the path of their own endpoint.
+ */
+public enum DashboardSection {
+
+    SCALAR("scalar", false),
+    BY_CENTER("by-center", true),
+    BY_PROGRAM("by-program", false),
+    BY_DEPARTMENT("by-department", false),
+    GITHUB_USERS("github-users", true),
+    ENGLISH_LEVEL("english-level", true),
+    APPRENTICE_COUNT("apprentice-count", true),
+    RECOMMENDED_INSTRUCTORS("recommended-instructors", true);
+
+    private final String id;
+    private final boolean derivedFromCenters;
+
+    DashboardSection(String id, boolean derivedFromCenters) {
+        this.id = id;
+        this.derivedFromCenters = derivedFromCenters;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Whether the section is built from the center metrics, which the dashboard loads once for all such sections.
+     */
+    public boolean isDerivedFromCenters() {
+        return derivedFromCenters;
+    }
+
+    /**
+     * The sections named by {@code ids}, or all of them when none are named.
+     */
+    public static Set<DashboardSection> parse(Collection<String> ids) {
+        if (ids == null || ids.stream().allMatch(String::isBlank)) {
+            return EnumSet.allOf(DashboardSection.class);
+        }
+        Set<DashboardSection> sections = EnumSet.noneOf(DashboardSection.class);
+        for (String id : ids) {
+            if (id.isBlank()) {
+                continue;
+            }
+            String normalized = id.trim().toLowerCase(Locale.ROOT);
+            sections.add(Arrays.stream(values())
+                    .filter(section -> section.id.equals(normalized))
+                    .findFirst()
+                    .orElseThrow(() -> new UnknownDashboardSectionException(id)));
+        }
+        return sections;
+    }
+}
@@ -0,0 +1,192 @@
+package com.alphanet.products.leonardobackend.service.dashboard;
+
+import com.alphanet.products.leonardobackend.config.DashboardProperties;
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.DashboardDto;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.alphanet.products.leonardobackend.service.deadline.QueryDeadlines;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import com.alphanet.products.leonardobackend.service.fallback.CircuitOpenException;
+import com.alphanet.products.leonardobackend.service.fallback.DatabaseCircuitBreaker;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * All metric families in one response.
+ *
+ * The requested sections are read concurrently on a bounded executor shared by all dashboard requests; when its
+ * queue is full a section runs on the request thread instead. Sections derived from the center metrics (by-center,
+ * github-users, english-level, apprentice-count and recommended-instructors) share a single center metrics read.
+ * Each section goes through the active {@link MetricsService}, so it is coalesced, hedged, bounded by the request's
+ * {@link RequestDeadline} and served from its last known good result exactly as on its own endpoint.
+ *
+ * Concurrent sections use separate connections and therefore cannot share one database snapshot. With
+ * {@code read-mode=direct} and {@code consistent-reads} the sections are instead read from the database one after
+ * the other in a single read-only {@code REPEATABLE READ} transaction ({@link QueryDeadlines#executeInSnapshot}),
+ * within the request's deadline and behind the {@link DatabaseCircuitBreaker}, but never from coalesced or last
+ * known good results, which may predate the snapshot. When that read fails the dashboard is assembled from the
+ * sections' own endpoints as above and counted in {@code leonardo.dashboard.inconsistent}. The other read modes
+ * serve data that is already decoupled from writes. The executor is published as
+ * {@code executor.*} tagged {@code name=dashboard}; its threads are virtual when {@code spring.threads.virtual.enabled}
+ * is active, which keeps the section limit while sections waiting on the database release their carriers.
+ */
+@Slf4j
+@Service
+public class DashboardService implements DisposableBean {
+
+    private final MetricsService metricsService;
+    private final DatabaseMetricsService databaseMetricsService;
+    private final QueryDeadlines queryDeadlines;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final MetricsMapper mapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final boolean consistentReads;
+    private final Counter inconsistent;
+
+    public DashboardService(MetricsService metricsService, DatabaseMetricsService databaseMetricsService,
+                            QueryDeadlines queryDeadlines, DatabaseCircuitBreaker circuitBreaker,
+                            MetricsMapper mapper, DashboardProperties properties, Environment environment,
+                            MeterRegistry meterRegistry) {
+        this.metricsService = metricsService;
+        this.databaseMetricsService = databaseMetricsService;
+        this.queryDeadlines = queryDeadlines;
+        this.circuitBreaker = circuitBreaker;
+        this.mapper = mapper;
+        this.consistentReads = properties.isConsistentReads()
+                && "direct".equals(environment.getProperty("leonardo.metrics.read-mode", "direct"));
+        this.inconsistent = Counter.builder("leonardo.dashboard.inconsistent")
+                .description("Dashboards assembled from separately read sections because the consistent read failed")
+                .register(meterRegistry);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, properties.getThreads()));
+        executor.setMaxPoolSize(Math.max(1, properties.getThreads()));
+        executor.setQueueCapacity(Math.max(0, properties.getQueueCapacity()));
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(DashboardService::withCallerContext);
+        executor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "dashboard");
+    }
+
+    public DashboardDto getDashboard(Set<DashboardSection> sections) {
+        if (!consistentReads) {
+            return read(sections, metricsService, true);
+        }
+        try {
+            return circuitBreaker.execute(() -> queryDeadlines.executeInSnapshot(
+                    () -> read(sections, databaseMetricsService, false)));
+        } catch (DataAccessException | TransactionException | DeadlineExceededException | CircuitOpenException e) {
+            // The sections' own endpoints fall back to their last known good results
+            log.debug("Consistent dashboard read failed, reading sections separately: {}", e.getMessage());
+            inconsistent.increment();
+            return read(sections, metricsService, true);
+        }
+    }
+
+    private DashboardDto read(Set<DashboardSection> sections, MetricsService source, boolean concurrently) {
+        CompletableFuture<List<CenterMetricDto>> centers = sections.stream().anyMatch(DashboardSection::isDerivedFromCenters)
+                ? section(source::getCenterMetrics, concurrently)
+                : null;
+        var scalar = sections.contains(DashboardSection.SCALAR) ? section(source::getScalarMetrics, concurrently) : null;
+        var programs = sections.contains(DashboardSection.BY_PROGRAM)
+                ? section(source::getProgramMetrics, concurrently)
+                : null;
+        var departments = sections.contains(DashboardSection.BY_DEPARTMENT)
+                ? section(source::getDepartmentMetrics, concurrently)
+                : null;
+
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setScalar(join(scalar));
+        dashboard.setByProgram(join(programs));
+        dashboard.setByDepartment(join(departments));
+        List<CenterMetricDto> centerMetrics = join(centers);
+        if (centerMetrics != null) {
+            if (sections.contains(DashboardSection.BY_CENTER)) {
+                dashboard.setByCenter(centerMetrics);
+            }
+            if (sections.contains(DashboardSection.GITHUB_USERS)) {
+                dashboard.setGithubUsers(mapper.toGitHubUserDtos(centerMetrics));
+            }
+            if (sections.contains(DashboardSection.ENGLISH_LEVEL)) {
+                dashboard.setEnglishLevel(mapper.toEnglishLevelDtos(centerMetrics));
+            }
+            if (sections.contains(DashboardSection.APPRENTICE_COUNT)) {
+                dashboard.setApprenticeCount(mapper.toApprenticeCountDtos(centerMetrics));
+            }
+            if (sections.contains(DashboardSection.RECOMMENDED_INSTRUCTORS)) {
+                dashboard.setRecommendedInstructors(mapper.toRecommendedInstructorDtos(centerMetrics));
+            }
+        }
+        return dashboard;
+    }
+
+    private <T> CompletableFuture<T> section(Supplier<T> section, boolean concurrently) {
+        return concurrently ? executor.submitCompletable(section::get) : CompletableFuture.completedFuture(section.get());
+    }
+
+    private static <T> T join(CompletableFuture<T> section) {
+        if (section == null) {
+            return null;
+        }
+        try {
+            return section.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the task with the submitting request's deadline, workload and request attributes bound, so sections
+     * read within its budget and can mark the response as served from a last known good result.
+     */
+    private static Runnable withCallerContext(Runnable task) {
+        RequestDeadline deadline = RequestDeadline.current();
+        Workload workload = Workload.current();
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return () -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(request);
+            try (RequestDeadline.Binding ignored = RequestDeadline.bind(deadline)) {
+                Workload.runWith(workload, task);
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,11 @@
+package com.alphanet.products.leonardobackend.service.dashboard;
+
+/**
+ * Thrown when a dashboard request names a section that does not exist.
+ */
+public class UnknownDashboardSectionException extends RuntimeException {
+
+    public UnknownDashboardSectionException(String section) {
+        super("Unknown dashboard section '" + section + "'");
+    }
+}
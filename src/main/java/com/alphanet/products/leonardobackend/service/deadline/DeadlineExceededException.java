@@ -0,0 +1,35 @@
+package com.alphanet.products.leonardobackend.service.deadline;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request's latency budget ran out before its metrics query finished.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String endpoint;
+    private final Duration budget;
+    private final boolean requestedByClient;
+
+    public DeadlineExceededException(String endpoint, Duration budget, boolean requestedByClient, Throwable cause) {
+        super("Latency budget of " + budget.toMillis() + " ms exhausted for /" + endpoint, cause);
+        this.endpoint = endpoint;
+        this.budget = budget;
+        this.requestedByClient = requestedByClient;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * Whether the budget was one the client shortened, rather than the endpoint's own.
+     */
+    public boolean isRequestedByClient() {
+        return requestedByClient;
+    }
+}
@@ -0,0 +1,95 @@
+package com.alphanet.products.leonardobackend.service.deadline;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.ResourceHolderSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a metrics query within the remaining budget of the current {@link RequestDeadline}.
+ *
+ * The query runs in a read-only transaction whose timeout is the time left. Spring hands that timeout to every
+ * statement the query issues (JPA queries and {@code JdbcClient} alike) as the time remaining at that moment,
+ * so the database aborts a slow statement instead of the request waiting for it, and a statement about to
+ * start after the deadline is not sent at all. JDBC timeouts have whole-second resolution, so a statement may
+ * overrun the deadline by less than a second. Waiting for a pooled connection is bounded by the remaining time
+ * too ({@code DeadlineBoundedDataSource}); a checkout that times out is reported as an exceeded deadline like a
+ * statement timeout. Without a bound deadline the query runs unchanged.
+ *
+ * {@link #executeInSnapshot} runs several queries in one read-only {@code REPEATABLE READ} transaction instead,
+ * so they all read the same snapshot of the database, with or without a deadline.
+ */
+@Component
+public class QueryDeadlines {
+
+    private final PlatformTransactionManager transactionManager;
+
+    public QueryDeadlines(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    public <T> T execute(Supplier<T> query) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return query.get();
+        }
+        return execute(deadline, TransactionDefinition.ISOLATION_DEFAULT, query);
+    }
+
+    public <T> T executeInSnapshot(Supplier<T> queries) {
+        return execute(RequestDeadline.current(), TransactionDefinition.ISOLATION_REPEATABLE_READ, queries);
+    }
+
+    private <T> T execute(RequestDeadline deadline, int isolationLevel, Supplier<T> query) {
+        if (deadline != null) {
+            deadline.check();
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        transaction.setIsolationLevel(isolationLevel);
+        if (deadline == null) {
+            return transaction.execute(status -> query.get());
+        }
+        transaction.setTimeout(timeoutSeconds(deadline));
+        try {
+            return transaction.execute(status -> {
+                tightenTimeouts(deadline);
+                return query.get();
+            });
+        } catch (TransactionTimedOutException | QueryTimeoutException e) {
+            throw deadline.exceeded(e);
+        } catch (RuntimeException e) {
+            // Transaction managers and Hibernate wrap a failed checkout in their own exceptions
+            if (NestedExceptionUtils.getRootCause(e) instanceof SQLTransientConnectionException) {
+                throw deadline.exceeded(e);
+            }
+            throw e;
+        }
+    }
+
+    private static int timeoutSeconds(RequestDeadline deadline) {
+        long millis = deadline.remaining().toMillis();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (millis + 999) / 1000));
+    }
+
+    /**
+     * Transaction timeouts are declared in seconds; moves the bound resources' deadline to the exact one.
+     */
+    private static void tightenTimeouts(RequestDeadline deadline) {
+        long millis = Math.max(1, deadline.remaining().toMillis());
+        TransactionSynchronizationManager.getResourceMap().values().forEach(resource -> {
+            if (resource instanceof ResourceHolderSupport holder) {
+                holder.setTimeoutInMillis(millis);
+            }
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.alphanet.products.leonardobackend.service.deadline;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which the current request must be answered.
+ *
+ * Bound to the request thread by {@code RequestDeadlineFilter} and carried to the threads that run queries on
+ * its behalf ({@link #callWith}); {@link QueryDeadlines} turns the remaining time into statement timeouts.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final Duration budget;
+    private final boolean requestedByClient;
+    private final long expiresAtNanos;
+
+    private RequestDeadline(String endpoint, Duration budget, boolean requestedByClient, long expiresAtNanos) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+        this.requestedByClient = requestedByClient;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Deadline {@code budget} from now.
+     */
+    public static RequestDeadline after(String endpoint, Duration budget) {
+        return after(endpoint, budget, false);
+    }
+
+    /**
+     * Deadline {@code budget} from now; {@code requestedByClient} marks a budget the client shortened.
+     */
+    public static RequestDeadline after(String endpoint, Duration budget, boolean requestedByClient) {
+        return new RequestDeadline(endpoint, budget, requestedByClient, System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Deadline bound to the current thread, or {@code null} when the thread is not serving a request with a budget.
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callWith(RequestDeadline deadline, Supplier<T> work) {
+        try (Binding ignored = bind(deadline)) {
+            return work.get();
+        }
+    }
+
+    /**
+     * Binds the deadline to the current thread until the returned binding is closed.
+     */
+    public static Binding bind(RequestDeadline deadline) {
+        RequestDeadline previous = CURRENT.get();
+        if (deadline != null) {
+            CURRENT.set(deadline);
+        } else {
+            CURRENT.remove();
+        }
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public Duration budget() {
+        return budget;
+    }
+
+    public boolean isRequestedByClient() {
+        return requestedByClient;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Fails fast when the budget is already spent.
+     */
+    public void check() {
+        if (isExpired()) {
+            throw exceeded(null);
+        }
+    }
+
+    public DeadlineExceededException exceeded(Throwable cause) {
+        return new DeadlineExceededException(endpoint, budget, requestedByClient, cause);
+    }
+
+    /**
+     * Restores the previous deadline of the thread when closed.
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
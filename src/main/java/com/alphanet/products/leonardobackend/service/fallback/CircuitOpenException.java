@@ -0,0 +1,20 @@
+package com.alphanet.products.leonardobackend.service.fallback;
+
+import java.time.Duration;
+
+/**
+ * Thrown instead of querying while the {@link DatabaseCircuitBreaker} is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public CircuitOpenException(Duration retryAfter) {
+        super("Database circuit is open; retry in " + Math.max(1, retryAfter.toSeconds()) + " s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,125 @@
+package com.alphanet.products.leonardobackend.service.fallback;
+
+import com.alphanet.products.leonardobackend.config.MetricsFallbackProperties;
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker in front of the metrics database.
+ *
+ * After {@code failure-threshold} consecutive failed executions (data access errors, connections that could
+ * not be obtained, or queries that ran out of their endpoint's deadline) the circuit opens and queries fail
+ * immediately with {@link CircuitOpenException} for {@code open-duration}. Then a single probe query is let
+ * through: its success closes the circuit, its failure opens it again. Deadlines a client shortened itself
+ * do not count as failures. The state is published as {@code leonardo.database.circuit.state}
+ * (0 closed, 1 half-open, 2 open) and rejected queries as {@code leonardo.database.circuit.rejected}.
+ */
+@Slf4j
+@Component
+public class DatabaseCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final MetricsFallbackProperties.CircuitBreaker properties;
+    private final Clock clock;
+    private final Counter rejected;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+    private boolean probeInFlight;
+
+    @Autowired
+    public DatabaseCircuitBreaker(MetricsFallbackProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    DatabaseCircuitBreaker(MetricsFallbackProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties.getCircuitBreaker();
+        this.clock = clock;
+        this.rejected = Counter.builder("leonardo.database.circuit.rejected")
+                .description("Metrics queries refused while the database circuit was open")
+                .register(meterRegistry);
+        Gauge.builder("leonardo.database.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("Database circuit state: 0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> query) {
+        acquirePermission();
+        T result;
+        try {
+            result = query.get();
+        } catch (RuntimeException e) {
+            if (isDatabaseFailure(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        Duration remaining = Duration.ofMillis(openedAtMillis + properties.getOpenDuration().toMillis() - clock.millis());
+        if (state == State.OPEN && !remaining.isNegative() && !remaining.isZero()) {
+            rejected.increment();
+            throw new CircuitOpenException(remaining);
+        }
+        if (probeInFlight) {
+            rejected.increment();
+            throw new CircuitOpenException(properties.getOpenDuration());
+        }
+        state = State.HALF_OPEN;
+        probeInFlight = true;
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Database circuit closed after a successful probe query");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= properties.getFailureThreshold()) {
+            if (state != State.OPEN) {
+                log.warn("Database circuit opened after {} consecutive failed queries", consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtMillis = clock.millis();
+        }
+        probeInFlight = false;
+    }
+
+    private static boolean isDatabaseFailure(RuntimeException e) {
+        if (e instanceof DeadlineExceededException deadlineExceeded) {
+            return !deadlineExceeded.isRequestedByClient();
+        }
+        return e instanceof DataAccessException || e instanceof TransactionException;
+    }
+}
@@ -0,0 +1,147 @@
+package com.alphanet.products.leonardobackend.service.fallback;
+
+import com.alphanet.products.leonardobackend.config.MetricsFallbackProperties;
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryKey;
+import com.alphanet.products.leonardobackend.service.cache.ResultSizeEstimator;
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the most recent successful result of every metrics query and serves it when the live query fails.
+ *
+ * Queries that fail because of the database (data access errors, no connection, an exceeded deadline or an
+ * open {@link DatabaseCircuitBreaker}) answer with the retained result, provided it is younger than
+ * {@code max-age}. Its age is stored in the {@value #AGE_ATTRIBUTE} request attribute, from which the
+ * response gets its {@code Age} header. Other failures, and queries without a retained result, are rethrown.
+ * Served fallbacks are counted in {@code leonardo.fallback.served}, tagged by key family.
+ *
+ * A success that returns the retained result again (the usual case between data changes) only renews its
+ * timestamp; the result is copied and weighed only when it changed.
+ */
+@Slf4j
+@Component
+public class LastKnownGood {
+
+    public static final String AGE_ATTRIBUTE = LastKnownGood.class.getName() + ".age";
+
+    private final MetricsFallbackProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Cache<MetricsQueryKey, Result> results;
+    private final ConcurrentMap<String, Counter> servedCounters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LastKnownGood(MetricsFallbackProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    LastKnownGood(MetricsFallbackProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight().toBytes())
+                .weigher((MetricsQueryKey key, Result result) -> weigh(key, result))
+                .build();
+    }
+
+    public <T> List<T> execute(MetricsQueryKey key, Supplier<List<T>> query) {
+        if (!properties.isEnabled()) {
+            return query.get();
+        }
+        List<T> value;
+        try {
+            value = query.get();
+        } catch (RuntimeException e) {
+            if (!isDatabaseFailure(e)) {
+                throw e;
+            }
+            return fallback(key, e);
+        }
+        Instant now = clock.instant();
+        Result retained = results.getIfPresent(key);
+        if (retained != null && retained.value().equals(value)) {
+            retained.renew(now);
+        } else {
+            results.put(key, new Result(List.copyOf(value), now));
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> fallback(MetricsQueryKey key, RuntimeException failure) {
+        Result retained = results.getIfPresent(key);
+        if (retained == null) {
+            throw failure;
+        }
+        Duration age = Duration.between(retained.storedAt(), clock.instant());
+        if (age.compareTo(properties.getMaxAge()) > 0) {
+            throw failure;
+        }
+        log.debug("Serving last known good result for {} ({} s old): {}", key, age.toSeconds(), failure.getMessage());
+        servedCounter(key.family()).increment();
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(AGE_ATTRIBUTE, age, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (List<T>) retained.value();
+    }
+
+    private Counter servedCounter(String family) {
+        return servedCounters.computeIfAbsent(family, tag -> Counter.builder("leonardo.fallback.served")
+                .tag("family", tag)
+                .description("Requests answered with the last known good result after a database failure")
+                .register(meterRegistry));
+    }
+
+    private static boolean isDatabaseFailure(RuntimeException e) {
+        return e instanceof DataAccessException || e instanceof TransactionException
+                || e instanceof DeadlineExceededException || e instanceof CircuitOpenException;
+    }
+
+    private static int weigh(MetricsQueryKey key, Result result) {
+        long bytes = ResultSizeEstimator.estimate(key.parameters()) + ResultSizeEstimator.estimate(result.value());
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static final class Result {
+
+        private final List<?> value;
+        private volatile Instant storedAt;
+
+        Result(List<?> value, Instant storedAt) {
+            this.value = value;
+            this.storedAt = storedAt;
+        }
+
+        List<?> value() {
+            return value;
+        }
+
+        Instant storedAt() {
+            return storedAt;
+        }
+
+        void renew(Instant now) {
+            storedAt = now;
+        }
+    }
+}
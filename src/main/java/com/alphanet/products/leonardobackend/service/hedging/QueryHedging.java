@@ -0,0 +1,323 @@
+package com.alphanet.products.leonardobackend.service.hedging;
+
+import com.alphanet.products.leonardobackend.config.MetricsHedgingProperties;
+import com.alphanet.products.leonardobackend.config.datasource.ReadRoute;
+import com.alphanet.products.leonardobackend.config.datasource.ReplicaRoutingDataSource;
+import com.alphanet.products.leonardobackend.config.datasource.StatementCancellation;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hedged execution of read queries ({@code leonardo.metrics.hedging.enabled=true}).
+ *
+ * The query runs on a worker thread. If it has not returned within the configured latency percentile of its
+ * key family, a duplicate is started; the first successful result is returned and the other attempt's
+ * statements are cancelled. Each attempt opens its own read-only transaction under a {@link ReadRoute}, which
+ * keeps the duplicate off the replica the original is running on. A duplicate on the same database would only
+ * add load, so queries are hedged only while at least two read replicas are available
+ * ({@code leonardo.datasource.read-replicas.enabled=true}); otherwise the slow attempt is awaited without spending
+ * budget. The caller's {@link RequestDeadline} is carried to both attempts.
+ *
+ * Hedges draw on a budget that grows by {@code max-hedge-ratio} per request, so they never exceed that share
+ * of requests (at most one per request). Requests, hedges and winners are counted under
+ * {@code leonardo.query.hedging.*}, tagged by family. When disabled, queries run directly on the caller's thread.
+ * Attempts run on virtual threads when {@code spring.threads.virtual.enabled} is active, still at most
+ * {@code threads} at a time.
+ */
+@Slf4j
+@Component
+public class QueryHedging implements DisposableBean {
+
+    private static final int LATENCY_SAMPLES = 128;
+    private static final double MAX_BUDGET = 10;
+
+    private final MetricsHedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String, FamilyStats> families = new ConcurrentHashMap<>();
+    private final double hedgeRatio;
+    private double budget;
+
+    public QueryHedging(MetricsHedgingProperties properties, MeterRegistry meterRegistry, Environment environment,
+                        ObjectProvider<ReplicaRoutingDataSource> replicaRouting) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.replicaRouting = replicaRouting;
+        this.hedgeRatio = Math.max(0, Math.min(1.0, properties.getMaxHedgeRatio()));
+        this.executor = properties.isEnabled()
+                ? new ThreadPoolExecutor(0, Math.max(2, properties.getThreads()), 60, TimeUnit.SECONDS,
+                        new SynchronousQueue<>(), threadFactory(environment))
+                : null;
+    }
+
+    public <T> T execute(String family, Supplier<T> query) {
+        if (executor == null) {
+            return query.get();
+        }
+        FamilyStats stats = stats(family);
+        stats.requests.increment();
+        depositBudget();
+
+        Attempt<T> primary;
+        try {
+            primary = Attempt.start(query, executor, stats, new ReadRoute());
+        } catch (RejectedExecutionException e) {
+            stats.saturated.increment();
+            return query.get();
+        }
+        try {
+            return primary.result.get(stats.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return hedge(query, primary, stats);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a metrics query", e);
+        }
+    }
+
+    /**
+     * Current hedge delay of a key family.
+     */
+    public Duration hedgeDelay(String family) {
+        return stats(family).hedgeDelay();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory threadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("query-hedging-").getVirtualThreadFactory();
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "query-hedging-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private <T> T hedge(Supplier<T> query, Attempt<T> primary, FamilyStats stats) {
+        Attempt<T> hedge = null;
+        if (!hasAlternativeReplica()) {
+            stats.noAlternative.increment();
+        } else if (withdrawBudget()) {
+            try {
+                hedge = Attempt.start(query, executor, null, primary.route.alternative());
+                stats.hedges.increment();
+            } catch (RejectedExecutionException e) {
+                stats.saturated.increment();
+            }
+        } else {
+            stats.budgetExhausted.increment();
+        }
+        if (hedge == null) {
+            return join(primary.result);
+        }
+
+        CompletableFuture<Attempt<T>> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (Attempt<T> attempt : Arrays.asList(primary, hedge)) {
+            attempt.result.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    winner.complete(attempt);
+                } else if (failures.incrementAndGet() == 2) {
+                    // Both failed: report the primary's failure
+                    primary.result.whenComplete((ignored, primaryFailure) ->
+                            winner.completeExceptionally(primaryFailure));
+                }
+            });
+        }
+        Attempt<T> won;
+        try {
+            won = winner.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+        Attempt<T> lost = won == primary ? hedge : primary;
+        lost.cancel();
+        (won == primary ? stats.primaryWins : stats.hedgeWins).increment();
+        return won.result.join();
+    }
+
+    private boolean hasAlternativeReplica() {
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        return routing != null && routing.getAvailableReplicas() >= 2;
+    }
+
+    private synchronized void depositBudget() {
+        budget = Math.min(MAX_BUDGET, budget + hedgeRatio);
+    }
+
+    private synchronized boolean withdrawBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private FamilyStats stats(String family) {
+        return families.computeIfAbsent(family, FamilyStats::new);
+    }
+
+    private static <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    /**
+     * One execution of the query on a worker thread, with the means to cancel its statements and the route
+     * its connections were served by.
+     */
+    private record Attempt<T>(CompletableFuture<T> result, Future<?> task, StatementCancellation cancellation,
+                              ReadRoute route) {
+
+        /**
+         * Starts the query; {@code stats} records the attempt's latency when given.
+         */
+        static <T> Attempt<T> start(Supplier<T> query, ExecutorService executor, FamilyStats stats,
+                                    ReadRoute route) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            StatementCancellation cancellation = new StatementCancellation();
+            RequestDeadline deadline = RequestDeadline.current();
+            long start = System.nanoTime();
+            Future<?> task = executor.submit(() -> {
+                T value;
+                try {
+                    value = RequestDeadline.callWith(deadline, () -> ReadRoute.callWith(route,
+                            () -> StatementCancellation.callWith(cancellation, query)));
+                } catch (Throwable failure) {
+                    // A cancelled primary still counts, as a lower bound of how slow it was
+                    record(stats, start);
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                record(stats, start);
+                result.complete(value);
+            });
+            return new Attempt<>(result, task, cancellation, route);
+        }
+
+        private static void record(FamilyStats stats, long start) {
+            if (stats != null) {
+                stats.recordLatency(System.nanoTime() - start);
+            }
+        }
+
+        void cancel() {
+            cancellation.cancel();
+            task.cancel(true);
+        }
+    }
+
+    private final class FamilyStats {
+
+        private final Counter requests;
+        private final Counter hedges;
+        private final Counter primaryWins;
+        private final Counter hedgeWins;
+        private final Counter budgetExhausted;
+        private final Counter saturated;
+        private final Counter noAlternative;
+        private final long[] latencies = new long[LATENCY_SAMPLES];
+        private int samples;
+        private int nextSample;
+        private volatile long delayNanos;
+
+        private FamilyStats(String family) {
+            requests = counter("leonardo.query.hedging.requests", family, "Queries run through hedging");
+            hedges = counter("leonardo.query.hedging.hedges", family, "Duplicate queries issued");
+            primaryWins = Counter.builder("leonardo.query.hedging.wins").tag("family", family)
+                    .tag("winner", "primary").description("Hedged queries answered first by the original attempt")
+                    .register(meterRegistry);
+            hedgeWins = Counter.builder("leonardo.query.hedging.wins").tag("family", family)
+                    .tag("winner", "hedge").description("Hedged queries answered first by the duplicate")
+                    .register(meterRegistry);
+            budgetExhausted = counter("leonardo.query.hedging.budget-exhausted", family,
+                    "Slow queries not hedged because the hedge budget was spent");
+            saturated = counter("leonardo.query.hedging.saturated", family,
+                    "Attempts not started because every hedging thread was busy");
+            noAlternative = counter("leonardo.query.hedging.no-alternative", family,
+                    "Slow queries not hedged because fewer than two read replicas were available");
+            delayNanos = properties.getInitialDelay().toNanos();
+            Gauge.builder("leonardo.query.hedging.delay", this, stats -> stats.delayNanos / 1_000_000_000.0)
+                    .tag("family", family)
+                    .description("Time a query may run before it is hedged")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+
+        Duration hedgeDelay() {
+            return Duration.ofNanos(delayNanos);
+        }
+
+        synchronized void recordLatency(long nanos) {
+            latencies[nextSample] = nanos;
+            nextSample = (nextSample + 1) % LATENCY_SAMPLES;
+            samples = Math.min(samples + 1, LATENCY_SAMPLES);
+            if (samples >= properties.getMinSamples()) {
+                long[] sorted = Arrays.copyOf(latencies, samples);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(properties.getPercentile() * samples) - 1;
+                long percentile = sorted[Math.max(0, Math.min(samples - 1, index))];
+                delayNanos = Math.max(properties.getMinDelay().toNanos(), percentile);
+            }
+        }
+
+        private Counter counter(String name, String family, String description) {
+            return Counter.builder(name).tag("family", family).description(description).register(meterRegistry);
+        }
+    }
+}
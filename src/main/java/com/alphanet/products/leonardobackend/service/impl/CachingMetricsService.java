@@ -0,0 +1,143 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.config.MetricsCacheProperties;
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryCache;
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryKey;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-endpoint result cache enabled with {@code leonardo.metrics.read-mode=cache}.
+ *
+ * Each endpoint has its own single-entry Caffeine cache with TTL and refresh-after-write taken from
+ * {@link MetricsCacheProperties}. Hit, miss, load and eviction statistics are published to the
+ * actuator {@code metrics} endpoint under the {@code cache.*} meters, tagged {@code cache=metrics.<endpoint>}.
+ * Filtered requests go through the size-bounded {@link MetricsQueryCache}, keyed by their normalized parameters.
+ */
+@Slf4j
+@Service
+@Primary
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "cache")
+public class CachingMetricsService implements MetricsService {
+
+    private static final String CACHE_KEY = "all";
+
+    private final LoadingCache<String, List<ScalarMetricDto>> scalarCache;
+    private final LoadingCache<String, List<CenterMetricDto>> centerCache;
+    private final LoadingCache<String, List<ProgramMetricDto>> programCache;
+    private final LoadingCache<String, List<DepartmentMetricDto>> departmentCache;
+    private final LoadingCache<String, List<GitHubUserDto>> gitHubUsersCache;
+    private final LoadingCache<String, List<EnglishLevelDto>> englishLevelCache;
+    private final LoadingCache<String, List<ApprenticeCountDto>> apprenticeCountCache;
+    private final LoadingCache<String, List<RecommendedInstructorDto>> recommendedInstructorCache;
+    private final DatabaseMetricsService databaseMetricsService;
+    private final MetricsQueryCache queryCache;
+
+    public CachingMetricsService(DatabaseMetricsService databaseMetricsService,
+                                 MetricsCacheProperties cacheProperties,
+                                 MetricsQueryCache queryCache,
+                                 MeterRegistry meterRegistry) {
+        this.databaseMetricsService = databaseMetricsService;
+        this.queryCache = queryCache;
+        CacheFactory factory = new CacheFactory(cacheProperties, meterRegistry);
+        this.scalarCache = factory.build("scalar", databaseMetricsService::getScalarMetrics);
+        this.centerCache = factory.build("by-center", databaseMetricsService::getCenterMetrics);
+        this.programCache = factory.build("by-program", databaseMetricsService::getProgramMetrics);
+        this.departmentCache = factory.build("by-department", databaseMetricsService::getDepartmentMetrics);
+        this.gitHubUsersCache = factory.build("github-users", databaseMetricsService::getGitHubUsersMetrics);
+        this.englishLevelCache = factory.build("english-level", databaseMetricsService::getEnglishLevelMetrics);
+        this.apprenticeCountCache = factory.build("apprentice-count", databaseMetricsService::getApprenticeCountMetrics);
+        this.recommendedInstructorCache = factory.build("recommended-instructors",
+                databaseMetricsService::getRecommendedInstructorMetrics);
+    }
+
+    @Override
+    public List<ScalarMetricDto> getScalarMetrics() {
+        return scalarCache.get(CACHE_KEY);
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics() {
+        return centerCache.get(CACHE_KEY);
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics(CenterMetricsQuery query) {
+        if (query.isUnfiltered()) {
+            return getCenterMetrics();
+        }
+        return queryCache.get(MetricsQueryKey.of("by-center", query.cacheParameters()),
+                () -> databaseMetricsService.getCenterMetrics(query));
+    }
+
+    @Override
+    public List<ProgramMetricDto> getProgramMetrics() {
+        return programCache.get(CACHE_KEY);
+    }
+
+    @Override
+    public List<DepartmentMetricDto> getDepartmentMetrics() {
+        return departmentCache.get(CACHE_KEY);
+    }
+
+    @Override
+    public List<GitHubUserDto> getGitHubUsersMetrics() {
+        return gitHubUsersCache.get(CACHE_KEY);
+    }
+
+    @Override
+    public List<EnglishLevelDto> getEnglishLevelMetrics() {
+        return englishLevelCache.get(CACHE_KEY);
+    }
+
+    @Override
+    public List<ApprenticeCountDto> getApprenticeCountMetrics() {
+        return apprenticeCountCache.get(CACHE_KEY);
+    }
+
+    @Override
+    public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
+        return recommendedInstructorCache.get(CACHE_KEY);
+    }
+
+    private record CacheFactory(MetricsCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+
+        <T> LoadingCache<String, List<T>> build(String endpoint, Supplier<List<T>> loader) {
+            MetricsCacheProperties.Spec spec = cacheProperties.specFor(endpoint);
+
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(1)
+                    .expireAfterWrite(spec.getTtl())
+                    .recordStats();
+            if (spec.getRefreshAfterWrite() != null) {
+                builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+            }
+
+            LoadingCache<String, List<T>> cache = builder.build(key -> loader.get());
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "metrics." + endpoint);
+            log.info("Metrics cache '{}' configured: ttl={}, refreshAfterWrite={}",
+                    endpoint, spec.getTtl(), spec.getRefreshAfterWrite());
+            return cache;
+        }
+    }
+}
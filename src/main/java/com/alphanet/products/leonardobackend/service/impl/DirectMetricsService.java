@@ -0,0 +1,109 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryKey;
+import com.alphanet.products.leonardobackend.service.coalescing.SingleFlight;
+import com.alphanet.products.leonardobackend.service.deadline.QueryDeadlines;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import com.alphanet.products.leonardobackend.service.fallback.DatabaseCircuitBreaker;
+import com.alphanet.products.leonardobackend.service.fallback.LastKnownGood;
+import com.alphanet.products.leonardobackend.service.hedging.QueryHedging;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Default read path ({@code leonardo.metrics.read-mode=direct}): every request queries the database.
+ *
+ * Concurrent identical requests are coalesced through {@link SingleFlight} before the
+ * {@link DatabaseMetricsService} takes a connection, so a burst of the same call holds a single
+ * pooled connection and every caller receives that execution's result. The execution itself goes
+ * through {@link QueryHedging}, which duplicates it when it runs unusually long, and each attempt runs
+ * within the remaining time of the request's {@link RequestDeadline} ({@link QueryDeadlines}).
+ *
+ * Executions pass the {@link DatabaseCircuitBreaker}, and when the database fails or the circuit is open
+ * every caller is answered with the {@link LastKnownGood} result of its query.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "direct", matchIfMissing = true)
+public class DirectMetricsService implements MetricsService {
+
+    private final DatabaseMetricsService databaseMetricsService;
+    private final SingleFlight singleFlight;
+    private final QueryHedging queryHedging;
+    private final QueryDeadlines queryDeadlines;
+    private final DatabaseCircuitBreaker circuitBreaker;
+    private final LastKnownGood lastKnownGood;
+
+    @Override
+    public List<ScalarMetricDto> getScalarMetrics() {
+        return execute("scalar", databaseMetricsService::getScalarMetrics);
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics() {
+        return execute("by-center", databaseMetricsService::getCenterMetrics);
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics(CenterMetricsQuery query) {
+        return execute("by-center", query.cacheParameters(), () -> databaseMetricsService.getCenterMetrics(query));
+    }
+
+    @Override
+    public List<ProgramMetricDto> getProgramMetrics() {
+        return execute("by-program", databaseMetricsService::getProgramMetrics);
+    }
+
+    @Override
+    public List<DepartmentMetricDto> getDepartmentMetrics() {
+        return execute("by-department", databaseMetricsService::getDepartmentMetrics);
+    }
+
+    @Override
+    public List<GitHubUserDto> getGitHubUsersMetrics() {
+        return execute("github-users", databaseMetricsService::getGitHubUsersMetrics);
+    }
+
+    @Override
+    public List<EnglishLevelDto> getEnglishLevelMetrics() {
+        return execute("english-level", databaseMetricsService::getEnglishLevelMetrics);
+    }
+
+    @Override
+    public List<ApprenticeCountDto> getApprenticeCountMetrics() {
+        return execute("apprentice-count", databaseMetricsService::getApprenticeCountMetrics);
+    }
+
+    @Override
+    public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
+        return execute("recommended-instructors", databaseMetricsService::getRecommendedInstructorMetrics);
+    }
+
+    private <T> List<T> execute(String endpoint, Supplier<List<T>> query) {
+        return execute(endpoint, Map.of(), query);
+    }
+
+    private <T> List<T> execute(String endpoint, Map<String, String> parameters, Supplier<List<T>> query) {
+        MetricsQueryKey key = MetricsQueryKey.of(endpoint, parameters);
+        return lastKnownGood.execute(key, () -> singleFlight.execute(key, () -> circuitBreaker.execute(
+                () -> queryHedging.execute(endpoint, () -> queryDeadlines.execute(query)))));
+    }
+}
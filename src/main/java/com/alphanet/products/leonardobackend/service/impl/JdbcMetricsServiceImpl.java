@@ -0,0 +1,109 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.repository.jdbc.JdbcMetricsRepository;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC read path enabled with {@code leonardo.metrics.read-path=jdbc}.
+ *
+ * Rows are mapped straight to the response DTOs by {@link JdbcMetricsRepository}. Each call runs in a
+ * read-only transaction, so the two statements behind the center endpoints share one connection and the
+ * call is routed to a read replica when those are enabled. The Hibernate query cache does not apply to
+ * this path.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "leonardo.metrics.read-path", havingValue = "jdbc")
+public class JdbcMetricsServiceImpl implements DatabaseMetricsService {
+
+    private final JdbcMetricsRepository jdbcMetricsRepository;
+
+    @Override
+    public List<ScalarMetricDto> getScalarMetrics() {
+        log.debug("Retrieving scalar metrics over JDBC");
+        return jdbcMetricsRepository.getScalarMetrics();
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics() {
+        log.debug("Retrieving center metrics over JDBC");
+        return jdbcMetricsRepository.getCenterMetrics(null, null);
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics(CenterMetricsQuery query) {
+        log.debug("Retrieving center metrics filtered by {} over JDBC", query);
+        return jdbcMetricsRepository.getCenterMetrics(query.department(), query.limit());
+    }
+
+    @Override
+    public List<ProgramMetricDto> getProgramMetrics() {
+        log.debug("Retrieving program metrics over JDBC");
+        return jdbcMetricsRepository.getProgramMetrics();
+    }
+
+    @Override
+    public Map<Long, CenterMetricDto> getCenterMetricsById(Collection<Long> centerIds) {
+        log.debug("Retrieving center metrics by id over JDBC");
+        return jdbcMetricsRepository.getCenterMetricsById(centerIds);
+    }
+
+    @Override
+    public Map<Long, List<ProgramMetricDto>> getProgramMetricsByCenter(Collection<Long> centerIds) {
+        log.debug("Retrieving program metrics by center over JDBC");
+        return jdbcMetricsRepository.getProgramMetricsByCenter(centerIds);
+    }
+
+    @Override
+    public List<DepartmentMetricDto> getDepartmentMetrics() {
+        log.debug("Retrieving department metrics over JDBC");
+        return jdbcMetricsRepository.getDepartmentMetrics();
+    }
+
+    @Override
+    public List<GitHubUserDto> getGitHubUsersMetrics() {
+        log.debug("Retrieving GitHub users metrics over JDBC");
+        return jdbcMetricsRepository.getGitHubUsersMetrics();
+    }
+
+    @Override
+    public List<EnglishLevelDto> getEnglishLevelMetrics() {
+        log.debug("Retrieving English level B1/B2 metrics over JDBC");
+        return jdbcMetricsRepository.getEnglishLevelMetrics();
+    }
+
+    @Override
+    public List<ApprenticeCountDto> getApprenticeCountMetrics() {
+        log.debug("Retrieving apprentice count metrics over JDBC");
+        return jdbcMetricsRepository.getApprenticeCountMetrics();
+    }
+
+    @Override
+    public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
+        log.debug("Retrieving recommended instructor metrics over JDBC");
+        return jdbcMetricsRepository.getRecommendedInstructorMetrics().stream()
+                .sorted(MetricsMapper.RECOMMENDED_INSTRUCTOR_ORDER)
+                .toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.alphanet.products.leonardobackend.service.impl;
 
 import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
 import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
 import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
 import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
 import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
@@ -9,31 +10,40 @@ import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
 import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
 import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
 import com.alphanet.products.leonardobackend.dto.projection.ApprenticeCountProjection;
+import com.alphanet.products.leonardobackend.dto.projection.CenterInstructorProjection;
 import com.alphanet.products.leonardobackend.dto.projection.CenterMetricProjection;
 import com.alphanet.products.leonardobackend.dto.projection.DepartmentMetricProjection;
 import com.alphanet.products.leonardobackend.dto.projection.EnglishLevelProjection;
 import com.alphanet.products.leonardobackend.dto.projection.GitHubUserProjection;
 import com.alphanet.products.leonardobackend.dto.projection.ProgramMetricProjection;
 import com.alphanet.products.leonardobackend.dto.projection.RecommendedInstructorProjection;
+import com.alphanet.products.leonardobackend.dto.projection.ScalarMetricsProjection;
 import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
 import com.alphanet.products.leonardobackend.repository.InstructorRepository;
 import com.alphanet.products.leonardobackend.repository.ProgramRepository;
 import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
-import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
 import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class MetricsServiceImpl implements MetricsService {
+@ConditionalOnProperty(name = "leonardo.metrics.read-path", havingValue = "jpa", matchIfMissing = true)
+public class MetricsServiceImpl implements DatabaseMetricsService {
 
     private final TrainingCenterRepository trainingCenterRepository;
     private final DepartmentRepository departmentRepository;
@@ -44,10 +54,11 @@ public class MetricsServiceImpl implements MetricsService {
     @Override
     public List<ScalarMetricDto> getScalarMetrics() {
         log.debug("Retrieving scalar metrics");
-        Long totalApprentices = trainingCenterRepository.getTotalApprenticesCount();
-        Long totalCenters = trainingCenterRepository.getTotalCentersCount();
-        Double avgEnglishPercentage = trainingCenterRepository.getAverageEnglishPercentage();
-        Long backendProfiles = programRepository.getBackendDevelopersCount();
+        ScalarMetricsProjection scalars = trainingCenterRepository.getScalarMetrics();
+        Long totalApprentices = scalars.getTotalApprentices();
+        Long totalCenters = scalars.getTotalCenters();
+        Double avgEnglishPercentage = scalars.getAverageEnglishPercentage();
+        Long backendProfiles = scalars.getBackendDevelopersCount();
 
         long apprenticesCount = totalApprentices != null ? totalApprentices : 0L;
         long centersCount = totalCenters != null ? totalCenters : 0L;
@@ -68,19 +79,70 @@ public class MetricsServiceImpl implements MetricsService {
     public List<CenterMetricDto> getCenterMetrics() {
         log.debug("Retrieving center metrics with recommended instructors");
 
-        List<CenterMetricProjection> centerData = trainingCenterRepository.getCenterMetrics();
+        return buildCenterMetricDtos(trainingCenterRepository.getCenterMetrics());
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics(CenterMetricsQuery query) {
+        log.debug("Retrieving center metrics filtered by {}", query);
+        Limit limit = query.limit() != null ? Limit.of(query.limit()) : Limit.unlimited();
+        return buildCenterMetricDtos(trainingCenterRepository.getCenterMetrics(query.department(), limit));
+    }
+
+    @Override
+    public Map<Long, CenterMetricDto> getCenterMetricsById(Collection<Long> centerIds) {
+        log.debug("Retrieving center metrics by id");
+        if (centerIds != null && centerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<CenterMetricProjection> centerData = centerIds == null
+                ? trainingCenterRepository.getCenterMetrics()
+                : trainingCenterRepository.getCenterMetricsByIds(centerIds);
+        Map<Long, List<String>> instructorsByCenter = loadRecommendedInstructorsOf(centerData);
+
+        return centerData.stream()
+                .collect(Collectors.toMap(
+                        CenterMetricProjection::getCenterId,
+                        projection -> buildCenterMetricDto(projection, instructorsByCenter),
+                        (first, second) -> first,
+                        LinkedHashMap::new));
+    }
+
+    private List<CenterMetricDto> buildCenterMetricDtos(List<CenterMetricProjection> centerData) {
+        Map<Long, List<String>> instructorsByCenter = loadRecommendedInstructorsOf(centerData);
 
         return centerData.stream()
-                .map(this::buildCenterMetricDto)
+                .map(projection -> buildCenterMetricDto(projection, instructorsByCenter))
                 .collect(Collectors.toList());
     }
 
-    private CenterMetricDto buildCenterMetricDto(CenterMetricProjection projection) {
-        List<String> recommendedInstructors = instructorRepository
-                .getRecommendedInstructorsByCenter(projection.getCenterId());
+    private Map<Long, List<String>> loadRecommendedInstructorsOf(List<CenterMetricProjection> centerData) {
+        return loadRecommendedInstructors(centerData.stream()
+                .map(CenterMetricProjection::getCenterId)
+                .toList());
+    }
+
+    private CenterMetricDto buildCenterMetricDto(CenterMetricProjection projection,
+                                                 Map<Long, List<String>> instructorsByCenter) {
+        List<String> recommendedInstructors = instructorsByCenter
+                .getOrDefault(projection.getCenterId(), Collections.emptyList());
         return metricsMapper.toCenterMetricDto(projection, recommendedInstructors);
     }
 
+    /**
+     * Loads the recommended instructors of every given center in a single query,
+     * so center endpoints issue a constant number of queries regardless of the center count.
+     */
+    private Map<Long, List<String>> loadRecommendedInstructors(List<Long> centerIds) {
+        if (centerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return instructorRepository.getRecommendedInstructorsByCenters(centerIds).stream()
+                .collect(Collectors.groupingBy(
+                        CenterInstructorProjection::getCenterId,
+                        Collectors.mapping(CenterInstructorProjection::getInstructorName, Collectors.toList())));
+    }
+
     @Override
     public List<ProgramMetricDto> getProgramMetrics() {
         log.debug("Retrieving program metrics");
@@ -90,6 +152,22 @@ public class MetricsServiceImpl implements MetricsService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<Long, List<ProgramMetricDto>> getProgramMetricsByCenter(Collection<Long> centerIds) {
+        log.debug("Retrieving program metrics by center");
+        if (centerIds != null && centerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<ProgramMetricProjection> programData = centerIds == null
+                ? programRepository.getProgramMetrics()
+                : programRepository.getProgramMetricsByCenters(centerIds);
+        return programData.stream()
+                .collect(Collectors.groupingBy(
+                        ProgramMetricProjection::getCenterId,
+                        LinkedHashMap::new,
+                        Collectors.mapping(metricsMapper::toProgramMetricDto, Collectors.toList())));
+    }
+
     @Override
     public List<DepartmentMetricDto> getDepartmentMetrics() {
         log.debug("Retrieving department metrics");
@@ -170,14 +248,20 @@ public class MetricsServiceImpl implements MetricsService {
     public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
         log.debug("Retrieving recommended instructor metrics by center");
         List<RecommendedInstructorProjection> instructorData = trainingCenterRepository.getRecommendedInstructorMetrics();
+        Map<Long, List<String>> instructorsByCenter = loadRecommendedInstructors(instructorData.stream()
+                .map(RecommendedInstructorProjection::getCenterId)
+                .toList());
+
         return instructorData.stream()
-                .map(this::buildRecommendedInstructorDto)
+                .map(projection -> buildRecommendedInstructorDto(projection, instructorsByCenter))
+                .sorted(MetricsMapper.RECOMMENDED_INSTRUCTOR_ORDER)
                 .collect(Collectors.toList());
     }
 
-    private RecommendedInstructorDto buildRecommendedInstructorDto(RecommendedInstructorProjection projection) {
-        List<String> recommendedInstructors = instructorRepository
-                .getRecommendedInstructorsByCenter(projection.getCenterId());
+    private RecommendedInstructorDto buildRecommendedInstructorDto(RecommendedInstructorProjection projection,
+                                                                   Map<Long, List<String>> instructorsByCenter) {
+        List<String> recommendedInstructors = instructorsByCenter
+                .getOrDefault(projection.getCenterId(), Collections.emptyList());
         return new RecommendedInstructorDto(
             projection.getCenterName(),
             projection.getDepartment(),
@@ -0,0 +1,86 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.repository.jdbc.ReadModelRepository;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import com.alphanet.products.leonardobackend.service.readmodel.MetricsProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * CQRS read path enabled with {@code leonardo.metrics.read-mode=read-model}.
+ *
+ * Every endpoint reads one denormalized table kept current by {@link MetricsProjector}, instead of
+ * aggregating the normalized write tables. Results trail writes by the projection lag. Reads run in a
+ * read-only transaction, so they are routed to a read replica when those are enabled.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "read-model")
+public class ReadModelMetricsService implements MetricsService {
+
+    private final ReadModelRepository readModelRepository;
+
+    @Override
+    public List<ScalarMetricDto> getScalarMetrics() {
+        return readModelRepository.getScalarMetrics();
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics() {
+        return readModelRepository.getCenterMetrics(null, null);
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics(CenterMetricsQuery query) {
+        return readModelRepository.getCenterMetrics(query.department(), query.limit());
+    }
+
+    @Override
+    public List<ProgramMetricDto> getProgramMetrics() {
+        return readModelRepository.getProgramMetrics();
+    }
+
+    @Override
+    public List<DepartmentMetricDto> getDepartmentMetrics() {
+        return readModelRepository.getDepartmentMetrics();
+    }
+
+    @Override
+    public List<GitHubUserDto> getGitHubUsersMetrics() {
+        return readModelRepository.getGitHubUsersMetrics();
+    }
+
+    @Override
+    public List<EnglishLevelDto> getEnglishLevelMetrics() {
+        return readModelRepository.getEnglishLevelMetrics();
+    }
+
+    @Override
+    public List<ApprenticeCountDto> getApprenticeCountMetrics() {
+        return readModelRepository.getApprenticeCountMetrics();
+    }
+
+    @Override
+    public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
+        return readModelRepository.getRecommendedInstructorMetrics().stream()
+                .sorted(MetricsMapper.RECOMMENDED_INSTRUCTOR_ORDER)
+                .toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.snapshot.MetricsSnapshot;
+import com.alphanet.products.leonardobackend.service.snapshot.MetricsSnapshotLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory read path enabled with {@code leonardo.metrics.read-mode=snapshot}.
+ *
+ * Every read is served from the current {@link MetricsSnapshot}. The snapshot is refreshed
+ * in the background on a fixed delay and swapped atomically, so readers never wait for a
+ * rebuild (stale-while-revalidate). Refreshes reload only the centers changed since the previous
+ * snapshot (see {@link MetricsSnapshotLoader#refresh}). A failed refresh keeps serving the previous snapshot.
+ */
+@Slf4j
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "snapshot")
+public class SnapshotMetricsService implements MetricsService {
+
+    private final MetricsSnapshotLoader snapshotLoader;
+
+    private final AtomicReference<MetricsSnapshot> currentSnapshot = new AtomicReference<>();
+    private final ReentrantLock initialLoad = new ReentrantLock();
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInitialSnapshot() {
+        Workload.runWith(Workload.REBUILD, this::refresh);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${leonardo.metrics.snapshot.refresh-interval:PT5M}",
+            initialDelayString = "${leonardo.metrics.snapshot.refresh-interval:PT5M}"
+    )
+    public void refresh() {
+        if (!refreshInProgress.compareAndSet(false, true)) {
+            log.debug("Metrics snapshot refresh already in progress, skipping");
+            return;
+        }
+        try {
+            currentSnapshot.set(snapshotLoader.refresh(currentSnapshot.get()));
+            log.info("Metrics snapshot refreshed");
+        } catch (RuntimeException e) {
+            log.warn("Metrics snapshot refresh failed, serving snapshot loaded at {}: {}",
+                    currentSnapshot().map(MetricsSnapshot::loadedAt).orElse(null), e.getMessage());
+        } finally {
+            refreshInProgress.set(false);
+        }
+    }
+
+    public Optional<MetricsSnapshot> currentSnapshot() {
+        return Optional.ofNullable(currentSnapshot.get());
+    }
+
+    private MetricsSnapshot snapshot() {
+        MetricsSnapshot snapshot = currentSnapshot.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // Only reached before the first load completes; later reads never block on a rebuild.
+        // The load queries the database, so a monitor here would hold virtual threads on their carriers
+        initialLoad.lock();
+        try {
+            snapshot = currentSnapshot.get();
+            if (snapshot == null) {
+                snapshot = snapshotLoader.load();
+                currentSnapshot.set(snapshot);
+            }
+            return snapshot;
+        } finally {
+            initialLoad.unlock();
+        }
+    }
+
+    @Override
+    public List<ScalarMetricDto> getScalarMetrics() {
+        return snapshot().scalarMetrics();
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics() {
+        return snapshot().centerMetrics();
+    }
+
+    @Override
+    public List<CenterMetricDto> getCenterMetrics(CenterMetricsQuery query) {
+        return query.applyTo(snapshot().centerMetrics());
+    }
+
+    @Override
+    public List<ProgramMetricDto> getProgramMetrics() {
+        return snapshot().programMetrics();
+    }
+
+    @Override
+    public List<DepartmentMetricDto> getDepartmentMetrics() {
+        return snapshot().departmentMetrics();
+    }
+
+    @Override
+    public List<GitHubUserDto> getGitHubUsersMetrics() {
+        return snapshot().gitHubUsersMetrics();
+    }
+
+    @Override
+    public List<EnglishLevelDto> getEnglishLevelMetrics() {
+        return snapshot().englishLevelMetrics();
+    }
+
+    @Override
+    public List<ApprenticeCountDto> getApprenticeCountMetrics() {
+        return snapshot().apprenticeCountMetrics();
+    }
+
+    @Override
+    public List<RecommendedInstructorDto> getRecommendedInstructorMetrics() {
+        return snapshot().recommendedInstructorMetrics();
+    }
+}
@@ -1,6 +1,7 @@
 package com.alphanet.products.leonardobackend.service.mapper;
 
 import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterDetailDto;
 import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
 import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
 import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
@@ -15,10 +16,16 @@ import com.alphanet.products.leonardobackend.dto.projection.EnglishLevelProjecti
 import com.alphanet.products.leonardobackend.dto.projection.GitHubUserProjection;
 import com.alphanet.products.leonardobackend.dto.projection.ProgramMetricProjection;
 import com.alphanet.products.leonardobackend.dto.projection.RecommendedInstructorProjection;
+import com.alphanet.products.leonardobackend.entity.Instructor;
+import com.alphanet.products.leonardobackend.entity.Program;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
 import org.springframework.stereotype.Component;
 
 import java.text.DecimalFormat;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Dedicated mapper component following SRP
@@ -27,6 +34,13 @@ import java.util.List;
 @Component
 public class MetricsMapper {
 
+    /**
+     * Order of the recommended instructors family in every read mode: plain {@code String} order of the center name,
+     * which does not depend on the database collation.
+     */
+    public static final Comparator<RecommendedInstructorDto> RECOMMENDED_INSTRUCTOR_ORDER = Comparator.comparing(
+            RecommendedInstructorDto::getCenterName, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.0");
 
     public ScalarMetricDto toScalarMetric(String description, Object value) {
@@ -44,6 +58,33 @@ public class MetricsMapper {
         );
     }
 
+    /**
+     * Maps a center whose department, programs and instructors are already initialized.
+     */
+    public CenterDetailDto toCenterDetailDto(TrainingCenter center) {
+        return new CenterDetailDto(
+                center.getId(),
+                center.getCenterName(),
+                center.getDepartment().getDepartmentName(),
+                center.getTotalApprentices(),
+                center.getGithubUsers(),
+                center.getEnglishB1B2(),
+                center.getPrograms().stream()
+                        .sorted(Comparator.comparing(Program::getApprenticesCount,
+                                        Comparator.nullsLast(Comparator.reverseOrder()))
+                                .thenComparing(Program::getProgramName))
+                        .map(program -> new CenterDetailDto.ProgramDetail(program.getProgramName(),
+                                program.getApprenticesCount()))
+                        .toList(),
+                center.getInstructors().stream()
+                        .sorted(Comparator.comparing((Instructor instructor) -> !Boolean.TRUE.equals(instructor.getIsRecommended()))
+                                .thenComparing(Instructor::getInstructorName))
+                        .map(instructor -> new CenterDetailDto.InstructorDetail(instructor.getInstructorName(),
+                                instructor.getIsRecommended()))
+                        .toList()
+        );
+    }
+
     public ProgramMetricDto toProgramMetricDto(ProgramMetricProjection projection) {
         return new ProgramMetricDto(
                 projection.getCenterName(),
@@ -108,4 +149,73 @@ public class MetricsMapper {
                 instructors != null ? instructors.size() : 0
         );
     }
+
+    /**
+     * The GitHub users family derived in memory from center metrics, ordered by GitHub users.
+     */
+    public List<GitHubUserDto> toGitHubUserDtos(List<CenterMetricDto> centers) {
+        return centers.stream()
+                .sorted(descendingBy(CenterMetricDto::getGithubUsers))
+                .map(center -> new GitHubUserDto(
+                        center.getCenterName(),
+                        center.getDepartment(),
+                        valueOrZero(center.getGithubUsers()),
+                        percentageOf(center.getGithubUsers(), center.getTotalApprentices())))
+                .toList();
+    }
+
+    /**
+     * The English level family derived in memory from center metrics, ordered by B1-B2 apprentices.
+     */
+    public List<EnglishLevelDto> toEnglishLevelDtos(List<CenterMetricDto> centers) {
+        return centers.stream()
+                .sorted(descendingBy(CenterMetricDto::getEnglishB1B2))
+                .map(center -> new EnglishLevelDto(
+                        center.getCenterName(),
+                        center.getDepartment(),
+                        valueOrZero(center.getEnglishB1B2()),
+                        percentageOf(center.getEnglishB1B2(), center.getTotalApprentices())))
+                .toList();
+    }
+
+    /**
+     * The apprentice count family derived from center metrics, which are already ordered by total apprentices.
+     */
+    public List<ApprenticeCountDto> toApprenticeCountDtos(List<CenterMetricDto> centers) {
+        return centers.stream()
+                .map(center -> new ApprenticeCountDto(
+                        center.getCenterName(),
+                        center.getDepartment(),
+                        center.getTotalApprentices()))
+                .toList();
+    }
+
+    /**
+     * The recommended instructors family derived in memory from center metrics, in {@link #RECOMMENDED_INSTRUCTOR_ORDER}.
+     */
+    public List<RecommendedInstructorDto> toRecommendedInstructorDtos(List<CenterMetricDto> centers) {
+        return centers.stream()
+                .map(center -> new RecommendedInstructorDto(
+                        center.getCenterName(),
+                        center.getDepartment(),
+                        center.getInstructorsRecommended(),
+                        center.getInstructorsRecommended() != null ? center.getInstructorsRecommended().size() : 0))
+                .sorted(RECOMMENDED_INSTRUCTOR_ORDER)
+                .toList();
+    }
+
+    private String percentageOf(Integer part, Integer total) {
+        int totalValue = valueOrZero(total);
+        return totalValue > 0
+                ? formatPercentage(calculatePercentage(valueOrZero(part), totalValue))
+                : "0%";
+    }
+
+    private static Comparator<CenterMetricDto> descendingBy(Function<CenterMetricDto, Integer> field) {
+        return Comparator.comparing((CenterMetricDto center) -> valueOrZero(field.apply(center))).reversed();
+    }
+
+    private static int valueOrZero(Integer value) {
+        return Objects.requireNonNullElse(value, 0);
+    }
 }
@@ -0,0 +1,53 @@
+package com.alphanet.products.leonardobackend.service.readmodel;
+
+import com.alphanet.products.leonardobackend.entity.ChangeTrackedEntity;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository.ChangeType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * JPA entity listener that appends a {@code metrics_outbox} row for every insert, update and delete of a
+ * metric source entity. The callbacks run during the flush, on the connection of the surrounding
+ * transaction, so the event commits or rolls back together with the write.
+ *
+ * Events are only recorded while the read model is enabled ({@code leonardo.metrics.read-mode=read-model});
+ * otherwise there is no projector to consume them. Bulk JPQL and native SQL writes bypass entity callbacks
+ * and need a read-model rebuild.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsOutboxListener {
+
+    private final ObjectProvider<MetricsOutboxRepository> outboxRepository;
+
+    @PostPersist
+    void created(ChangeTrackedEntity entity) {
+        append(entity, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    void updated(ChangeTrackedEntity entity) {
+        append(entity, ChangeType.UPDATED);
+        Long previousCenterId = entity.getPersistedCenterId();
+        if (previousCenterId != null && !Objects.equals(previousCenterId, entity.centerId())) {
+            // Moved to another center: the previous one loses this row's contribution
+            outboxRepository.ifAvailable(outbox -> outbox.append(entity, previousCenterId, ChangeType.UPDATED));
+        }
+    }
+
+    @PostRemove
+    void deleted(ChangeTrackedEntity entity) {
+        append(entity, ChangeType.DELETED);
+    }
+
+    private void append(ChangeTrackedEntity entity, ChangeType changeType) {
+        outboxRepository.ifAvailable(outbox -> outbox.append(entity, entity.centerId(), changeType));
+    }
+}
@@ -0,0 +1,154 @@
+package com.alphanet.products.leonardobackend.service.readmodel;
+
+import com.alphanet.products.leonardobackend.config.MetricsReadModelProperties;
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository.Backlog;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository.OutboxEvent;
+import com.alphanet.products.leonardobackend.repository.jdbc.ReadModelProjectionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the metrics read model in step with the write tables by consuming {@code metrics_outbox}.
+ *
+ * Each poll projects the pending events in batches, one transaction per batch: the centers named by the
+ * batch are re-projected from the source tables, then the departments they belonged to and the scalar
+ * aggregates, and the events are deleted. Projection is idempotent, so an event that is seen twice
+ * (e.g. after a crash between projecting and committing) only costs a repeated projection.
+ *
+ * The read model is rebuilt in full on the first start after the migration, which also covers rows
+ * written before the outbox existed. Projection lag (age of the oldest pending event) is published as
+ * {@code leonardo.readmodel.lag}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "leonardo.metrics.read-mode", havingValue = "read-model")
+public class MetricsProjector {
+
+    private final MetricsOutboxRepository outboxRepository;
+    private final ReadModelProjectionRepository projectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsReadModelProperties properties;
+    private final Counter projectedEvents;
+
+    private final AtomicReference<Backlog> backlog = new AtomicReference<>(new Backlog(0, null));
+
+    public MetricsProjector(MetricsOutboxRepository outboxRepository,
+                            ReadModelProjectionRepository projectionRepository,
+                            TransactionTemplate transactionTemplate,
+                            MetricsReadModelProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.projectionRepository = projectionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.projectedEvents = Counter.builder("leonardo.readmodel.events.projected")
+                .description("Outbox events applied to the metrics read model")
+                .register(meterRegistry);
+        Gauge.builder("leonardo.readmodel.lag", this, projector -> projector.lag().toMillis() / 1000.0)
+                .description("Age of the oldest outbox event not yet applied to the metrics read model")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("leonardo.readmodel.pending", this, projector -> projector.backlog.get().pendingEvents())
+                .description("Outbox events not yet applied to the metrics read model")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Workload.runWith(Workload.REBUILD, () -> {
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> projectionRepository.isBuilt()))) {
+                rebuild();
+            }
+            poll();
+        });
+    }
+
+    /**
+     * Re-projects every center, program and department from the source tables. Pending events are left
+     * in the outbox; projecting them again afterwards is harmless.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            projectionRepository.lockProjectionState();
+            projectionRepository.clear();
+            projectionRepository.projectCenters(null);
+            projectionRepository.projectPrograms(null);
+            projectionRepository.projectDepartments(null);
+            Instant now = Instant.now();
+            projectionRepository.projectScalars(now);
+            projectionRepository.markRebuilt(now);
+        });
+        log.info("Metrics read model rebuilt in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${leonardo.metrics.read-model.poll-interval:PT1S}",
+            initialDelayString = "${leonardo.metrics.read-model.poll-interval:PT1S}"
+    )
+    public void poll() {
+        try {
+            int projected;
+            do {
+                projected = transactionTemplate.execute(status -> projectNextBatch());
+            } while (projected >= properties.getBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Metrics read model projection failed: {}", e.getMessage());
+        } finally {
+            refreshBacklog();
+        }
+    }
+
+    public Duration lag() {
+        Instant oldest = backlog.get().oldestOccurredAt();
+        if (oldest == null) {
+            return Duration.ZERO;
+        }
+        Duration lag = Duration.between(oldest, Instant.now());
+        return lag.isNegative() ? Duration.ZERO : lag;
+    }
+
+    private void refreshBacklog() {
+        try {
+            backlog.set(outboxRepository.getBacklog());
+        } catch (RuntimeException e) {
+            // Keep the last known backlog, so the lag keeps growing while the database is unreachable
+            log.debug("Could not read the metrics outbox backlog: {}", e.getMessage());
+        }
+    }
+
+    private int projectNextBatch() {
+        projectionRepository.lockProjectionState();
+        List<OutboxEvent> events = outboxRepository.findPending(properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Set<Long> centerIds = events.stream().map(OutboxEvent::centerId).collect(Collectors.toSet());
+        Set<String> departments = projectionRepository.projectCenters(centerIds);
+        projectionRepository.projectPrograms(centerIds);
+        projectionRepository.projectDepartments(departments);
+        projectionRepository.projectScalars(Instant.now());
+        outboxRepository.delete(events.stream().map(OutboxEvent::id).toList());
+
+        projectedEvents.increment(events.size());
+        log.debug("Projected {} outbox events touching {} centers", events.size(), centerIds.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,164 @@
+package com.alphanet.products.leonardobackend.service.reconciliation;
+
+import com.alphanet.products.leonardobackend.config.ReconciliationProperties;
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import com.alphanet.products.leonardobackend.entity.CacheRegions;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.jdbc.CenterTotalsRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.CenterTotalsRepository.CenterTotals;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * Resets {@code training_centers.total_apprentices} to the sum of the center's programs wherever the two
+ * disagree, so {@code /by-center} and {@code /by-program} add up. Runs every
+ * {@code leonardo.metrics.reconciliation.interval} on the bulk write pool.
+ *
+ * One grouped query reads every center's stored total next to its program sum; the differences are found in
+ * memory and written back in JDBC batches, in one transaction that also applies the corrections to the
+ * department and national summaries and, with the read model enabled, to the outbox. The national summary
+ * is locked first, which holds off JPA writes to training centers for the duration; a center written anyway
+ * since it was read keeps its value until the next run. Program writes are not held off, so a run racing
+ * one may correct to a sum that is already stale, which the next run reports again.
+ *
+ * Drifted centers and apprentices are counted in {@code leonardo.reconciliation.drift} and
+ * {@code leonardo.reconciliation.drift.apprentices}, runs are timed in {@code leonardo.reconciliation.duration},
+ * and the latest report is served under {@code /actuator/reconciliation}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "leonardo.metrics.reconciliation.enabled", havingValue = "true")
+public class CenterTotalsReconciliation {
+
+    private final CenterTotalsRepository centerTotalsRepository;
+    private final MetricsSummaryRepository summaryRepository;
+    private final ObjectProvider<MetricsOutboxRepository> outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReconciliationProperties properties;
+    private final Counter driftedCenters;
+    private final Counter driftedApprentices;
+    private final Timer duration;
+    private final AtomicReference<ReconciliationReport> lastReport = new AtomicReference<>();
+
+    public CenterTotalsReconciliation(CenterTotalsRepository centerTotalsRepository,
+                                      MetricsSummaryRepository summaryRepository,
+                                      ObjectProvider<MetricsOutboxRepository> outboxRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      EntityManagerFactory entityManagerFactory,
+                                      ReconciliationProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.centerTotalsRepository = centerTotalsRepository;
+        this.summaryRepository = summaryRepository;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+        this.driftedCenters = Counter.builder("leonardo.reconciliation.drift")
+                .description("Training centers whose total apprentices differed from the sum of their programs")
+                .register(meterRegistry);
+        this.driftedApprentices = Counter.builder("leonardo.reconciliation.drift.apprentices")
+                .description("Apprentices by which drifted training center totals differed from their programs")
+                .register(meterRegistry);
+        this.duration = Timer.builder("leonardo.reconciliation.duration")
+                .description("Duration of training center total reconciliation runs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the report of this run, or nothing when it failed.
+     */
+    @Scheduled(
+            fixedDelayString = "${leonardo.metrics.reconciliation.interval:PT6H}",
+            initialDelayString = "${leonardo.metrics.reconciliation.interval:PT6H}"
+    )
+    public Optional<ReconciliationReport> reconcile() {
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        try {
+            Run run = Workload.callWith(Workload.BULK_WRITE, () -> transactionTemplate.execute(status -> correct()));
+            evictCachedCenters(run.corrected());
+
+            ReconciliationReport report = new ReconciliationReport(startedAt,
+                    Duration.ofNanos(System.nanoTime() - start), run.centersChecked(), run.driftedCenters(),
+                    run.apprenticeDrift(), run.corrected().size(), properties.isDryRun());
+            lastReport.set(report);
+            duration.record(report.duration());
+            driftedCenters.increment(report.driftedCenters());
+            driftedApprentices.increment(report.apprenticeDrift());
+            if (report.driftedCenters() > 0) {
+                log.warn("Center totals reconciled in {} ms: {} of {} centers drifted by {} apprentices, {} corrected",
+                        report.duration().toMillis(), report.driftedCenters(), report.centersChecked(),
+                        report.apprenticeDrift(), report.correctedCenters());
+            } else {
+                log.info("Center totals reconciled in {} ms: {} centers, no drift",
+                        report.duration().toMillis(), report.centersChecked());
+            }
+            return Optional.of(report);
+        } catch (RuntimeException e) {
+            duration.record(Duration.ofNanos(System.nanoTime() - start));
+            log.warn("Center totals reconciliation failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<ReconciliationReport> lastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    private Run correct() {
+        summaryRepository.lockNationalSummary();
+        List<CenterTotals> centers = centerTotalsRepository.findCenterTotals();
+        List<CenterTotals> drifted = centers.stream().filter(CenterTotals::hasDrifted).toList();
+        long apprenticeDrift = drifted.stream()
+                .mapToLong(center -> Math.abs(center.programApprentices()
+                        - (center.totalApprentices() != null ? center.totalApprentices() : 0)))
+                .sum();
+        if (drifted.isEmpty() || properties.isDryRun()) {
+            return new Run(centers.size(), drifted.size(), apprenticeDrift, List.of());
+        }
+
+        boolean[] applied = centerTotalsRepository.reconcileTotalApprentices(drifted, properties.getBatchSize());
+        List<CenterTotals> corrected = IntStream.range(0, drifted.size())
+                .filter(index -> applied[index])
+                .mapToObj(drifted::get)
+                .toList();
+        summaryRepository.applyAll(corrected.stream()
+                .map(center -> Map.entry(center.stored(), center.reconciled()))
+                .toList());
+        outboxRepository.ifAvailable(outbox -> outbox.appendCenterUpdates(
+                corrected.stream().map(CenterTotals::centerId).toList(), properties.getBatchSize()));
+        return new Run(centers.size(), drifted.size(), apprenticeDrift, corrected);
+    }
+
+    // JDBC writes bypass Hibernate, which would otherwise keep serving the cached centers and query results
+    private void evictCachedCenters(List<CenterTotals> corrected) {
+        if (corrected.isEmpty()) {
+            return;
+        }
+        corrected.forEach(center -> entityManagerFactory.getCache().evict(TrainingCenter.class, center.centerId()));
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheRegions.METRICS_QUERIES);
+    }
+
+    private record Run(int centersChecked, int driftedCenters, long apprenticeDrift, List<CenterTotals> corrected) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.alphanet.products.leonardobackend.service.reconciliation;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/reconciliation}: report of the latest training center total reconciliation run.
+ */
+@Component
+@Endpoint(id = "reconciliation")
+@ConditionalOnProperty(name = "leonardo.metrics.reconciliation.enabled", havingValue = "true")
+public class ReconciliationEndpoint {
+
+    private final CenterTotalsReconciliation reconciliation;
+
+    public ReconciliationEndpoint(CenterTotalsReconciliation reconciliation) {
+        this.reconciliation = reconciliation;
+    }
+
+    @ReadOperation
+    public ReconciliationReport report() {
+        return reconciliation.lastReport().orElse(null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.alphanet.products.leonardobackend.service.reconciliation;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Outcome of one {@link CenterTotalsReconciliation} run. {@code apprenticeDrift} is the sum of the absolute
+ * differences between stored totals and program sums over the drifted centers.
+ */
+public record ReconciliationReport(Instant startedAt, Duration duration, int centersChecked, int driftedCenters,
+                                   long apprenticeDrift, int correctedCenters, boolean dryRun) {
+}
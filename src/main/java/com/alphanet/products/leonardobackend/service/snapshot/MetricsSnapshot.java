@@ -0,0 +1,93 @@
+package com.alphanet.products.leonardobackend.service.snapshot;
+
+import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
+import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, fully materialized view of every metric family exposed by the API.
+ * A snapshot is built in one loading pass and swapped atomically; it is never modified afterwards.
+ * Snapshots built by {@link MetricsSnapshotLoader} carry {@link ChangeTracking} state so the next
+ * refresh can reload only the centers that changed.
+ */
+public record MetricsSnapshot(
+        List<ScalarMetricDto> scalarMetrics,
+        List<CenterMetricDto> centerMetrics,
+        List<ProgramMetricDto> programMetrics,
+        List<DepartmentMetricDto> departmentMetrics,
+        List<GitHubUserDto> gitHubUsersMetrics,
+        List<EnglishLevelDto> englishLevelMetrics,
+        List<ApprenticeCountDto> apprenticeCountMetrics,
+        List<RecommendedInstructorDto> recommendedInstructorMetrics,
+        Instant loadedAt,
+        ChangeTracking tracking) {
+
+    public MetricsSnapshot(List<ScalarMetricDto> scalarMetrics,
+                           List<CenterMetricDto> centerMetrics,
+                           List<ProgramMetricDto> programMetrics,
+                           List<DepartmentMetricDto> departmentMetrics,
+                           List<GitHubUserDto> gitHubUsersMetrics,
+                           List<EnglishLevelDto> englishLevelMetrics,
+                           List<ApprenticeCountDto> apprenticeCountMetrics,
+                           List<RecommendedInstructorDto> recommendedInstructorMetrics,
+                           Instant loadedAt) {
+        this(scalarMetrics, centerMetrics, programMetrics, departmentMetrics, gitHubUsersMetrics,
+                englishLevelMetrics, apprenticeCountMetrics, recommendedInstructorMetrics, loadedAt, null);
+    }
+
+    public MetricsSnapshot {
+        scalarMetrics = List.copyOf(scalarMetrics);
+        centerMetrics = List.copyOf(centerMetrics);
+        programMetrics = List.copyOf(programMetrics);
+        departmentMetrics = List.copyOf(departmentMetrics);
+        gitHubUsersMetrics = List.copyOf(gitHubUsersMetrics);
+        englishLevelMetrics = List.copyOf(englishLevelMetrics);
+        apprenticeCountMetrics = List.copyOf(apprenticeCountMetrics);
+        recommendedInstructorMetrics = List.copyOf(recommendedInstructorMetrics);
+    }
+
+    public Duration age() {
+        return Duration.between(loadedAt, Instant.now());
+    }
+
+    MetricsSnapshot withLoadedAt(Instant loadedAt) {
+        return new MetricsSnapshot(scalarMetrics, centerMetrics, programMetrics, departmentMetrics,
+                gitHubUsersMetrics, englishLevelMetrics, apprenticeCountMetrics, recommendedInstructorMetrics,
+                loadedAt, tracking);
+    }
+
+    /**
+     * Per-center state an incremental refresh patches instead of reloading.
+     *
+     * @param watermark        latest {@code updated_at} seen before the data was read; {@code null} if the tables were empty
+     * @param centersById      centers keyed by id, ordered by total apprentices
+     * @param programsByCenter programs keyed by center id
+     * @param departmentTotals apprentices per department, in response order
+     * @param fullLoadedAt     when the last full rebuild ran, the only refresh that observes deletes
+     */
+    public record ChangeTracking(
+            Instant watermark,
+            Map<Long, CenterMetricDto> centersById,
+            Map<Long, List<ProgramMetricDto>> programsByCenter,
+            Map<String, Long> departmentTotals,
+            Instant fullLoadedAt) {
+
+        public ChangeTracking {
+            centersById = Collections.unmodifiableMap(new LinkedHashMap<>(centersById));
+            programsByCenter = Map.copyOf(programsByCenter);
+            departmentTotals = Collections.unmodifiableMap(new LinkedHashMap<>(departmentTotals));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.alphanet.products.leonardobackend.service.snapshot;
+
+import com.alphanet.products.leonardobackend.config.MetricsSnapshotProperties;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsChangeRepository;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.snapshot.MetricsSnapshot.ChangeTracking;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a {@link MetricsSnapshot} in a single read-only transaction.
+ * The five per-center families are derived in memory from one center query
+ * (which already carries the batched recommended instructors) instead of querying each family separately
+ * ({@link MetricsMapper#toGitHubUserDtos} and its siblings).
+ *
+ * {@link #refresh(MetricsSnapshot)} keeps a snapshot current at a cost proportional to the change set:
+ * only the centers touched since the previous watermark, less {@code change-overlap}, are reloaded, with
+ * department totals patched by deltas. The overlap catches transactions that commit after the watermark was
+ * read with an {@code updated_at} from before it, so the range query runs on every refresh even when the
+ * latest change has not moved; centers changed within the overlap are reloaded again until a later change
+ * moves the watermark past them. Deletes and rows moved between centers leave no {@code updated_at} trace,
+ * so a full rebuild still runs every {@code leonardo.metrics.snapshot.full-rebuild-interval}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricsSnapshotLoader {
+
+    private final DatabaseMetricsService databaseMetricsService;
+    private final MetricsChangeRepository changeRepository;
+    private final MetricsSnapshotProperties properties;
+    private final MetricsMapper metricsMapper;
+
+    @Transactional(readOnly = true)
+    public MetricsSnapshot load() {
+        long start = System.nanoTime();
+
+        // Read before the data, so a change committed during the load is seen again by the next refresh
+        Instant watermark = changeRepository.findLatestChange().orElse(null);
+        Map<Long, CenterMetricDto> centersById = databaseMetricsService.getCenterMetricsById(null);
+        Map<Long, List<ProgramMetricDto>> programsByCenter = databaseMetricsService.getProgramMetricsByCenter(null);
+        Map<String, Long> departmentTotals = new LinkedHashMap<>();
+        databaseMetricsService.getDepartmentMetrics().forEach(department -> departmentTotals.put(
+                department.getDepartment(), (long) valueOrZero(department.getApprenticesCount())));
+
+        Instant now = Instant.now();
+        MetricsSnapshot snapshot = assemble(databaseMetricsService.getScalarMetrics(),
+                new ChangeTracking(watermark, centersById, programsByCenter, departmentTotals, now), now);
+
+        log.debug("Loaded metrics snapshot with {} centers in {} ms",
+                centersById.size(), (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+
+    /**
+     * Brings {@code previous} up to date, reloading only the centers changed since it was built.
+     * Falls back to {@link #load()} when there is no previous tracking state, when the full rebuild
+     * interval has elapsed, or when the change set is too large for patching to pay off.
+     */
+    @Transactional(readOnly = true)
+    public MetricsSnapshot refresh(MetricsSnapshot previous) {
+        ChangeTracking tracking = previous != null ? previous.tracking() : null;
+        if (tracking == null || tracking.watermark() == null || fullRebuildDue(tracking)) {
+            return load();
+        }
+        long start = System.nanoTime();
+
+        // Deleting the latest row can move MAX(updated_at) back; the watermark never does
+        Instant latestChange = changeRepository.findLatestChange()
+                .filter(change -> change.isAfter(tracking.watermark()))
+                .orElse(tracking.watermark());
+        Set<Long> changedCenters = changeRepository.findCentersChangedSince(
+                tracking.watermark().minus(properties.getChangeOverlap()));
+        if (changedCenters.isEmpty()) {
+            log.debug("No metric changes since {}", tracking.watermark());
+            return previous.withLoadedAt(Instant.now());
+        }
+        if (changedCenters.size() > tracking.centersById().size() * properties.getMaxIncrementalRatio()) {
+            log.debug("{} of {} centers changed, rebuilding the metrics snapshot in full",
+                    changedCenters.size(), tracking.centersById().size());
+            return load();
+        }
+
+        Map<Long, CenterMetricDto> reloadedCenters = databaseMetricsService.getCenterMetricsById(changedCenters);
+        Map<Long, List<ProgramMetricDto>> reloadedPrograms =
+                databaseMetricsService.getProgramMetricsByCenter(changedCenters);
+
+        Map<Long, CenterMetricDto> centersById = new LinkedHashMap<>(tracking.centersById());
+        Map<Long, List<ProgramMetricDto>> programsByCenter = new HashMap<>(tracking.programsByCenter());
+        Map<String, Long> departmentTotals = new LinkedHashMap<>(tracking.departmentTotals());
+        for (Long centerId : changedCenters) {
+            CenterMetricDto before = centersById.remove(centerId);
+            if (before != null) {
+                departmentTotals.merge(before.getDepartment(), -(long) valueOrZero(before.getTotalApprentices()), Long::sum);
+            }
+            CenterMetricDto after = reloadedCenters.get(centerId);
+            if (after != null) {
+                centersById.put(centerId, after);
+                departmentTotals.merge(after.getDepartment(), (long) valueOrZero(after.getTotalApprentices()), Long::sum);
+            }
+            programsByCenter.remove(centerId);
+            List<ProgramMetricDto> programs = reloadedPrograms.get(centerId);
+            if (programs != null) {
+                programsByCenter.put(centerId, programs);
+            }
+        }
+
+        Instant now = Instant.now();
+        MetricsSnapshot snapshot = assemble(databaseMetricsService.getScalarMetrics(),
+                new ChangeTracking(latestChange, sortedByTotalApprentices(centersById), programsByCenter,
+                        sortedByTotal(departmentTotals), tracking.fullLoadedAt()),
+                now);
+
+        log.debug("Refreshed {} changed centers of the metrics snapshot in {} ms",
+                changedCenters.size(), (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+
+    private boolean fullRebuildDue(ChangeTracking tracking) {
+        return Duration.between(tracking.fullLoadedAt(), Instant.now())
+                .compareTo(properties.getFullRebuildInterval()) >= 0;
+    }
+
+    private MetricsSnapshot assemble(List<ScalarMetricDto> scalarMetrics, ChangeTracking tracking, Instant loadedAt) {
+        List<CenterMetricDto> centers = List.copyOf(tracking.centersById().values());
+        return new MetricsSnapshot(
+                scalarMetrics,
+                centers,
+                toPrograms(tracking),
+                toDepartments(tracking.departmentTotals()),
+                metricsMapper.toGitHubUserDtos(centers),
+                metricsMapper.toEnglishLevelDtos(centers),
+                metricsMapper.toApprenticeCountDtos(centers),
+                metricsMapper.toRecommendedInstructorDtos(centers),
+                loadedAt,
+                tracking
+        );
+    }
+
+    private List<ProgramMetricDto> toPrograms(ChangeTracking tracking) {
+        return tracking.centersById().keySet().stream()
+                .flatMap(centerId -> tracking.programsByCenter().getOrDefault(centerId, List.of()).stream())
+                .sorted(Comparator.comparing((ProgramMetricDto program) -> valueOrZero(program.getApprenticesCount()))
+                        .reversed())
+                .toList();
+    }
+
+    private List<DepartmentMetricDto> toDepartments(Map<String, Long> departmentTotals) {
+        return departmentTotals.entrySet().stream()
+                .map(entry -> new DepartmentMetricDto(entry.getKey(), entry.getValue().intValue()))
+                .toList();
+    }
+
+    private static Map<Long, CenterMetricDto> sortedByTotalApprentices(Map<Long, CenterMetricDto> centersById) {
+        return centersById.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(descendingBy(CenterMetricDto::getTotalApprentices)))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first,
+                        LinkedHashMap::new));
+    }
+
+    private static Map<String, Long> sortedByTotal(Map<String, Long> departmentTotals) {
+        return departmentTotals.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry::getKey))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first,
+                        LinkedHashMap::new));
+    }
+
+    private static Comparator<CenterMetricDto> descendingBy(Function<CenterMetricDto, Integer> field) {
+        return Comparator.comparing((CenterMetricDto center) -> valueOrZero(field.apply(center))).reversed();
+    }
+
+    private static int valueOrZero(Integer value) {
+        return Objects.requireNonNullElse(value, 0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.alphanet.products.leonardobackend.service.summary;
+
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import com.alphanet.products.leonardobackend.entity.CacheRegions;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository.SummaryTotals;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recomputes the department and national summaries from {@code training_centers} and rewrites the rows
+ * that differ. Runs at startup and every {@code leonardo.metrics.summary.consistency-check-interval}.
+ *
+ * The check holds the national summary lock ({@link MetricsSummaryRepository#lockNationalSummary()})
+ * while it compares, so no delta can be applied between reading the sources and repairing a row.
+ * Repaired rows are counted in {@code leonardo.summary.drift}; anything above zero means a write
+ * bypassed the listener. Repairs are plain SQL, so the cached metric query results are evicted once
+ * they commit.
+ */
+@Slf4j
+@Component
+public class MetricsSummaryConsistencyCheck {
+
+    private final MetricsSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Counter driftedRows;
+
+    public MetricsSummaryConsistencyCheck(MetricsSummaryRepository summaryRepository,
+                                          TransactionTemplate transactionTemplate,
+                                          EntityManagerFactory entityManagerFactory,
+                                          MeterRegistry meterRegistry) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.driftedRows = Counter.builder("leonardo.summary.drift")
+                .description("Summary rows found out of step with the training centers and repaired")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Workload.runWith(Workload.REBUILD, this::check);
+    }
+
+    /**
+     * Returns the number of summary rows that were repaired, or {@code -1} when the check failed.
+     */
+    @Scheduled(
+            fixedDelayString = "${leonardo.metrics.summary.consistency-check-interval:PT1H}",
+            initialDelayString = "${leonardo.metrics.summary.consistency-check-interval:PT1H}"
+    )
+    public int check() {
+        try {
+            int repaired = transactionTemplate.execute(status -> repair());
+            if (repaired > 0) {
+                entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                        .evictQueryRegion(CacheRegions.METRICS_QUERIES);
+                driftedRows.increment(repaired);
+                log.warn("Repaired {} metric summary rows that had drifted from the training centers", repaired);
+            }
+            return repaired;
+        } catch (RuntimeException e) {
+            log.warn("Metric summary consistency check failed: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private int repair() {
+        summaryRepository.lockNationalSummary();
+        int repaired = 0;
+
+        SummaryTotals national = summaryRepository.computeNationalSummary();
+        if (!national.matches(summaryRepository.findNationalSummary())) {
+            summaryRepository.replaceNationalSummary(national);
+            repaired++;
+        }
+
+        Map<Long, SummaryTotals> expected = summaryRepository.computeDepartmentSummaries();
+        Map<Long, SummaryTotals> stored = summaryRepository.findDepartmentSummaries();
+        Set<Long> departmentIds = new HashSet<>(expected.keySet());
+        departmentIds.addAll(stored.keySet());
+        for (Long departmentId : departmentIds) {
+            SummaryTotals totals = expected.getOrDefault(departmentId, SummaryTotals.ZERO);
+            if (!totals.matches(stored.getOrDefault(departmentId, SummaryTotals.ZERO))) {
+                summaryRepository.replaceDepartmentSummary(departmentId, totals);
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+}
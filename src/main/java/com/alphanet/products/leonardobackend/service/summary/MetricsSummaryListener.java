@@ -0,0 +1,58 @@
+package com.alphanet.products.leonardobackend.service.summary;
+
+import com.alphanet.products.leonardobackend.entity.CenterContribution;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that keeps {@code department_summaries} and {@code national_summary} exact: every
+ * insert, update and delete of a training center applies the difference between the center's contribution
+ * as last persisted and its new one. Like the outbox, this runs during the flush on the writer's
+ * connection, so the summaries commit or roll back together with the write.
+ *
+ * Writes that bypass entity callbacks (bulk JPQL, native SQL, the seed data) are reconciled by
+ * {@link MetricsSummaryConsistencyCheck}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricsSummaryListener {
+
+    private final ObjectProvider<MetricsSummaryRepository> summaryRepository;
+
+    @PostPersist
+    void created(TrainingCenter center) {
+        apply(null, CenterContribution.of(center));
+    }
+
+    @PostUpdate
+    void updated(TrainingCenter center) {
+        if (center.getPersistedContribution() == null) {
+            log.warn("No persisted state for training center {}; its summaries are left to the consistency check",
+                    center.getId());
+            return;
+        }
+        apply(center.getPersistedContribution(), CenterContribution.of(center));
+    }
+
+    @PostRemove
+    void deleted(TrainingCenter center) {
+        if (center.getPersistedContribution() == null) {
+            log.warn("No persisted state for training center {}; its summaries are left to the consistency check",
+                    center.getId());
+            return;
+        }
+        apply(center.getPersistedContribution(), null);
+    }
+
+    private void apply(CenterContribution previous, CenterContribution current) {
+        summaryRepository.ifAvailable(summaries -> summaries.apply(previous, current));
+    }
+}
@@ -0,0 +1,41 @@
+package db.migration.common;
+
+import com.alphanet.products.leonardobackend.entity.ProgramClassifier;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Backfills {@code programs.category} for rows written before the column existed, using the same
+ * classifier as the entity so both paths agree. Runs on every vendor (db/migration/common).
+ */
+public class V4__Classify_programs extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement select = connection.createStatement();
+             ResultSet programs = select.executeQuery("SELECT id, program_name FROM programs WHERE category IS NULL");
+             PreparedStatement update = connection.prepareStatement("UPDATE programs SET category = ? WHERE id = ?")) {
+            int pending = 0;
+            while (programs.next()) {
+                update.setString(1, ProgramClassifier.classify(programs.getString("program_name")).name());
+                update.setLong(2, programs.getLong("id"));
+                update.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+}
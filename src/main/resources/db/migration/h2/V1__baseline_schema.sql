@@ -0,0 +1,37 @@
+-- H2 counterpart of mysql/V1__baseline_schema.sql
+
+CREATE TABLE departments (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    department_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_departments_department_name UNIQUE (department_name)
+);
+
+CREATE TABLE training_centers (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    center_name       VARCHAR(255) NOT NULL,
+    department_id     BIGINT       NOT NULL,
+    total_apprentices INTEGER,
+    github_users      INTEGER,
+    english_b1_b2     INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_training_centers_department FOREIGN KEY (department_id) REFERENCES departments (id)
+);
+
+CREATE TABLE programs (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    program_name       VARCHAR(255) NOT NULL,
+    apprentices_count  INTEGER,
+    training_center_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_programs_training_center FOREIGN KEY (training_center_id) REFERENCES training_centers (id)
+);
+
+CREATE TABLE instructors (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    instructor_name    VARCHAR(255) NOT NULL,
+    is_recommended     BOOLEAN      NOT NULL,
+    training_center_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_instructors_training_center FOREIGN KEY (training_center_id) REFERENCES training_centers (id)
+);
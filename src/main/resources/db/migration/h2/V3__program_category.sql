@@ -0,0 +1,6 @@
+-- H2 counterpart of mysql/V3__program_category.sql
+
+ALTER TABLE programs ADD COLUMN category VARCHAR(32) NULL;
+
+CREATE INDEX idx_programs_category ON programs (category, program_name);
+DROP INDEX idx_programs_name;
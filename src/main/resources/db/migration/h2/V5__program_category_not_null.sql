@@ -0,0 +1 @@
+ALTER TABLE programs ALTER COLUMN category SET NOT NULL;
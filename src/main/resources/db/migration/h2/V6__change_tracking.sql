@@ -0,0 +1,15 @@
+-- H2 counterpart of mysql/V6__change_tracking.sql
+
+ALTER TABLE training_centers ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE training_centers ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE
+    DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) NOT NULL;
+ALTER TABLE programs ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE programs ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE
+    DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) NOT NULL;
+ALTER TABLE instructors ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE instructors ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE
+    DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) NOT NULL;
+
+CREATE INDEX idx_training_centers_updated_at ON training_centers (updated_at);
+CREATE INDEX idx_programs_updated_at ON programs (updated_at, training_center_id);
+CREATE INDEX idx_instructors_updated_at ON instructors (updated_at, training_center_id);
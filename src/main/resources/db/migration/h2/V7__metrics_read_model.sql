@@ -0,0 +1,68 @@
+-- H2 counterpart of mysql/V7__metrics_read_model.sql
+
+CREATE TABLE metrics_outbox (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    center_id      BIGINT      NOT NULL,
+    event_type     VARCHAR(16) NOT NULL,
+    occurred_at    TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE rm_center_metrics (
+    center_id               BIGINT        NOT NULL,
+    center_name             VARCHAR(255)  NOT NULL,
+    department              VARCHAR(255)  NOT NULL,
+    department_key          VARCHAR(255)  NOT NULL,
+    total_apprentices       INTEGER,
+    github_users            INTEGER,
+    github_percentage       VARCHAR(16)   NOT NULL,
+    english_b1_b2           INTEGER,
+    english_percentage      VARCHAR(16)   NOT NULL,
+    instructors_recommended VARCHAR(4000) NOT NULL,
+    instructors_count       INTEGER       NOT NULL,
+    PRIMARY KEY (center_id)
+);
+
+CREATE INDEX idx_rm_center_metrics_apprentices ON rm_center_metrics (total_apprentices DESC);
+CREATE INDEX idx_rm_center_metrics_department ON rm_center_metrics (department_key, total_apprentices DESC);
+CREATE INDEX idx_rm_center_metrics_github ON rm_center_metrics (github_users DESC);
+CREATE INDEX idx_rm_center_metrics_english ON rm_center_metrics (english_b1_b2 DESC);
+CREATE INDEX idx_rm_center_metrics_name ON rm_center_metrics (center_name);
+
+CREATE TABLE rm_program_metrics (
+    program_id        BIGINT       NOT NULL,
+    center_id         BIGINT       NOT NULL,
+    center_name       VARCHAR(255) NOT NULL,
+    program_name      VARCHAR(255) NOT NULL,
+    apprentices_count INTEGER,
+    category          VARCHAR(32)  NOT NULL,
+    PRIMARY KEY (program_id)
+);
+
+CREATE INDEX idx_rm_program_metrics_apprentices ON rm_program_metrics (apprentices_count DESC);
+CREATE INDEX idx_rm_program_metrics_center ON rm_program_metrics (center_id);
+CREATE INDEX idx_rm_program_metrics_category ON rm_program_metrics (category, program_name);
+
+CREATE TABLE rm_department_metrics (
+    department_name   VARCHAR(255) NOT NULL,
+    apprentices_count BIGINT       NOT NULL,
+    PRIMARY KEY (department_name)
+);
+
+CREATE INDEX idx_rm_department_metrics_apprentices ON rm_department_metrics (apprentices_count DESC);
+
+-- Single row (id = 1): the scalar aggregates, and the projector's lock and progress
+CREATE TABLE rm_projection_state (
+    id                         INTEGER     NOT NULL,
+    total_apprentices          BIGINT      DEFAULT 0 NOT NULL,
+    total_centers              BIGINT      DEFAULT 0 NOT NULL,
+    average_english_percentage DOUBLE PRECISION DEFAULT 0 NOT NULL,
+    backend_developers_count   BIGINT      DEFAULT 0 NOT NULL,
+    rebuilt_at                 TIMESTAMP(6) WITH TIME ZONE,
+    projected_at               TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO rm_projection_state (id) VALUES (1);
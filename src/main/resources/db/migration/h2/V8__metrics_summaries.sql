@@ -0,0 +1,43 @@
+-- H2 counterpart of mysql/V8__metrics_summaries.sql
+
+CREATE TABLE department_summaries (
+    department_id     BIGINT NOT NULL,
+    total_apprentices BIGINT DEFAULT 0 NOT NULL,
+    github_users      BIGINT DEFAULT 0 NOT NULL,
+    english_b1_b2     BIGINT DEFAULT 0 NOT NULL,
+    center_count      BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (department_id)
+);
+
+-- Single row (id = 1). The average English percentage is kept as a sum and a count of the centers
+-- that have one, so it can be maintained by deltas like the other columns.
+CREATE TABLE national_summary (
+    id                     INTEGER NOT NULL,
+    total_apprentices      BIGINT  DEFAULT 0 NOT NULL,
+    github_users           BIGINT  DEFAULT 0 NOT NULL,
+    english_b1_b2          BIGINT  DEFAULT 0 NOT NULL,
+    center_count           BIGINT  DEFAULT 0 NOT NULL,
+    english_percentage_sum DOUBLE PRECISION DEFAULT 0 NOT NULL,
+    english_rated_centers  BIGINT  DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO department_summaries (department_id, total_apprentices, github_users, english_b1_b2, center_count)
+SELECT tc.department_id,
+       COALESCE(SUM(tc.total_apprentices), 0),
+       COALESCE(SUM(tc.github_users), 0),
+       COALESCE(SUM(tc.english_b1_b2), 0),
+       COUNT(*)
+FROM training_centers tc
+GROUP BY tc.department_id;
+
+INSERT INTO national_summary (id, total_apprentices, github_users, english_b1_b2, center_count,
+                              english_percentage_sum, english_rated_centers)
+SELECT 1,
+       COALESCE(SUM(tc.total_apprentices), 0),
+       COALESCE(SUM(tc.github_users), 0),
+       COALESCE(SUM(tc.english_b1_b2), 0),
+       COUNT(*),
+       COALESCE(SUM(CASE WHEN tc.total_apprentices > 0 THEN tc.english_b1_b2 * 100.0 / tc.total_apprentices END), 0),
+       COUNT(CASE WHEN tc.total_apprentices > 0 THEN tc.english_b1_b2 END)
+FROM training_centers tc;
@@ -0,0 +1,38 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE departments (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    department_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_departments_department_name UNIQUE (department_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE training_centers (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    center_name       VARCHAR(255) NOT NULL,
+    department_id     BIGINT       NOT NULL,
+    total_apprentices INTEGER,
+    github_users      INTEGER,
+    english_b1_b2     INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_training_centers_department FOREIGN KEY (department_id) REFERENCES departments (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE programs (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    program_name       VARCHAR(255) NOT NULL,
+    apprentices_count  INTEGER,
+    training_center_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_programs_training_center FOREIGN KEY (training_center_id) REFERENCES training_centers (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE instructors (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    instructor_name    VARCHAR(255) NOT NULL,
+    is_recommended     BIT          NOT NULL,
+    training_center_id BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_instructors_training_center FOREIGN KEY (training_center_id) REFERENCES training_centers (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- Covering indexes for the metrics queries (see the @Table indexes on the entities)
+
+CREATE INDEX idx_training_centers_apprentices
+    ON training_centers (total_apprentices DESC, department_id, github_users, english_b1_b2, center_name);
+CREATE INDEX idx_training_centers_department ON training_centers (department_id, total_apprentices DESC);
+CREATE INDEX idx_training_centers_github
+    ON training_centers (github_users DESC, department_id, total_apprentices, center_name);
+CREATE INDEX idx_training_centers_english
+    ON training_centers (english_b1_b2 DESC, department_id, total_apprentices, center_name);
+CREATE INDEX idx_training_centers_name ON training_centers (center_name, department_id);
+
+CREATE INDEX idx_programs_apprentices ON programs (apprentices_count DESC, training_center_id, program_name);
+CREATE INDEX idx_programs_name ON programs (program_name);
+
+CREATE INDEX idx_instructors_center_recommended ON instructors (training_center_id, is_recommended, instructor_name);
@@ -0,0 +1,7 @@
+-- Program category, assigned from the program name when a program is written (see ProgramClassifier).
+-- Existing rows are classified by V4 (db/migration/common), V5 makes the column mandatory.
+
+ALTER TABLE programs ADD COLUMN category VARCHAR(32) NULL;
+
+CREATE INDEX idx_programs_category ON programs (category, program_name);
+DROP INDEX idx_programs_name ON programs;
@@ -0,0 +1 @@
+ALTER TABLE programs MODIFY category VARCHAR(32) NOT NULL;
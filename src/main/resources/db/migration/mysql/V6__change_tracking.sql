@@ -0,0 +1,16 @@
+-- Optimistic-lock version and database-maintained modification time for change detection.
+-- Existing rows start at version 0 with the migration time as updated_at.
+
+ALTER TABLE training_centers
+    ADD COLUMN version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+ALTER TABLE programs
+    ADD COLUMN version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+ALTER TABLE instructors
+    ADD COLUMN version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_training_centers_updated_at ON training_centers (updated_at);
+CREATE INDEX idx_programs_updated_at ON programs (updated_at, training_center_id);
+CREATE INDEX idx_instructors_updated_at ON instructors (updated_at, training_center_id);
@@ -0,0 +1,70 @@
+-- Transactional outbox for metric source writes and the denormalized read model it feeds
+-- (leonardo.metrics.read-mode=read-model). Each read-model table is shaped like a response DTO,
+-- so every endpoint is a single-table scan in the order of one of its indexes.
+
+CREATE TABLE metrics_outbox (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    center_id      BIGINT      NOT NULL,
+    event_type     VARCHAR(16) NOT NULL,
+    occurred_at    DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE rm_center_metrics (
+    center_id               BIGINT        NOT NULL,
+    center_name             VARCHAR(255)  NOT NULL,
+    department              VARCHAR(255)  NOT NULL,
+    department_key          VARCHAR(255)  NOT NULL,
+    total_apprentices       INTEGER,
+    github_users            INTEGER,
+    github_percentage       VARCHAR(16)   NOT NULL,
+    english_b1_b2           INTEGER,
+    english_percentage      VARCHAR(16)   NOT NULL,
+    instructors_recommended VARCHAR(4000) NOT NULL,
+    instructors_count       INTEGER       NOT NULL,
+    PRIMARY KEY (center_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_rm_center_metrics_apprentices ON rm_center_metrics (total_apprentices DESC);
+CREATE INDEX idx_rm_center_metrics_department ON rm_center_metrics (department_key, total_apprentices DESC);
+CREATE INDEX idx_rm_center_metrics_github ON rm_center_metrics (github_users DESC);
+CREATE INDEX idx_rm_center_metrics_english ON rm_center_metrics (english_b1_b2 DESC);
+CREATE INDEX idx_rm_center_metrics_name ON rm_center_metrics (center_name);
+
+CREATE TABLE rm_program_metrics (
+    program_id        BIGINT       NOT NULL,
+    center_id         BIGINT       NOT NULL,
+    center_name       VARCHAR(255) NOT NULL,
+    program_name      VARCHAR(255) NOT NULL,
+    apprentices_count INTEGER,
+    category          VARCHAR(32)  NOT NULL,
+    PRIMARY KEY (program_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_rm_program_metrics_apprentices ON rm_program_metrics (apprentices_count DESC);
+CREATE INDEX idx_rm_program_metrics_center ON rm_program_metrics (center_id);
+CREATE INDEX idx_rm_program_metrics_category ON rm_program_metrics (category, program_name);
+
+CREATE TABLE rm_department_metrics (
+    department_name   VARCHAR(255) NOT NULL,
+    apprentices_count BIGINT       NOT NULL,
+    PRIMARY KEY (department_name)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_rm_department_metrics_apprentices ON rm_department_metrics (apprentices_count DESC);
+
+-- Single row (id = 1): the scalar aggregates, and the projector's lock and progress
+CREATE TABLE rm_projection_state (
+    id                         INTEGER     NOT NULL,
+    total_apprentices          BIGINT      NOT NULL DEFAULT 0,
+    total_centers              BIGINT      NOT NULL DEFAULT 0,
+    average_english_percentage DOUBLE      NOT NULL DEFAULT 0,
+    backend_developers_count   BIGINT      NOT NULL DEFAULT 0,
+    rebuilt_at                 DATETIME(6),
+    projected_at               DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO rm_projection_state (id) VALUES (1);
@@ -0,0 +1,46 @@
+-- Per-department and national totals of the training center metric columns. They are kept exact by
+-- deltas applied in the same transaction as every JPA write to training_centers, and verified (and
+-- repaired) against a full recompute by the summary consistency check, which also covers writes that
+-- bypass JPA such as the seed data.
+
+CREATE TABLE department_summaries (
+    department_id     BIGINT NOT NULL,
+    total_apprentices BIGINT NOT NULL DEFAULT 0,
+    github_users      BIGINT NOT NULL DEFAULT 0,
+    english_b1_b2     BIGINT NOT NULL DEFAULT 0,
+    center_count      BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (department_id)
+) ENGINE = InnoDB;
+
+-- Single row (id = 1). The average English percentage is kept as a sum and a count of the centers
+-- that have one, so it can be maintained by deltas like the other columns.
+CREATE TABLE national_summary (
+    id                     INTEGER NOT NULL,
+    total_apprentices      BIGINT  NOT NULL DEFAULT 0,
+    github_users           BIGINT  NOT NULL DEFAULT 0,
+    english_b1_b2          BIGINT  NOT NULL DEFAULT 0,
+    center_count           BIGINT  NOT NULL DEFAULT 0,
+    english_percentage_sum DOUBLE  NOT NULL DEFAULT 0,
+    english_rated_centers  BIGINT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO department_summaries (department_id, total_apprentices, github_users, english_b1_b2, center_count)
+SELECT tc.department_id,
+       COALESCE(SUM(tc.total_apprentices), 0),
+       COALESCE(SUM(tc.github_users), 0),
+       COALESCE(SUM(tc.english_b1_b2), 0),
+       COUNT(*)
+FROM training_centers tc
+GROUP BY tc.department_id;
+
+INSERT INTO national_summary (id, total_apprentices, github_users, english_b1_b2, center_count,
+                              english_percentage_sum, english_rated_centers)
+SELECT 1,
+       COALESCE(SUM(tc.total_apprentices), 0),
+       COALESCE(SUM(tc.github_users), 0),
+       COALESCE(SUM(tc.english_b1_b2), 0),
+       COUNT(*),
+       COALESCE(SUM(CASE WHEN tc.total_apprentices > 0 THEN tc.english_b1_b2 * 100.0 / tc.total_apprentices END), 0),
+       COUNT(CASE WHEN tc.total_apprentices > 0 THEN tc.english_b1_b2 END)
+FROM training_centers tc;
@@ -0,0 +1,82 @@
+-- Sample SENASoft data for local and Docker environments (not on the aws profile's Flyway locations).
+-- Repeatable: re-applied whenever this file changes, so every insert skips rows that already exist.
+
+INSERT INTO departments (department_name)
+SELECT s.department_name
+FROM (SELECT 'Cundinamarca' AS department_name FROM DUAL
+      UNION ALL SELECT 'Bogotá D.C.' FROM DUAL
+      UNION ALL SELECT 'Antioquia' FROM DUAL
+      UNION ALL SELECT 'Valle del Cauca' FROM DUAL) s
+WHERE NOT EXISTS (SELECT 1 FROM departments d WHERE d.department_name = s.department_name);
+
+INSERT INTO training_centers (center_name, department_id, total_apprentices, github_users, english_b1_b2)
+SELECT s.center_name, d.id, s.total_apprentices, s.github_users, s.english_b1_b2
+FROM (SELECT 'SENA - Centro de Biotecnología Industrial' AS center_name, 'Cundinamarca' AS department_name,
+             167 AS total_apprentices, 120 AS github_users, 89 AS english_b1_b2 FROM DUAL
+      UNION ALL SELECT 'SENA - Centro de Tecnologías del Transporte', 'Bogotá D.C.', 245, 180, 156 FROM DUAL
+      UNION ALL SELECT 'SENA - Centro de Tecnología de la Manufactura Avanzada', 'Antioquia', 198, 145, 123 FROM DUAL
+      UNION ALL SELECT 'SENA - Centro de Electricidad y Automatización Industrial', 'Valle del Cauca', 156, 98, 78 FROM DUAL) s
+JOIN departments d ON d.department_name = s.department_name
+WHERE NOT EXISTS (SELECT 1 FROM training_centers tc WHERE tc.center_name = s.center_name);
+
+-- category is what ProgramClassifier assigns to the name (checked by SchemaMigrationTest)
+INSERT INTO programs (program_name, apprentices_count, category, training_center_id)
+SELECT s.program_name, s.apprentices_count, s.category, tc.id
+FROM (SELECT 'Análisis y Desarrollo de Software' AS program_name, 85 AS apprentices_count, 'SOFTWARE' AS category,
+             'SENA - Centro de Biotecnología Industrial' AS center_name FROM DUAL
+      UNION ALL SELECT 'Gestión de Redes de Datos', 45, 'NETWORKS', 'SENA - Centro de Biotecnología Industrial' FROM DUAL
+      UNION ALL SELECT 'Mantenimiento de Equipos de Cómputo', 37, 'EQUIPMENT_MAINTENANCE', 'SENA - Centro de Biotecnología Industrial' FROM DUAL
+      UNION ALL SELECT 'Desarrollo de Software', 125, 'SOFTWARE', 'SENA - Centro de Tecnologías del Transporte' FROM DUAL
+      UNION ALL SELECT 'Sistemas', 78, 'SYSTEMS', 'SENA - Centro de Tecnologías del Transporte' FROM DUAL
+      UNION ALL SELECT 'Telecomunicaciones', 42, 'TELECOMMUNICATIONS', 'SENA - Centro de Tecnologías del Transporte' FROM DUAL
+      UNION ALL SELECT 'Análisis y Desarrollo de Software', 98, 'SOFTWARE', 'SENA - Centro de Tecnología de la Manufactura Avanzada' FROM DUAL
+      UNION ALL SELECT 'Automatización Industrial', 56, 'AUTOMATION', 'SENA - Centro de Tecnología de la Manufactura Avanzada' FROM DUAL
+      UNION ALL SELECT 'Electrónica', 44, 'ELECTRONICS', 'SENA - Centro de Tecnología de la Manufactura Avanzada' FROM DUAL
+      UNION ALL SELECT 'Desarrollo de Aplicaciones Web', 78, 'SOFTWARE', 'SENA - Centro de Electricidad y Automatización Industrial' FROM DUAL
+      UNION ALL SELECT 'Electricidad Industrial', 45, 'ELECTRICITY', 'SENA - Centro de Electricidad y Automatización Industrial' FROM DUAL
+      UNION ALL SELECT 'Control de Procesos', 33, 'AUTOMATION', 'SENA - Centro de Electricidad y Automatización Industrial' FROM DUAL) s
+JOIN training_centers tc ON tc.center_name = s.center_name
+WHERE NOT EXISTS (SELECT 1 FROM programs p
+                  WHERE p.program_name = s.program_name AND p.training_center_id = tc.id);
+
+INSERT INTO instructors (instructor_name, is_recommended, training_center_id)
+SELECT s.instructor_name, s.is_recommended, tc.id
+FROM (SELECT 'María García López' AS instructor_name, TRUE AS is_recommended,
+             'SENA - Centro de Biotecnología Industrial' AS center_name FROM DUAL
+      UNION ALL SELECT 'Carlos Andrés Rodríguez', TRUE, 'SENA - Centro de Biotecnología Industrial' FROM DUAL
+      UNION ALL SELECT 'Ana Patricia Hernández', FALSE, 'SENA - Centro de Biotecnología Industrial' FROM DUAL
+      UNION ALL SELECT 'Jorge Luis Martínez', TRUE, 'SENA - Centro de Tecnologías del Transporte' FROM DUAL
+      UNION ALL SELECT 'Claudia Milena Torres', TRUE, 'SENA - Centro de Tecnologías del Transporte' FROM DUAL
+      UNION ALL SELECT 'Roberto Silva Vega', FALSE, 'SENA - Centro de Tecnologías del Transporte' FROM DUAL
+      UNION ALL SELECT 'Patricia Restrepo Gómez', TRUE, 'SENA - Centro de Tecnología de la Manufactura Avanzada' FROM DUAL
+      UNION ALL SELECT 'Fernando Agudelo Mesa', TRUE, 'SENA - Centro de Tecnología de la Manufactura Avanzada' FROM DUAL
+      UNION ALL SELECT 'Diana Carolina Muñoz', TRUE, 'SENA - Centro de Electricidad y Automatización Industrial' FROM DUAL
+      UNION ALL SELECT 'Andrés Felipe Vargas', FALSE, 'SENA - Centro de Electricidad y Automatización Industrial' FROM DUAL) s
+JOIN training_centers tc ON tc.center_name = s.center_name
+WHERE NOT EXISTS (SELECT 1 FROM instructors i
+                  WHERE i.instructor_name = s.instructor_name AND i.training_center_id = tc.id);
+
+-- The statements above bypass JPA, so rebuild the summaries the application otherwise maintains on write
+DELETE FROM department_summaries;
+
+INSERT INTO department_summaries (department_id, total_apprentices, github_users, english_b1_b2, center_count)
+SELECT tc.department_id,
+       COALESCE(SUM(tc.total_apprentices), 0),
+       COALESCE(SUM(tc.github_users), 0),
+       COALESCE(SUM(tc.english_b1_b2), 0),
+       COUNT(*)
+FROM training_centers tc
+GROUP BY tc.department_id;
+
+DELETE FROM national_summary;
+
+INSERT INTO national_summary (id, total_apprentices, github_users, english_b1_b2, center_count,
+                              english_percentage_sum, english_rated_centers)
+SELECT 1,
+       COALESCE(SUM(tc.total_apprentices), 0),
+       COALESCE(SUM(tc.github_users), 0),
+       COALESCE(SUM(tc.english_b1_b2), 0),
+       COUNT(*),
+       COALESCE(SUM(CASE WHEN tc.total_apprentices > 0 THEN tc.english_b1_b2 * 100.0 / tc.total_apprentices END), 0),
+       COUNT(CASE WHEN tc.total_apprentices > 0 THEN tc.english_b1_b2 END)
+FROM training_centers tc;
@@ -0,0 +1,80 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.entity.Instructor;
+import com.alphanet.products.leonardobackend.entity.Program;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a deterministic, production-sized dataset for the benchmarks:
+ * every center gets a fixed number of programs and instructors drawn from the real SENA catalog.
+ */
+public final class BenchmarkDataset {
+
+    private static final String[] PROGRAM_NAMES = {
+            "Análisis y Desarrollo de Software",
+            "Desarrollo de Aplicaciones Web",
+            "Gestión de Redes de Datos",
+            "Mantenimiento de Equipos de Cómputo",
+            "Telecomunicaciones",
+            "Automatización Industrial",
+            "Electrónica",
+            "Electricidad Industrial",
+            "Control de Procesos",
+            "Sistemas"
+    };
+
+    private BenchmarkDataset() {
+    }
+
+    public static void populate(DepartmentRepository departmentRepository,
+                                TrainingCenterRepository trainingCenterRepository,
+                                ProgramRepository programRepository,
+                                InstructorRepository instructorRepository,
+                                int departments, int centersPerDepartment,
+                                int programsPerCenter, int instructorsPerCenter) {
+        Random random = new Random(42);
+        List<Department> savedDepartments = new ArrayList<>();
+        for (int d = 0; d < departments; d++) {
+            savedDepartments.add(new Department(null, "Benchmark Department " + d, null));
+        }
+        departmentRepository.saveAll(savedDepartments);
+
+        List<TrainingCenter> centers = new ArrayList<>();
+        List<Program> programs = new ArrayList<>();
+        List<Instructor> instructors = new ArrayList<>();
+        for (Department department : savedDepartments) {
+            for (int c = 0; c < centersPerDepartment; c++) {
+                TrainingCenter center = new TrainingCenter(null,
+                        "SENA - Centro " + department.getDepartmentName() + " #" + c,
+                        department, 0, 0, 0, null, null);
+                int totalApprentices = 0;
+                for (int p = 0; p < programsPerCenter; p++) {
+                    int apprentices = 10 + random.nextInt(120);
+                    totalApprentices += apprentices;
+                    programs.add(new Program(null, PROGRAM_NAMES[(c + p) % PROGRAM_NAMES.length],
+                            apprentices, center));
+                }
+                center.setTotalApprentices(totalApprentices);
+                center.setGithubUsers(random.nextInt(totalApprentices + 1));
+                center.setEnglishB1B2(random.nextInt(totalApprentices + 1));
+                centers.add(center);
+
+                for (int i = 0; i < instructorsPerCenter; i++) {
+                    instructors.add(new Instructor(null, "Instructor " + c + "-" + i, i % 2 == 0, center));
+                }
+            }
+        }
+        trainingCenterRepository.saveAll(centers);
+        programRepository.saveAll(programs);
+        instructorRepository.saveAll(instructors);
+    }
+}
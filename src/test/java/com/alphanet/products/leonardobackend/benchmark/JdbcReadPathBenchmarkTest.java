@@ -0,0 +1,106 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.JdbcMetricsRepository;
+import com.alphanet.products.leonardobackend.service.impl.JdbcMetricsServiceImpl;
+import com.alphanet.products.leonardobackend.service.impl.MetricsServiceImpl;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the JPA projection read path with the JDBC read path on H2: latency and heap allocated per
+ * returned row for {@code /by-center} (center + instructor queries) and {@code /by-program} (largest result).
+ * The Hibernate query cache is not configured in this slice, so both paths execute SQL on every call.
+ */
+@Slf4j
+@DataJpaTest
+@LatencyBenchmark
+@DisplayName("JDBC read path benchmark (H2)")
+class JdbcReadPathBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 1_000;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    private MetricsServiceImpl jpaMetricsService;
+    private JdbcMetricsServiceImpl jdbcMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkDataset.populate(departmentRepository, trainingCenterRepository, programRepository,
+                instructorRepository, 32, 15, 6, 4);
+        entityManager.flush();
+        entityManager.clear();
+
+        MetricsMapper metricsMapper = new MetricsMapper();
+        jpaMetricsService = new MetricsServiceImpl(trainingCenterRepository, departmentRepository,
+                programRepository, instructorRepository, metricsMapper);
+        jdbcMetricsService = new JdbcMetricsServiceImpl(
+                new JdbcMetricsRepository(JdbcClient.create(dataSource), metricsMapper));
+    }
+
+    @Test
+    @DisplayName("JDBC path should allocate less per row than the JPA projection path")
+    void jdbcPathShouldAllocateLessPerRow() {
+        // Given
+        List<CenterMetricDto> centers = jpaMetricsService.getCenterMetrics();
+        List<ProgramMetricDto> programs = jpaMetricsService.getProgramMetrics();
+        assertThat(jdbcMetricsService.getCenterMetrics()).containsExactlyInAnyOrderElementsOf(centers);
+        assertThat(jdbcMetricsService.getProgramMetrics()).containsExactlyInAnyOrderElementsOf(programs);
+
+        // When
+        LatencyRecorder.Result centersJpa = LatencyRecorder.measure("by-center - JPA projections",
+                WARMUP_ITERATIONS, ITERATIONS, jpaMetricsService::getCenterMetrics);
+        LatencyRecorder.Result centersJdbc = LatencyRecorder.measure("by-center - JDBC",
+                WARMUP_ITERATIONS, ITERATIONS, jdbcMetricsService::getCenterMetrics);
+        LatencyRecorder.Result programsJpa = LatencyRecorder.measure("by-program - JPA projections",
+                WARMUP_ITERATIONS, ITERATIONS, jpaMetricsService::getProgramMetrics);
+        LatencyRecorder.Result programsJdbc = LatencyRecorder.measure("by-program - JDBC",
+                WARMUP_ITERATIONS, ITERATIONS, jdbcMetricsService::getProgramMetrics);
+
+        // Then
+        log.info("by-center allocation per row: JPA={}B JDBC={}B ({} rows)",
+                centersJpa.allocatedBytesPerOp() / centers.size(), centersJdbc.allocatedBytesPerOp() / centers.size(),
+                centers.size());
+        log.info("by-program allocation per row: JPA={}B JDBC={}B ({} rows)",
+                programsJpa.allocatedBytesPerOp() / programs.size(), programsJdbc.allocatedBytesPerOp() / programs.size(),
+                programs.size());
+        assertThat(centersJdbc.allocatedBytesPerOp()).isLessThan(centersJpa.allocatedBytesPerOp());
+        assertThat(programsJdbc.allocatedBytesPerOp()).isLessThan(programsJpa.allocatedBytesPerOp());
+        assertThat(programsJdbc.p50Micros()).isLessThan(programsJpa.p50Micros());
+    }
+}
@@ -0,0 +1,35 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an opt-in latency benchmark. Benchmarks are skipped by default and run with
+ * {@code mvn test -Dbenchmark=true -Dtest='*BenchmarkTest'}.
+ * SQL logging from the test profile is silenced so it does not dominate the measurements.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.com.alphanet.products.leonardobackend=INFO"
+})
+public @interface LatencyBenchmark {
+}
@@ -0,0 +1,76 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Minimal wall-clock latency recorder for the opt-in benchmarks.
+ * Runs a warm-up phase, then records every iteration and reports mean and percentiles, plus the heap
+ * allocated by the calling thread per iteration (HotSpot thread allocation counters).
+ */
+@Slf4j
+public final class LatencyRecorder {
+
+    private LatencyRecorder() {
+    }
+
+    public static <T> Result measure(String name, int warmupIterations, int iterations, Supplier<T> action) {
+        for (int i = 0; i < warmupIterations; i++) {
+            action.get();
+        }
+
+        long[] samples = new long[iterations];
+        long allocatedBefore = currentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            action.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        long allocated = currentThreadAllocatedBytes() - allocatedBefore;
+
+        Result result = Result.of(name, samples, iterations > 0 ? allocated / iterations : 0);
+        log.info("{}", result);
+        return result;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    public record Result(String name, int iterations, double meanMicros, double p50Micros, double p95Micros,
+                         double p99Micros, long allocatedBytesPerOp) {
+
+        static Result of(String name, long[] samples, long allocatedBytesPerOp) {
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            double mean = Arrays.stream(sorted).average().orElse(0) / 1_000.0;
+            return new Result(name, sorted.length, mean,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), allocatedBytesPerOp);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000.0;
+        }
+
+        public double speedupOver(Result baseline) {
+            return meanMicros > 0 ? baseline.meanMicros / meanMicros : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s n=%d mean=%.1fus p50=%.1fus p95=%.1fus p99=%.1fus alloc=%dB/op",
+                    name, iterations, meanMicros, p50Micros, p95Micros, p99Micros, allocatedBytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Points a benchmark's Spring context at a MySQL test container instead of the H2 test database.
+ */
+public final class MySqlBenchmarkDatabase {
+
+    private MySqlBenchmarkDatabase() {
+    }
+
+    public static void register(MySQLContainer<?> container, DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", container::getJdbcUrl);
+        registry.add("spring.datasource.username", container::getUsername);
+        registry.add("spring.datasource.password", container::getPassword);
+        registry.add("spring.datasource.driver-class-name", container::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+    }
+}
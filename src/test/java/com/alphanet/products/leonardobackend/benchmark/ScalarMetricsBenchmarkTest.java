@@ -0,0 +1,101 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import com.alphanet.products.leonardobackend.dto.projection.ScalarMetricsProjection;
+import com.alphanet.products.leonardobackend.repository.CapturingStatementInspector;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Compares the single aggregate scalar query with the previous four-query path on H2.
+ * What the single query saves is round trips, which this run asserts (one statement instead of four).
+ * In-memory H2 has no network round trip to save, and the single query is not faster on it, so its latency is
+ * only reported; {@link ScalarMetricsMySqlBenchmarkTest} runs the same comparison against MySQL and asserts the gain.
+ */
+@DataJpaTest
+@Import(MetricsSummaryRepository.class)
+@LatencyBenchmark
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.alphanet.products.leonardobackend.repository.CapturingStatementInspector")
+@DisplayName("Scalar metrics query benchmark (H2)")
+class ScalarMetricsBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 1_000;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @BeforeEach
+    void setUp() {
+        BenchmarkDataset.populate(departmentRepository, trainingCenterRepository, programRepository,
+                instructorRepository, 32, 15, 6, 4);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Single aggregate query should match the four-query path")
+    void singleAggregateQueryShouldMatchFourQueryPath() {
+        // Given
+        ScalarMetricsProjection aggregate = trainingCenterRepository.getScalarMetrics();
+        assertThat(aggregate.getTotalApprentices()).isEqualTo(trainingCenterRepository.getTotalApprenticesCount());
+        assertThat(aggregate.getTotalCenters()).isEqualTo(trainingCenterRepository.getTotalCentersCount());
+        assertThat(aggregate.getAverageEnglishPercentage())
+                .isCloseTo(trainingCenterRepository.getAverageEnglishPercentage(), within(1e-9));
+        assertThat(aggregate.getBackendDevelopersCount()).isEqualTo(programRepository.getBackendDevelopersCount());
+        assertThat(CapturingStatementInspector.capture(trainingCenterRepository::getScalarMetrics)).hasSize(1);
+        assertThat(CapturingStatementInspector.capture(() -> List.of(
+                trainingCenterRepository.getTotalApprenticesCount(),
+                trainingCenterRepository.getTotalCentersCount(),
+                trainingCenterRepository.getAverageEnglishPercentage(),
+                programRepository.getBackendDevelopersCount()))).hasSize(4);
+
+        // When
+        LatencyRecorder.Result fourQueries = LatencyRecorder.measure(
+                "scalar metrics - four queries", WARMUP_ITERATIONS, ITERATIONS, () -> List.of(
+                        trainingCenterRepository.getTotalApprenticesCount(),
+                        trainingCenterRepository.getTotalCentersCount(),
+                        trainingCenterRepository.getAverageEnglishPercentage(),
+                        programRepository.getBackendDevelopersCount()));
+        LatencyRecorder.Result singleQuery = LatencyRecorder.measure(
+                "scalar metrics - single aggregate", WARMUP_ITERATIONS, ITERATIONS,
+                trainingCenterRepository::getScalarMetrics);
+
+        // Then
+        assertLatencyGain(fourQueries, singleQuery);
+    }
+
+    /**
+     * Latency is only asserted where a round trip costs more than evaluating the query, i.e. over a network.
+     */
+    protected void assertLatencyGain(LatencyRecorder.Result fourQueries, LatencyRecorder.Result singleQuery) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link ScalarMetricsBenchmarkTest} against a MySQL container, where every
+ * saved query is a real network round trip. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Scalar metrics query benchmark (MySQL)")
+class ScalarMetricsMySqlBenchmarkTest extends ScalarMetricsBenchmarkTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        MySqlBenchmarkDatabase.register(MYSQL, registry);
+    }
+
+    @Override
+    protected void assertLatencyGain(LatencyRecorder.Result fourQueries, LatencyRecorder.Result singleQuery) {
+        assertThat(singleQuery.p50Micros()).isLessThan(fourQueries.p50Micros());
+    }
+}
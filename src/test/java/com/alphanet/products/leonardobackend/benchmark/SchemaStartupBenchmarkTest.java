@@ -0,0 +1,71 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import com.alphanet.products.leonardobackend.LeonardoBackendApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures application cold start against an existing schema when Hibernate manages it
+ * ({@code ddl-auto=update} as in dev, {@code validate} as on AWS) and when Flyway owns it
+ * ({@code ddl-auto=none}, schema history already up to date). Each sample boots and closes a
+ * full application context; the databases survive between boots so only the first one migrates.
+ * In-memory H2 answers metadata queries without a round trip, so this variant only reports;
+ * {@link SchemaStartupMySqlBenchmarkTest} asserts the gain.
+ */
+@LatencyBenchmark
+@DisplayName("Schema management startup benchmark (H2)")
+class SchemaStartupBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int ITERATIONS = 8;
+
+    @Test
+    @DisplayName("Compare startup with Hibernate schema introspection and with Flyway")
+    void compareStartup() {
+        LatencyRecorder.Result update = LatencyRecorder.measure("startup ddl-auto=update", WARMUP_ITERATIONS,
+                ITERATIONS, () -> boot("startup-update",
+                        "--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=update"));
+        LatencyRecorder.Result flyway = LatencyRecorder.measure("startup flyway + ddl-auto=none", WARMUP_ITERATIONS,
+                ITERATIONS, () -> boot("startup-flyway",
+                        "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"));
+        // Same schema as the Flyway run, validated by Hibernate instead
+        LatencyRecorder.Result validate = LatencyRecorder.measure("startup ddl-auto=validate", WARMUP_ITERATIONS,
+                ITERATIONS, () -> boot("startup-flyway",
+                        "--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=validate"));
+
+        assertStartupGain(update, validate, flyway);
+    }
+
+    protected void assertStartupGain(LatencyRecorder.Result update, LatencyRecorder.Result validate,
+                                     LatencyRecorder.Result flyway) {
+        assertThat(flyway.iterations()).isEqualTo(ITERATIONS);
+    }
+
+    /**
+     * Datasource arguments for a database that outlives the application contexts using it.
+     */
+    protected List<String> datasourceArguments(String database) {
+        return List.of("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    private boolean boot(String database, String... arguments) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(datasourceArguments(database));
+        args.addAll(List.of(arguments));
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(LeonardoBackendApplication.class).run(args.toArray(String[]::new))) {
+            return context.isActive();
+        }
+    }
+}
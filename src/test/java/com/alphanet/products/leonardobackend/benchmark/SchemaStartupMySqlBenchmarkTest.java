@@ -0,0 +1,43 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link SchemaStartupBenchmarkTest} against a MySQL container, where every metadata query
+ * Hibernate issues while updating or validating the schema is a network round trip.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Schema management startup benchmark (MySQL)")
+class SchemaStartupMySqlBenchmarkTest extends SchemaStartupBenchmarkTest {
+
+    // root, so each variant can create its own database
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    @Override
+    protected List<String> datasourceArguments(String database) {
+        String url = "jdbc:mysql://" + MYSQL.getHost() + ":" + MYSQL.getMappedPort(MySQLContainer.MYSQL_PORT)
+                + "/" + database.replace('-', '_') + "?createDatabaseIfNotExist=true";
+        return List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + MYSQL.getUsername(),
+                "--spring.datasource.password=" + MYSQL.getPassword(),
+                "--spring.datasource.driver-class-name=" + MYSQL.getDriverClassName(),
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect");
+    }
+
+    @Override
+    protected void assertStartupGain(LatencyRecorder.Result update, LatencyRecorder.Result validate,
+                                     LatencyRecorder.Result flyway) {
+        assertThat(flyway.p50Micros()).isLessThan(update.p50Micros());
+        assertThat(flyway.p50Micros()).isLessThan(validate.p50Micros());
+    }
+}
@@ -0,0 +1,205 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import com.alphanet.products.leonardobackend.LeonardoBackendApplication;
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serves the same request load with Tomcat's platform thread pool and with {@code spring.threads.virtual.enabled=true}
+ * and reports throughput and latency percentiles of each.
+ *
+ * Both configurations start the full application in this JVM, one after the other, so they run at the same heap size;
+ * pass {@code -DargLine=-Xmx512m} to match the container. The load is {@code /by-center} with a random department
+ * and limit, from more concurrent clients than {@code server.tomcat.threads.max}. The second-level cache and last
+ * known good results are off and the {@value #DEPARTMENTS} x {@value #MAX_LIMIT} distinct queries leave single-flight
+ * little to coalesce, so nearly every request reaches the database through the direct read path; the executions
+ * that did are reported with pinned virtual threads by source. In-memory H2 has no network wait to overlap, so this
+ * run only checks that virtual threads keep most of the platform thread throughput;
+ * {@link VirtualThreadsLoadMySqlBenchmarkTest} runs the same load against MySQL.
+ */
+@Slf4j
+@LatencyBenchmark
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("Virtual thread request execution benchmark (H2)")
+class VirtualThreadsLoadBenchmarkTest {
+
+    private static final int CLIENTS = 400;
+    private static final int DEPARTMENTS = 32;
+    private static final int MAX_LIMIT = 15;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+
+    @Test
+    @DisplayName("Virtual threads should serve the platform thread load without errors")
+    void virtualThreadsShouldServePlatformThreadLoad() throws Exception {
+        // Given
+        log.info("Max heap: {} MB, clients: {}", Runtime.getRuntime().maxMemory() / (1024 * 1024), CLIENTS);
+
+        // When
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        // Then
+        log.info("{}", platform);
+        log.info("{}", virtual);
+        log.info("Virtual/platform: throughput x{}, p99 x{}",
+                String.format("%.2f", virtual.requestsPerSecond() / platform.requestsPerSecond()),
+                String.format("%.2f", (double) virtual.latency().p99Micros() / platform.latency().p99Micros()));
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThroughput(platform, virtual);
+    }
+
+    /**
+     * Database the application runs against; each call is one application run.
+     */
+    protected Map<String, Object> databaseProperties(boolean virtualThreads) {
+        return Map.of("spring.datasource.url", "jdbc:h2:mem:virtual-threads-" + virtualThreads
+                + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    protected void assertThroughput(LoadResult platform, LoadResult virtual) {
+        // Nothing to overlap in memory: scheduling on virtual threads must not cost most of the throughput
+        assertThat(virtual.requestsPerSecond()).isGreaterThan(platform.requestsPerSecond() * 0.5);
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        Map<String, Object> properties = new HashMap<>(databaseProperties(virtualThreads));
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("leonardo.hibernate.cache.enabled", false);
+        properties.put("leonardo.metrics.fallback.enabled", false);
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        properties.put("logging.level.com.alphanet.products.leonardobackend", "INFO");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LeonardoBackendApplication.class)
+                .profiles("test")
+                .properties(properties)
+                .run()) {
+            List<String> departments = populate(context);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/metrics/by-center";
+
+            String name = virtualThreads ? "virtual threads" : "platform threads";
+            load(name + " (warm-up)", baseUrl, departments, WARMUP_REQUESTS);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            double executionsBefore = executions(meterRegistry);
+            LoadResult result = load(name, baseUrl, departments, REQUESTS);
+            log.info("{}: {} of {} requests queried the database", name,
+                    (long) (executions(meterRegistry) - executionsBefore), REQUESTS);
+
+            for (Timer pinned : meterRegistry.find("leonardo.threads.virtual.pinned").timers()) {
+                log.info("{}: {} pins from {} ({} ms total)", name, pinned.count(), pinned.getId().getTag("source"),
+                        (long) pinned.totalTime(TimeUnit.MILLISECONDS));
+            }
+            return result;
+        }
+    }
+
+    private static List<String> populate(ConfigurableApplicationContext context) {
+        DepartmentRepository departmentRepository = context.getBean(DepartmentRepository.class);
+        if (departmentRepository.count() == 0) {
+            BenchmarkDataset.populate(departmentRepository, context.getBean(TrainingCenterRepository.class),
+                    context.getBean(ProgramRepository.class), context.getBean(InstructorRepository.class),
+                    DEPARTMENTS, 15, 6, 4);
+        }
+        return departmentRepository.findAll().stream().map(Department::getDepartmentName).toList();
+    }
+
+    private static double executions(MeterRegistry meterRegistry) {
+        Counter executions = meterRegistry.find("leonardo.query.singleflight.executions").tag("family", "by-center")
+                .counter();
+        return executions != null ? executions.count() : 0;
+    }
+
+    private static LoadResult load(String name, String baseUrl, List<String> departments, int requests) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long[] samples = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                running.add(clients.submit(() -> {
+                    for (int request = next.getAndIncrement(); request < requests; request = next.getAndIncrement()) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        String department = departments.get(random.nextInt(departments.size()));
+                        URI uri = URI.create(baseUrl + "?department=" + URLEncoder.encode(department, StandardCharsets.UTF_8)
+                                + "&limit=" + (1 + random.nextInt(MAX_LIMIT)));
+                        HttpRequest httpRequest = HttpRequest.newBuilder(uri).GET().build();
+                        long requestStart = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        samples[request] = System.nanoTime() - requestStart;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> clientRun : running) {
+                clientRun.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new LoadResult(LatencyRecorder.Result.of(name, samples, 0), requests / (elapsed / 1e9), errors.get());
+    }
+
+    record LoadResult(LatencyRecorder.Result latency, double requestsPerSecond, int errors) {
+
+        @Override
+        public String toString() {
+            return String.format("%-20s n=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms errors=%d",
+                    latency.name(), latency.iterations(), requestsPerSecond, latency.p50Micros() / 1_000.0,
+                    latency.p99Micros() / 1_000.0, errors);
+        }
+    }
+}
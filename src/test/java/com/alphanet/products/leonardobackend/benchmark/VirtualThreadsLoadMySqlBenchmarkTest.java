@@ -0,0 +1,36 @@
+package com.alphanet.products.leonardobackend.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link VirtualThreadsLoadBenchmarkTest} against a MySQL container, where requests wait on the network
+ * and the JDBC driver, and virtual threads release their carriers while they do. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Virtual thread request execution benchmark (MySQL)")
+class VirtualThreadsLoadMySqlBenchmarkTest extends VirtualThreadsLoadBenchmarkTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Override
+    protected Map<String, Object> databaseProperties(boolean virtualThreads) {
+        Map<String, Object> properties = new HashMap<>();
+        MySqlBenchmarkDatabase.register(MYSQL, (name, value) -> properties.put(name, value.get()));
+        return properties;
+    }
+
+    @Override
+    protected void assertThroughput(LoadResult platform, LoadResult virtual) {
+        // Both are bounded by the same connection pool; virtual threads must not cost throughput
+        assertThat(virtual.requestsPerSecond()).isGreaterThan(platform.requestsPerSecond() * 0.9);
+    }
+}
@@ -0,0 +1,68 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.config.datasource.Workload;
+import com.alphanet.products.leonardobackend.config.datasource.WorkloadRoutingDataSource;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkhead-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "leonardo.datasource.bulkheads.enabled=true"
+})
+@DisplayName("Bulkhead configuration Tests")
+class BulkheadConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private MetricsService metricsService;
+
+    @Test
+    @DisplayName("Should give each background workload its own pool and keep requests on the configured one")
+    void shouldRouteBackgroundWorkToOwnPools() {
+        // When
+        metricsService.getScalarMetrics();
+
+        // Then
+        assertThat(dataSource).isInstanceOf(WorkloadRoutingDataSource.class);
+        WorkloadRoutingDataSource routingDataSource = (WorkloadRoutingDataSource) dataSource;
+        assertThat(routingDataSource.getWorkloadDataSources()).containsOnlyKeys(
+                Workload.REBUILD, Workload.EXPORT, Workload.BULK_WRITE);
+        HikariDataSource rebuildPool = (HikariDataSource) routingDataSource.getWorkloadDataSources().get(Workload.REBUILD);
+        assertThat(rebuildPool.getPoolName()).isEqualTo("bulkhead-rebuild");
+        assertThat(rebuildPool.getMaximumPoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should run scheduled jobs as rebuild work")
+    void shouldRunScheduledJobsAsRebuildWork() throws Exception {
+        // Given
+        CompletableFuture<Workload> workload = new CompletableFuture<>();
+
+        // When
+        taskScheduler.schedule(() -> workload.complete(Workload.current()), Instant.now());
+
+        // Then
+        assertThat(workload.get(5, TimeUnit.SECONDS)).isEqualTo(Workload.REBUILD);
+    }
+}
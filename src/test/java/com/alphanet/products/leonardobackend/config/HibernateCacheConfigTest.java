@@ -0,0 +1,153 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.dto.projection.CenterMetricProjection;
+import com.alphanet.products.leonardobackend.dto.projection.DepartmentMetricProjection;
+import com.alphanet.products.leonardobackend.entity.CacheRegions;
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against H2 with committed transactions, since cached query results are only reused
+ * across transactions after the writes they depend on have committed.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({HibernateCacheConfig.class, MetricsSummaryRepository.class})
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hibernate-cache-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Hibernate second-level cache Tests")
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long centerId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        centerId = transactionTemplate.execute(status -> {
+            Department antioquia = departmentRepository.save(new Department(null, "Antioquia", null));
+            Department cundinamarca = departmentRepository.save(new Department(null, "Cundinamarca", null));
+            trainingCenterRepository.save(new TrainingCenter(null, "SENA - Centro de Biotecnología",
+                    cundinamarca, 167, 120, 89, null, null));
+            return trainingCenterRepository.save(new TrainingCenter(null, "SENA - Centro de Servicios Financieros",
+                    antioquia, 198, 156, 134, null, null)).getId();
+        });
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            trainingCenterRepository.deleteAllInBatch();
+            departmentRepository.deleteAllInBatch();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated projection queries from the query cache")
+    void shouldServeRepeatedProjectionQueriesFromQueryCache() {
+        // When
+        List<DepartmentMetricProjection> first = departmentRepository.getDepartmentMetrics();
+        List<DepartmentMetricProjection> second = departmentRepository.getDepartmentMetrics();
+
+        // Then
+        assertThat(second).extracting(DepartmentMetricProjection::getDepartment)
+                .containsExactlyElementsOf(first.stream().map(DepartmentMetricProjection::getDepartment).toList());
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached query results when an entity is written through JPA")
+    void shouldInvalidateCachedQueryResultsOnJpaWrite() {
+        // Given
+        assertThat(trainingCenterRepository.getCenterMetrics().get(0).getTotalApprentices()).isEqualTo(198);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> trainingCenterRepository.findById(centerId)
+                .orElseThrow()
+                .setTotalApprentices(12));
+        List<CenterMetricProjection> centers = trainingCenterRepository.getCenterMetrics();
+
+        // Then
+        assertThat(centers).extracting(CenterMetricProjection::getTotalApprentices).containsExactly(167, 12);
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read entities from the second-level cache across transactions")
+    void shouldReadEntitiesFromSecondLevelCache() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> trainingCenterRepository.findById(centerId).orElseThrow());
+        TrainingCenter center = transactionTemplate.execute(status ->
+                trainingCenterRepository.findById(centerId).orElseThrow());
+
+        // Then
+        assertThat(center.getCenterName()).isEqualTo("SENA - Centro de Servicios Financieros");
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.TRAINING_CENTER).getHitCount())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Should size each region from its configuration")
+    @SuppressWarnings("unchecked")
+    void shouldSizeEachRegionFromConfiguration() {
+        // When
+        CaffeineConfiguration<Object, Object> queries = hibernateCacheManager.getCache(CacheRegions.METRICS_QUERIES)
+                .getConfiguration(CaffeineConfiguration.class);
+        CaffeineConfiguration<Object, Object> centers = hibernateCacheManager.getCache(CacheRegions.TRAINING_CENTER)
+                .getConfiguration(CaffeineConfiguration.class);
+
+        // Then
+        assertThat(queries.getMaximumSize()).hasValue(500);
+        assertThat(centers.getMaximumSize()).hasValue(10_000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.alphanet.products.leonardobackend.config;
+
+import com.alphanet.products.leonardobackend.config.datasource.ReplicaRoutingDataSource;
+import com.alphanet.products.leonardobackend.config.datasource.ReplicaRoutingDataSource.ReplicaStatus;
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application with two read replicas that point at the primary's H2 database, standing in for
+ * real replicas, and checks which pool serves writes and which serves the metrics reads.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-replica-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "leonardo.datasource.read-replicas.enabled=true",
+        "leonardo.datasource.read-replicas.replicas[0].url=jdbc:h2:mem:read-replica-test;DB_CLOSE_DELAY=-1",
+        "leonardo.datasource.read-replicas.replicas[1].url=jdbc:h2:mem:read-replica-test;DB_CLOSE_DELAY=-1"
+})
+@DisplayName("Read replica routing Tests")
+class ReadReplicaDataSourceConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private MetricsService metricsService;
+
+    @Test
+    @DisplayName("Should serve writes from the primary and metrics reads from the replicas")
+    void shouldRouteMetricsReadsToReplicas() {
+        // Given
+        departmentRepository.save(new Department(null, "Antioquia", null));
+        long servedBefore = connectionsServedByReplicas();
+
+        // When
+        metricsService.getDepartmentMetrics();
+        metricsService.getScalarMetrics();
+
+        // Then
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(connectionsServedByReplicas() - servedBefore).isEqualTo(2);
+        assertThat(routingDataSource.getReplicaStatuses()).extracting(ReplicaStatus::name)
+                .containsExactly("replica-1", "replica-2");
+        assertThat(routingDataSource.getPrimaryFallbacks()).isZero();
+    }
+
+    private long connectionsServedByReplicas() {
+        return routingDataSource.getReplicaStatuses().stream().mapToLong(ReplicaStatus::connectionsServed).sum();
+    }
+}
@@ -0,0 +1,118 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.alphanet.products.leonardobackend.config.PoolSizingProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptivePoolSizer Tests")
+class AdaptivePoolSizerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HikariDataSource pool;
+    private AdaptivePoolSizer poolSizer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:adaptive-pool;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPoolName("request");
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(2_000);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pool = new HikariDataSource(config);
+
+        PoolSizingProperties properties = new PoolSizingProperties();
+        properties.setMinSize(2);
+        properties.setMaxSize(4);
+        // Opening the pool's first H2 connections can take longer than the default 5 ms on a loaded machine,
+        // so these tests signal waits through waiting threads only
+        properties.setWaitThreshold(Duration.ofSeconds(1));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("dataSource", pool);
+        ObjectProvider<HikariDataSource> pools = beanFactory.getBeanProvider(HikariDataSource.class);
+        poolSizer = new AdaptivePoolSizer(properties, meterRegistry, pool, pools);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("Should grow the pool while threads wait for connections and report the decision")
+    void shouldGrowPoolWhileThreadsWait() throws Exception {
+        // Given
+        List<Connection> held = new ArrayList<>();
+        held.add(pool.getConnection());
+        held.add(pool.getConnection());
+        ExecutorService waiter = Executors.newSingleThreadExecutor();
+        var waiting = waiter.submit(() -> pool.getConnection());
+        waitForWaitingThread();
+
+        try {
+            // When
+            poolSizer.adjust();
+
+            // Then
+            assertThat(pool.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(3);
+            assertThat(poolSizer.pools()).singleElement()
+                    .satisfies(state -> assertThat(state.maximumPoolSize()).isEqualTo(3));
+            assertThat(poolSizer.decisions()).singleElement().satisfies(decision -> {
+                assertThat(decision.pool()).isEqualTo("request");
+                assertThat(decision.from()).isEqualTo(2);
+                assertThat(decision.to()).isEqualTo(3);
+                assertThat(decision.reason()).isEqualTo("connection-wait");
+            });
+            assertThat(meterRegistry.get("leonardo.datasource.pool.resizes").tag("direction", "up").counter().count())
+                    .isEqualTo(1.0);
+            held.add(waiting.get(5, TimeUnit.SECONDS));
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+            waiter.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the pool size while it is busy without waiting callers")
+    void shouldKeepSizeWithoutWaiting() throws Exception {
+        // Given
+        try (Connection first = pool.getConnection(); Connection second = pool.getConnection()) {
+
+            // When
+            poolSizer.adjust();
+
+            // Then
+            assertThat(pool.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(2);
+            assertThat(poolSizer.decisions()).isEmpty();
+        }
+    }
+
+    private void waitForWaitingThread() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CancellableStatementDataSource Tests")
+class CancellableStatementDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    @DisplayName("Should cancel statements created under a bound cancellation")
+    void shouldCancelStatementsOfBoundCancellation() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        CancellableStatementDataSource dataSource = new CancellableStatementDataSource(target);
+        StatementCancellation cancellation = new StatementCancellation();
+
+        // When
+        PreparedStatement prepared = StatementCancellation.callWith(cancellation, () -> {
+            try {
+                return dataSource.getConnection().prepareStatement("SELECT 1");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        cancellation.cancel();
+
+        // Then
+        assertThat(prepared).isSameAs(statement);
+        verify(statement).cancel();
+    }
+
+    @Test
+    @DisplayName("Should hand out connections unchanged without a bound cancellation")
+    void shouldLeaveConnectionsUntrackedWithoutCancellation() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        CancellableStatementDataSource dataSource = new CancellableStatementDataSource(target);
+        StatementCancellation unbound = new StatementCancellation();
+
+        // When
+        Connection obtained = dataSource.getConnection();
+        unbound.cancel();
+
+        // Then
+        assertThat(obtained).isSameAs(connection);
+        verify(statement, never()).cancel();
+    }
+}
@@ -0,0 +1,91 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.alphanet.products.leonardobackend.config.PoolSizingProperties;
+import com.alphanet.products.leonardobackend.config.datasource.PoolSizeLimit.Decision;
+import com.alphanet.products.leonardobackend.config.datasource.PoolSizeLimit.Sample;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PoolSizeLimit Tests")
+class PoolSizeLimitTest {
+
+    private PoolSizingProperties properties;
+    private PoolSizeLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PoolSizingProperties();
+        properties.setMinSize(2);
+        properties.setMaxSize(8);
+        properties.setIdleSamplesBeforeShrink(3);
+        limit = new PoolSizeLimit(properties);
+    }
+
+    @Test
+    @DisplayName("Should grow by one connection while callers wait and latency is steady")
+    void shouldGrowWhileCallersWait() {
+        // When
+        Decision first = limit.next(new Sample(5, 5, 3, 40.0, 10.0));
+        Decision second = limit.next(new Sample(first.size(), 6, 2, 30.0, 11.0));
+
+        // Then
+        assertThat(first.size()).isEqualTo(6);
+        assertThat(first.reason()).isEqualTo("connection-wait");
+        assertThat(second.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should not grow beyond the upper bound")
+    void shouldRespectUpperBound() {
+        // When
+        Decision decision = limit.next(new Sample(8, 8, 4, 50.0, 10.0));
+
+        // Then
+        assertThat(decision.size()).isEqualTo(8);
+        assertThat(decision.resized()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively when hold times show the database is saturated")
+    void shouldBackOffWhenDatabaseSaturated() {
+        // Given
+        limit.next(new Sample(8, 4, 0, 0.1, 10.0));
+
+        // When
+        Decision decision = limit.next(new Sample(8, 8, 5, 80.0, 45.0));
+
+        // Then
+        assertThat(decision.size()).isEqualTo(6);
+        assertThat(decision.reason()).isEqualTo("database-saturated");
+        assertThat(decision.baselineUsageMillis()).isGreaterThanOrEqualTo(10.0).isLessThan(45.0);
+    }
+
+    @Test
+    @DisplayName("Should release a connection only after several idle samples")
+    void shouldShrinkAfterIdleSamples() {
+        // When
+        Decision first = limit.next(new Sample(6, 1, 0, Double.NaN, Double.NaN));
+        Decision second = limit.next(new Sample(6, 2, 0, 0.1, 3.0));
+        Decision third = limit.next(new Sample(6, 0, 0, Double.NaN, Double.NaN));
+
+        // Then
+        assertThat(first.resized()).isFalse();
+        assertThat(second.resized()).isFalse();
+        assertThat(third.size()).isEqualTo(5);
+        assertThat(third.reason()).isEqualTo("idle");
+    }
+
+    @Test
+    @DisplayName("Should move a pool configured outside the bounds back within them")
+    void shouldApplyBounds() {
+        // When
+        Decision decision = limit.next(new Sample(10, 6, 0, Double.NaN, Double.NaN));
+
+        // Then
+        assertThat(decision.size()).isEqualTo(8);
+        assertThat(decision.reason()).isEqualTo("bounds");
+    }
+}
@@ -0,0 +1,212 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.alphanet.products.leonardobackend.config.ReadReplicaProperties.Selection;
+import com.alphanet.products.leonardobackend.config.datasource.ReplicaRoutingDataSource.ReplicaStatus;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Three separate H2 databases stand in for the primary and two replicas; each answers with its own name,
+ * so every test can see where a statement ran.
+ */
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final AtomicBoolean replica2Down = new AtomicBoolean();
+
+    private HikariDataSource primary;
+    private HikariDataSource replica1;
+    private Map<String, DataSource> replicas;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica1 = database("replica-1");
+        replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", new SwitchableDataSource(database("replica-2"), replica2Down));
+        useRouting(Selection.ROUND_ROBIN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replicas in turn")
+    void shouldRouteReadOnlyTransactionsRoundRobin() {
+        // When
+        List<String> nodes = List.of(readOnly(), readOnly(), readOnly(), readOnly());
+
+        // Then
+        assertThat(nodes).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(routingDataSource.getReplicaStatuses()).extracting(ReplicaStatus::connectionsServed)
+                .containsExactly(2L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should keep read-write transactions and non-transactional statements on the primary")
+    void shouldKeepWritesOnPrimary() {
+        // When
+        String readWrite = readWriteTransaction.execute(status -> currentNode());
+        String nonTransactional = currentNode();
+
+        // Then
+        assertThat(readWrite).isEqualTo("primary");
+        assertThat(nonTransactional).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should prefer the replica with the fewest connections in use")
+    void shouldPreferLeastLoadedReplica() throws SQLException {
+        // Given
+        useRouting(Selection.LEAST_LOADED);
+
+        // When
+        List<String> nodes;
+        try (Connection busy = replica1.getConnection()) {
+            nodes = List.of(readOnly(), readOnly(), readOnly());
+        }
+
+        // Then
+        assertThat(nodes).containsOnly("replica-2");
+    }
+
+    @Test
+    @DisplayName("Should eject a failing replica and readmit it once healthy")
+    void shouldEjectAndReadmitFailingReplica() {
+        // Given
+        replica2Down.set(true);
+
+        // When
+        routingDataSource.checkHealth();
+        routingDataSource.checkHealth();
+        List<String> whileDown = List.of(readOnly(), readOnly(), readOnly());
+        replica2Down.set(false);
+        routingDataSource.checkHealth();
+        List<String> afterRecovery = List.of(readOnly(), readOnly());
+
+        // Then
+        assertThat(whileDown).containsOnly("replica-1");
+        assertThat(afterRecovery).containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("Should keep an alternative route off the replica its original was served by")
+    void shouldRouteAlternativeToAnotherReplica() {
+        // Given: round robin would hand the third read to replica-1 again
+        ReadRoute original = new ReadRoute();
+        String originalNode = ReadRoute.callWith(original, this::readOnly);
+        readOnly();
+
+        // When
+        String alternativeNode = ReadRoute.callWith(original.alternative(), this::readOnly);
+        replica2Down.set(true);
+        routingDataSource.checkHealth();
+        routingDataSource.checkHealth();
+        String withoutOtherReplica = ReadRoute.callWith(original.alternative(), this::readOnly);
+
+        // Then
+        assertThat(original.target()).isEqualTo(originalNode).isEqualTo("replica-1");
+        assertThat(alternativeNode).isEqualTo("replica-2");
+        assertThat(withoutOtherReplica).isEqualTo("primary");
+        assertThat(routingDataSource.getAvailableReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when a replica refuses connections")
+    void shouldFallBackToPrimary() {
+        // Given
+        replica2Down.set(true);
+        replica1.close();
+
+        // When
+        List<String> nodes = List.of(readOnly(), readOnly(), readOnly(), readOnly());
+
+        // Then: two failures eject each replica, after which reads stay on the primary
+        assertThat(nodes).containsOnly("primary");
+        assertThat(routingDataSource.getReplicaStatuses()).noneMatch(ReplicaStatus::available);
+        assertThat(routingDataSource.getPrimaryFallbacks()).isEqualTo(4);
+    }
+
+    private void useRouting(Selection selection) {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, selection, 2);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private HikariDataSource database(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(4);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(32))");
+        template.update("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * A replica whose connections can be refused on demand.
+     */
+    private static final class SwitchableDataSource extends DelegatingDataSource {
+
+        private final AtomicBoolean down;
+
+        private SwitchableDataSource(DataSource target, AtomicBoolean down) {
+            super(target);
+            this.down = down;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down.get()) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.alphanet.products.leonardobackend.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Separate H2 databases stand in for the request and rebuild pools; each answers with its own name.
+ */
+@DisplayName("WorkloadRoutingDataSource Tests")
+class WorkloadRoutingDataSourceTest {
+
+    private HikariDataSource requestPool;
+    private HikariDataSource rebuildPool;
+    private WorkloadRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        requestPool = database("request");
+        rebuildPool = database("rebuild");
+        routingDataSource = new WorkloadRoutingDataSource(requestPool, Map.of(Workload.REBUILD, rebuildPool));
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should serve request threads from the request pool")
+    void shouldServeRequestsFromRequestPool() {
+        assertThat(Workload.current()).isEqualTo(Workload.REQUEST);
+        assertThat(databaseName()).isEqualTo("request");
+    }
+
+    @Test
+    @DisplayName("Should serve background work from its own pool, leaving the request pool untouched")
+    void shouldServeBackgroundWorkFromItsPool() throws SQLException {
+        // When
+        String database = Workload.callWith(Workload.REBUILD, this::databaseName);
+        try (Connection ignored = Workload.callWith(Workload.REBUILD, this::connection)) {
+
+            // Then
+            assertThat(database).isEqualTo("rebuild");
+            assertThat(rebuildPool.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            assertThat(requestPool.getHikariPoolMXBean().getActiveConnections()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the request pool for workloads without a pool")
+    void shouldFallBackForWorkloadsWithoutPool() {
+        assertThat(Workload.callWith(Workload.EXPORT, this::databaseName)).isEqualTo("request");
+    }
+
+    @Test
+    @DisplayName("Should close every pool")
+    void shouldCloseEveryPool() {
+        // When
+        routingDataSource.close();
+
+        // Then
+        assertThat(requestPool.isClosed()).isTrue();
+        assertThat(rebuildPool.isClosed()).isTrue();
+    }
+
+    private String databaseName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM pool_identity", String.class);
+    }
+
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:workload-" + name + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(2);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS pool_identity (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM pool_identity");
+        jdbcTemplate.update("INSERT INTO pool_identity VALUES (?)", name);
+        return dataSource;
+    }
+}
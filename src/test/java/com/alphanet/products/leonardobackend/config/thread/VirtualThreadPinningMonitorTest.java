@@ -0,0 +1,56 @@
+package com.alphanet.products.leonardobackend.config.thread;
+
+import com.alphanet.products.leonardobackend.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("Should attribute pins inside the JDBC stack to jdbc, even when called from the application")
+    void shouldAttributeJdbcPins() {
+        assertThat(VirtualThreadPinningMonitor.sourceOf(List.of(
+                "java.lang.Object",
+                "com.mysql.cj.NativeSession",
+                "com.zaxxer.hikari.pool.ProxyPreparedStatement",
+                "com.alphanet.products.leonardobackend.service.impl.MetricsServiceImpl"))).isEqualTo("jdbc");
+        assertThat(VirtualThreadPinningMonitor.sourceOf(List.of(
+                "org.h2.engine.SessionLocal",
+                "org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl"))).isEqualTo("jdbc");
+    }
+
+    @Test
+    @DisplayName("Should attribute other pins to the application or to other code")
+    void shouldAttributeOtherPins() {
+        assertThat(VirtualThreadPinningMonitor.sourceOf(List.of(
+                "java.util.concurrent.locks.LockSupport",
+                "com.alphanet.products.leonardobackend.service.fallback.DatabaseCircuitBreaker")))
+                .isEqualTo("application");
+        assertThat(VirtualThreadPinningMonitor.sourceOf(List.of("java.lang.Object", "org.apache.tomcat.util.net.NioEndpoint")))
+                .isEqualTo("other");
+        assertThat(VirtualThreadPinningMonitor.sourceOf(List.of())).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Should start and stop streaming pinning events")
+    void shouldStartAndStop() {
+        // Given
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(new VirtualThreadProperties(),
+                new SimpleMeterRegistry());
+
+        // When
+        monitor.start();
+        boolean runningAfterStart = monitor.isRunning();
+        monitor.stop();
+
+        // Then
+        assertThat(runningAfterStart).isTrue();
+        assertThat(monitor.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.alphanet.products.leonardobackend.config.web;
+
+import com.alphanet.products.leonardobackend.config.MetricsDeadlineProperties;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestDeadlineFilter Tests")
+class RequestDeadlineFilterTest {
+
+    private MetricsDeadlineProperties properties;
+    private RequestDeadlineFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MetricsDeadlineProperties();
+        properties.setDefaultBudget(Duration.ofSeconds(10));
+        properties.getEndpoints().put("scalar", Duration.ofSeconds(2));
+        filter = new RequestDeadlineFilter(properties);
+    }
+
+    @Test
+    @DisplayName("Should bind the endpoint's budget for the duration of the request")
+    void shouldBindEndpointBudget() throws Exception {
+        // When
+        RequestDeadline deadline = filter(request("/api/v1/metrics/scalar"));
+
+        // Then
+        assertThat(deadline.endpoint()).isEqualTo("scalar");
+        assertThat(deadline.budget()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(RequestDeadline.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default budget")
+    void shouldUseDefaultBudget() throws Exception {
+        // When
+        RequestDeadline deadline = filter(request("/api/v1/metrics/by-program/rollup"));
+
+        // Then
+        assertThat(deadline.endpoint()).isEqualTo("by-program/rollup");
+        assertThat(deadline.budget()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should name endpoints with path ids after their collection")
+    void shouldDropPathIdsFromEndpoint() throws Exception {
+        // Given
+        properties.getEndpoints().put("centers", Duration.ofSeconds(3));
+
+        // When
+        RequestDeadline deadline = filter(request("/api/v1/metrics/centers/42"));
+
+        // Then
+        assertThat(deadline.endpoint()).isEqualTo("centers");
+        assertThat(deadline.budget()).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("Should let clients shorten but not extend the budget")
+    void shouldOnlyShortenBudgetFromHeader() throws Exception {
+        // Given
+        MockHttpServletRequest shorter = request("/api/v1/metrics/scalar");
+        shorter.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "500");
+        MockHttpServletRequest longer = request("/api/v1/metrics/scalar");
+        longer.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "60000");
+        MockHttpServletRequest invalid = request("/api/v1/metrics/scalar");
+        invalid.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "soon");
+
+        // When & Then
+        assertThat(filter(shorter).budget()).isEqualTo(Duration.ofMillis(500));
+        assertThat(filter(longer).budget()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(filter(invalid).budget()).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should leave requests outside the metrics API without a deadline")
+    void shouldIgnoreOtherPaths() throws Exception {
+        // When
+        RequestDeadline deadline = filter(request("/actuator/health"));
+
+        // Then
+        assertThat(deadline).isNull();
+    }
+
+    private RequestDeadline filter(MockHttpServletRequest request) throws Exception {
+        AtomicReference<RequestDeadline> bound = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> bound.set(RequestDeadline.current()));
+        return bound.get();
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,58 @@
+package com.alphanet.products.leonardobackend.controller;
+
+import com.alphanet.products.leonardobackend.config.web.RequestDeadlineFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application on a pool of two connections (Flyway needs both) and holds them, so a metrics request can
+ * only wait for the pool.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics-api-deadline-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=20000",
+        "leonardo.hibernate.cache.enabled=false"
+})
+@DisplayName("MetricsApi deadline Tests")
+class MetricsApiDeadlineTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should answer 504 within the budget when no connection is available")
+    void shouldAnswerGatewayTimeoutWhenPoolIsSaturated() throws Exception {
+        // Given
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            long start = System.nanoTime();
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/metrics/scalar").header(RequestDeadlineFilter.TIMEOUT_HEADER, "300"))
+                    .andExpect(status().isGatewayTimeout())
+                    .andExpect(jsonPath("$.status").value(504));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package com.alphanet.products.leonardobackend.controller;
 
 import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
+import com.alphanet.products.leonardobackend.dto.CenterDetailDto;
 import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DashboardDto;
 import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
 import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
 import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
 import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.ProgramRollupDto;
 import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
 import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
 import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.catalog.ProgramCatalog;
+import com.alphanet.products.leonardobackend.service.center.CenterDetailService;
+import com.alphanet.products.leonardobackend.service.center.CenterNotFoundException;
+import com.alphanet.products.leonardobackend.service.dashboard.DashboardSection;
+import com.alphanet.products.leonardobackend.service.dashboard.DashboardService;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import com.alphanet.products.leonardobackend.service.fallback.CircuitOpenException;
+import com.alphanet.products.leonardobackend.service.fallback.LastKnownGood;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,16 +30,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -38,16 +59,29 @@ class MetricsApiIntegrationTest {
 
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
 
     @Mock
     private MetricsService metricsService;
 
+    @Mock
+    private ProgramCatalog programCatalog;
+
+    @Mock
+    private CenterDetailService centerDetailService;
+
+    @Mock
+    private DashboardService dashboardService;
+
     @InjectMocks
     private MetricsApi metricsApi;
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(metricsApi).build();
+        meterRegistry = new SimpleMeterRegistry();
+        mockMvc = MockMvcBuilders.standaloneSetup(metricsApi)
+                .setControllerAdvice(new MetricsExceptionHandler(meterRegistry), new LastKnownGoodResponseAdvice())
+                .build();
         objectMapper = new ObjectMapper();
     }
 
@@ -81,6 +115,55 @@ class MetricsApiIntegrationTest {
         assertThat(responseBody).contains("inglés B1-B2");
     }
 
+    @Test
+    @DisplayName("Should answer 504 when the request deadline is exceeded")
+    void shouldAnswerGatewayTimeoutWhenDeadlineExceeded() throws Exception {
+        // Given
+        when(metricsService.getScalarMetrics()).thenThrow(
+                RequestDeadline.after("scalar", Duration.ofSeconds(3)).exceeded(null));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/scalar")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.status").value(504))
+                .andExpect(jsonPath("$.path").value("/api/v1/metrics/scalar"));
+        assertThat(meterRegistry.get("leonardo.request.deadline.exceeded").tag("endpoint", "scalar")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should mark last known good results with their age")
+    void shouldMarkLastKnownGoodResultsWithAge() throws Exception {
+        // Given
+        when(metricsService.getScalarMetrics()).thenAnswer(invocation -> {
+            RequestContextHolder.currentRequestAttributes().setAttribute(LastKnownGood.AGE_ATTRIBUTE,
+                    Duration.ofSeconds(90), RequestAttributes.SCOPE_REQUEST);
+            return List.of(new ScalarMetricDto("# Aprendices inscritos únicos", 775L));
+        });
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/scalar")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.AGE, "90"))
+                .andExpect(header().string(HttpHeaders.WARNING, LastKnownGoodResponseAdvice.REVALIDATION_FAILED));
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After while the database circuit is open")
+    void shouldAnswerServiceUnavailableWhileCircuitIsOpen() throws Exception {
+        // Given
+        when(metricsService.getScalarMetrics()).thenThrow(new CircuitOpenException(Duration.ofSeconds(20)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/scalar")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "20"))
+                .andExpect(jsonPath("$.status").value(503));
+    }
+
     @Test
     @DisplayName("Should return center metrics successfully")
     void shouldReturnCenterMetricsSuccessfully() throws Exception {
@@ -105,6 +188,53 @@ class MetricsApiIntegrationTest {
                 .andExpect(jsonPath("$[0].englishB1B2").exists());
     }
 
+    @Test
+    @DisplayName("Should pass department and limit filters to the service")
+    void shouldPassCenterFiltersToService() throws Exception {
+        // Given
+        when(metricsService.getCenterMetrics(new CenterMetricsQuery("Antioquia", 1))).thenReturn(List.of(
+                new CenterMetricDto("SENA - Centro de Servicios Financieros", "Antioquia", 198,
+                        List.of("Ana Sofía Martínez"), 156, 134)
+        ));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/by-center")
+                        .param("department", " Antioquia ")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].department").value("Antioquia"));
+        verify(metricsService, never()).getCenterMetrics();
+    }
+
+    @Test
+    @DisplayName("Should return the program rollup from the catalog")
+    void shouldReturnProgramRollup() throws Exception {
+        // Given
+        when(programCatalog.rollup("Antioquia", 5)).thenReturn(List.of(
+                new ProgramRollupDto("Análisis y Desarrollo de Software", 183L, 2)
+        ));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/by-program/rollup")
+                        .param("department", "Antioquia")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].programName").value("Análisis y Desarrollo de Software"))
+                .andExpect(jsonPath("$[0].totalApprentices").value(183))
+                .andExpect(jsonPath("$[0].centers").value(2));
+    }
+
+    @Test
+    @DisplayName("Should reject an out of range center limit")
+    void shouldRejectOutOfRangeCenterLimit() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/by-center").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        verify(metricsService, never()).getCenterMetrics(any());
+    }
+
     @Test
     @DisplayName("Should return program metrics successfully")
     void shouldReturnProgramMetricsSuccessfully() throws Exception {
@@ -323,4 +453,108 @@ class MetricsApiIntegrationTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return one training center with its programs and instructors")
+    void shouldReturnCenterDetail() throws Exception {
+        // Given
+        when(centerDetailService.getCenter(12L)).thenReturn(centerDetail(12L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/centers/12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.centerId").value(12))
+                .andExpect(jsonPath("$.department").value("Cundinamarca"))
+                .andExpect(jsonPath("$.programs[0].programName").value("Análisis y Desarrollo de Software"))
+                .andExpect(jsonPath("$.instructors[0].recommended").value(true));
+    }
+
+    @Test
+    @DisplayName("Should answer 404 for an unknown training center")
+    void shouldAnswerNotFoundForUnknownCenter() throws Exception {
+        // Given
+        when(centerDetailService.getCenter(99L)).thenThrow(new CenterNotFoundException(99L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/centers/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.path").value("/api/v1/metrics/centers/99"));
+    }
+
+    @Test
+    @DisplayName("Should return several training centers in the order requested")
+    void shouldReturnCenterDetails() throws Exception {
+        // Given
+        when(centerDetailService.getCenters(List.of(15L, 12L))).thenReturn(List.of(centerDetail(15L), centerDetail(12L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/centers").param("ids", "15,12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].centerId").value(15))
+                .andExpect(jsonPath("$[1].centerId").value(12));
+    }
+
+    @Test
+    @DisplayName("Should reject a center lookup without ids or with too many")
+    void shouldRejectInvalidCenterIds() throws Exception {
+        // Given
+        String tooMany = String.join(",", Collections.nCopies(CenterDetailService.MAX_IDS + 1, "1"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/centers"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/metrics/centers").param("ids", tooMany))
+                .andExpect(status().isBadRequest());
+        verify(centerDetailService, never()).getCenters(any());
+    }
+
+    @Test
+    @DisplayName("Should return the requested dashboard sections and omit the others")
+    void shouldReturnDashboardSections() throws Exception {
+        // Given
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setScalar(List.of(new ScalarMetricDto("Total centros de formación", 4L)));
+        dashboard.setGithubUsers(List.of(new GitHubUserDto("SENA - Centro de Biotecnología Industrial", "Cundinamarca",
+                32, "71.1%")));
+        when(dashboardService.getDashboard(EnumSet.of(DashboardSection.SCALAR, DashboardSection.GITHUB_USERS)))
+                .thenReturn(dashboard);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/dashboard").param("sections", "scalar,github-users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scalar[0].value").value(4))
+                .andExpect(jsonPath("$.githubUsers[0].githubPercentage").value("71.1%"))
+                .andExpect(jsonPath("$.byCenter").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return every dashboard section when none is requested")
+    void shouldReturnWholeDashboardByDefault() throws Exception {
+        // Given
+        when(dashboardService.getDashboard(EnumSet.allOf(DashboardSection.class))).thenReturn(new DashboardDto());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/dashboard"))
+                .andExpect(status().isOk());
+        verify(dashboardService).getDashboard(EnumSet.allOf(DashboardSection.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown dashboard section")
+    void shouldRejectUnknownDashboardSection() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/metrics/dashboard").param("sections", "scalar,salaries"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.details").value("Unknown dashboard section 'salaries'"));
+        verify(dashboardService, never()).getDashboard(any());
+    }
+
+    private static CenterDetailDto centerDetail(long centerId) {
+        return new CenterDetailDto(centerId, "SENA - Centro de Biotecnología Industrial", "Cundinamarca", 45, 32, 28,
+                List.of(new CenterDetailDto.ProgramDetail("Análisis y Desarrollo de Software", 35)),
+                List.of(new CenterDetailDto.InstructorDetail("María García López", true)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.alphanet.products.leonardobackend.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProgramClassifier Tests")
+class ProgramClassifierTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "Análisis y Desarrollo de Software, SOFTWARE",
+            "Desarrollo de Aplicaciones Web, SOFTWARE",
+            "Programador Backend Java, SOFTWARE",
+            "Gestión de Redes de Datos, NETWORKS",
+            "Telecomunicaciones, TELECOMMUNICATIONS",
+            "Electrónica, ELECTRONICS",
+            "Automatización Industrial, AUTOMATION",
+            "Control de Procesos, AUTOMATION",
+            "Electricidad Industrial, ELECTRICITY",
+            "Sistemas, SYSTEMS",
+            "Mantenimiento de Equipos de Cómputo, EQUIPMENT_MAINTENANCE",
+            "Cocina, OTHER"
+    })
+    @DisplayName("Should classify program names")
+    void shouldClassifyProgramNames(String programName, ProgramCategory expected) {
+        assertThat(ProgramClassifier.classify(programName)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void shouldIgnoreCaseAndAccents() {
+        assertThat(ProgramClassifier.classify("ELECTRÓNICA DIGITAL")).isEqualTo(ProgramCategory.ELECTRONICS);
+        assertThat(ProgramClassifier.classify("electronica digital")).isEqualTo(ProgramCategory.ELECTRONICS);
+        assertThat(ProgramClassifier.classify("AUTOMATIZACIÓN")).isEqualTo(ProgramCategory.AUTOMATION);
+    }
+
+    @Test
+    @DisplayName("Should prefer the higher priority category when several match")
+    void shouldPreferHigherPriorityCategory() {
+        // Given - NETWORKS matches first in the name, SOFTWARE has priority
+        String programName = "Redes y Desarrollo de Software";
+
+        // When
+        ProgramCategory category = ProgramClassifier.classify(programName);
+
+        // Then
+        assertThat(category).isEqualTo(ProgramCategory.SOFTWARE);
+    }
+
+    @Test
+    @DisplayName("Should only match keywords at the start of a word")
+    void shouldOnlyMatchWordPrefixes() {
+        assertThat(ProgramClassifier.classify("Subredes")).isEqualTo(ProgramCategory.OTHER);
+    }
+
+    @Test
+    @DisplayName("Should classify missing names as OTHER")
+    void shouldClassifyMissingNamesAsOther() {
+        assertThat(ProgramClassifier.classify(null)).isEqualTo(ProgramCategory.OTHER);
+        assertThat(ProgramClassifier.classify("  ")).isEqualTo(ProgramCategory.OTHER);
+    }
+}
@@ -0,0 +1,30 @@
+package com.alphanet.products.leonardobackend.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate generates, so tests can inspect the plan of the exact statement a
+ * repository method runs. Registered through {@code hibernate.session_factory.statement_inspector}.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static List<String> capture(Runnable action) {
+        STATEMENTS.clear();
+        action.run();
+        List<String> captured = new ArrayList<>(STATEMENTS);
+        STATEMENTS.clear();
+        return captured;
+    }
+}
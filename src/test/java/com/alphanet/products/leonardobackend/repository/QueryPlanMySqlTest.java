@@ -0,0 +1,110 @@
+package com.alphanet.products.leonardobackend.repository;
+
+import com.alphanet.products.leonardobackend.benchmark.MySqlBenchmarkDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link QueryPlanTest} against a MySQL container and also checks that the ordered metrics
+ * queries read their driving table through the index that matches their ORDER BY, without a
+ * filesort. These checks are opt-in: the class is skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Repository query plan Tests (MySQL)")
+class QueryPlanMySqlTest extends QueryPlanTest {
+
+    private static final Pattern TABLE_ALIAS = Pattern.compile("(?i)\\b(?:from|join)\\s+(\\w+)\\s+(\\w+)");
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        MySqlBenchmarkDatabase.register(MYSQL, registry);
+    }
+
+    @Override
+    protected void analyze() {
+        jdbcTemplate.execute("ANALYZE TABLE departments, training_centers, programs, instructors, department_summaries, national_summary");
+    }
+
+    @Override
+    protected List<TableAccess> explain(String sql, Object... parameters) {
+        Map<String, String> tables = tablesByAlias(sql);
+        List<TableAccess> accesses = jdbcTemplate.query("EXPLAIN " + sql, (rs, rowNum) -> {
+            String table = rs.getString("table");
+            return new TableAccess(tables.getOrDefault(table, table), rs.getString("key"),
+                    "ALL".equals(rs.getString("type")));
+        }, parameters);
+        assertThat(accesses).isNotEmpty();
+        return accesses;
+    }
+
+    @Test
+    @DisplayName("getCenterMetrics should read centers in apprentice index order")
+    void centerMetricsSortedByIndex() {
+        assertSortedByIndex(capture(trainingCenterRepository::getCenterMetrics),
+                "training_centers", "idx_training_centers_apprentices");
+    }
+
+    @Test
+    @DisplayName("getGitHubUsersMetrics should read centers in GitHub index order")
+    void gitHubUsersMetricsSortedByIndex() {
+        assertSortedByIndex(capture(trainingCenterRepository::getGitHubUsersMetrics),
+                "training_centers", "idx_training_centers_github");
+    }
+
+    @Test
+    @DisplayName("getEnglishLevelMetrics should read centers in English level index order")
+    void englishLevelMetricsSortedByIndex() {
+        assertSortedByIndex(capture(trainingCenterRepository::getEnglishLevelMetrics),
+                "training_centers", "idx_training_centers_english");
+    }
+
+    @Test
+    @DisplayName("getApprenticeCountMetrics should read centers in apprentice index order")
+    void apprenticeCountMetricsSortedByIndex() {
+        assertSortedByIndex(capture(trainingCenterRepository::getApprenticeCountMetrics),
+                "training_centers", "idx_training_centers_apprentices");
+    }
+
+    @Test
+    @DisplayName("getProgramMetrics should read programs in apprentice index order")
+    void programMetricsSortedByIndex() {
+        assertSortedByIndex(capture(programRepository::getProgramMetrics),
+                "programs", "idx_programs_apprentices");
+    }
+
+    private void assertSortedByIndex(String sql, String table, String index) {
+        List<TableAccess> plan = explain(sql);
+        assertThat(plan.get(0).table()).as("driving table of %s", plan).isEqualTo(table);
+        assertUsesIndex(plan, table, index);
+        List<String> extras = jdbcTemplate.query("EXPLAIN " + sql, (rs, rowNum) -> rs.getString("Extra"));
+        assertThat(extras)
+                .as("EXPLAIN extras of %s", sql)
+                .noneMatch(extra -> extra != null && extra.contains("Using filesort"));
+    }
+
+    private static Map<String, String> tablesByAlias(String sql) {
+        Map<String, String> tables = new HashMap<>();
+        Matcher matcher = TABLE_ALIAS.matcher(sql);
+        while (matcher.find()) {
+            tables.put(matcher.group(2), matcher.group(1).toLowerCase(Locale.ROOT));
+        }
+        return tables;
+    }
+}
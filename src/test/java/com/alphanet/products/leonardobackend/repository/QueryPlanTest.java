@@ -0,0 +1,227 @@
+package com.alphanet.products.leonardobackend.repository;
+
+import com.alphanet.products.leonardobackend.benchmark.BenchmarkDataset;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Captures the SQL each repository query generates, runs EXPLAIN on it and fails when a table is
+ * read by a full table scan. Two reads are allowed to scan:
+ * <ul>
+ *   <li>{@code departments}, a dimension of at most 33 rows (Colombian departments plus Bogotá);</li>
+ *   <li>the driving table of an unfiltered query, which has to read every row anyway.</li>
+ * </ul>
+ * Runs on H2 by default. H2 drives the ordered center and program queries from {@code departments}
+ * and sorts afterwards, so which index serves their ORDER BY is only checked by
+ * {@link QueryPlanMySqlTest}, which runs the same plans on MySQL and is opt-in (it needs Docker).
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MetricsSummaryRepository.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.alphanet.products.leonardobackend.repository.CapturingStatementInspector",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Repository query plan Tests (H2)")
+class QueryPlanTest {
+
+    private static final Pattern H2_TABLE_ACCESS = Pattern.compile(
+            "\"PUBLIC\"\\.\"(\\w+)\"(?: \"\\w+\")?\\s+/\\* PUBLIC\\.([\\w.]+)");
+    private static final String DEPARTMENTS = "departments";
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected DepartmentRepository departmentRepository;
+
+    @Autowired
+    protected TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    protected ProgramRepository programRepository;
+
+    @Autowired
+    protected InstructorRepository instructorRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Statistics updates commit on both databases, so the dataset is loaded once and kept
+        if (departmentRepository.count() == 0) {
+            BenchmarkDataset.populate(departmentRepository, trainingCenterRepository, programRepository,
+                    instructorRepository, 32, 15, 6, 4);
+            analyze();
+        }
+    }
+
+    @Test
+    @DisplayName("getCenterMetrics should join departments by key")
+    void centerMetrics() {
+        assertNoFullScan(explain(capture(trainingCenterRepository::getCenterMetrics)), true);
+    }
+
+    @Test
+    @DisplayName("getCenterMetrics(department, limit) should look centers up by department")
+    void filteredCenterMetrics() {
+        String sql = capture(() -> trainingCenterRepository.getCenterMetrics("Benchmark Department 3", Limit.of(5)));
+        assertNoFullScan(explain(sql, "Benchmark Department 3", "Benchmark Department 3", 5), false);
+    }
+
+    @Test
+    @DisplayName("getScalarMetrics should read the national summary row instead of the centers")
+    void scalarMetrics() {
+        List<TableAccess> plan = explain(capture(trainingCenterRepository::getScalarMetrics));
+        assertNoFullScan(plan, false);
+        assertThat(plan).extracting(TableAccess::table)
+                .contains("national_summary")
+                .doesNotContain("training_centers");
+    }
+
+    @Test
+    @DisplayName("Legacy scalar queries should aggregate over indexes")
+    void legacyScalarQueries() {
+        assertNoFullScan(explain(capture(trainingCenterRepository::getTotalCentersCount)), true);
+        assertNoFullScan(explain(capture(trainingCenterRepository::getTotalApprenticesCount)), true);
+        assertNoFullScan(explain(capture(trainingCenterRepository::getAverageEnglishPercentage)), false);
+    }
+
+    @Test
+    @DisplayName("getBackendDevelopersCount should seek the category index")
+    void backendDevelopersCount() {
+        List<TableAccess> plan = explain(capture(programRepository::getBackendDevelopersCount));
+        assertNoFullScan(plan, false);
+        assertUsesIndex(plan, "programs", "idx_programs_category");
+    }
+
+    @Test
+    @DisplayName("getGitHubUsersMetrics should join departments by key")
+    void gitHubUsersMetrics() {
+        assertNoFullScan(explain(capture(trainingCenterRepository::getGitHubUsersMetrics)), true);
+    }
+
+    @Test
+    @DisplayName("getEnglishLevelMetrics should join departments by key")
+    void englishLevelMetrics() {
+        assertNoFullScan(explain(capture(trainingCenterRepository::getEnglishLevelMetrics)), true);
+    }
+
+    @Test
+    @DisplayName("getApprenticeCountMetrics should join departments by key")
+    void apprenticeCountMetrics() {
+        assertNoFullScan(explain(capture(trainingCenterRepository::getApprenticeCountMetrics)), true);
+    }
+
+    @Test
+    @DisplayName("getRecommendedInstructorMetrics should join departments by key")
+    void recommendedInstructorMetrics() {
+        assertNoFullScan(explain(capture(trainingCenterRepository::getRecommendedInstructorMetrics)), true);
+    }
+
+    @Test
+    @DisplayName("getProgramMetrics should join centers and departments by key")
+    void programMetrics() {
+        assertNoFullScan(explain(capture(programRepository::getProgramMetrics)), true);
+    }
+
+    @Test
+    @DisplayName("getProgramApprentices should join centers and departments by key")
+    void programApprentices() {
+        assertNoFullScan(explain(capture(programRepository::getProgramApprentices)), true);
+    }
+
+    @Test
+    @DisplayName("getDepartmentMetrics should read the department summaries instead of the centers")
+    void departmentMetrics() {
+        List<TableAccess> plan = explain(capture(departmentRepository::getDepartmentMetrics));
+        assertNoFullScan(plan, true);
+        assertThat(plan).extracting(TableAccess::table)
+                .contains("department_summaries")
+                .doesNotContain("training_centers");
+    }
+
+    @Test
+    @DisplayName("getRecommendedInstructorsByCenters should seek the covering instructor index")
+    void recommendedInstructorsByCenters() {
+        List<TableAccess> plan = explain(capture(() ->
+                instructorRepository.getRecommendedInstructorsByCenters(List.of(1L, 2L))), 1L, 2L);
+        assertNoFullScan(plan, false);
+        assertUsesIndex(plan, "instructors", "idx_instructors_center_recommended");
+    }
+
+    /**
+     * Refreshes optimizer statistics after the dataset is loaded.
+     */
+    protected void analyze() {
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * Returns how each table in the statement is accessed, in join order.
+     */
+    protected List<TableAccess> explain(String sql, Object... parameters) {
+        String plan = String.join("\n", jdbcTemplate.query("EXPLAIN " + sql,
+                (rs, rowNum) -> rs.getString(1), parameters));
+        List<TableAccess> accesses = new ArrayList<>();
+        Matcher matcher = H2_TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            String table = matcher.group(1).toLowerCase(Locale.ROOT);
+            String access = matcher.group(2);
+            boolean fullScan = access.endsWith(".tableScan");
+            accesses.add(new TableAccess(table, fullScan ? null : access.toLowerCase(Locale.ROOT), fullScan));
+        }
+        assertThat(accesses).as("table accesses in plan:%n%s", plan).isNotEmpty();
+        return accesses;
+    }
+
+    protected static String capture(Runnable repositoryCall) {
+        List<String> statements = CapturingStatementInspector.capture(repositoryCall);
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    private static void assertNoFullScan(List<TableAccess> plan, boolean unfiltered) {
+        for (int i = 0; i < plan.size(); i++) {
+            TableAccess access = plan.get(i);
+            boolean scanAllowed = DEPARTMENTS.equals(access.table()) || (unfiltered && i == 0);
+            assertThat(access.fullScan() && !scanAllowed)
+                    .as("full scan of %s in plan %s", access.table(), plan)
+                    .isFalse();
+        }
+    }
+
+    protected static void assertUsesIndex(List<TableAccess> plan, String table, String index) {
+        assertThat(plan)
+                .as("access path of %s", table)
+                .anySatisfy(access -> {
+                    assertThat(access.table()).isEqualTo(table);
+                    assertThat(access.index()).isEqualTo(index);
+                });
+    }
+
+    protected record TableAccess(String table, String index, boolean fullScan) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.alphanet.products.leonardobackend.repository;
+
+import com.alphanet.products.leonardobackend.entity.Program;
+import com.alphanet.products.leonardobackend.entity.ProgramClassifier;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies the Flyway migrations, including the sample data, and lets Hibernate validate the
+ * entity mappings against the migrated schema so the two cannot drift apart.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-migration-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.flyway.locations=classpath:db/migration/{vendor},classpath:db/migration/common,classpath:db/seed",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@DisplayName("Schema migration Tests")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Test
+    @DisplayName("Should seed the sample data through the repeatable migration")
+    void shouldSeedSampleData() {
+        // Then
+        assertThat(departmentRepository.count()).isEqualTo(4);
+        assertThat(trainingCenterRepository.count()).isEqualTo(4);
+        assertThat(programRepository.count()).isEqualTo(12);
+        assertThat(instructorRepository.count()).isEqualTo(10);
+        assertThat(trainingCenterRepository.getScalarMetrics().getTotalCenters()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should leave nothing pending after startup")
+    void shouldLeaveNothingPending() {
+        // When
+        var pending = flyway.info().pending();
+
+        // Then
+        assertThat(pending).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("8");
+    }
+
+    @Test
+    @DisplayName("Should seed program categories that match the classifier")
+    void shouldSeedProgramCategoriesMatchingClassifier() {
+        // When
+        List<Program> programs = programRepository.findAll();
+
+        // Then
+        assertThat(programs).allSatisfy(program ->
+                assertThat(program.getCategory()).isEqualTo(ProgramClassifier.classify(program.getProgramName())));
+    }
+
+    @Test
+    @DisplayName("Should classify programs that existed before the category column")
+    void shouldBackfillProgramCategories() {
+        // Given - a database migrated up to the version that adds the column
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:schema-migration-backfill-test;DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource)
+                .locations("classpath:db/migration/h2", "classpath:db/migration/common")
+                .target("3")
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO departments (department_name) VALUES ('Antioquia')");
+        jdbcTemplate.update("INSERT INTO training_centers (center_name, department_id) VALUES ('Centro', 1)");
+        jdbcTemplate.update("INSERT INTO programs (program_name, apprentices_count, training_center_id) "
+                + "VALUES ('Electrónica', 10, 1), ('Desarrollo de Software', 20, 1)");
+
+        // When
+        Flyway.configure().dataSource(dataSource)
+                .locations("classpath:db/migration/h2", "classpath:db/migration/common")
+                .load()
+                .migrate();
+
+        // Then
+        assertThat(jdbcTemplate.queryForList("SELECT category FROM programs ORDER BY id", String.class))
+                .containsExactly("ELECTRONICS", "SOFTWARE");
+    }
+}
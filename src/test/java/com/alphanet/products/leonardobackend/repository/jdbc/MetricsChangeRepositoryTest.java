@@ -0,0 +1,128 @@
+package com.alphanet.products.leonardobackend.repository.jdbc;
+
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.entity.Instructor;
+import com.alphanet.products.leonardobackend.entity.Program;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties =
+        "spring.datasource.url=jdbc:h2:mem:metrics-change-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@DisplayName("MetricsChangeRepository Tests")
+class MetricsChangeRepositoryTest {
+
+    private static final Instant BASELINE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcClient jdbcClient;
+    private MetricsChangeRepository changeRepository;
+
+    private TrainingCenter biotecnologia;
+    private TrainingCenter financieros;
+    private Program redes;
+
+    @BeforeEach
+    void setUp() {
+        jdbcClient = JdbcClient.create(dataSource);
+        changeRepository = new MetricsChangeRepository(jdbcClient);
+
+        Department cundinamarca = entityManager.persist(new Department(null, "Cundinamarca", null));
+        Department antioquia = entityManager.persist(new Department(null, "Antioquia", null));
+        biotecnologia = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Biotecnología Industrial", cundinamarca, 167, 120, 89, null, null));
+        financieros = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Servicios Financieros", antioquia, 198, 156, 134, null, null));
+        entityManager.persist(new Program(null, "Análisis y Desarrollo de Software", 80, biotecnologia));
+        redes = entityManager.persist(new Program(null, "Gestión de Redes de Datos", 45, financieros));
+        entityManager.persist(new Instructor(null, "María García López", true, biotecnologia));
+        entityManager.flush();
+
+        // Pin every row to a known clock so the assertions do not depend on the transaction start time
+        for (String table : new String[]{"training_centers", "programs", "instructors"}) {
+            jdbcClient.sql("UPDATE " + table + " SET updated_at = :at")
+                    .param("at", Timestamp.from(BASELINE))
+                    .update();
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should report the latest change across every metric source table")
+    void shouldReportLatestChangeAcrossTables() {
+        // Given
+        Instant programChange = BASELINE.plusSeconds(90);
+        touch("programs", redes.getId(), programChange);
+
+        // When & Then
+        assertThat(changeRepository.findLatestChange()).contains(programChange);
+    }
+
+    @Test
+    @DisplayName("Should return the centers whose rows or children changed after the given time")
+    void shouldReturnCentersChangedSince() {
+        // Given
+        touch("programs", redes.getId(), BASELINE.plusSeconds(90));
+
+        // When & Then
+        assertThat(changeRepository.findCentersChangedSince(BASELINE)).containsExactly(financieros.getId());
+        assertThat(changeRepository.findCentersChangedSince(BASELINE.plusSeconds(90))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should bump updated_at and the version when an entity is updated through JPA")
+    void shouldBumpUpdatedAtAndVersionOnJpaUpdate() {
+        // Given
+        TrainingCenter center = entityManager.find(TrainingCenter.class, biotecnologia.getId());
+        long versionBefore = center.getVersion();
+
+        // When
+        center.setTotalApprentices(200);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(entityManager.find(TrainingCenter.class, biotecnologia.getId()).getVersion())
+                .isEqualTo(versionBefore + 1);
+        assertThat(changeRepository.findCentersChangedSince(BASELINE)).containsExactly(biotecnologia.getId());
+    }
+
+    @Test
+    @DisplayName("Should report no change when the tables are empty")
+    void shouldReportNoChangeWhenTablesAreEmpty() {
+        // Given
+        jdbcClient.sql("DELETE FROM instructors").update();
+        jdbcClient.sql("DELETE FROM programs").update();
+        jdbcClient.sql("DELETE FROM training_centers").update();
+
+        // When & Then
+        assertThat(changeRepository.findLatestChange()).isEmpty();
+    }
+
+    private void touch(String table, Long id, Instant at) {
+        jdbcClient.sql("UPDATE " + table + " SET updated_at = :at WHERE id = :id")
+                .param("at", Timestamp.from(at))
+                .param("id", id)
+                .update();
+    }
+}
@@ -0,0 +1,104 @@
+package com.alphanet.products.leonardobackend.service.cache;
+
+import com.alphanet.products.leonardobackend.config.MetricsQueryCacheProperties;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MetricsQueryCache Tests")
+class MetricsQueryCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsQueryCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MetricsQueryCacheProperties();
+    }
+
+    @Test
+    @DisplayName("Should load each key once and track the hit ratio per family")
+    void shouldLoadEachKeyOnceAndTrackHitRatioPerFamily() {
+        // Given
+        MetricsQueryCache cache = new MetricsQueryCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        MetricsQueryKey key = MetricsQueryKey.of("by-center", Map.of("department", "antioquia"));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            cache.get(key, () -> {
+                loads.incrementAndGet();
+                return List.of(center("Antioquia", 1));
+            });
+        }
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitRatio("by-center")).isEqualTo(0.75);
+        assertThat(cache.hitRatio("by-program")).isZero();
+        assertThat(meterRegistry.get("leonardo.query.cache.requests")
+                .tag("family", "by-center").tag("result", "hit").functionCounter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("leonardo.query.cache.hit.ratio")
+                .tag("family", "by-center").gauge().value()).isEqualTo(0.75);
+    }
+
+    @Test
+    @DisplayName("Should treat keys with the same parameters in any order as equal")
+    void shouldTreatKeysWithSameParametersAsEqual() {
+        // Given
+        MetricsQueryKey first = MetricsQueryKey.of("by-center", Map.of("department", "antioquia", "limit", "5"));
+        MetricsQueryKey second = MetricsQueryKey.of("by-center", Map.of("limit", "5", "department", "antioquia"));
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should keep the estimated footprint within the configured maximum weight")
+    void shouldKeepFootprintWithinMaximumWeight() {
+        // Given
+        properties.setMaximumWeight(DataSize.ofKilobytes(64));
+        MetricsQueryCache cache = new MetricsQueryCache(properties, meterRegistry);
+
+        // When
+        IntStream.range(0, 200).forEach(i -> cache.get(
+                MetricsQueryKey.of("by-center", Map.of("department", "department-" + i)),
+                () -> IntStream.range(0, 20).mapToObj(n -> center("Department " + i, n)).toList()));
+
+        // Then
+        assertThat(cache.estimatedWeight()).isPositive().isLessThanOrEqualTo(DataSize.ofKilobytes(64).toBytes());
+    }
+
+    @Test
+    @DisplayName("Should estimate larger results as heavier")
+    void shouldEstimateLargerResultsAsHeavier() {
+        // Given
+        List<CenterMetricDto> small = List.of(center("Antioquia", 1));
+        List<CenterMetricDto> large = IntStream.range(0, 50).mapToObj(n -> center("Antioquia", n)).toList();
+
+        // When
+        long smallSize = ResultSizeEstimator.estimate(small);
+        long largeSize = ResultSizeEstimator.estimate(large);
+
+        // Then
+        assertThat(smallSize).isGreaterThan(100);
+        assertThat(largeSize).isGreaterThan(smallSize * 40);
+    }
+
+    private static CenterMetricDto center(String department, int index) {
+        return new CenterMetricDto("SENA - Centro " + index, department, 100 + index,
+                List.of("María García", "Carlos Rodríguez"), 50, 25);
+    }
+}
@@ -0,0 +1,171 @@
+package com.alphanet.products.leonardobackend.service.catalog;
+
+import com.alphanet.products.leonardobackend.dto.ProgramRollupDto;
+import com.alphanet.products.leonardobackend.dto.projection.ProgramApprenticesProjection;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProgramCatalog Tests")
+class ProgramCatalogTest {
+
+    private static final String ADSO = "Análisis y Desarrollo de Software";
+
+    @Mock
+    private ProgramRepository programRepository;
+
+    @InjectMocks
+    private ProgramCatalog programCatalog;
+
+    @BeforeEach
+    void setUp() {
+        when(programRepository.getProgramApprentices()).thenReturn(List.of(
+                offering(ADSO, "Cundinamarca", 85),
+                offering("Gestión de Redes de Datos", "Cundinamarca", 45),
+                offering(ADSO, "Antioquia", 98),
+                offering("Electrónica", "Antioquia", 44),
+                offering("Sistemas", "Bogotá D.C.", 78),
+                offering("Telecomunicaciones", "Bogotá D.C.", null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should roll programs up nationally, largest first")
+    void shouldRollUpNationally() {
+        // When
+        List<ProgramRollupDto> rollup = programCatalog.rollup(null, null);
+
+        // Then
+        assertThat(rollup).containsExactly(
+                new ProgramRollupDto(ADSO, 183L, 2),
+                new ProgramRollupDto("Sistemas", 78L, 1),
+                new ProgramRollupDto("Gestión de Redes de Datos", 45L, 1),
+                new ProgramRollupDto("Electrónica", 44L, 1),
+                new ProgramRollupDto("Telecomunicaciones", 0L, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should roll programs up within a department, ignoring case and spacing")
+    void shouldRollUpWithinDepartment() {
+        // When
+        List<ProgramRollupDto> rollup = programCatalog.rollup("  antioquia ", null);
+
+        // Then
+        assertThat(rollup).containsExactly(
+                new ProgramRollupDto(ADSO, 98L, 1),
+                new ProgramRollupDto("Electrónica", 44L, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should apply the limit and return nothing for an unknown department")
+    void shouldApplyLimitAndHandleUnknownDepartment() {
+        // When & Then
+        assertThat(programCatalog.rollup(null, 2)).extracting(ProgramRollupDto::getProgramName)
+                .containsExactly(ADSO, "Sistemas");
+        assertThat(programCatalog.rollup("Amazonas", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge program names differing only in case or spacing under the first spelling")
+    void shouldMergeProgramNamesIgnoringCaseAndSpacing() {
+        // Given
+        when(programRepository.getProgramApprentices()).thenReturn(List.of(
+                offering(ADSO, "Cundinamarca", 85),
+                offering("análisis y desarrollo de software ", "Antioquia", 98),
+                offering("Análisis  y Desarrollo de Software", "Antioquia", 10),
+                offering("Electrónica", "Antioquia", 44)
+        ));
+
+        // When
+        List<ProgramRollupDto> national = programCatalog.rollup(null, null);
+        List<ProgramRollupDto> antioquia = programCatalog.rollup("Antioquia", null);
+
+        // Then
+        assertThat(national).containsExactly(
+                new ProgramRollupDto(ADSO, 193L, 3),
+                new ProgramRollupDto("Electrónica", 44L, 1)
+        );
+        assertThat(antioquia).first().isEqualTo(new ProgramRollupDto(ADSO, 108L, 2));
+    }
+
+    @Test
+    @DisplayName("Should load lazily once and rebuild on refresh")
+    void shouldLoadOnceAndRebuildOnRefresh() {
+        // When
+        programCatalog.rollup(null, null);
+        programCatalog.rollup("Antioquia", 1);
+        programCatalog.refresh();
+
+        // Then
+        verify(programRepository, times(2)).getProgramApprentices();
+        assertThat(programCatalog.currentSnapshot()).get()
+                .extracting(ProgramCatalogSnapshot::programCount).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should not load the catalog on a scheduled refresh before its first use")
+    void shouldSkipScheduledRefreshBeforeFirstUse() {
+        // When
+        programCatalog.refreshIfLoaded();
+
+        // Then
+        verify(programRepository, never()).getProgramApprentices();
+        assertThat(programCatalog.currentSnapshot()).isEmpty();
+
+        // When
+        programCatalog.rollup(null, null);
+        programCatalog.refreshIfLoaded();
+
+        // Then
+        verify(programRepository, times(2)).getProgramApprentices();
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous catalog when a refresh fails")
+    void shouldKeepPreviousCatalogWhenRefreshFails() {
+        // Given
+        programCatalog.refresh();
+        when(programRepository.getProgramApprentices()).thenThrow(new IllegalStateException("database down"));
+
+        // When
+        programCatalog.refresh();
+
+        // Then
+        assertThat(programCatalog.rollup(null, 1)).containsExactly(new ProgramRollupDto(ADSO, 183L, 2));
+    }
+
+    private static ProgramApprenticesProjection offering(String programName, String department, Integer apprentices) {
+        return new ProgramApprenticesProjection() {
+            @Override
+            public String getProgramName() {
+                return programName;
+            }
+
+            @Override
+            public String getDepartment() {
+                return department;
+            }
+
+            @Override
+            public Integer getApprenticesCount() {
+                return apprentices;
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.alphanet.products.leonardobackend.service.center;
+
+import com.alphanet.products.leonardobackend.benchmark.BenchmarkDataset;
+import com.alphanet.products.leonardobackend.config.CenterDetailProperties;
+import com.alphanet.products.leonardobackend.dto.CenterDetailDto;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.CapturingStatementInspector;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.service.deadline.QueryDeadlines;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:center-detail-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.alphanet.products.leonardobackend.repository.CapturingStatementInspector",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CenterDetailService Tests")
+class CenterDetailServiceTest {
+
+    private static final int PROGRAMS_PER_CENTER = 3;
+    private static final int INSTRUCTORS_PER_CENTER = 2;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Long> centerIds;
+
+    @BeforeEach
+    void setUp() {
+        // The dataset commits, so it is loaded once and kept
+        if (departmentRepository.count() == 0) {
+            BenchmarkDataset.populate(departmentRepository, trainingCenterRepository, programRepository,
+                    instructorRepository, 2, 3, PROGRAMS_PER_CENTER, INSTRUCTORS_PER_CENTER);
+        }
+        centerIds = trainingCenterRepository.findAll().stream().map(TrainingCenter::getId).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("Should load centers with department, programs and instructors in two queries")
+    void shouldLoadCentersWithoutLazyLoading() {
+        // Given
+        CenterDetailService service = service(64, Duration.ZERO);
+        List<Long> requested = List.of(centerIds.get(2), -1L, centerIds.get(0), centerIds.get(2));
+        List<CenterDetailDto> centers = new ArrayList<>();
+
+        // When
+        List<String> statements = CapturingStatementInspector.capture(() -> centers.addAll(service.getCenters(requested)));
+
+        // Then
+        assertThat(statements).hasSize(2);
+        assertThat(centers).extracting(CenterDetailDto::getCenterId).containsExactly(centerIds.get(2), centerIds.get(0));
+        CenterDetailDto center = centers.get(0);
+        assertThat(center.getDepartment()).startsWith("Benchmark Department");
+        assertThat(center.getPrograms()).hasSize(PROGRAMS_PER_CENTER);
+        assertThat(center.getPrograms()).extracting(CenterDetailDto.ProgramDetail::getApprenticesCount)
+                .isSortedAccordingTo((a, b) -> b - a);
+        assertThat(center.getInstructors()).hasSize(INSTRUCTORS_PER_CENTER);
+        assertThat(center.getInstructors().get(0).getRecommended()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should split large lookups into bounded IN lists")
+    void shouldChunkLargeLookups() {
+        // Given
+        CenterDetailService service = service(2, Duration.ZERO);
+        List<CenterDetailDto> centers = new ArrayList<>();
+
+        // When
+        List<String> statements = CapturingStatementInspector.capture(() -> centers.addAll(service.getCenters(centerIds)));
+
+        // Then
+        assertThat(centers).extracting(CenterDetailDto::getCenterId).containsExactlyElementsOf(centerIds);
+        assertThat(statements).hasSize(2 * ((centerIds.size() + 1) / 2));
+    }
+
+    @Test
+    @DisplayName("Should look a single center up through the micro-batcher")
+    void shouldLoadSingleCenter() {
+        // Given
+        CenterDetailService service = service(64, Duration.ofMillis(1));
+
+        // When
+        CenterDetailDto center = service.getCenter(centerIds.get(1));
+
+        // Then
+        assertThat(center.getCenterId()).isEqualTo(centerIds.get(1));
+        assertThat(center.getPrograms()).hasSize(PROGRAMS_PER_CENTER);
+        assertThat(center.getInstructors()).hasSize(INSTRUCTORS_PER_CENTER);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown center")
+    void shouldRejectUnknownCenter() {
+        // Given
+        CenterDetailService service = service(64, Duration.ofMillis(1));
+
+        // When & Then
+        assertThatThrownBy(() -> service.getCenter(-1L))
+                .isInstanceOf(CenterNotFoundException.class)
+                .hasMessageContaining("-1");
+    }
+
+    private CenterDetailService service(int inListSize, Duration batchWindow) {
+        CenterDetailProperties properties = new CenterDetailProperties();
+        properties.setInListSize(inListSize);
+        properties.setBatchWindow(batchWindow);
+        return new CenterDetailService(trainingCenterRepository, new MetricsMapper(),
+                new QueryDeadlines(transactionManager), transactionManager, properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,164 @@
+package com.alphanet.products.leonardobackend.service.coalescing;
+
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MicroBatcher Tests")
+class MicroBatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<Set<Long>> loads;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new CopyOnWriteArrayList<>();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should load keys requested within the window in one batch")
+    void shouldLoadConcurrentKeysInOneBatch() throws Exception {
+        // Given
+        MicroBatcher<Long, String> batcher = batcher(Duration.ofSeconds(1), 4, this::names);
+
+        // When
+        List<Future<Optional<String>>> results = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            long key = id;
+            results.add(executor.submit(() -> batcher.load(key)));
+        }
+
+        // Then
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).contains("Centro " + (i + 1));
+        }
+        assertThat(loads).containsExactly(Set.of(1L, 2L, 3L, 4L));
+        assertThat(meterRegistry.get("leonardo.query.microbatch.size").tag("name", "centers")
+                .summary().max()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Should load a lone key once the window elapses")
+    void shouldLoadLoneKeyAfterWindow() {
+        // Given
+        MicroBatcher<Long, String> batcher = batcher(Duration.ofMillis(5), 64, this::names);
+
+        // When
+        Optional<String> first = batcher.load(7L);
+        Optional<String> second = batcher.load(8L);
+
+        // Then
+        assertThat(first).contains("Centro 7");
+        assertThat(second).contains("Centro 8");
+        assertThat(loads).containsExactly(Set.of(7L), Set.of(8L));
+    }
+
+    @Test
+    @DisplayName("Should return nothing for keys the loader did not find")
+    void shouldReturnEmptyForMissingKeys() {
+        // Given
+        MicroBatcher<Long, String> batcher = batcher(Duration.ofMillis(1), 64, keys -> Map.of());
+
+        // When
+        Optional<String> result = batcher.load(404L);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should share the loader's exception with every caller of the batch")
+    void shouldShareLoaderException() throws Exception {
+        // Given
+        MicroBatcher<Long, String> batcher = batcher(Duration.ofSeconds(1), 2, keys -> {
+            loads.add(keys);
+            throw new IllegalStateException("database down");
+        });
+
+        // When
+        Future<Optional<String>> first = executor.submit(() -> batcher.load(1L));
+        Future<Optional<String>> second = executor.submit(() -> batcher.load(2L));
+
+        // Then
+        for (Future<Optional<String>> result : List.of(first, second)) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("database down");
+        }
+        assertThat(loads).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should load alone when the batch ran out of a shorter deadline")
+    void shouldLoadAloneAfterLeaderDeadline() throws Exception {
+        // Given
+        RequestDeadline shortDeadline = RequestDeadline.after("centers", Duration.ofMillis(50));
+        RequestDeadline longDeadline = RequestDeadline.after("centers", Duration.ofSeconds(10));
+        MicroBatcher<Long, String> batcher = batcher(Duration.ofSeconds(1), 2, keys -> {
+            if (keys.size() > 1) {
+                loads.add(keys);
+                throw shortDeadline.exceeded(null);
+            }
+            return names(keys);
+        });
+
+        // When
+        Future<Optional<String>> leader = executor.submit(() -> RequestDeadline.callWith(shortDeadline,
+                () -> batcher.load(1L)));
+        waitForPendingKeys(batcher, 1);
+        Future<Optional<String>> follower = executor.submit(() -> RequestDeadline.callWith(longDeadline,
+                () -> batcher.load(2L)));
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).contains("Centro 2");
+        assertThat(loads).containsExactly(Set.of(1L, 2L), Set.of(2L));
+    }
+
+    private MicroBatcher<Long, String> batcher(Duration window, int maxBatchSize,
+                                               Function<Set<Long>, Map<Long, String>> loader) {
+        return new MicroBatcher<>("centers", window, maxBatchSize, loader, meterRegistry);
+    }
+
+    private static void waitForPendingKeys(MicroBatcher<Long, String> batcher, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batcher.pendingKeys() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(batcher.pendingKeys()).isEqualTo(expected);
+    }
+
+    private Map<Long, String> names(Set<Long> keys) {
+        loads.add(keys);
+        return keys.stream().collect(Collectors.toMap(key -> key, key -> "Centro " + key));
+    }
+}
@@ -0,0 +1,185 @@
+package com.alphanet.products.leonardobackend.service.coalescing;
+
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryKey;
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final MetricsQueryKey CENTERS = MetricsQueryKey.of("by-center", Map.of());
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should share one execution between concurrent identical callers")
+    void shouldShareOneExecutionBetweenConcurrentCallers() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // When
+            List<Future<List<String>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute(CENTERS, () -> {
+                executions.incrementAndGet();
+                queryStarted.countDown();
+                await(releaseQuery);
+                return List.of("SENA - Centro de Biotecnología");
+            })));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(CENTERS, () -> {
+                    executions.incrementAndGet();
+                    return List.of("unexpected");
+                })));
+            }
+            waitForCoalescedCallers(callers - 1);
+            releaseQuery.countDown();
+
+            // Then
+            for (Future<List<String>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("SENA - Centro de Biotecnología");
+            }
+            assertThat(executions).hasValue(1);
+            assertThat(coalesced("by-center")).isEqualTo(callers - 1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should execute again once the previous execution has completed")
+    void shouldExecuteAgainAfterCompletion() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        singleFlight.execute(CENTERS, executions::incrementAndGet);
+        singleFlight.execute(CENTERS, executions::incrementAndGet);
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(coalesced("by-center")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate failures and release the key")
+    void shouldPropagateFailuresAndReleaseKey() {
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute(CENTERS, () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("database unavailable");
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute(CENTERS, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a shared execution at the caller's own deadline")
+    void shouldStopWaitingAtCallerDeadline() throws Exception {
+        // Given
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(CENTERS, () -> {
+                queryStarted.countDown();
+                await(releaseQuery);
+                return "SENA - Centro de Biotecnología";
+            }));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then
+            RequestDeadline deadline = RequestDeadline.after("by-center", Duration.ofMillis(50));
+            assertThatThrownBy(() -> RequestDeadline.callWith(deadline,
+                    () -> singleFlight.execute(CENTERS, () -> "unexpected")))
+                    .isInstanceOf(DeadlineExceededException.class);
+            releaseQuery.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("SENA - Centro de Biotecnología");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run again when the shared execution ran out of a shorter deadline")
+    void shouldRetryWhenLeaderDeadlineExpired() throws Exception {
+        // Given
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            RequestDeadline shortDeadline = RequestDeadline.after("by-center", Duration.ofMillis(1));
+            Future<String> leader = executor.submit(() -> singleFlight.execute(CENTERS, () -> {
+                queryStarted.countDown();
+                await(releaseQuery);
+                throw shortDeadline.exceeded(null);
+            }));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            RequestDeadline longDeadline = RequestDeadline.after("by-center", Duration.ofSeconds(5));
+            Future<String> follower = executor.submit(() -> RequestDeadline.callWith(longDeadline,
+                    () -> singleFlight.execute(CENTERS, () -> "SENA - Centro de Biotecnología")));
+            waitForCoalescedCallers(1);
+
+            // When
+            releaseQuery.countDown();
+
+            // Then
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("SENA - Centro de Biotecnología");
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DeadlineExceededException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitForCoalescedCallers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced("by-center") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double coalesced(String family) {
+        var counter = meterRegistry.find("leonardo.query.singleflight.coalesced").tag("family", family).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
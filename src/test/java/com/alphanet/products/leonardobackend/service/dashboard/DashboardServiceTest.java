@@ -0,0 +1,248 @@
+package com.alphanet.products.leonardobackend.service.dashboard;
+
+import com.alphanet.products.leonardobackend.config.DashboardProperties;
+import com.alphanet.products.leonardobackend.config.MetricsFallbackProperties;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.DashboardDto;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.deadline.DeadlineExceededException;
+import com.alphanet.products.leonardobackend.service.deadline.QueryDeadlines;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import com.alphanet.products.leonardobackend.service.fallback.DatabaseCircuitBreaker;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService Tests")
+class DashboardServiceTest {
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private DatabaseMetricsService databaseMetricsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardProperties properties;
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new DashboardProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dashboardService != null) {
+            dashboardService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should derive all center sections from a single center metrics read")
+    void shouldReadCenterMetricsOnce() {
+        // Given
+        dashboardService = dashboardService("snapshot");
+        when(metricsService.getScalarMetrics()).thenReturn(List.of(new ScalarMetricDto("Total centros de formación", 2L)));
+        when(metricsService.getCenterMetrics()).thenReturn(centers());
+        when(metricsService.getProgramMetrics()).thenReturn(List.of(new ProgramMetricDto("Centro A", "ADSO", 40)));
+        when(metricsService.getDepartmentMetrics()).thenReturn(List.of(new DepartmentMetricDto("Cundinamarca", 60)));
+
+        // When
+        DashboardDto dashboard = dashboardService.getDashboard(EnumSet.allOf(DashboardSection.class));
+
+        // Then
+        verify(metricsService, times(1)).getCenterMetrics();
+        verify(metricsService, never()).getRecommendedInstructorMetrics();
+        verify(metricsService, never()).getGitHubUsersMetrics();
+        assertThat(dashboard.getScalar()).hasSize(1);
+        assertThat(dashboard.getByProgram()).hasSize(1);
+        assertThat(dashboard.getByDepartment()).hasSize(1);
+        assertThat(dashboard.getByCenter()).hasSize(2);
+        assertThat(dashboard.getGithubUsers()).extracting("centerName").containsExactly("Centro B", "Centro A");
+        assertThat(dashboard.getEnglishLevel()).hasSize(2);
+        assertThat(dashboard.getApprenticeCount()).hasSize(2);
+        assertThat(dashboard.getRecommendedInstructors()).extracting("instructorsCount").containsExactly(2, 0);
+        verifyNoInteractions(databaseMetricsService);
+    }
+
+    @Test
+    @DisplayName("Should read only the requested sections")
+    void shouldReadOnlyRequestedSections() {
+        // Given
+        dashboardService = dashboardService("snapshot");
+        when(metricsService.getCenterMetrics()).thenReturn(centers());
+
+        // When
+        DashboardDto dashboard = dashboardService.getDashboard(Set.of(DashboardSection.GITHUB_USERS));
+
+        // Then
+        assertThat(dashboard.getGithubUsers()).hasSize(2);
+        assertThat(dashboard.getByCenter()).isNull();
+        assertThat(dashboard.getScalar()).isNull();
+        verify(metricsService, never()).getScalarMetrics();
+        verify(metricsService, never()).getProgramMetrics();
+        verify(metricsService, never()).getDepartmentMetrics();
+    }
+
+    @Test
+    @DisplayName("Should read sections concurrently with the caller's deadline")
+    void shouldReadSectionsConcurrentlyWithCallerDeadline() {
+        // Given
+        dashboardService = dashboardService("snapshot");
+        RequestDeadline deadline = RequestDeadline.after("dashboard", Duration.ofSeconds(10));
+        CountDownLatch allStarted = new CountDownLatch(2);
+        Set<RequestDeadline> seenDeadlines = ConcurrentHashMap.newKeySet();
+        when(metricsService.getScalarMetrics()).thenAnswer(invocation -> {
+            seenDeadlines.add(RequestDeadline.current());
+            allStarted.countDown();
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of();
+        });
+        when(metricsService.getProgramMetrics()).thenAnswer(invocation -> {
+            seenDeadlines.add(RequestDeadline.current());
+            allStarted.countDown();
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of();
+        });
+
+        // When
+        DashboardDto dashboard = RequestDeadline.callWith(deadline,
+                () -> dashboardService.getDashboard(EnumSet.of(DashboardSection.SCALAR, DashboardSection.BY_PROGRAM)));
+
+        // Then
+        assertThat(dashboard.getScalar()).isEmpty();
+        assertThat(dashboard.getByProgram()).isEmpty();
+        assertThat(seenDeadlines).containsExactly(deadline);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the failure of a section")
+    void shouldRethrowSectionFailure() {
+        // Given
+        dashboardService = dashboardService("snapshot");
+        RequestDeadline deadline = RequestDeadline.after("dashboard", Duration.ofMillis(1));
+        when(metricsService.getScalarMetrics()).thenThrow(deadline.exceeded(null));
+
+        // When & Then
+        assertThatThrownBy(() -> dashboardService.getDashboard(EnumSet.of(DashboardSection.SCALAR)))
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should read every section from the database in one repeatable read transaction")
+    void shouldReadSectionsInOneSnapshot() {
+        // Given
+        dashboardService = dashboardService("direct");
+        when(databaseMetricsService.getScalarMetrics()).thenReturn(List.of(new ScalarMetricDto("Total centros de formación", 2L)));
+        when(databaseMetricsService.getCenterMetrics()).thenReturn(centers());
+        when(databaseMetricsService.getDepartmentMetrics()).thenReturn(List.of(new DepartmentMetricDto("Cundinamarca", 60)));
+
+        // When
+        DashboardDto dashboard = dashboardService.getDashboard(
+                EnumSet.of(DashboardSection.SCALAR, DashboardSection.BY_CENTER, DashboardSection.BY_DEPARTMENT));
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> transaction = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(1)).getTransaction(transaction.capture());
+        assertThat(transaction.getValue().isReadOnly()).isTrue();
+        assertThat(transaction.getValue().getIsolationLevel()).isEqualTo(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        assertThat(dashboard.getScalar()).hasSize(1);
+        assertThat(dashboard.getByCenter()).hasSize(2);
+        assertThat(dashboard.getByDepartment()).hasSize(1);
+        verifyNoInteractions(metricsService);
+        assertThat(meterRegistry.get("leonardo.dashboard.inconsistent").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read the sections through their own endpoints and count it when the consistent read fails")
+    void shouldFallBackToSectionEndpointsWhenConsistentReadFails() {
+        // Given
+        dashboardService = dashboardService("direct");
+        when(databaseMetricsService.getScalarMetrics()).thenThrow(new DataAccessResourceFailureException("database down"));
+        when(metricsService.getScalarMetrics()).thenReturn(List.of(new ScalarMetricDto("Total centros de formación", 2L)));
+
+        // When
+        DashboardDto dashboard = dashboardService.getDashboard(EnumSet.of(DashboardSection.SCALAR));
+
+        // Then
+        assertThat(dashboard.getScalar()).hasSize(1);
+        verify(metricsService, times(1)).getScalarMetrics();
+        assertThat(meterRegistry.get("leonardo.dashboard.inconsistent").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should read sections concurrently when consistent reads are disabled")
+    void shouldReadConcurrentlyWithoutConsistentReads() {
+        // Given
+        properties.setConsistentReads(false);
+        dashboardService = dashboardService("direct");
+        when(metricsService.getScalarMetrics()).thenReturn(List.of());
+
+        // When
+        DashboardDto dashboard = dashboardService.getDashboard(EnumSet.of(DashboardSection.SCALAR));
+
+        // Then
+        assertThat(dashboard.getScalar()).isEmpty();
+        verifyNoInteractions(databaseMetricsService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should parse section ids and reject unknown ones")
+    void shouldParseSections() {
+        assertThat(DashboardSection.parse(null)).containsExactlyInAnyOrder(DashboardSection.values());
+        assertThat(DashboardSection.parse(List.of("Scalar", " github-users")))
+                .containsExactly(DashboardSection.SCALAR, DashboardSection.GITHUB_USERS);
+        assertThatThrownBy(() -> DashboardSection.parse(List.of("scalar", "salaries")))
+                .isInstanceOf(UnknownDashboardSectionException.class)
+                .hasMessageContaining("salaries");
+    }
+
+    private DashboardService dashboardService(String readMode) {
+        return new DashboardService(metricsService, databaseMetricsService, new QueryDeadlines(transactionManager),
+                new DatabaseCircuitBreaker(new MetricsFallbackProperties(), meterRegistry), new MetricsMapper(),
+                properties, new MockEnvironment().withProperty("leonardo.metrics.read-mode", readMode), meterRegistry);
+    }
+
+    private static List<CenterMetricDto> centers() {
+        return List.of(
+                new CenterMetricDto("Centro A", "Cundinamarca", 40, List.of("Ana", "Luis"), 10, 20),
+                new CenterMetricDto("Centro B", "Antioquia", 20, List.of(), 15, 5));
+    }
+}
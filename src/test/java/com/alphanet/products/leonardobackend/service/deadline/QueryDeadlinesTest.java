@@ -0,0 +1,154 @@
+package com.alphanet.products.leonardobackend.service.deadline;
+
+import com.alphanet.products.leonardobackend.config.datasource.DeadlineBoundedDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueryDeadlines Tests")
+class QueryDeadlinesTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private QueryDeadlines queryDeadlines;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        queryDeadlines = new QueryDeadlines(new DataSourceTransactionManager(database));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run the query unchanged without a request deadline")
+    void shouldRunUnchangedWithoutDeadline() {
+        // When
+        int timeout = queryDeadlines.execute(this::statementTimeout);
+
+        // Then
+        assertThat(timeout).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply the remaining budget as a read-only statement timeout")
+    void shouldApplyRemainingBudgetAsStatementTimeout() {
+        // Given
+        RequestDeadline deadline = RequestDeadline.after("by-center", Duration.ofMillis(2500));
+        AtomicBoolean readOnly = new AtomicBoolean();
+
+        // When
+        int timeout = RequestDeadline.callWith(deadline, () -> queryDeadlines.execute(() -> {
+            readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return statementTimeout();
+        }));
+
+        // Then
+        assertThat(readOnly).isTrue();
+        assertThat(timeout).isBetween(1, 3);
+    }
+
+    @Test
+    @DisplayName("Should fail fast without querying once the budget is spent")
+    void shouldFailFastWhenBudgetIsSpent() {
+        // Given
+        RequestDeadline deadline = RequestDeadline.after("by-center", Duration.ZERO);
+        AtomicBoolean queried = new AtomicBoolean();
+
+        // When & Then
+        assertThatThrownBy(() -> RequestDeadline.callWith(deadline, () -> queryDeadlines.execute(() -> {
+            queried.set(true);
+            return statementTimeout();
+        }))).isInstanceOf(DeadlineExceededException.class);
+        assertThat(queried).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not issue a statement after the budget ran out mid-query")
+    void shouldNotIssueStatementAfterDeadline() {
+        // Given
+        RequestDeadline deadline = RequestDeadline.after("by-center", Duration.ofMillis(50));
+
+        // When & Then
+        assertThatThrownBy(() -> RequestDeadline.callWith(deadline, () -> queryDeadlines.execute(() -> {
+            sleep(100);
+            return statementTimeout();
+        }))).isInstanceOf(DeadlineExceededException.class)
+                .hasCauseInstanceOf(TransactionTimedOutException.class);
+    }
+
+    @Test
+    @DisplayName("Should report statement timeouts as an exceeded deadline")
+    void shouldReportStatementTimeoutsAsExceededDeadline() {
+        // Given
+        RequestDeadline deadline = RequestDeadline.after("scalar", Duration.ofSeconds(3));
+
+        // When & Then
+        assertThatThrownBy(() -> RequestDeadline.callWith(deadline, () -> queryDeadlines.execute(() -> {
+            throw new QueryTimeoutException("Statement cancelled after its timeout");
+        }))).isInstanceOf(DeadlineExceededException.class)
+                .satisfies(e -> assertThat(((DeadlineExceededException) e).getEndpoint()).isEqualTo("scalar"));
+    }
+
+    @Test
+    @DisplayName("Should give up waiting for a pooled connection when the budget runs out")
+    void shouldBoundConnectionCheckoutByDeadline() throws SQLException {
+        // Given: a single-connection pool that would wait 20 s for it, and that connection in use
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:query-deadlines-pool;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(20_000);
+        try (DeadlineBoundedDataSource pool = new DeadlineBoundedDataSource(new HikariDataSource(config));
+             Connection ignored = pool.getConnection()) {
+            QueryDeadlines pooledDeadlines = new QueryDeadlines(new DataSourceTransactionManager(pool));
+            RequestDeadline deadline = RequestDeadline.after("by-center", Duration.ofMillis(300));
+            long start = System.nanoTime();
+
+            // When & Then
+            assertThatThrownBy(() -> RequestDeadline.callWith(deadline, () -> pooledDeadlines.execute(() -> 1)))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        }
+    }
+
+    private int statementTimeout() {
+        return jdbcTemplate.execute((StatementCallback<Integer>) statement -> {
+            statement.execute("SELECT 1");
+            return statement.getQueryTimeout();
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.alphanet.products.leonardobackend.service.fallback;
+
+import com.alphanet.products.leonardobackend.config.MetricsFallbackProperties;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DatabaseCircuitBreaker Tests")
+class DatabaseCircuitBreakerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private DatabaseCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        MetricsFallbackProperties properties = new MetricsFallbackProperties();
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        circuitBreaker = new DatabaseCircuitBreaker(properties, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("Should open after consecutive database failures and stop querying")
+    void shouldOpenAfterConsecutiveFailures() {
+        // Given
+        AtomicInteger queries = new AtomicInteger();
+        failTimes(3);
+
+        // When & Then
+        assertThat(circuitBreaker.state()).isEqualTo(DatabaseCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(queries::incrementAndGet))
+                .isInstanceOf(CircuitOpenException.class);
+        assertThat(queries).hasValue(0);
+        assertThat(meterRegistry.get("leonardo.database.circuit.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("leonardo.database.circuit.state").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should reset the failure count after a success")
+    void shouldResetFailuresAfterSuccess() {
+        // When
+        failTimes(2);
+        circuitBreaker.execute(() -> "ok");
+        failTimes(2);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(DatabaseCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should close again after a successful probe once the open duration has passed")
+    void shouldCloseAfterSuccessfulProbe() {
+        // Given
+        failTimes(3);
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        String result = circuitBreaker.execute(() -> "recovered");
+
+        // Then
+        assertThat(result).isEqualTo("recovered");
+        assertThat(circuitBreaker.state()).isEqualTo(DatabaseCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should open again when the probe fails")
+    void shouldReopenWhenProbeFails() {
+        // Given
+        failTimes(3);
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        failTimes(1);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(DatabaseCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> "unexpected")).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("Should not count client-shortened deadlines or application errors as database failures")
+    void shouldIgnoreNonDatabaseFailures() {
+        // Given
+        RequestDeadline clientDeadline = RequestDeadline.after("scalar", Duration.ofMillis(1), true);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw clientDeadline.exceeded(null);
+            }));
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new IllegalArgumentException("invalid filter");
+            }));
+        }
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(DatabaseCircuitBreaker.State.CLOSED);
+    }
+
+    private void failTimes(int failures) {
+        for (int i = 0; i < failures; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new DataAccessResourceFailureException("Communications link failure");
+            })).isInstanceOf(DataAccessResourceFailureException.class);
+        }
+    }
+
+    static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-09-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.alphanet.products.leonardobackend.service.fallback;
+
+import com.alphanet.products.leonardobackend.config.MetricsFallbackProperties;
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LastKnownGood Tests")
+class LastKnownGoodTest {
+
+    private static final MetricsQueryKey SCALAR = MetricsQueryKey.of("scalar", Map.of());
+    private static final MetricsQueryKey ANTIOQUIA = MetricsQueryKey.of("by-center", Map.of("department", "Antioquia"));
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsFallbackProperties properties;
+    private DatabaseCircuitBreakerTest.MutableClock clock;
+    private LastKnownGood lastKnownGood;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MetricsFallbackProperties();
+        properties.setMaxAge(Duration.ofHours(1));
+        clock = new DatabaseCircuitBreakerTest.MutableClock();
+        lastKnownGood = new LastKnownGood(properties, meterRegistry, clock);
+        request = new MockHttpServletRequest("GET", "/api/v1/metrics/scalar");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should serve the last successful result with its age when the database fails")
+    void shouldServeLastResultWhenDatabaseFails() {
+        // Given
+        lastKnownGood.execute(SCALAR, () -> List.of("775 aprendices"));
+        clock.advance(Duration.ofMinutes(5));
+
+        // When
+        List<String> result = lastKnownGood.execute(SCALAR, () -> {
+            throw new CannotCreateTransactionException("Connection is not available, request timed out");
+        });
+
+        // Then
+        assertThat(result).containsExactly("775 aprendices");
+        assertThat(request.getAttribute(LastKnownGood.AGE_ATTRIBUTE)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(meterRegistry.get("leonardo.fallback.served").tag("family", "scalar").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should renew an unchanged result and replace a changed one")
+    void shouldRenewUnchangedAndReplaceChangedResults() {
+        // Given
+        lastKnownGood.execute(SCALAR, () -> new ArrayList<>(List.of("775 aprendices")));
+        clock.advance(Duration.ofMinutes(5));
+        lastKnownGood.execute(SCALAR, () -> new ArrayList<>(List.of("775 aprendices")));
+        clock.advance(Duration.ofMinutes(1));
+
+        // When
+        List<String> renewed = lastKnownGood.execute(SCALAR, () -> {
+            throw new CannotCreateTransactionException("Connection is not available, request timed out");
+        });
+
+        // Then: the age counts from the latest success
+        assertThat(renewed).containsExactly("775 aprendices");
+        assertThat(request.getAttribute(LastKnownGood.AGE_ATTRIBUTE)).isEqualTo(Duration.ofMinutes(1));
+
+        // When
+        lastKnownGood.execute(SCALAR, () -> List.of("780 aprendices"));
+        List<String> replaced = lastKnownGood.execute(SCALAR, () -> {
+            throw new CannotCreateTransactionException("Connection is not available, request timed out");
+        });
+
+        // Then
+        assertThat(replaced).containsExactly("780 aprendices");
+    }
+
+    @Test
+    @DisplayName("Should keep results per query parameters")
+    void shouldKeepResultsPerParameters() {
+        // Given
+        lastKnownGood.execute(SCALAR, () -> List.of("775 aprendices"));
+
+        // When & Then
+        assertThatThrownBy(() -> lastKnownGood.execute(ANTIOQUIA, () -> {
+            throw new DataAccessResourceFailureException("Communications link failure");
+        })).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(request.getAttribute(LastKnownGood.AGE_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not serve results older than the maximum age")
+    void shouldNotServeExpiredResults() {
+        // Given
+        lastKnownGood.execute(SCALAR, () -> List.of("775 aprendices"));
+        clock.advance(Duration.ofHours(2));
+
+        // When & Then
+        assertThatThrownBy(() -> lastKnownGood.execute(SCALAR, () -> {
+            throw new CircuitOpenException(Duration.ofSeconds(30));
+        })).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("Should rethrow failures that are not caused by the database")
+    void shouldRethrowApplicationFailures() {
+        // Given
+        lastKnownGood.execute(SCALAR, () -> List.of("775 aprendices"));
+
+        // When & Then
+        assertThatThrownBy(() -> lastKnownGood.execute(SCALAR, () -> {
+            throw new IllegalArgumentException("invalid filter");
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
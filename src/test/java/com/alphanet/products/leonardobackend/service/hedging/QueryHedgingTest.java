@@ -0,0 +1,316 @@
+package com.alphanet.products.leonardobackend.service.hedging;
+
+import com.alphanet.products.leonardobackend.config.MetricsHedgingProperties;
+import com.alphanet.products.leonardobackend.config.ReadReplicaProperties.Selection;
+import com.alphanet.products.leonardobackend.config.datasource.ReplicaRoutingDataSource;
+import com.alphanet.products.leonardobackend.service.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("QueryHedging Tests")
+class QueryHedgingTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsHedgingProperties properties;
+    private Map<String, Connection> replicaConnections;
+    private ReplicaRoutingDataSource replicaRouting;
+    private QueryHedging queryHedging;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MetricsHedgingProperties();
+        properties.setEnabled(true);
+        properties.setInitialDelay(Duration.ofMillis(50));
+        properties.setMaxHedgeRatio(1.0);
+        useReplicas("replica-1", "replica-2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queryHedging != null) {
+            queryHedging.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run queries on the caller's thread when disabled")
+    void shouldRunOnCallerThreadWhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        queryHedging = newQueryHedging();
+
+        // When
+        Thread thread = queryHedging.execute("by-center", Thread::currentThread);
+
+        // Then
+        assertThat(thread).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.find("leonardo.query.hedging.requests").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not hedge queries that answer within the delay")
+    void shouldNotHedgeFastQueries() {
+        // Given
+        queryHedging = newQueryHedging();
+
+        // When
+        String result = queryHedging.execute("by-center", () -> "centers");
+
+        // Then
+        assertThat(result).isEqualTo("centers");
+        assertThat(count("leonardo.query.hedging.requests")).isEqualTo(1);
+        assertThat(count("leonardo.query.hedging.hedges")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should carry the caller's request deadline to the worker thread")
+    void shouldCarryRequestDeadlineToWorker() {
+        // Given
+        queryHedging = newQueryHedging();
+        RequestDeadline deadline = RequestDeadline.after("by-center", Duration.ofSeconds(5));
+
+        // When
+        RequestDeadline seen = RequestDeadline.callWith(deadline,
+                () -> queryHedging.execute("by-center", RequestDeadline::current));
+
+        // Then
+        assertThat(seen).isSameAs(deadline);
+    }
+
+    @Test
+    @DisplayName("Should return the duplicate's result and cancel a slow primary")
+    void shouldHedgeSlowPrimary() throws InterruptedException {
+        // Given
+        queryHedging = newQueryHedging();
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+        // When
+        String result = queryHedging.execute("by-center", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                    throw new IllegalStateException("cancelled", e);
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(primaryInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("leonardo.query.hedging.hedges")).isEqualTo(1);
+        assertThat(meterRegistry.get("leonardo.query.hedging.wins").tag("winner", "hedge").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run the duplicate on a different replica than the original attempt")
+    void shouldHedgeOnAnotherReplica() {
+        // Given
+        queryHedging = newQueryHedging();
+        AtomicInteger attempts = new AtomicInteger();
+        List<Connection> served = new CopyOnWriteArrayList<>();
+
+        // When
+        String result = queryHedging.execute("by-center", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                served.add(readOnlyConnection());
+                // Another request reads meanwhile, so round robin alone would return to the primary's replica
+                CompletableFuture.runAsync(this::readOnlyConnection).join();
+                sleep(5_000);
+                return "primary";
+            }
+            served.add(readOnlyConnection());
+            return "hedge";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("hedge");
+        assertThat(served).containsExactly(replicaConnections.get("replica-1"), replicaConnections.get("replica-2"));
+    }
+
+    @Test
+    @DisplayName("Should neither hedge nor spend budget while fewer than two replicas are available")
+    void shouldNotHedgeWithoutAnotherReplica() {
+        // Given
+        useReplicas("replica-1");
+        queryHedging = newQueryHedging();
+
+        // When
+        String result = queryHedging.execute("by-center", () -> {
+            sleep(150);
+            return "primary";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("leonardo.query.hedging.hedges")).isZero();
+        assertThat(count("leonardo.query.hedging.budget-exhausted")).isZero();
+        assertThat(count("leonardo.query.hedging.no-alternative")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the primary's result when the duplicate fails")
+    void shouldWaitForPrimaryWhenHedgeFails() {
+        // Given
+        queryHedging = newQueryHedging();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = queryHedging.execute("by-center", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(150);
+                return "primary";
+            }
+            throw new IllegalStateException("replica down");
+        });
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.get("leonardo.query.hedging.wins").tag("winner", "primary").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the primary's failure when both attempts fail")
+    void shouldRethrowWhenBothAttemptsFail() {
+        // Given
+        queryHedging = newQueryHedging();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> queryHedging.execute("by-center", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(150);
+                throw new IllegalStateException("primary failed");
+            }
+            throw new IllegalStateException("hedge failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("primary failed");
+    }
+
+    @Test
+    @DisplayName("Should hedge no more often than the configured share of requests")
+    void shouldRespectHedgeBudget() {
+        // Given
+        properties.setMaxHedgeRatio(0.5);
+        properties.setInitialDelay(Duration.ofMillis(1));
+        properties.setMinDelay(Duration.ofMillis(1));
+        properties.setMinSamples(1_000);
+        queryHedging = newQueryHedging();
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            queryHedging.execute("by-center", () -> {
+                sleep(20);
+                return "slow";
+            });
+        }
+
+        // Then
+        assertThat(count("leonardo.query.hedging.hedges")).isEqualTo(4);
+        assertThat(count("leonardo.query.hedging.budget-exhausted")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should derive the hedge delay from the observed latency percentile")
+    void shouldAdaptDelayToLatencyPercentile() {
+        // Given
+        properties.setInitialDelay(Duration.ofSeconds(1));
+        properties.setMinSamples(10);
+        queryHedging = newQueryHedging();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            queryHedging.execute("by-department", () -> {
+                sleep(10);
+                return List.of();
+            });
+        }
+
+        // Then
+        assertThat(queryHedging.hedgeDelay("by-department"))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(10))
+                .isLessThan(Duration.ofSeconds(1));
+        assertThat(queryHedging.hedgeDelay("by-center")).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    private QueryHedging newQueryHedging() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("replicaRoutingDataSource", replicaRouting);
+        return new QueryHedging(properties, meterRegistry, new MockEnvironment(),
+                beanFactory.getBeanProvider(ReplicaRoutingDataSource.class));
+    }
+
+    private void useReplicas(String... names) {
+        replicaConnections = new LinkedHashMap<>();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : names) {
+            Connection connection = mock(Connection.class);
+            DataSource dataSource = mock(DataSource.class);
+            try {
+                when(dataSource.getConnection()).thenReturn(connection);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            replicaConnections.put(name, connection);
+            replicas.put(name, dataSource);
+        }
+        replicaRouting = new ReplicaRoutingDataSource(mock(DataSource.class), replicas, Selection.ROUND_ROBIN, 1);
+    }
+
+    /**
+     * Checks out and returns a connection the way a read-only transaction does.
+     */
+    private Connection readOnlyConnection() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = replicaRouting.getConnection()) {
+            return connection;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.config.MetricsCacheProperties;
+import com.alphanet.products.leonardobackend.config.MetricsQueryCacheProperties;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.cache.MetricsQueryCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingMetricsService Tests")
+class CachingMetricsServiceTest {
+
+    @Mock
+    private DatabaseMetricsService databaseMetricsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsCacheProperties cacheProperties;
+    private MetricsQueryCache queryCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheProperties = new MetricsCacheProperties();
+        queryCache = new MetricsQueryCache(new MetricsQueryCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the endpoint cache")
+    void shouldServeRepeatedReadsFromEndpointCache() {
+        // Given
+        when(databaseMetricsService.getCenterMetrics()).thenReturn(List.of(
+                new CenterMetricDto("SENA - Centro de Biotecnología", "Cundinamarca", 167, List.of(), 120, 89)));
+        CachingMetricsService cachingMetricsService =
+                new CachingMetricsService(databaseMetricsService, cacheProperties, queryCache, meterRegistry);
+
+        // When
+        cachingMetricsService.getCenterMetrics();
+        cachingMetricsService.getCenterMetrics();
+        List<CenterMetricDto> result = cachingMetricsService.getCenterMetrics();
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(databaseMetricsService, times(1)).getCenterMetrics();
+        assertThat(cacheGets("metrics.by-center", "hit")).isEqualTo(2.0);
+        assertThat(cacheGets("metrics.by-center", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep endpoint caches independent")
+    void shouldKeepEndpointCachesIndependent() {
+        // Given
+        when(databaseMetricsService.getDepartmentMetrics()).thenReturn(List.of(new DepartmentMetricDto("Antioquia", 198)));
+        when(databaseMetricsService.getCenterMetrics()).thenReturn(List.of());
+        CachingMetricsService cachingMetricsService =
+                new CachingMetricsService(databaseMetricsService, cacheProperties, queryCache, meterRegistry);
+
+        // When
+        cachingMetricsService.getDepartmentMetrics();
+        cachingMetricsService.getCenterMetrics();
+
+        // Then
+        verify(databaseMetricsService, times(1)).getDepartmentMetrics();
+        verify(databaseMetricsService, times(1)).getCenterMetrics();
+        assertThat(cacheGets("metrics.by-department", "miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "metrics.scalar").functionCounter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should cache filtered center queries by their normalized parameters")
+    void shouldCacheFilteredCenterQueriesByNormalizedParameters() {
+        // Given
+        CenterMetricsQuery query = new CenterMetricsQuery("Antioquia", 5);
+        when(databaseMetricsService.getCenterMetrics(query)).thenReturn(List.of(
+                new CenterMetricDto("SENA - Centro de Servicios Financieros", "Antioquia", 198, List.of(), 156, 134)));
+        CachingMetricsService cachingMetricsService =
+                new CachingMetricsService(databaseMetricsService, cacheProperties, queryCache, meterRegistry);
+
+        // When
+        cachingMetricsService.getCenterMetrics(query);
+        List<CenterMetricDto> result = cachingMetricsService.getCenterMetrics(new CenterMetricsQuery("  antioquia ", 5));
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(databaseMetricsService, times(1)).getCenterMetrics(query);
+        verify(databaseMetricsService, never()).getCenterMetrics();
+        assertThat(queryCache.hitRatio("by-center")).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should merge endpoint overrides with the default cache settings")
+    void shouldMergeEndpointOverridesWithDefaults() {
+        // Given
+        MetricsCacheProperties.Spec override = new MetricsCacheProperties.Spec();
+        override.setTtl(Duration.ofMinutes(30));
+        cacheProperties.getEndpoints().put("by-program", override);
+
+        // When
+        MetricsCacheProperties.Spec spec = cacheProperties.specFor("by-program");
+
+        // Then
+        assertThat(spec.getTtl()).isEqualTo(Duration.ofMinutes(30));
+        assertThat(spec.getRefreshAfterWrite()).isEqualTo(cacheProperties.getDefaults().getRefreshAfterWrite());
+    }
+
+    @Test
+    @DisplayName("Should reject an endpoint whose refresh-after-write is not shorter than its TTL")
+    void shouldRejectRefreshNotShorterThanTtl() {
+        // Given
+        MetricsCacheProperties.Spec override = new MetricsCacheProperties.Spec();
+        override.setTtl(Duration.ofMinutes(5));
+        cacheProperties.getEndpoints().put("scalar", override);
+
+        // When & Then
+        assertThatThrownBy(() -> cacheProperties.specFor("scalar"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("scalar")
+                .hasMessageContaining("refresh-after-write");
+    }
+
+    private double cacheGets(String cacheName, String result) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .functionCounter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
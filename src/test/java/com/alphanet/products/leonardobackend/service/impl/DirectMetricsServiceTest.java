@@ -0,0 +1,109 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.config.MetricsFallbackProperties;
+import com.alphanet.products.leonardobackend.config.MetricsHedgingProperties;
+import com.alphanet.products.leonardobackend.config.datasource.ReplicaRoutingDataSource;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.coalescing.SingleFlight;
+import com.alphanet.products.leonardobackend.service.deadline.QueryDeadlines;
+import com.alphanet.products.leonardobackend.service.fallback.DatabaseCircuitBreaker;
+import com.alphanet.products.leonardobackend.service.fallback.LastKnownGood;
+import com.alphanet.products.leonardobackend.service.hedging.QueryHedging;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectMetricsService Tests")
+class DirectMetricsServiceTest {
+
+    @Mock
+    private DatabaseMetricsService databaseMetricsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DirectMetricsService directMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MetricsFallbackProperties fallbackProperties = new MetricsFallbackProperties();
+        directMetricsService = new DirectMetricsService(databaseMetricsService, new SingleFlight(meterRegistry),
+                new QueryHedging(new MetricsHedgingProperties(), meterRegistry, new MockEnvironment(),
+                        new StaticListableBeanFactory().getBeanProvider(ReplicaRoutingDataSource.class)),
+                new QueryDeadlines(transactionManager),
+                new DatabaseCircuitBreaker(fallbackProperties, meterRegistry),
+                new LastKnownGood(fallbackProperties, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Should query the database on every sequential request")
+    void shouldQueryDatabaseOnEverySequentialRequest() {
+        // Given
+        when(databaseMetricsService.getDepartmentMetrics()).thenReturn(List.of(new DepartmentMetricDto("Antioquia", 198)));
+
+        // When
+        directMetricsService.getDepartmentMetrics();
+        List<DepartmentMetricDto> result = directMetricsService.getDepartmentMetrics();
+
+        // Then
+        assertThat(result).containsExactly(new DepartmentMetricDto("Antioquia", 198));
+        verify(databaseMetricsService, times(2)).getDepartmentMetrics();
+        assertThat(meterRegistry.get("leonardo.query.singleflight.executions")
+                .tag("family", "by-department").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should delegate filtered center queries")
+    void shouldDelegateFilteredCenterQueries() {
+        // Given
+        CenterMetricsQuery query = new CenterMetricsQuery("Antioquia", 1);
+        when(databaseMetricsService.getCenterMetrics(query)).thenReturn(List.of(
+                new CenterMetricDto("SENA - Centro de Servicios Financieros", "Antioquia", 198, List.of(), 156, 134)));
+
+        // When
+        List<CenterMetricDto> result = directMetricsService.getCenterMetrics(query);
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(databaseMetricsService, times(1)).getCenterMetrics(query);
+    }
+
+    @Test
+    @DisplayName("Should answer with the last known good result when the database fails")
+    void shouldFallBackToLastKnownGoodResult() {
+        // Given
+        when(databaseMetricsService.getDepartmentMetrics())
+                .thenReturn(List.of(new DepartmentMetricDto("Antioquia", 198)))
+                .thenThrow(new DataAccessResourceFailureException("Communications link failure"));
+
+        // When
+        directMetricsService.getDepartmentMetrics();
+        List<DepartmentMetricDto> result = directMetricsService.getDepartmentMetrics();
+
+        // Then
+        assertThat(result).containsExactly(new DepartmentMetricDto("Antioquia", 198));
+        assertThat(meterRegistry.get("leonardo.fallback.served").tag("family", "by-department")
+                .counter().count()).isEqualTo(1.0);
+    }
+}
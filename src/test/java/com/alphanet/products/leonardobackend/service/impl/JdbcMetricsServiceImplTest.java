@@ -0,0 +1,161 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.entity.Instructor;
+import com.alphanet.products.leonardobackend.entity.Program;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.JdbcMetricsRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the JDBC read path returns exactly what the JPA projection path returns for the same data.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MetricsSummaryRepository.class)
+@TestPropertySource(properties =
+        "spring.datasource.url=jdbc:h2:mem:jdbc-read-path-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@DisplayName("JdbcMetricsServiceImpl Tests")
+class JdbcMetricsServiceImplTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    private MetricsServiceImpl jpaMetricsService;
+    private Long financierosId;
+    private JdbcMetricsServiceImpl jdbcMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        MetricsMapper metricsMapper = new MetricsMapper();
+        jpaMetricsService = new MetricsServiceImpl(trainingCenterRepository, departmentRepository,
+                programRepository, instructorRepository, metricsMapper);
+        jdbcMetricsService = new JdbcMetricsServiceImpl(
+                new JdbcMetricsRepository(JdbcClient.create(dataSource), metricsMapper));
+
+        Department cundinamarca = entityManager.persist(new Department(null, "Cundinamarca", null));
+        Department antioquia = entityManager.persist(new Department(null, "Antioquia", null));
+        entityManager.persist(new Department(null, "Amazonas", null));
+
+        TrainingCenter biotecnologia = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Biotecnología Industrial", cundinamarca, 167, 120, 89, null, null));
+        TrainingCenter financieros = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Servicios Financieros", antioquia, 198, 156, 134, null, null));
+        TrainingCenter nuevo = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro Nuevo", antioquia, 0, null, null, null, null));
+
+        entityManager.persist(new Program(null, "Análisis y Desarrollo de Software", 80, biotecnologia));
+        entityManager.persist(new Program(null, "Gestión de Redes de Datos", 45, financieros));
+        entityManager.persist(new Program(null, "Desarrollo de Aplicaciones Web", 60, financieros));
+
+        entityManager.persist(new Instructor(null, "María García López", true, biotecnologia));
+        entityManager.persist(new Instructor(null, "Carlos Andrés Rodríguez", true, biotecnologia));
+        entityManager.persist(new Instructor(null, "Jorge Luis Martínez", false, financieros));
+        entityManager.persist(new Instructor(null, "Ana Sofía Martínez", true, financieros));
+        entityManager.persist(new Instructor(null, "Laura Pérez", false, nuevo));
+        entityManager.flush();
+        entityManager.clear();
+        financierosId = financieros.getId();
+    }
+
+    @Test
+    @DisplayName("Should match the JPA path for every endpoint")
+    void shouldMatchJpaPathForEveryEndpoint() {
+        assertThat(jdbcMetricsService.getScalarMetrics()).isEqualTo(jpaMetricsService.getScalarMetrics());
+        assertThat(jdbcMetricsService.getCenterMetrics()).isEqualTo(jpaMetricsService.getCenterMetrics());
+        assertThat(jdbcMetricsService.getProgramMetrics()).isEqualTo(jpaMetricsService.getProgramMetrics());
+        assertThat(jdbcMetricsService.getDepartmentMetrics()).isEqualTo(jpaMetricsService.getDepartmentMetrics());
+        assertThat(jdbcMetricsService.getGitHubUsersMetrics()).isEqualTo(jpaMetricsService.getGitHubUsersMetrics());
+        assertThat(jdbcMetricsService.getEnglishLevelMetrics()).isEqualTo(jpaMetricsService.getEnglishLevelMetrics());
+        assertThat(jdbcMetricsService.getApprenticeCountMetrics())
+                .isEqualTo(jpaMetricsService.getApprenticeCountMetrics());
+        assertThat(jdbcMetricsService.getRecommendedInstructorMetrics())
+                .isEqualTo(jpaMetricsService.getRecommendedInstructorMetrics());
+    }
+
+    @Test
+    @DisplayName("Should load centers and programs by center id like the JPA path")
+    void shouldLoadByCenterIdLikeJpaPath() {
+        // Given
+        Set<Long> centerIds = Set.of(financierosId, Long.MAX_VALUE);
+
+        // When
+        var centers = jdbcMetricsService.getCenterMetricsById(centerIds);
+        var programs = jdbcMetricsService.getProgramMetricsByCenter(centerIds);
+
+        // Then
+        assertThat(centers).isEqualTo(jpaMetricsService.getCenterMetricsById(centerIds));
+        assertThat(centers).containsOnlyKeys(financierosId);
+        assertThat(programs).isEqualTo(jpaMetricsService.getProgramMetricsByCenter(centerIds));
+        assertThat(programs.get(financierosId)).extracting("programName")
+                .containsExactly("Desarrollo de Aplicaciones Web", "Gestión de Redes de Datos");
+        assertThat(jdbcMetricsService.getCenterMetricsById(null))
+                .isEqualTo(jpaMetricsService.getCenterMetricsById(null));
+        assertThat(jdbcMetricsService.getProgramMetricsByCenter(null))
+                .isEqualTo(jpaMetricsService.getProgramMetricsByCenter(null));
+    }
+
+    @Test
+    @DisplayName("Should apply department and limit filters like the JPA path")
+    void shouldApplyFiltersLikeJpaPath() {
+        // Given
+        CenterMetricsQuery query = new CenterMetricsQuery("antioquia", 1);
+
+        // When
+        var result = jdbcMetricsService.getCenterMetrics(query);
+
+        // Then
+        assertThat(result).isEqualTo(jpaMetricsService.getCenterMetrics(query));
+        assertThat(result).singleElement().satisfies(center -> {
+            assertThat(center.getCenterName()).isEqualTo("SENA - Centro de Servicios Financieros");
+            assertThat(center.getInstructorsRecommended()).containsExactly("Ana Sofía Martínez");
+        });
+    }
+
+    @Test
+    @DisplayName("Should return empty lists when there are no centers")
+    void shouldReturnEmptyListsWithoutCenters() {
+        // Given
+        CenterMetricsQuery query = new CenterMetricsQuery("Amazonas", null);
+
+        // When & Then
+        assertThat(jdbcMetricsService.getCenterMetrics(query)).isEqualTo(List.of());
+    }
+}
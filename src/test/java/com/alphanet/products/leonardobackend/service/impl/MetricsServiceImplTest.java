@@ -2,6 +2,7 @@ package com.alphanet.products.leonardobackend.service.impl;
 
 import com.alphanet.products.leonardobackend.dto.ApprenticeCountDto;
 import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.CenterMetricsQuery;
 import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
 import com.alphanet.products.leonardobackend.dto.EnglishLevelDto;
 import com.alphanet.products.leonardobackend.dto.GitHubUserDto;
@@ -9,12 +10,14 @@ import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
 import com.alphanet.products.leonardobackend.dto.RecommendedInstructorDto;
 import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
 import com.alphanet.products.leonardobackend.dto.projection.ApprenticeCountProjection;
+import com.alphanet.products.leonardobackend.dto.projection.CenterInstructorProjection;
 import com.alphanet.products.leonardobackend.dto.projection.CenterMetricProjection;
 import com.alphanet.products.leonardobackend.dto.projection.DepartmentMetricProjection;
 import com.alphanet.products.leonardobackend.dto.projection.EnglishLevelProjection;
 import com.alphanet.products.leonardobackend.dto.projection.GitHubUserProjection;
 import com.alphanet.products.leonardobackend.dto.projection.ProgramMetricProjection;
 import com.alphanet.products.leonardobackend.dto.projection.RecommendedInstructorProjection;
+import com.alphanet.products.leonardobackend.dto.projection.ScalarMetricsProjection;
 import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
 import com.alphanet.products.leonardobackend.repository.InstructorRepository;
 import com.alphanet.products.leonardobackend.repository.ProgramRepository;
@@ -29,6 +32,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,6 +41,10 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,10 +79,7 @@ class MetricsServiceImplTest {
     @DisplayName("Should return scalar metrics successfully")
     void shouldReturnScalarMetricsSuccessfully() {
         // Given
-        when(trainingCenterRepository.getTotalApprenticesCount()).thenReturn(775L);
-        when(trainingCenterRepository.getTotalCentersCount()).thenReturn(4L);
-        when(trainingCenterRepository.getAverageEnglishPercentage()).thenReturn(57.3);
-        when(programRepository.getBackendDevelopersCount()).thenReturn(338L);
+        when(trainingCenterRepository.getScalarMetrics()).thenReturn(scalarRow(775L, 4L, 57.3, 338L));
 
         when(metricsMapper.toScalarMetric(any(String.class), any()))
                 .thenAnswer(invocation -> new ScalarMetricDto(invocation.getArgument(0), invocation.getArgument(1)));
@@ -88,16 +93,15 @@ class MetricsServiceImplTest {
         assertThat(result).hasSize(4);
         assertThat(result.get(0).getDescription()).isEqualTo("# Aprendices inscritos únicos");
         assertThat(result.get(0).getValue()).isEqualTo(775L);
+        verify(trainingCenterRepository, times(1)).getScalarMetrics();
+        verifyNoInteractions(programRepository);
     }
 
     @Test
     @DisplayName("Should handle null apprentices count gracefully")
     void shouldHandleNullApprenticesCountGracefully() {
         // Given
-        when(trainingCenterRepository.getTotalApprenticesCount()).thenReturn(null);
-        when(trainingCenterRepository.getTotalCentersCount()).thenReturn(4L);
-        when(trainingCenterRepository.getAverageEnglishPercentage()).thenReturn(57.3);
-        when(programRepository.getBackendDevelopersCount()).thenReturn(null);
+        when(trainingCenterRepository.getScalarMetrics()).thenReturn(scalarRow(null, 4L, 57.3, null));
 
         when(metricsMapper.toScalarMetric(any(String.class), any()))
                 .thenAnswer(invocation -> new ScalarMetricDto(invocation.getArgument(0), invocation.getArgument(1)));
@@ -116,10 +120,7 @@ class MetricsServiceImplTest {
     @DisplayName("Should handle empty database gracefully")
     void shouldHandleEmptyDatabaseGracefully() {
         // Given
-        when(trainingCenterRepository.getTotalApprenticesCount()).thenReturn(0L);
-        when(trainingCenterRepository.getTotalCentersCount()).thenReturn(0L);
-        when(trainingCenterRepository.getAverageEnglishPercentage()).thenReturn(0.0);
-        when(programRepository.getBackendDevelopersCount()).thenReturn(0L);
+        when(trainingCenterRepository.getScalarMetrics()).thenReturn(scalarRow(0L, 0L, 0.0, 0L));
 
         when(metricsMapper.toScalarMetric(any(String.class), any())).thenReturn(new ScalarMetricDto("test", 0));
         when(metricsMapper.formatPercentage(any(Double.class))).thenReturn("0.0%");
@@ -174,7 +175,10 @@ class MetricsServiceImplTest {
         );
 
         when(trainingCenterRepository.getCenterMetrics()).thenReturn(List.of(projection));
-        when(instructorRepository.getRecommendedInstructorsByCenter(1L)).thenReturn(instructors);
+        when(instructorRepository.getRecommendedInstructorsByCenters(List.of(1L))).thenReturn(List.of(
+                instructorRow(1L, "María García"),
+                instructorRow(1L, "Carlos Rodríguez")
+        ));
         when(metricsMapper.toCenterMetricDto(projection, instructors)).thenReturn(expectedDto);
 
         // When
@@ -197,6 +201,60 @@ class MetricsServiceImplTest {
 
         // Then
         assertThat(result).isEmpty();
+        verify(instructorRepository, never()).getRecommendedInstructorsByCenters(any());
+    }
+
+    @Test
+    @DisplayName("Should load recommended instructors for all centers in a single query")
+    void shouldLoadRecommendedInstructorsForAllCentersInSingleQuery() {
+        // Given
+        CenterMetricProjection first = centerRow(1L, "SENA - Centro de Biotecnología");
+        CenterMetricProjection second = centerRow(2L, "SENA - Centro de Tecnologías del Transporte");
+
+        when(trainingCenterRepository.getCenterMetrics()).thenReturn(List.of(first, second));
+        when(instructorRepository.getRecommendedInstructorsByCenters(List.of(1L, 2L))).thenReturn(List.of(
+                instructorRow(1L, "María García"),
+                instructorRow(2L, "Jorge Luis Martínez"),
+                instructorRow(1L, "Carlos Rodríguez")
+        ));
+        when(metricsMapper.toCenterMetricDto(any(CenterMetricProjection.class), any()))
+                .thenAnswer(invocation -> {
+                    CenterMetricProjection projection = invocation.getArgument(0);
+                    return new CenterMetricDto(projection.getCenterName(), projection.getDepartment(),
+                            projection.getTotalApprentices(), invocation.getArgument(1),
+                            projection.getGithubUsers(), projection.getEnglishB1B2());
+                });
+
+        // When
+        List<CenterMetricDto> result = metricsService.getCenterMetrics();
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getInstructorsRecommended()).containsExactly("María García", "Carlos Rodríguez");
+        assertThat(result.get(1).getInstructorsRecommended()).containsExactly("Jorge Luis Martínez");
+        verify(instructorRepository, times(1)).getRecommendedInstructorsByCenters(any());
+    }
+
+    @Test
+    @DisplayName("Should push center filters down to the repository query")
+    void shouldPushCenterFiltersDownToRepository() {
+        // Given
+        CenterMetricProjection center = centerRow(3L, "SENA - Centro de Servicios Financieros");
+        when(trainingCenterRepository.getCenterMetrics("Antioquia", Limit.of(5))).thenReturn(List.of(center));
+        when(instructorRepository.getRecommendedInstructorsByCenters(List.of(3L))).thenReturn(List.of(
+                instructorRow(3L, "Ana Sofía Martínez")
+        ));
+        when(metricsMapper.toCenterMetricDto(any(CenterMetricProjection.class), any()))
+                .thenAnswer(invocation -> new CenterMetricDto("SENA - Centro de Servicios Financieros", "Antioquia",
+                        198, invocation.getArgument(1), 156, 134));
+
+        // When
+        List<CenterMetricDto> result = metricsService.getCenterMetrics(new CenterMetricsQuery("Antioquia", 5));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getInstructorsRecommended()).containsExactly("Ana Sofía Martínez");
+        verify(trainingCenterRepository, never()).getCenterMetrics();
     }
 
     @Test
@@ -218,6 +276,11 @@ class MetricsServiceImplTest {
             public Integer getApprenticesCount() {
                 return 85;
             }
+
+            @Override
+            public Long getCenterId() {
+                return 1L;
+            }
         };
 
         ProgramMetricDto expectedDto = new ProgramMetricDto(
@@ -508,7 +571,10 @@ class MetricsServiceImplTest {
 
         List<String> instructors = Arrays.asList("María García", "Carlos Rodríguez");
         when(trainingCenterRepository.getRecommendedInstructorMetrics()).thenReturn(List.of(projection));
-        when(instructorRepository.getRecommendedInstructorsByCenter(1L)).thenReturn(instructors);
+        when(instructorRepository.getRecommendedInstructorsByCenters(List.of(1L))).thenReturn(List.of(
+                instructorRow(1L, "María García"),
+                instructorRow(1L, "Carlos Rodríguez")
+        ));
 
         // When
         List<RecommendedInstructorDto> result = metricsService.getRecommendedInstructorMetrics();
@@ -544,7 +610,7 @@ class MetricsServiceImplTest {
         };
 
         when(trainingCenterRepository.getRecommendedInstructorMetrics()).thenReturn(List.of(projection));
-        when(instructorRepository.getRecommendedInstructorsByCenter(1L)).thenReturn(Collections.emptyList());
+        when(instructorRepository.getRecommendedInstructorsByCenters(List.of(1L))).thenReturn(Collections.emptyList());
 
         // When
         List<RecommendedInstructorDto> result = metricsService.getRecommendedInstructorMetrics();
@@ -576,4 +642,77 @@ class MetricsServiceImplTest {
         assertThat(apprenticeResult).isEmpty();
         assertThat(instructorResult).isEmpty();
     }
+
+    private static CenterInstructorProjection instructorRow(Long centerId, String instructorName) {
+        return new CenterInstructorProjection() {
+            @Override
+            public Long getCenterId() {
+                return centerId;
+            }
+
+            @Override
+            public String getInstructorName() {
+                return instructorName;
+            }
+        };
+    }
+
+    private static CenterMetricProjection centerRow(Long centerId, String centerName) {
+        return new CenterMetricProjection() {
+            @Override
+            public Long getCenterId() {
+                return centerId;
+            }
+
+            @Override
+            public String getCenterName() {
+                return centerName;
+            }
+
+            @Override
+            public String getDepartment() {
+                return "Cundinamarca";
+            }
+
+            @Override
+            public Integer getTotalApprentices() {
+                return 100;
+            }
+
+            @Override
+            public Integer getGithubUsers() {
+                return 50;
+            }
+
+            @Override
+            public Integer getEnglishB1B2() {
+                return 25;
+            }
+        };
+    }
+
+    private static ScalarMetricsProjection scalarRow(Long totalApprentices, Long totalCenters,
+                                                     Double averageEnglishPercentage, Long backendDevelopersCount) {
+        return new ScalarMetricsProjection() {
+            @Override
+            public Long getTotalApprentices() {
+                return totalApprentices;
+            }
+
+            @Override
+            public Long getTotalCenters() {
+                return totalCenters;
+            }
+
+            @Override
+            public Double getAverageEnglishPercentage() {
+                return averageEnglishPercentage;
+            }
+
+            @Override
+            public Long getBackendDevelopersCount() {
+                return backendDevelopersCount;
+            }
+        };
+    }
 }
@@ -0,0 +1,94 @@
+package com.alphanet.products.leonardobackend.service.impl;
+
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.service.snapshot.MetricsSnapshot;
+import com.alphanet.products.leonardobackend.service.snapshot.MetricsSnapshotLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SnapshotMetricsService Tests")
+class SnapshotMetricsServiceTest {
+
+    @Mock
+    private MetricsSnapshotLoader snapshotLoader;
+
+    @InjectMocks
+    private SnapshotMetricsService snapshotMetricsService;
+
+    @Test
+    @DisplayName("Should load the snapshot once and serve every read from memory")
+    void shouldLoadSnapshotOnceAndServeReadsFromMemory() {
+        // Given
+        when(snapshotLoader.load()).thenReturn(snapshotWithApprentices(775L));
+
+        // When
+        List<ScalarMetricDto> first = snapshotMetricsService.getScalarMetrics();
+        List<ScalarMetricDto> second = snapshotMetricsService.getScalarMetrics();
+        List<CenterMetricDto> centers = snapshotMetricsService.getCenterMetrics();
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.get(0).getValue()).isEqualTo(775L);
+        assertThat(centers).hasSize(1);
+        verify(snapshotLoader, times(1)).load();
+    }
+
+    @Test
+    @DisplayName("Should swap in the new snapshot after a refresh")
+    void shouldSwapInNewSnapshotAfterRefresh() {
+        // Given
+        MetricsSnapshot initial = snapshotWithApprentices(775L);
+        when(snapshotLoader.refresh(null)).thenReturn(initial);
+        when(snapshotLoader.refresh(initial)).thenReturn(snapshotWithApprentices(800L));
+        snapshotMetricsService.loadInitialSnapshot();
+
+        // When
+        snapshotMetricsService.refresh();
+
+        // Then
+        assertThat(snapshotMetricsService.getScalarMetrics().get(0).getValue()).isEqualTo(800L);
+        verify(snapshotLoader).refresh(initial);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous snapshot when a refresh fails")
+    void shouldKeepServingPreviousSnapshotWhenRefreshFails() {
+        // Given
+        when(snapshotLoader.refresh(any()))
+                .thenReturn(snapshotWithApprentices(775L))
+                .thenThrow(new IllegalStateException("Database unavailable"));
+        snapshotMetricsService.loadInitialSnapshot();
+
+        // When
+        snapshotMetricsService.refresh();
+
+        // Then
+        assertThat(snapshotMetricsService.getScalarMetrics().get(0).getValue()).isEqualTo(775L);
+        assertThat(snapshotMetricsService.currentSnapshot()).isPresent();
+    }
+
+    private static MetricsSnapshot snapshotWithApprentices(long apprentices) {
+        return new MetricsSnapshot(
+                List.of(new ScalarMetricDto("# Aprendices inscritos únicos", apprentices)),
+                List.of(new CenterMetricDto("SENA - Centro de Biotecnología", "Cundinamarca", 167,
+                        List.of("María García"), 120, 89)),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                Instant.now()
+        );
+    }
+}
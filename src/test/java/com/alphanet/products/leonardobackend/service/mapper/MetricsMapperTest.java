@@ -341,6 +341,11 @@ class MetricsMapperTest {
             public Integer getApprenticesCount() {
                 return 50;
             }
+
+            @Override
+            public Long getCenterId() {
+                return 1L;
+            }
         };
 
         // When
@@ -669,4 +674,22 @@ class MetricsMapperTest {
         assertThat(apprenticeResult.getDepartment()).isNull();
         assertThat(apprenticeResult.getTotalApprentices()).isNull();
     }
+
+    @Test
+    @DisplayName("Should order derived recommended instructors by plain center name, like the database paths")
+    void shouldOrderDerivedRecommendedInstructorsByCenterName() {
+        // Given
+        List<CenterMetricDto> centers = List.of(
+                new CenterMetricDto("Álamo", "Antioquia", 10, List.of("Ana"), 1, 1),
+                new CenterMetricDto("centro", "Cundinamarca", 30, List.of(), 1, 1),
+                new CenterMetricDto("Zeta", "Valle", 20, List.of("Luis", "Eva"), 1, 1));
+
+        // When
+        List<RecommendedInstructorDto> result = metricsMapper.toRecommendedInstructorDtos(centers);
+
+        // Then
+        assertThat(result).extracting(RecommendedInstructorDto::getCenterName).containsExactly("Zeta", "centro", "Álamo");
+        assertThat(result).isSortedAccordingTo(MetricsMapper.RECOMMENDED_INSTRUCTOR_ORDER);
+        assertThat(result).extracting(RecommendedInstructorDto::getInstructorsCount).containsExactly(2, 0, 1);
+    }
 }
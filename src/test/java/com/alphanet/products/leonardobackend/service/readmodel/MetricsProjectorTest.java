@@ -0,0 +1,229 @@
+package com.alphanet.products.leonardobackend.service.readmodel;
+
+import com.alphanet.products.leonardobackend.config.MetricsReadModelProperties;
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.entity.Instructor;
+import com.alphanet.products.leonardobackend.entity.Program;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.ReadModelProjectionRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.ReadModelRepository;
+import com.alphanet.products.leonardobackend.service.MetricsService;
+import com.alphanet.products.leonardobackend.service.impl.MetricsServiceImpl;
+import com.alphanet.products.leonardobackend.service.impl.ReadModelMetricsService;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Writes through JPA, projects the outbox and checks that the read model serves exactly what the
+ * normalized JPA read path computes from the same data.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MetricsOutboxRepository.class, ReadModelProjectionRepository.class, ReadModelRepository.class,
+        MetricsSummaryRepository.class, MetricsMapper.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-model-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "leonardo.metrics.read-mode=read-model",
+        // Without HibernateCacheConfig, Hibernate falls back to the JVM-wide default JCache manager, whose
+        // entity regions other test contexts have already filled with rows of the same ids
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DisplayName("MetricsProjector Tests")
+class MetricsProjectorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private MetricsOutboxRepository outboxRepository;
+
+    @Autowired
+    private ReadModelProjectionRepository projectionRepository;
+
+    @Autowired
+    private ReadModelRepository readModelRepository;
+
+    private MetricsServiceImpl sourceMetrics;
+    private MetricsService readModelMetrics;
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsProjector projector;
+
+    private Department antioquia;
+    private TrainingCenter biotecnologia;
+    private TrainingCenter financieros;
+    private Program redes;
+
+    @BeforeEach
+    void setUp() {
+        MetricsMapper metricsMapper = new MetricsMapper();
+        sourceMetrics = new MetricsServiceImpl(trainingCenterRepository, departmentRepository,
+                programRepository, instructorRepository, metricsMapper);
+        readModelMetrics = new ReadModelMetricsService(readModelRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        projector = new MetricsProjector(outboxRepository, projectionRepository,
+                new TransactionTemplate(transactionManager), new MetricsReadModelProperties(), meterRegistry);
+
+        Department cundinamarca = entityManager.persist(new Department(null, "Cundinamarca", null));
+        antioquia = entityManager.persist(new Department(null, "Antioquia", null));
+        entityManager.persist(new Department(null, "Amazonas", null));
+
+        biotecnologia = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Biotecnología Industrial", cundinamarca, 167, 120, 89, null, null));
+        financieros = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Servicios Financieros", antioquia, 198, 156, 134, null, null));
+        entityManager.persist(new Program(null, "Análisis y Desarrollo de Software", 80, biotecnologia));
+        redes = entityManager.persist(new Program(null, "Gestión de Redes de Datos", 45, financieros));
+        entityManager.persist(new Program(null, "Desarrollo de Aplicaciones Web", 60, financieros));
+        entityManager.persist(new Instructor(null, "María García López", true, biotecnologia));
+        entityManager.persist(new Instructor(null, "Carlos Andrés Rodríguez", true, biotecnologia));
+        entityManager.persist(new Instructor(null, "Ana Sofía Martínez", true, financieros));
+        entityManager.persist(new Instructor(null, "Jorge Luis Martínez", false, financieros));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should append outbox events in the writing transaction")
+    void shouldAppendOutboxEventsInWritingTransaction() {
+        // Then: 2 centers, 3 programs and 4 instructors, visible before any commit
+        assertThat(outboxRepository.getBacklog().pendingEvents()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should serve the same metrics as the source tables after a rebuild")
+    void shouldMatchSourceAfterRebuild() {
+        // When
+        projector.rebuild();
+
+        // Then
+        assertReadModelMatchesSource();
+        assertThat(projectionRepository.isBuilt()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should apply updates, moves and deletes from the outbox")
+    void shouldApplyOutboxChanges() {
+        // Given
+        projector.rebuild();
+        projector.poll();
+        entityManager.clear();
+
+        TrainingCenter center = entityManager.find(TrainingCenter.class, biotecnologia.getId());
+        center.setTotalApprentices(250);
+        center.setDepartment(entityManager.find(Department.class, antioquia.getId()));
+        Program movedProgram = entityManager.find(Program.class, redes.getId());
+        movedProgram.setTrainingCenter(center);
+        entityManager.persist(new Instructor(null, "Laura Pérez", true, entityManager.find(TrainingCenter.class,
+                financieros.getId())));
+        entityManager.flush();
+        assertThat(outboxRepository.getBacklog().pendingEvents()).isEqualTo(4);
+
+        // When
+        projector.poll();
+
+        // Then
+        entityManager.clear();
+        assertReadModelMatchesSource();
+        assertThat(readModelMetrics.getProgramMetrics()).filteredOn("programName", "Gestión de Redes de Datos")
+                .singleElement()
+                .extracting("centerName").isEqualTo("SENA - Centro de Biotecnología Industrial");
+        assertThat(outboxRepository.getBacklog().pendingEvents()).isZero();
+        assertThat(meterRegistry.get("leonardo.readmodel.events.projected").counter().count()).isEqualTo(13);
+        assertThat(meterRegistry.get("leonardo.readmodel.pending").gauge().value()).isZero();
+        assertThat(projector.lag()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should remove deleted programs from the read model")
+    void shouldRemoveDeletedPrograms() {
+        // Given
+        projector.rebuild();
+        entityManager.remove(entityManager.find(Program.class, redes.getId()));
+        entityManager.flush();
+
+        // When
+        projector.poll();
+
+        // Then
+        entityManager.clear();
+        assertReadModelMatchesSource();
+        assertThat(readModelMetrics.getProgramMetrics()).extracting("programName")
+                .doesNotContain("Gestión de Redes de Datos");
+    }
+
+    @Test
+    @DisplayName("Should report the age of the oldest pending event as lag while projection fails")
+    void shouldReportLagWhileProjectionFails() {
+        // Given
+        JdbcClient.create(dataSource).sql("UPDATE metrics_outbox SET occurred_at = TIMESTAMP '2020-01-01 00:00:00'")
+                .update();
+        ReadModelProjectionRepository failingProjection = mock(ReadModelProjectionRepository.class);
+        when(failingProjection.projectCenters(anyCollection())).thenThrow(new IllegalStateException("Lock timeout"));
+        meterRegistry = new SimpleMeterRegistry();
+        projector = new MetricsProjector(outboxRepository, failingProjection,
+                new TransactionTemplate(transactionManager), new MetricsReadModelProperties(), meterRegistry);
+
+        // When
+        projector.poll();
+
+        // Then
+        assertThat(projector.lag()).isGreaterThan(Duration.ofDays(365));
+        assertThat(meterRegistry.get("leonardo.readmodel.lag").gauge().value()).isGreaterThan(0.0);
+        assertThat(meterRegistry.get("leonardo.readmodel.pending").gauge().value()).isEqualTo(9.0);
+    }
+
+    private void assertReadModelMatchesSource() {
+        assertThat(readModelMetrics.getScalarMetrics()).isEqualTo(sourceMetrics.getScalarMetrics());
+        assertThat(readModelMetrics.getCenterMetrics()).isEqualTo(sourceMetrics.getCenterMetrics());
+        assertThat(readModelMetrics.getProgramMetrics()).isEqualTo(sourceMetrics.getProgramMetrics());
+        assertThat(readModelMetrics.getDepartmentMetrics()).isEqualTo(sourceMetrics.getDepartmentMetrics());
+        assertThat(readModelMetrics.getGitHubUsersMetrics()).isEqualTo(sourceMetrics.getGitHubUsersMetrics());
+        assertThat(readModelMetrics.getEnglishLevelMetrics()).isEqualTo(sourceMetrics.getEnglishLevelMetrics());
+        assertThat(readModelMetrics.getApprenticeCountMetrics()).isEqualTo(sourceMetrics.getApprenticeCountMetrics());
+        assertThat(readModelMetrics.getRecommendedInstructorMetrics())
+                .isEqualTo(sourceMetrics.getRecommendedInstructorMetrics());
+    }
+}
@@ -0,0 +1,164 @@
+package com.alphanet.products.leonardobackend.service.reconciliation;
+
+import com.alphanet.products.leonardobackend.benchmark.BenchmarkDataset;
+import com.alphanet.products.leonardobackend.config.ReconciliationProperties;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.CenterTotalsRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsOutboxRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CenterTotalsRepository.class, MetricsSummaryRepository.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reconciliation-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CenterTotalsReconciliation Tests")
+class CenterTotalsReconciliationTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private CenterTotalsRepository centerTotalsRepository;
+
+    @Autowired
+    private MetricsSummaryRepository summaryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectProvider<MetricsOutboxRepository> outboxRepository;
+
+    private ReconciliationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CenterTotalsReconciliation reconciliation;
+
+    @BeforeEach
+    void setUp() {
+        // The dataset commits, so it is loaded once and reconciled before every test
+        if (departmentRepository.count() == 0) {
+            BenchmarkDataset.populate(departmentRepository, trainingCenterRepository, programRepository,
+                    instructorRepository, 3, 4, 5, 1);
+        }
+        properties = new ReconciliationProperties();
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        reconciliation = new CenterTotalsReconciliation(centerTotalsRepository, summaryRepository, outboxRepository,
+                new TransactionTemplate(transactionManager), entityManagerFactory, properties, meterRegistry);
+        reconciliation.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should reset drifted center totals to their program sums and keep the summaries exact")
+    void shouldCorrectDriftedTotals() {
+        // Given
+        List<Long> drifted = driftCenters(7, -3, 12);
+
+        // When
+        ReconciliationReport report = reconciliation.reconcile().orElseThrow();
+
+        // Then
+        assertThat(report.centersChecked()).isEqualTo(12);
+        assertThat(report.driftedCenters()).isEqualTo(3);
+        assertThat(report.apprenticeDrift()).isEqualTo(22);
+        assertThat(report.correctedCenters()).isEqualTo(3);
+        assertThat(report.duration()).isPositive();
+        assertThat(centerTotalsRepository.findCenterTotals()).noneMatch(CenterTotalsRepository.CenterTotals::hasDrifted);
+        assertThat(summaryRepository.computeNationalSummary().matches(summaryRepository.findNationalSummary())).isTrue();
+        assertThat(summaryRepository.computeDepartmentSummaries()).isEqualTo(summaryRepository.findDepartmentSummaries());
+        assertThat(versionsOf(drifted)).allMatch(version -> version >= 2);
+        assertThat(meterRegistry.get("leonardo.reconciliation.drift").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("leonardo.reconciliation.drift.apprentices").counter().count()).isEqualTo(22.0);
+        assertThat(reconciliation.lastReport()).contains(report);
+    }
+
+    @Test
+    @DisplayName("Should report drift without correcting it in a dry run")
+    void shouldOnlyReportInDryRun() {
+        // Given
+        driftCenters(5);
+        properties.setDryRun(true);
+
+        // When
+        ReconciliationReport report = reconciliation.reconcile().orElseThrow();
+
+        // Then
+        assertThat(report.driftedCenters()).isEqualTo(1);
+        assertThat(report.apprenticeDrift()).isEqualTo(5);
+        assertThat(report.correctedCenters()).isZero();
+        assertThat(centerTotalsRepository.findCenterTotals()).filteredOn(CenterTotalsRepository.CenterTotals::hasDrifted)
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should report no drift when every total matches its programs")
+    void shouldReportNoDrift() {
+        // When
+        ReconciliationReport report = reconciliation.reconcile().orElseThrow();
+
+        // Then
+        assertThat(report.driftedCenters()).isZero();
+        assertThat(report.correctedCenters()).isZero();
+    }
+
+    // Edits totals through JPA, so the summaries follow the edited (drifted) totals as they would in production
+    private List<Long> driftCenters(int... offsets) {
+        List<TrainingCenter> centers = trainingCenterRepository.findAll().subList(0, offsets.length);
+        for (int i = 0; i < offsets.length; i++) {
+            centers.get(i).setTotalApprentices(centers.get(i).getTotalApprentices() + offsets[i]);
+        }
+        trainingCenterRepository.saveAll(centers);
+        return centers.stream().map(TrainingCenter::getId).toList();
+    }
+
+    private List<Long> versionsOf(List<Long> centerIds) {
+        return centerIds.stream()
+                .map(id -> jdbcTemplate.queryForObject("SELECT version FROM training_centers WHERE id = ?", Long.class, id))
+                .toList();
+    }
+}
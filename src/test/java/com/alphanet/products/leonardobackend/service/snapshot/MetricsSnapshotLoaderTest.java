@@ -0,0 +1,261 @@
+package com.alphanet.products.leonardobackend.service.snapshot;
+
+import com.alphanet.products.leonardobackend.config.MetricsSnapshotProperties;
+import com.alphanet.products.leonardobackend.dto.CenterMetricDto;
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.ProgramMetricDto;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsChangeRepository;
+import com.alphanet.products.leonardobackend.service.DatabaseMetricsService;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsSnapshotLoader Tests")
+class MetricsSnapshotLoaderTest {
+
+    private static final Instant WATERMARK = Instant.parse("2025-09-01T10:00:00Z");
+
+    @Mock
+    private DatabaseMetricsService databaseMetricsService;
+
+    @Mock
+    private MetricsChangeRepository changeRepository;
+
+    private MetricsSnapshotProperties properties;
+
+    private MetricsSnapshotLoader snapshotLoader;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MetricsSnapshotProperties();
+        snapshotLoader = new MetricsSnapshotLoader(databaseMetricsService, changeRepository, properties, new MetricsMapper());
+    }
+
+    @Test
+    @DisplayName("Should derive every per-center family from a single center query")
+    void shouldDerivePerCenterFamiliesFromSingleCenterQuery() {
+        // Given
+        Map<Long, CenterMetricDto> centers = new LinkedHashMap<>();
+        centers.put(1L, new CenterMetricDto("SENA - Centro de Tecnologías del Transporte", "Bogotá D.C.", 245,
+                List.of("Jorge Luis Martínez", "Claudia Milena Torres"), 180, 100));
+        centers.put(2L, new CenterMetricDto("SENA - Centro de Biotecnología Industrial", "Cundinamarca", 167,
+                List.of("María García López"), 120, 150));
+        centers.put(3L, new CenterMetricDto("SENA - Centro Agropecuario", "Antioquia", 0,
+                List.of(), 0, 0));
+        when(databaseMetricsService.getCenterMetricsById(null)).thenReturn(centers);
+        when(databaseMetricsService.getScalarMetrics()).thenReturn(List.of());
+        when(databaseMetricsService.getProgramMetricsByCenter(null)).thenReturn(Map.of());
+        when(databaseMetricsService.getDepartmentMetrics()).thenReturn(List.of());
+
+        // When
+        MetricsSnapshot snapshot = snapshotLoader.load();
+
+        // Then
+        assertThat(snapshot.centerMetrics()).hasSize(3);
+        assertThat(snapshot.gitHubUsersMetrics().get(0).getCenterName())
+                .isEqualTo("SENA - Centro de Tecnologías del Transporte");
+        assertThat(snapshot.gitHubUsersMetrics().get(0).getGithubPercentage()).isEqualTo("73.5%");
+        assertThat(snapshot.englishLevelMetrics().get(0).getCenterName())
+                .isEqualTo("SENA - Centro de Biotecnología Industrial");
+        assertThat(snapshot.englishLevelMetrics().get(2).getEnglishPercentage()).isEqualTo("0%");
+        assertThat(snapshot.apprenticeCountMetrics().get(0).getTotalApprentices()).isEqualTo(245);
+        assertThat(snapshot.recommendedInstructorMetrics())
+                .extracting("centerName")
+                .containsExactly("SENA - Centro Agropecuario",
+                        "SENA - Centro de Biotecnología Industrial",
+                        "SENA - Centro de Tecnologías del Transporte");
+        assertThat(snapshot.recommendedInstructorMetrics().get(2).getInstructorsCount()).isEqualTo(2);
+        verify(databaseMetricsService).getCenterMetricsById(null);
+    }
+
+    @Test
+    @DisplayName("Should reuse the previous snapshot when nothing changed since its watermark")
+    void shouldReusePreviousSnapshotWhenNothingChanged() {
+        // Given
+        MetricsSnapshot previous = loadInitialState();
+
+        // When
+        MetricsSnapshot refreshed = snapshotLoader.refresh(previous);
+
+        // Then
+        assertThat(refreshed.centerMetrics()).isSameAs(previous.centerMetrics());
+        assertThat(refreshed.scalarMetrics()).isSameAs(previous.scalarMetrics());
+        verify(changeRepository).findCentersChangedSince(WATERMARK.minus(properties.getChangeOverlap()));
+        verify(databaseMetricsService, times(1)).getCenterMetricsById(null);
+        verify(databaseMetricsService, times(1)).getScalarMetrics();
+    }
+
+    @Test
+    @DisplayName("Should reload only the changed centers and match a full reload of the same data")
+    void shouldReloadOnlyChangedCentersAndMatchFullReload() {
+        // Given
+        MetricsSnapshot previous = loadInitialState();
+        Instant latestChange = WATERMARK.plusSeconds(60);
+        CenterMetricDto movedCenter = center("SENA - Centro Minero", "Boyacá", 400, 150, 90);
+        List<ProgramMetricDto> movedPrograms = List.of(program("SENA - Centro Minero", "Topografía", 400));
+        when(changeRepository.findLatestChange()).thenReturn(Optional.of(latestChange));
+        when(changeRepository.findCentersChangedSince(WATERMARK.minus(properties.getChangeOverlap())))
+                .thenReturn(Set.of(2L));
+        when(databaseMetricsService.getCenterMetricsById(Set.of(2L))).thenReturn(Map.of(2L, movedCenter));
+        when(databaseMetricsService.getProgramMetricsByCenter(Set.of(2L))).thenReturn(Map.of(2L, movedPrograms));
+
+        // When
+        MetricsSnapshot refreshed = snapshotLoader.refresh(previous);
+
+        // Then
+        assertThat(refreshed.centerMetrics()).extracting("centerName").containsExactly(
+                "SENA - Centro Minero", "SENA - Centro de Tecnologías del Transporte", "SENA - Centro Agropecuario");
+        assertThat(refreshed.departmentMetrics()).containsExactly(
+                new DepartmentMetricDto("Boyacá", 400),
+                new DepartmentMetricDto("Bogotá D.C.", 245),
+                new DepartmentMetricDto("Antioquia", 30),
+                new DepartmentMetricDto("Cundinamarca", 0));
+        assertThat(refreshed.tracking().watermark()).isEqualTo(latestChange);
+        verify(databaseMetricsService, times(1)).getCenterMetricsById(null);
+
+        // And a full reload of the same data produces the same metric families
+        Map<Long, CenterMetricDto> centers = new LinkedHashMap<>();
+        centers.put(2L, movedCenter);
+        centers.put(1L, center("SENA - Centro de Tecnologías del Transporte", "Bogotá D.C.", 245, 180, 100));
+        centers.put(3L, center("SENA - Centro Agropecuario", "Antioquia", 30, 3, 6));
+        Map<Long, List<ProgramMetricDto>> programs = new LinkedHashMap<>();
+        programs.put(2L, movedPrograms);
+        programs.put(1L, List.of(program("SENA - Centro de Tecnologías del Transporte", "Desarrollo de Software", 120)));
+        when(databaseMetricsService.getCenterMetricsById(null)).thenReturn(centers);
+        when(databaseMetricsService.getProgramMetricsByCenter(null)).thenReturn(programs);
+        when(databaseMetricsService.getDepartmentMetrics()).thenReturn(List.of(
+                new DepartmentMetricDto("Boyacá", 400),
+                new DepartmentMetricDto("Bogotá D.C.", 245),
+                new DepartmentMetricDto("Antioquia", 30),
+                new DepartmentMetricDto("Cundinamarca", 0)));
+        MetricsSnapshot reloaded = snapshotLoader.load();
+
+        assertThat(refreshed.centerMetrics()).isEqualTo(reloaded.centerMetrics());
+        assertThat(refreshed.programMetrics()).isEqualTo(reloaded.programMetrics());
+        assertThat(refreshed.departmentMetrics()).isEqualTo(reloaded.departmentMetrics());
+        assertThat(refreshed.gitHubUsersMetrics()).isEqualTo(reloaded.gitHubUsersMetrics());
+        assertThat(refreshed.englishLevelMetrics()).isEqualTo(reloaded.englishLevelMetrics());
+        assertThat(refreshed.apprenticeCountMetrics()).isEqualTo(reloaded.apprenticeCountMetrics());
+        assertThat(refreshed.recommendedInstructorMetrics()).isEqualTo(reloaded.recommendedInstructorMetrics());
+    }
+
+    @Test
+    @DisplayName("Should reload a center committed late with an updated_at before the watermark")
+    void shouldReloadLateCommitWithinChangeOverlap() {
+        // Given: a transaction that stamped center 2 before the watermark commits after the previous refresh
+        MetricsSnapshot previous = loadInitialState();
+        CenterMetricDto lateCenter = center("SENA - Centro de Biotecnología Industrial", "Cundinamarca", 300, 120, 150);
+        when(changeRepository.findCentersChangedSince(WATERMARK.minus(properties.getChangeOverlap())))
+                .thenReturn(Set.of(2L));
+        when(databaseMetricsService.getCenterMetricsById(Set.of(2L))).thenReturn(Map.of(2L, lateCenter));
+
+        // When
+        MetricsSnapshot refreshed = snapshotLoader.refresh(previous);
+
+        // Then
+        assertThat(refreshed.centerMetrics()).first().isEqualTo(lateCenter);
+        assertThat(refreshed.departmentMetrics()).first().isEqualTo(new DepartmentMetricDto("Cundinamarca", 300));
+        assertThat(refreshed.tracking().watermark()).isEqualTo(WATERMARK);
+    }
+
+    @Test
+    @DisplayName("Should order departments tied on apprentices by name after a refresh, as the database does")
+    void shouldOrderTiedDepartmentsByNameAfterRefresh() {
+        // Given: Cundinamarca drops to Antioquia's total while it still precedes it in the previous order
+        MetricsSnapshot previous = loadInitialState();
+        CenterMetricDto shrunkCenter = center("SENA - Centro de Biotecnología Industrial", "Cundinamarca", 30, 20, 10);
+        when(changeRepository.findLatestChange()).thenReturn(Optional.of(WATERMARK.plusSeconds(60)));
+        when(changeRepository.findCentersChangedSince(WATERMARK.minus(properties.getChangeOverlap())))
+                .thenReturn(Set.of(2L));
+        when(databaseMetricsService.getCenterMetricsById(Set.of(2L))).thenReturn(Map.of(2L, shrunkCenter));
+
+        // When
+        MetricsSnapshot refreshed = snapshotLoader.refresh(previous);
+
+        // Then
+        assertThat(refreshed.departmentMetrics()).containsExactly(
+                new DepartmentMetricDto("Bogotá D.C.", 245),
+                new DepartmentMetricDto("Antioquia", 30),
+                new DepartmentMetricDto("Cundinamarca", 30),
+                new DepartmentMetricDto("Boyacá", 0));
+    }
+
+    @Test
+    @DisplayName("Should rebuild in full when the full rebuild interval has elapsed")
+    void shouldRebuildInFullWhenFullRebuildIsDue() {
+        // Given
+        MetricsSnapshot previous = loadInitialState();
+        properties.setFullRebuildInterval(Duration.ZERO);
+
+        // When
+        snapshotLoader.refresh(previous);
+
+        // Then
+        verify(databaseMetricsService, times(2)).getCenterMetricsById(null);
+        verify(changeRepository, never()).findCentersChangedSince(any());
+    }
+
+    @Test
+    @DisplayName("Should rebuild in full when most centers changed")
+    void shouldRebuildInFullWhenMostCentersChanged() {
+        // Given
+        MetricsSnapshot previous = loadInitialState();
+        when(changeRepository.findLatestChange()).thenReturn(Optional.of(WATERMARK.plusSeconds(60)));
+        when(changeRepository.findCentersChangedSince(any())).thenReturn(Set.of(1L, 2L));
+
+        // When
+        snapshotLoader.refresh(previous);
+
+        // Then
+        verify(databaseMetricsService, times(2)).getCenterMetricsById(null);
+        verify(databaseMetricsService, never()).getCenterMetricsById(Set.of(1L, 2L));
+    }
+
+    private MetricsSnapshot loadInitialState() {
+        Map<Long, CenterMetricDto> centers = new LinkedHashMap<>();
+        centers.put(1L, center("SENA - Centro de Tecnologías del Transporte", "Bogotá D.C.", 245, 180, 100));
+        centers.put(2L, center("SENA - Centro de Biotecnología Industrial", "Cundinamarca", 167, 120, 150));
+        centers.put(3L, center("SENA - Centro Agropecuario", "Antioquia", 30, 3, 6));
+        Map<Long, List<ProgramMetricDto>> programs = new LinkedHashMap<>();
+        programs.put(1L, List.of(program("SENA - Centro de Tecnologías del Transporte", "Desarrollo de Software", 120)));
+        programs.put(2L, List.of(program("SENA - Centro de Biotecnología Industrial", "Biotecnología", 167)));
+        when(changeRepository.findLatestChange()).thenReturn(Optional.of(WATERMARK));
+        when(databaseMetricsService.getCenterMetricsById(null)).thenReturn(centers);
+        when(databaseMetricsService.getProgramMetricsByCenter(null)).thenReturn(programs);
+        when(databaseMetricsService.getScalarMetrics()).thenReturn(List.of());
+        when(databaseMetricsService.getDepartmentMetrics()).thenReturn(List.of(
+                new DepartmentMetricDto("Bogotá D.C.", 245),
+                new DepartmentMetricDto("Cundinamarca", 167),
+                new DepartmentMetricDto("Antioquia", 30),
+                new DepartmentMetricDto("Boyacá", 0)));
+        return snapshotLoader.load();
+    }
+
+    private static CenterMetricDto center(String name, String department, int apprentices, int github, int english) {
+        return new CenterMetricDto(name, department, apprentices, List.of(), github, english);
+    }
+
+    private static ProgramMetricDto program(String centerName, String programName, int apprentices) {
+        return new ProgramMetricDto(centerName, programName, apprentices);
+    }
+}
@@ -0,0 +1,129 @@
+package com.alphanet.products.leonardobackend.service.summary;
+
+import com.alphanet.products.leonardobackend.entity.CacheRegions;
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bypasses the entity listener with plain SQL and checks that the consistency check finds and repairs
+ * exactly the summary rows that drifted.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MetricsSummaryRepository.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics-summary-check-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        // Without HibernateCacheConfig, Hibernate falls back to the JVM-wide default JCache manager, whose
+        // entity regions other test contexts have already filled with rows of the same ids
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DisplayName("MetricsSummaryConsistencyCheck Tests")
+class MetricsSummaryConsistencyCheckTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MetricsSummaryRepository summaryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Cache cache;
+    private MetricsSummaryConsistencyCheck consistencyCheck;
+    private Department antioquia;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = mock(Cache.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        consistencyCheck = new MetricsSummaryConsistencyCheck(summaryRepository,
+                new TransactionTemplate(transactionManager), entityManagerFactory, meterRegistry);
+
+        Department cundinamarca = entityManager.persist(new Department(null, "Cundinamarca", null));
+        antioquia = entityManager.persist(new Department(null, "Antioquia", null));
+        entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Biotecnología Industrial", cundinamarca, 167, 120, 89, null, null));
+        entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Servicios Financieros", antioquia, 198, 156, 134, null, null));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should find nothing to repair after writes through JPA")
+    void shouldFindNothingAfterJpaWrites() {
+        // When
+        int repaired = consistencyCheck.check();
+
+        // Then
+        assertThat(repaired).isZero();
+        assertThat(meterRegistry.counter("leonardo.summary.drift").count()).isZero();
+        verify(cache, never()).evictQueryRegion(anyString());
+    }
+
+    @Test
+    @DisplayName("Should repair summaries after a write that bypassed the listener")
+    void shouldRepairDriftFromBulkWrite() {
+        // Given
+        jdbcTemplate.update("UPDATE training_centers SET total_apprentices = total_apprentices + 10 "
+                + "WHERE department_id = ?", antioquia.getId());
+
+        // When
+        int repaired = consistencyCheck.check();
+
+        // Then: the national row and Antioquia's row
+        assertThat(repaired).isEqualTo(2);
+        assertThat(meterRegistry.counter("leonardo.summary.drift").count()).isEqualTo(2);
+        assertThat(summaryRepository.findNationalSummary().totalApprentices()).isEqualTo(375);
+        assertThat(summaryRepository.findDepartmentSummaries().get(antioquia.getId()).totalApprentices())
+                .isEqualTo(208);
+        verify(cache).evictQueryRegion(CacheRegions.METRICS_QUERIES);
+        assertThat(consistencyCheck.check()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should remove the contribution of centers deleted in bulk")
+    void shouldRepairBulkDeletes() {
+        // Given
+        jdbcTemplate.update("DELETE FROM training_centers WHERE department_id = ?", antioquia.getId());
+
+        // When
+        consistencyCheck.check();
+
+        // Then
+        assertThat(summaryRepository.findNationalSummary().centerCount()).isEqualTo(1);
+        assertThat(summaryRepository.findDepartmentSummaries().get(antioquia.getId()).centerCount()).isZero();
+    }
+}
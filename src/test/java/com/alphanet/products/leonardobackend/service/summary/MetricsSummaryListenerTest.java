@@ -0,0 +1,169 @@
+package com.alphanet.products.leonardobackend.service.summary;
+
+import com.alphanet.products.leonardobackend.dto.DepartmentMetricDto;
+import com.alphanet.products.leonardobackend.dto.ScalarMetricDto;
+import com.alphanet.products.leonardobackend.entity.Department;
+import com.alphanet.products.leonardobackend.entity.TrainingCenter;
+import com.alphanet.products.leonardobackend.repository.DepartmentRepository;
+import com.alphanet.products.leonardobackend.repository.InstructorRepository;
+import com.alphanet.products.leonardobackend.repository.ProgramRepository;
+import com.alphanet.products.leonardobackend.repository.TrainingCenterRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository;
+import com.alphanet.products.leonardobackend.repository.jdbc.MetricsSummaryRepository.SummaryTotals;
+import com.alphanet.products.leonardobackend.service.impl.MetricsServiceImpl;
+import com.alphanet.products.leonardobackend.service.mapper.MetricsMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Writes training centers through JPA and checks that the maintained summaries always equal a full
+ * recompute from {@code training_centers}.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MetricsSummaryRepository.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics-summary-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        // Without HibernateCacheConfig, Hibernate falls back to the JVM-wide default JCache manager, whose
+        // entity regions other test contexts have already filled with rows of the same ids
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DisplayName("MetricsSummaryListener Tests")
+class MetricsSummaryListenerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MetricsSummaryRepository summaryRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    private MetricsServiceImpl metricsService;
+    private Department cundinamarca;
+    private Department antioquia;
+    private TrainingCenter biotecnologia;
+    private TrainingCenter financieros;
+
+    @BeforeEach
+    void setUp() {
+        metricsService = new MetricsServiceImpl(trainingCenterRepository, departmentRepository,
+                programRepository, instructorRepository, new MetricsMapper());
+
+        cundinamarca = entityManager.persist(new Department(null, "Cundinamarca", null));
+        antioquia = entityManager.persist(new Department(null, "Antioquia", null));
+        entityManager.persist(new Department(null, "Amazonas", null));
+
+        biotecnologia = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Biotecnología Industrial", cundinamarca, 167, 120, 89, null, null));
+        financieros = entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro de Servicios Financieros", antioquia, 198, 156, 134, null, null));
+        entityManager.persist(new TrainingCenter(null,
+                "SENA - Centro Nuevo", antioquia, 0, null, null, null, null));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should add inserted centers to the summaries")
+    void shouldAddInsertedCenters() {
+        // Then
+        assertSummariesMatchSource();
+        SummaryTotals national = summaryRepository.findNationalSummary();
+        assertThat(national.totalApprentices()).isEqualTo(365);
+        assertThat(national.centerCount()).isEqualTo(3);
+        assertThat(national.englishRatedCenters()).isEqualTo(2);
+        assertThat(summaryRepository.findDepartmentSummaries().get(antioquia.getId()).centerCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply the difference of an update")
+    void shouldApplyUpdateDifference() {
+        // When
+        financieros.setTotalApprentices(250);
+        financieros.setEnglishB1B2(null);
+        entityManager.flush();
+
+        // Then
+        assertSummariesMatchSource();
+        assertThat(summaryRepository.findNationalSummary().totalApprentices()).isEqualTo(417);
+        assertThat(summaryRepository.findNationalSummary().englishRatedCenters()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should move a center's contribution between departments")
+    void shouldMoveContributionBetweenDepartments() {
+        // When
+        financieros.setDepartment(cundinamarca);
+        entityManager.flush();
+
+        // Then
+        assertSummariesMatchSource();
+        assertThat(summaryRepository.findDepartmentSummaries().get(cundinamarca.getId()).totalApprentices())
+                .isEqualTo(365);
+    }
+
+    @Test
+    @DisplayName("Should subtract deleted centers")
+    void shouldSubtractDeletedCenters() {
+        // When
+        entityManager.remove(biotecnologia);
+        entityManager.flush();
+
+        // Then
+        assertSummariesMatchSource();
+        assertThat(summaryRepository.findNationalSummary().centerCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should read the aggregate endpoints from the summaries")
+    void shouldReadAggregatesFromSummaries() {
+        // When
+        financieros.setTotalApprentices(100);
+        entityManager.flush();
+
+        // Then
+        assertThat(metricsService.getDepartmentMetrics())
+                .extracting(DepartmentMetricDto::getDepartment, DepartmentMetricDto::getApprenticesCount)
+                .containsExactly(
+                        tuple("Cundinamarca", 167),
+                        tuple("Antioquia", 100),
+                        tuple("Amazonas", 0));
+        assertThat(metricsService.getScalarMetrics())
+                .extracting(ScalarMetricDto::getDescription, ScalarMetricDto::getValue)
+                .contains(tuple("# Aprendices inscritos únicos", 267L), tuple("Total centros de formación", 3L));
+    }
+
+    private void assertSummariesMatchSource() {
+        assertThat(summaryRepository.findNationalSummary().matches(summaryRepository.computeNationalSummary()))
+                .as("national summary").isTrue();
+        Map<Long, SummaryTotals> expected = summaryRepository.computeDepartmentSummaries();
+        Map<Long, SummaryTotals> stored = summaryRepository.findDepartmentSummaries();
+        for (Map.Entry<Long, SummaryTotals> entry : stored.entrySet()) {
+            assertThat(entry.getValue().matches(expected.getOrDefault(entry.getKey(), SummaryTotals.ZERO)))
+                    .as("summary of department %s", entry.getKey()).isTrue();
+        }
+        assertThat(stored.keySet()).containsAll(expected.keySet());
+    }
+}